@@ -2,11 +2,15 @@ package benchmark;
 
 import graphql.ExecutionInput;
 import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.FieldFetchingInstrumentationContext;
 import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.execution.instrumentation.SimplePerformantInstrumentation;
 import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -20,10 +24,12 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -38,10 +44,13 @@ import static graphql.schema.GraphQLObjectType.newObject;
 @Fork(3)
 public class ChainedInstrumentationBenchmark {
 
-    @Param({"0", "1", "10"})
+    @Param({"0", "1", "3", "6", "10"})
     public int num;
 
     ChainedInstrumentation chainedInstrumentation;
+    ChainedInstrumentation fieldChainedInstrumentation;
+    InstrumentationState fieldInstrumentationState;
+    DataFetcher<?> dataFetcher = env -> "value";
     GraphQLSchema schema;
     InstrumentationExecutionParameters parameters;
     InstrumentationState instrumentationState;
@@ -65,6 +74,24 @@ public class ChainedInstrumentationBenchmark {
         chainedInstrumentation = new ChainedInstrumentation(instrumentations);
         instrumentationState = chainedInstrumentation.createStateAsync(createStateParameters).get();
         parameters = new InstrumentationExecutionParameters(executionInput, schema);
+
+        // a typical chain where only one instrumentation, say one that times data fetchers, cares about the field hooks
+        List<Instrumentation> fieldInstrumentations = new ArrayList<>(instrumentations);
+        if (num > 0) {
+            fieldInstrumentations.set(0, new FieldFetchingInstrumentation());
+        }
+        fieldChainedInstrumentation = new ChainedInstrumentation(fieldInstrumentations);
+        fieldInstrumentationState = fieldChainedInstrumentation.createStateAsync(createStateParameters).get();
+    }
+
+    static class FieldFetchingInstrumentation extends SimplePerformantInstrumentation {
+        long fetches;
+
+        @Override
+        public FieldFetchingInstrumentationContext beginFieldFetching(InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+            fetches++;
+            return FieldFetchingInstrumentationContext.NOOP;
+        }
     }
 
     @Benchmark
@@ -73,6 +100,24 @@ public class ChainedInstrumentationBenchmark {
         return chainedInstrumentation.instrumentSchema(schema, parameters, instrumentationState);
     }
 
+    /*
+     * The hooks the execution strategy calls for every field, the parameters are not used by the chained instrumentations
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmarkFieldHooks(Blackhole blackhole) {
+        InstrumentationContext<Object> fieldExecution = fieldChainedInstrumentation.beginFieldExecution(null, fieldInstrumentationState);
+        FieldFetchingInstrumentationContext fieldFetching = fieldChainedInstrumentation.beginFieldFetching(null, fieldInstrumentationState);
+        blackhole.consume(fieldChainedInstrumentation.instrumentDataFetcher(dataFetcher, null, fieldInstrumentationState));
+        InstrumentationContext<Object> fieldCompletion = fieldChainedInstrumentation.beginFieldCompletion(null, fieldInstrumentationState);
+        fieldFetching.onDispatched();
+        fieldFetching.onCompleted("value", null);
+        fieldCompletion.onDispatched();
+        fieldCompletion.onCompleted("value", null);
+        fieldExecution.onDispatched();
+        fieldExecution.onCompleted("value", null);
+    }
+
     public static void main(String[] args) throws Exception {
         Options opt = new OptionsBuilder()
                 .include("benchmark.ChainedInstrumentationBenchmark")
@@ -0,0 +1,104 @@
+package benchmark;
+
+import graphql.schema.CodeRegistryDispatchTable;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static graphql.Scalars.GraphQLString;
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
+import static graphql.schema.GraphQLObjectType.newObject;
+
+/**
+ * Measures the cost of looking up the data fetcher of a field in a schema of 5000 object types, via the
+ * {@link GraphQLCodeRegistry} versus the {@link CodeRegistryDispatchTable} that execution uses.  Half of the fields
+ * have a registered data fetcher and the others use the default one.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(3)
+public class CodeRegistryDispatchBenchmark {
+
+    private static final int NUMBER_OF_TYPES = 5000;
+    private static final int FIELDS_PER_TYPE = 10;
+    private static final int LOOKUPS = 1024;
+
+    private GraphQLCodeRegistry codeRegistry;
+    private CodeRegistryDispatchTable dispatchTable;
+    private final GraphQLObjectType[] parentTypes = new GraphQLObjectType[LOOKUPS];
+    private final GraphQLFieldDefinition[] fieldDefinitions = new GraphQLFieldDefinition[LOOKUPS];
+
+    @Setup
+    public void setup() {
+        DataFetcher<?> dataFetcher = env -> "value";
+        GraphQLCodeRegistry.Builder codeRegistryBuilder = GraphQLCodeRegistry.newCodeRegistry();
+        GraphQLObjectType.Builder queryType = newObject().name("Query");
+        List<GraphQLObjectType> objectTypes = new ArrayList<>();
+        for (int t = 0; t < NUMBER_OF_TYPES; t++) {
+            GraphQLObjectType.Builder objectType = newObject().name("Type" + t);
+            for (int f = 0; f < FIELDS_PER_TYPE; f++) {
+                objectType.field(newFieldDefinition().name("field" + f).type(GraphQLString));
+                if (f % 2 == 0) {
+                    codeRegistryBuilder.dataFetcher(FieldCoordinates.coordinates("Type" + t, "field" + f), dataFetcher);
+                }
+            }
+            GraphQLObjectType type = objectType.build();
+            objectTypes.add(type);
+            queryType.field(newFieldDefinition().name("type" + t).type(type));
+        }
+        GraphQLSchema schema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .codeRegistry(codeRegistryBuilder.build())
+                .build();
+        codeRegistry = schema.getCodeRegistry();
+        dispatchTable = schema.getCodeRegistryDispatchTable();
+
+        Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            GraphQLObjectType type = schema.getObjectType(objectTypes.get(random.nextInt(NUMBER_OF_TYPES)).getName());
+            parentTypes[i] = type;
+            fieldDefinitions[i] = type.getFieldDefinitions().get(random.nextInt(FIELDS_PER_TYPE));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public void codeRegistryLookup(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(codeRegistry.getDataFetcher(parentTypes[i], fieldDefinitions[i]));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(LOOKUPS)
+    public void dispatchTableLookup(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(dispatchTable.getDataFetcher(parentTypes[i], fieldDefinitions[i]));
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -89,6 +90,17 @@ public class ComplexQueryBenchmark {
         return runManyQueriesToCompletion();
     }
 
+    /*
+     * A synchronous query whose cost is dominated by completing large lists of objects of the same type, with
+     * fragments and conditional fields in their sub selections
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchMarkLargeListQuery() {
+        return executeLargeListQuery(howManyItems * 100);
+    }
+
 
     public static void main(String[] args) throws Exception {
         // just to make sure it's all valid before testing
@@ -140,6 +152,16 @@ public class ComplexQueryBenchmark {
         return graphQL.executeAsync(ExecutionInput.newExecutionInput(query).build());
     }
 
+    public ExecutionResult executeLargeListQuery(int howMany) {
+        String query = "query q($withProducts : Boolean!) {"
+                + String.format("shops(howMany : %d) { ...ShopFields departments(howMany : 10) { ...DepartmentFields products(howMany : 5) @include(if : $withProducts) { ...ProductFields } } }", howMany)
+                + "}\n"
+                + "fragment ShopFields on Shop { id name f1 f2 f3 @skip(if : false) }\n"
+                + "fragment DepartmentFields on Department { id name ... on Department { f1 f2 } f3 @include(if : $withProducts) }\n"
+                + "fragment ProductFields on Product { id name ... { f1 f2 f3 } f4 @include(if : $withProducts) }";
+        return graphQL.execute(ExecutionInput.newExecutionInput(query).variables(Map.of("withProducts", true)).build());
+    }
+
     private GraphQL buildGraphQL() {
         TypeDefinitionRegistry definitionRegistry = new SchemaParser().parse(BenchmarkUtils.loadResource("storesanddepartments.graphqls"));
 
@@ -14,6 +14,7 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 2, time = 5)
@@ -23,6 +24,9 @@ public class CreateSchemaBenchmark {
 
     static String largeSDL = BenchmarkUtils.loadResource("large-schema-3.graphqls");
 
+    static SchemaGenerator.Options parallelOptions = SchemaGenerator.Options.defaultOptions()
+            .parallelBuildExecutor(ForkJoinPool.commonPool());
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.MINUTES)
@@ -37,9 +41,27 @@ public class CreateSchemaBenchmark {
         blackhole.consume(createSchema(largeSDL));
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MINUTES)
+    public void benchmarkLargeSchemaCreateParallel(Blackhole blackhole) {
+        blackhole.consume(createSchema(largeSDL, parallelOptions));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchmarkLargeSchemaCreateParallelAvgTime(Blackhole blackhole) {
+        blackhole.consume(createSchema(largeSDL, parallelOptions));
+    }
+
     private static GraphQLSchema createSchema(String sdl) {
+        return createSchema(sdl, SchemaGenerator.Options.defaultOptions());
+    }
+
+    private static GraphQLSchema createSchema(String sdl, SchemaGenerator.Options options) {
         TypeDefinitionRegistry registry = new SchemaParser().parse(sdl);
-        return new SchemaGenerator().makeExecutableSchema(registry, RuntimeWiring.MOCKED_WIRING);
+        return new SchemaGenerator().makeExecutableSchema(options, registry, RuntimeWiring.MOCKED_WIRING);
     }
 
     @SuppressWarnings("InfiniteLoopStatement")
@@ -0,0 +1,159 @@
+package benchmark;
+
+import graphql.Assert;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.TypeRuntimeWiring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
+/**
+ * Measures the cost of the data fetching environments of a query with 100,000 leaf fields.  It is best run with
+ * the {@link GCProfiler}, as its {@link #main(String[])} does, to see how much is allocated per leaf.
+ * <p>
+ * The leaves are either fetched by the default {@link graphql.schema.PropertyDataFetcher}, which never asks for the
+ * environment, or by a plain {@link DataFetcher} that only reads the source from it, or by one that also reads the
+ * arguments and so makes the environment build its costly parts.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(2)
+public class DataFetchingEnvironmentBenchmark {
+
+    private static final int NUMBER_OF_ITEMS = 10_000;
+    private static final int NUMBER_OF_LEAVES = 10;
+
+    private static final String SDL = "" +
+            "type Query {\n" +
+            "    items : [Item]\n" +
+            "    sourceItems : [SourceItem]\n" +
+            "    argumentItems : [ArgumentItem]\n" +
+            "}\n" +
+            leafType("Item", "") +
+            leafType("SourceItem", "") +
+            leafType("ArgumentItem", "(suffix : String = \"\")");
+
+    private static final List<Map<String, Object>> ITEMS = mkItems();
+
+    private final GraphQL graphQL = buildGraphQL();
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchMarkPropertyFetcherLeaves() {
+        return execute("items");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchMarkSourceFetcherLeaves() {
+        return execute("sourceItems");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchMarkArgumentFetcherLeaves() {
+        return execute("argumentItems");
+    }
+
+    private ExecutionResult execute(String listField) {
+        StringBuilder query = new StringBuilder("{ ").append(listField).append(" {");
+        for (int i = 0; i < NUMBER_OF_LEAVES; i++) {
+            query.append(" f").append(i);
+        }
+        query.append(" } }");
+        ExecutionResult executionResult = graphQL.execute(query.toString());
+        Assert.assertTrue(executionResult.getErrors().isEmpty());
+        return executionResult;
+    }
+
+    private static String leafType(String name, String arguments) {
+        StringBuilder sdl = new StringBuilder("type ").append(name).append(" {\n");
+        for (int i = 0; i < NUMBER_OF_LEAVES; i++) {
+            sdl.append("    f").append(i).append(arguments).append(" : String\n");
+        }
+        return sdl.append("}\n").toString();
+    }
+
+    private static List<Map<String, Object>> mkItems() {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (int j = 0; j < NUMBER_OF_LEAVES; j++) {
+                item.put("f" + j, "value" + i + "_" + j);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static GraphQL buildGraphQL() {
+        TypeDefinitionRegistry definitionRegistry = new SchemaParser().parse(SDL);
+
+        DataFetcher<?> itemsFetcher = env -> ITEMS;
+        DataFetcher<?> sourceFetcher = env -> {
+            Map<String, Object> source = env.getSource();
+            return source.get(env.getFieldDefinition().getName());
+        };
+        DataFetcher<?> argumentFetcher = env -> {
+            Map<String, Object> source = env.getSource();
+            return source.get(env.getFieldDefinition().getName()) + env.getArgument("suffix");
+        };
+
+        TypeRuntimeWiring.Builder sourceItem = newTypeWiring("SourceItem");
+        TypeRuntimeWiring.Builder argumentItem = newTypeWiring("ArgumentItem");
+        for (int i = 0; i < NUMBER_OF_LEAVES; i++) {
+            sourceItem.dataFetcher("f" + i, sourceFetcher);
+            argumentItem.dataFetcher("f" + i, argumentFetcher);
+        }
+
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query")
+                        .dataFetcher("items", itemsFetcher)
+                        .dataFetcher("sourceItems", itemsFetcher)
+                        .dataFetcher("argumentItems", itemsFetcher))
+                .type(sourceItem)
+                .type(argumentItem)
+                .build();
+
+        GraphQLSchema graphQLSchema = new SchemaGenerator().makeExecutableSchema(definitionRegistry, runtimeWiring);
+        return GraphQL.newGraphQL(graphQLSchema).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include("benchmark.DataFetchingEnvironmentBenchmark")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
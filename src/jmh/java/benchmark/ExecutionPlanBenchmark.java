@@ -0,0 +1,109 @@
+package benchmark;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.TypeResolver;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
+/**
+ * Compares execution of cached documents with and without {@link graphql.execution.ExecutionPlan}s, using
+ * the same queries as {@link SimpleQueryBenchmark} and {@link TwitterBenchmark}
+ */
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(3)
+public class ExecutionPlanBenchmark {
+
+    private static final int NUMBER_OF_FRIENDS = 10 * 100;
+    private static final String SIMPLE_QUERY = "{ hero { name friends { name friends { name } } } }";
+
+    private static final GraphQL SIMPLE_GRAPHQL = buildSimpleGraphQL();
+    // the twitter graphql uses a persisted query cache and hence its document is only parsed once
+    private static final GraphQL TWITTER_GRAPHQL = TwitterBenchmark.graphQL;
+    private static final String TWITTER_QUERY = TwitterBenchmark.query;
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void simpleQueryWithoutPlan(Blackhole bh) {
+        bh.consume(execute(SIMPLE_GRAPHQL, SIMPLE_QUERY, false));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void simpleQueryWithPlan(Blackhole bh) {
+        bh.consume(execute(SIMPLE_GRAPHQL, SIMPLE_QUERY, true));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void twitterQueryWithoutPlan(Blackhole bh) {
+        bh.consume(execute(TWITTER_GRAPHQL, TWITTER_QUERY, false));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void twitterQueryWithPlan(Blackhole bh) {
+        bh.consume(execute(TWITTER_GRAPHQL, TWITTER_QUERY, true));
+    }
+
+    private static ExecutionResult execute(GraphQL graphQL, String query, boolean withPlan) {
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput(query).build();
+        GraphQL.unusualConfiguration(executionInput).executionPlans().enableExecutionPlans(withPlan);
+        return graphQL.execute(executionInput);
+    }
+
+    private static GraphQL buildSimpleGraphQL() {
+        TypeDefinitionRegistry definitionRegistry = new SchemaParser().parse(BenchmarkUtils.loadResource("starWarsSchema.graphqls"));
+
+        DataFetcher<SimpleQueryBenchmark.CharacterDTO> heroDataFetcher = environment -> SimpleQueryBenchmark.CharacterDTO.mkCharacter(environment, "r2d2", NUMBER_OF_FRIENDS);
+        TypeResolver typeResolver = env -> env.getSchema().getObjectType("Human");
+
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("QueryType").dataFetcher("hero", heroDataFetcher))
+                .type(newTypeWiring("Character").typeResolver(typeResolver))
+                .build();
+
+        GraphQLSchema graphQLSchema = new SchemaGenerator().makeExecutableSchema(definitionRegistry, runtimeWiring);
+
+        return GraphQL.newGraphQL(graphQLSchema)
+                .preparsedDocumentProvider(new CachingDocumentProvider())
+                .build();
+    }
+
+    static class CachingDocumentProvider implements PreparsedDocumentProvider {
+        private final Map<String, PreparsedDocumentEntry> cache = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+            return CompletableFuture.completedFuture(cache.computeIfAbsent(executionInput.getQuery(), key -> parseAndValidateFunction.apply(executionInput)));
+        }
+    }
+}
@@ -12,22 +12,27 @@ import graphql.validation.RulesVisitor;
 import graphql.validation.ValidationContext;
 import graphql.validation.ValidationError;
 import graphql.validation.ValidationErrorCollector;
+import graphql.validation.Validator;
 import graphql.validation.rules.OverlappingFieldsCanBeMerged;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static graphql.Assert.assertTrue;
@@ -43,6 +48,7 @@ public class OverlappingFieldValidationBenchmark {
 
         GraphQLSchema schema;
         Document document;
+        ExecutorService executor;
 
         @Setup
         public void setup() {
@@ -59,6 +65,12 @@ public class OverlappingFieldValidationBenchmark {
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            executor.shutdownNow();
         }
     }
 
@@ -74,6 +86,22 @@ public class OverlappingFieldValidationBenchmark {
         blackhole.consume(validateQuery(myState.schema, myState.document));
     }
 
+    /**
+     * All the rules, with the other rules validated in parallel to OverlappingFieldsCanBeMerged, which is the
+     * lower bound of the parallel validation latency
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void allRulesParallelAvgTime(MyState myState, Blackhole blackhole) {
+        blackhole.consume(new Validator().validateDocument(myState.schema, myState.document, ruleClass -> true, Locale.ENGLISH, myState.executor));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void allRulesSequentialAvgTime(MyState myState, Blackhole blackhole) {
+        blackhole.consume(new Validator().validateDocument(myState.schema, myState.document, Locale.ENGLISH));
+    }
+
     private List<ValidationError> validateQuery(GraphQLSchema schema, Document document) {
         ValidationErrorCollector errorCollector = new ValidationErrorCollector();
         I18n i18n = I18n.i18n(I18n.BundleType.Validation, Locale.ENGLISH);
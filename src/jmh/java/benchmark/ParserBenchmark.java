@@ -0,0 +1,84 @@
+package benchmark;
+
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.parser.ParserEnvironment;
+import graphql.parser.ParserOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ANTLR based parser with the recursive descent parser for executable documents
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(3)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+
+    private static final String SMALL_QUERY = "query HeroNameAndFriends($episode: Episode = JEDI) {\n" +
+            "  hero(episode: $episode) {\n" +
+            "    name\n" +
+            "    ... on Droid {\n" +
+            "      primaryFunction\n" +
+            "    }\n" +
+            "    friends @include(if: true) {\n" +
+            "      name\n" +
+            "    }\n" +
+            "  }\n" +
+            "}";
+
+    String largeQuery;
+    ParserOptions antlrOptions;
+    ParserOptions recursiveDescentOptions;
+
+    @Setup
+    public void setup() {
+        largeQuery = BenchmarkUtils.loadResource("large-schema-4-query.graphql");
+        antlrOptions = ParserOptions.getDefaultOperationParserOptions().transform(builder -> builder
+                .maxTokens(Integer.MAX_VALUE)
+                .maxWhitespaceTokens(Integer.MAX_VALUE)
+                .maxCharacters(Integer.MAX_VALUE));
+        recursiveDescentOptions = antlrOptions.transform(builder -> builder.recursiveDescentParsing(true));
+    }
+
+    @Benchmark
+    public Document smallQueryAntlr() {
+        return parse(SMALL_QUERY, antlrOptions);
+    }
+
+    @Benchmark
+    public Document smallQueryRecursiveDescent() {
+        return parse(SMALL_QUERY, recursiveDescentOptions);
+    }
+
+    @Benchmark
+    public Document largeQueryAntlr() {
+        return parse(largeQuery, antlrOptions);
+    }
+
+    @Benchmark
+    public Document largeQueryRecursiveDescent() {
+        return parse(largeQuery, recursiveDescentOptions);
+    }
+
+    private static Document parse(String query, ParserOptions parserOptions) {
+        ParserEnvironment environment = ParserEnvironment.newParserEnvironment()
+                .document(query)
+                .parserOptions(parserOptions)
+                .build();
+        return new Parser().parseDocument(environment);
+    }
+}
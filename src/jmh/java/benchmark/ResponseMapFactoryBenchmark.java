@@ -0,0 +1,110 @@
+package benchmark;
+
+import com.google.common.collect.ImmutableList;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.ColumnarResponseMapFactory;
+import graphql.execution.ResponseMapFactory;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
+/**
+ * Compares the memory used by the result maps of the default {@link ResponseMapFactory} with the
+ * {@link ColumnarResponseMapFactory}.
+ * <p>
+ * Run with the gc profiler to see the allocations per operation, eg
+ * <pre>
+ * java -jar build/libs/graphql-java-*-jmh.jar ResponseMapFactoryBenchmark -prof gc
+ * </pre>
+ * {@link #benchmarkRetainedResults} keeps the result maps of a 10k item list alive so that the
+ * {@code gc.alloc.rate.norm} figure is close to the retained size of the result.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(3)
+public class ResponseMapFactoryBenchmark {
+
+    private static final int NUMBER_OF_ITEMS = 10_000;
+    // the engine passes the immutable keys of the merged selection set
+    private static final List<String> KEYS = ImmutableList.of("id", "name", "description", "price", "available");
+
+    @Param({"default", "columnar"})
+    public String factory;
+
+    private ResponseMapFactory responseMapFactory;
+    private GraphQL graphQL;
+
+    @Setup
+    public void setup() {
+        responseMapFactory = "columnar".equals(factory) ? new ColumnarResponseMapFactory() : ResponseMapFactory.DEFAULT;
+
+        String sdl = "type Query { items : [Item] }\n" +
+                "type Item { id : ID name : String description : String price : Float available : Boolean }";
+        TypeDefinitionRegistry typeDefinitionRegistry = new SchemaParser().parse(sdl);
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", String.valueOf(i));
+            item.put("name", "item" + i);
+            item.put("description", "the item " + i);
+            item.put("price", i * 1.5d);
+            item.put("available", i % 2 == 0);
+            items.add(item);
+        }
+        DataFetcher<?> itemsFetcher = env -> items;
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("items", itemsFetcher))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+        graphQL = GraphQL.newGraphQL(schema).build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchmarkListQuery() {
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput("{ items { id name description price available } }").build();
+        GraphQL.unusualConfiguration(executionInput).responseMapFactory().setFactory(responseMapFactory);
+        return graphQL.execute(executionInput);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchmarkRetainedResults(Blackhole blackhole) {
+        List<Map<String, Object>> results = new ArrayList<>(NUMBER_OF_ITEMS);
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            List<Object> values = Arrays.asList(String.valueOf(i), "item", "the item", 1.5d, true);
+            results.add(responseMapFactory.createInsertionOrdered(KEYS, values));
+        }
+        blackhole.consume(results);
+    }
+}
@@ -0,0 +1,106 @@
+package benchmark;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.ResultPath;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+
+/**
+ * Measures the cost of the {@link ResultPath}s created while executing a 10k item list query, where every item and
+ * every field of an item gets its own path.
+ * <p>
+ * Run with the gc profiler to see the allocations per operation, eg
+ * <pre>
+ * java -jar build/libs/graphql-java-*-jmh.jar ResultPathBenchmark -prof gc
+ * </pre>
+ * and divide the normalized allocation rate by the 40k fields of the query to get the allocations per field.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(3)
+public class ResultPathBenchmark {
+
+    private static final int NUMBER_OF_ITEMS = 10_000;
+
+    private GraphQL graphQL;
+
+    @Setup
+    public void setup() {
+        String sdl = "type Query { items : [Item] }\n" +
+                "type Item { id : ID name : String price : Float }";
+        TypeDefinitionRegistry typeDefinitionRegistry = new SchemaParser().parse(sdl);
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", String.valueOf(i));
+            item.put("name", "item" + i);
+            item.put("price", i * 1.5d);
+            items.add(item);
+        }
+        DataFetcher<?> itemsFetcher = env -> items;
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("items", itemsFetcher))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+        graphQL = GraphQL.newGraphQL(schema).build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExecutionResult benchmarkListQuery() {
+        return graphQL.execute("{ items { id name price } }");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchmarkPathCreation(Blackhole blackhole) {
+        ResultPath items = ResultPath.rootPath().segment("items");
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            ResultPath item = items.segment(i);
+            blackhole.consume(item.segment("id"));
+            blackhole.consume(item.segment("name"));
+            blackhole.consume(item.segment("price"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchmarkPathCreationAndRendering(Blackhole blackhole) {
+        ResultPath items = ResultPath.rootPath().segment("items");
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            ResultPath item = items.segment(i);
+            blackhole.consume(item.segment("id").toString());
+            blackhole.consume(item.segment("name").toString());
+            blackhole.consume(item.segment("price").toString());
+        }
+    }
+}
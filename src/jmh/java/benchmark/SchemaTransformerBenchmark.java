@@ -34,11 +34,21 @@ import java.util.stream.Collectors;
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 public class SchemaTransformerBenchmark {
 
+    // a type that few other types reference, so a single edit of it only affects a small part of the schema
+    private static final String LEAF_TYPE = "Object2000";
+
+    private static GraphQLObjectType deprecateFirstField(GraphQLObjectType type) {
+        GraphQLFieldDefinition field = type.getFieldDefinitions().get(0);
+        return type.transform(builder -> builder.field(field.transform(fieldBuilder -> fieldBuilder.deprecate("edited"))));
+    }
+
     @State(Scope.Benchmark)
     public static class MyState {
 
         GraphQLSchema schema;
         GraphQLSchema txSchema;
+        GraphQLObjectType editedLeafType;
+        GraphQLObjectType editedQueryType;
 
         GraphQLDirective infoDirective = GraphQLDirective.newDirective()
                 .name("Info")
@@ -89,12 +99,24 @@ public class SchemaTransformerBenchmark {
             }
         };
 
+        GraphQLTypeVisitor leafTypeEditor = new GraphQLTypeVisitorStub() {
+            @Override
+            public TraversalControl visitGraphQLObjectType(GraphQLObjectType node, TraverserContext<GraphQLSchemaElement> context) {
+                if (node.getName().equals(LEAF_TYPE)) {
+                    return changeNode(context, deprecateFirstField(node));
+                }
+                return TraversalControl.CONTINUE;
+            }
+        };
+
         @Setup
         public void setup() {
             try {
                 String schemaString = BenchmarkUtils.loadResource("large-schema-3.graphqls");
                 schema = SchemaGenerator.createdMockedSchema(schemaString);
                 txSchema = SchemaTransformer.transformSchema(schema, directiveAdder);
+                editedLeafType = deprecateFirstField(schema.getObjectType(LEAF_TYPE));
+                editedQueryType = deprecateFirstField(schema.getQueryType());
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -114,4 +136,19 @@ public class SchemaTransformerBenchmark {
         GraphQLSchema schema = myState.txSchema;
         return SchemaTransformer.transformSchema(schema, myState.directiveRemover);
     }
+
+    @Benchmark
+    public GraphQLSchema benchMarkSchemaTransformerSingleTypeEdit(MyState myState) {
+        return SchemaTransformer.transformSchema(myState.schema, myState.leafTypeEditor);
+    }
+
+    @Benchmark
+    public GraphQLSchema benchMarkReplaceTypesSingleTypeEdit(MyState myState) {
+        return SchemaTransformer.replaceTypes(myState.schema, List.of(myState.editedLeafType));
+    }
+
+    @Benchmark
+    public GraphQLSchema benchMarkReplaceTypesQueryTypeEdit(MyState myState) {
+        return SchemaTransformer.replaceTypes(myState.schema, List.of(myState.editedQueryType));
+    }
 }
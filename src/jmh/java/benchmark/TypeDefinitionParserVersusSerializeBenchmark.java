@@ -2,6 +2,7 @@ package benchmark;
 
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.TypeDefinitionRegistryBinaryFormat;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -28,6 +29,7 @@ public class TypeDefinitionParserVersusSerializeBenchmark {
     static String SDL = BenchmarkUtils.loadResource("large-schema-2.graphqls");
     static TypeDefinitionRegistry registryOut = schemaParser.parse(SDL);
     static ByteArrayOutputStream baOS = serialisedRegistryStream(registryOut);
+    static byte[] binaryRegistry = TypeDefinitionRegistryBinaryFormat.writeRegistry(registryOut);
 
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
@@ -43,6 +45,13 @@ public class TypeDefinitionParserVersusSerializeBenchmark {
         blackhole.consume(serialise());
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchMarkBinaryFormat(Blackhole blackhole) {
+        blackhole.consume(TypeDefinitionRegistryBinaryFormat.readRegistry(binaryRegistry));
+    }
+
     static TypeDefinitionRegistry serialise() {
         return asRTE(() -> {
 
@@ -6,19 +6,25 @@ import graphql.language.Document;
 import graphql.parser.Parser;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaGenerator;
+import graphql.validation.ValidationCache;
 import graphql.validation.Validator;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static graphql.Assert.assertTrue;
@@ -47,12 +53,22 @@ public class ValidatorBenchmark {
         Scenario largeSchema1;
         Scenario largeSchema4;
         Scenario manyFragments;
+        ExecutorService executor;
+        // shared by all the invocations, so the cached benchmarks measure validation on a cache hit
+        ValidationCache validationCache;
 
         @Setup
         public void setup() {
             largeSchema1 = load("large-schema-1.graphqls", "large-schema-1-query.graphql");
             largeSchema4 = load("large-schema-4.graphqls", "large-schema-4-query.graphql");
             manyFragments = load("many-fragments.graphqls", "many-fragments-query.graphql");
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            validationCache = new ValidationCache();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            executor.shutdownNow();
         }
 
         private Scenario load(String schemaPath, String queryPath) {
@@ -79,6 +95,16 @@ public class ValidatorBenchmark {
         validator.validateDocument(scenario.schema, scenario.document, Locale.ENGLISH);
     }
 
+    private void runParallel(Scenario scenario, Executor executor) {
+        Validator validator = new Validator();
+        validator.validateDocument(scenario.schema, scenario.document, ruleClass -> true, Locale.ENGLISH, executor);
+    }
+
+    private void runCached(Scenario scenario, ValidationCache validationCache) {
+        Validator validator = new Validator();
+        validator.validateDocument(scenario.schema, scenario.document, Locale.ENGLISH, null, validationCache);
+    }
+
     @Benchmark
     public void largeSchema1(MyState state) {
         run(state.largeSchema1);
@@ -93,4 +119,34 @@ public class ValidatorBenchmark {
     public void manyFragments(MyState state) {
         run(state.manyFragments);
     }
+
+    @Benchmark
+    public void largeSchema1Parallel(MyState state) {
+        runParallel(state.largeSchema1, state.executor);
+    }
+
+    @Benchmark
+    public void largeSchema4Parallel(MyState state) {
+        runParallel(state.largeSchema4, state.executor);
+    }
+
+    @Benchmark
+    public void manyFragmentsParallel(MyState state) {
+        runParallel(state.manyFragments, state.executor);
+    }
+
+    @Benchmark
+    public void largeSchema1Cached(MyState state) {
+        runCached(state.largeSchema1, state.validationCache);
+    }
+
+    @Benchmark
+    public void largeSchema4Cached(MyState state) {
+        runCached(state.largeSchema4, state.validationCache);
+    }
+
+    @Benchmark
+    public void manyFragmentsCached(MyState state) {
+        runCached(state.manyFragments, state.validationCache);
+    }
 }
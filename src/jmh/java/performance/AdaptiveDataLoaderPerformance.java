@@ -0,0 +1,69 @@
+package performance;
+
+import graphql.Assert;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchStatistics;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link DataLoaderPerformance} query with adaptive DataLoader dispatching, next to the inherited
+ * benchmark with plain per level dispatching.  The statistics are shared by all the executions, so they are
+ * learned during the warmup.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3)
+@Fork(2)
+public class AdaptiveDataLoaderPerformance extends DataLoaderPerformance {
+
+    private final DataLoaderDispatchStatistics statistics = new DataLoaderDispatchStatistics();
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void executeRequestWithAdaptiveDispatching(MyState myState, Blackhole blackhole) {
+        DataLoader ownerDL = DataLoaderFactory.newDataLoader(ownerBatchLoader);
+        DataLoader petDL = DataLoaderFactory.newDataLoader(petBatchLoader);
+        execute(myState, blackhole, ownerDL, petDL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void executeRequestWithAdaptiveDispatchingAndMaxBatchSize(MyState myState, Blackhole blackhole) {
+        DataLoaderOptions options = DataLoaderOptions.newOptions().setMaxBatchSize(4).build();
+        DataLoader ownerDL = DataLoaderFactory.newDataLoader(ownerBatchLoader, options);
+        DataLoader petDL = DataLoaderFactory.newDataLoader(petBatchLoader, options);
+        execute(myState, blackhole, ownerDL, petDL);
+    }
+
+    private void execute(MyState myState, Blackhole blackhole, DataLoader ownerDL, DataLoader petDL) {
+        DataLoaderRegistry registry = DataLoaderRegistry.newRegistry().register(ownerDLName, ownerDL).register(petDLName, petDL).build();
+
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(myState.query).dataLoaderRegistry(registry).build();
+        GraphQL.unusualConfiguration(executionInput).dataloaderConfig()
+                .enableDataLoaderChaining(true)
+                .enableAdaptiveDispatching(statistics);
+        ExecutionResult execute = myState.graphQL.execute(executionInput);
+        Assert.assertTrue(execute.isDataPresent());
+        Assert.assertTrue(execute.getErrors().isEmpty());
+        blackhole.consume(execute);
+    }
+}
@@ -122,7 +122,7 @@ public class DataLoaderPerformance {
 
         GraphQLSchema schema;
         GraphQL graphQL;
-        private String query;
+        String query;
 
         @Setup
         public void setup() {
@@ -16,9 +16,11 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 @State(Scope.Benchmark)
@@ -32,6 +34,7 @@ public class ENFExtraLargePerformance {
 
         GraphQLSchema schema;
         Document document;
+        ForkJoinPool pool;
 
         @Setup
         public void setup() {
@@ -41,10 +44,16 @@ public class ENFExtraLargePerformance {
 
                 String query = PerformanceTestingUtils.loadResource("extra-large-schema-1-query.graphql");
                 document = Parser.parse(query);
+                pool = new ForkJoinPool();
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
     }
 
     @Benchmark
@@ -61,6 +70,16 @@ public class ENFExtraLargePerformance {
         runImpl(myState, blackhole);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchMarkParallelAvgTime(MyState myState, Blackhole blackhole) {
+        ExecutableNormalizedOperationFactory.Options options = ExecutableNormalizedOperationFactory.Options.defaultOptions()
+                .parallelBuildPool(myState.pool);
+        ExecutableNormalizedOperation executableNormalizedOperation = ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(myState.schema, myState.document, null, CoercedVariables.emptyVariables(), options);
+        blackhole.consume(executableNormalizedOperation);
+    }
+
     private void runImpl(MyState myState, Blackhole blackhole) {
         ExecutableNormalizedOperation executableNormalizedOperation = ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(myState.schema, myState.document, null, CoercedVariables.emptyVariables());
         blackhole.consume(executableNormalizedOperation);
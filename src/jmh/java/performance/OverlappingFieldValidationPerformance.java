@@ -91,6 +91,29 @@ public class OverlappingFieldValidationPerformance {
         }
     }
 
+    /**
+     * Queries made of many fragments that spread the same fragments again, like generated queries do.  The validation
+     * time should grow about linearly with the number of fragments.
+     */
+    @State(Scope.Benchmark)
+    public static class FragmentHeavyState {
+
+        GraphQLSchema schema;
+
+        @Param({"50", "100", "200", "400"})
+        int fragmentCount;
+
+        Document reusedFragments;
+        Document reusedNestedFragments;
+
+        @Setup
+        public void setup() {
+            schema = SchemaGenerator.createdMockedSchema(schemaSdl);
+            reusedFragments = makeReusedFragmentsQuery(fragmentCount);
+            reusedNestedFragments = makeReusedNestedFragmentsQuery(fragmentCount);
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -147,6 +170,20 @@ public class OverlappingFieldValidationPerformance {
         blackhole.consume(validateQuery(myState.schema2, myState.deepAbstractConcrete));
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchmarkReusedFragments(FragmentHeavyState state, Blackhole blackhole) {
+        blackhole.consume(validateQuery(state.schema, state.reusedFragments));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void benchmarkReusedNestedFragments(FragmentHeavyState state, Blackhole blackhole) {
+        blackhole.consume(validateQuery(state.schema, state.reusedNestedFragments));
+    }
+
     private List<ValidationError> validateQuery(GraphQLSchema schema, Document document) {
         ValidationErrorCollector errorCollector = new ValidationErrorCollector();
         I18n i18n = I18n.i18n(I18n.BundleType.Validation, Locale.ENGLISH);
@@ -221,6 +258,43 @@ public class OverlappingFieldValidationPerformance {
         return Parser.parse(b.toString());
     }
 
+    private static Document makeReusedFragmentsQuery(int size) {
+        StringBuilder b = new StringBuilder();
+
+        b.append("fragment names on XingId { firstName lastName }\n");
+        for (int i = 1; i <= size; i++) {
+            b.append("fragment viewer" + i + " on Query { viewer { xingId { ...names firstName } } }\n");
+        }
+
+        b.append("query testQuery {");
+        for (int i = 1; i <= size; i++) {
+            b.append(" ...viewer" + i);
+        }
+        b.append(" }");
+        return Parser.parse(b.toString());
+    }
+
+    private static Document makeReusedNestedFragmentsQuery(int size) {
+        StringBuilder b = new StringBuilder();
+
+        b.append("fragment names on XingId { firstName lastName }\n");
+        for (int i = 1; i <= size; i++) {
+            b.append("fragment xingId" + i + " on Viewer { xingId { ...names } }\n");
+            b.append("fragment viewer" + i + " on Query { viewer { ...xingId" + i);
+            if (i > 1) {
+                b.append(" ...xingId" + (i - 1));
+            }
+            b.append(" } }\n");
+        }
+
+        b.append("query testQuery {");
+        for (int i = 1; i <= size; i++) {
+            b.append(" ...viewer" + i);
+        }
+        b.append(" }");
+        return Parser.parse(b.toString());
+    }
+
     private static Document makeDeepAbstractConcreteQuery(int depth) {
         StringBuilder q = new StringBuilder();
 
@@ -4,12 +4,14 @@ package graphql;
 import graphql.language.BooleanValue;
 import graphql.language.Description;
 import graphql.language.DirectiveDefinition;
+import graphql.language.IntValue;
 import graphql.language.StringValue;
 import graphql.schema.GraphQLDirective;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static graphql.Scalars.GraphQLBoolean;
+import static graphql.Scalars.GraphQLInt;
 import static graphql.Scalars.GraphQLString;
 import static graphql.introspection.Introspection.DirectiveLocation.ARGUMENT_DEFINITION;
 import static graphql.introspection.Introspection.DirectiveLocation.ENUM_VALUE;
@@ -42,6 +44,7 @@ public class Directives {
     private static final String SPECIFIED_BY = "specifiedBy";
     private static final String ONE_OF = "oneOf";
     private static final String DEFER = "defer";
+    private static final String STREAM = "stream";
     private static final String EXPERIMENTAL_DISABLE_ERROR_PROPAGATION = "experimental_disableErrorPropagation";
 
     public static final DirectiveDefinition DEPRECATED_DIRECTIVE_DEFINITION;
@@ -53,10 +56,13 @@ public class Directives {
     @ExperimentalApi
     public static final DirectiveDefinition DEFER_DIRECTIVE_DEFINITION;
     @ExperimentalApi
+    public static final DirectiveDefinition STREAM_DIRECTIVE_DEFINITION;
+    @ExperimentalApi
     public static final DirectiveDefinition EXPERIMENTAL_DISABLE_ERROR_PROPAGATION_DIRECTIVE_DEFINITION;
 
     public static final String BOOLEAN = "Boolean";
     public static final String STRING = "String";
+    public static final String INT = "Int";
     public static final String NO_LONGER_SUPPORTED = "No longer supported";
 
     static {
@@ -141,6 +147,31 @@ public class Directives {
                                 .type(newTypeName().name(STRING).build())
                                 .build())
                 .build();
+        STREAM_DIRECTIVE_DEFINITION = DirectiveDefinition.newDirectiveDefinition()
+                .name(STREAM)
+                .directiveLocation(newDirectiveLocation().name(FIELD.name()).build())
+                .description(createDescription("This directive allows the items of a list field to be streamed during execution"))
+                .inputValueDefinition(
+                        newInputValueDefinition()
+                                .name("if")
+                                .description(createDescription("Streamed behaviour is controlled by this argument"))
+                                .type(newNonNullType(newTypeName().name(BOOLEAN).build()).build())
+                                .defaultValue(BooleanValue.newBooleanValue(true).build())
+                                .build())
+                .inputValueDefinition(
+                        newInputValueDefinition()
+                                .name("label")
+                                .description(createDescription("A unique label that represents the field being streamed"))
+                                .type(newTypeName().name(STRING).build())
+                                .build())
+                .inputValueDefinition(
+                        newInputValueDefinition()
+                                .name("initialCount")
+                                .description(createDescription("The number of list items that are returned in the initial result"))
+                                .type(newTypeName().name(INT).build())
+                                .defaultValue(IntValue.of(0))
+                                .build())
+                .build();
         EXPERIMENTAL_DISABLE_ERROR_PROPAGATION_DIRECTIVE_DEFINITION = DirectiveDefinition.newDirectiveDefinition()
                 .name(EXPERIMENTAL_DISABLE_ERROR_PROPAGATION)
                 .directiveLocation(newDirectiveLocation().name(QUERY.name()).build())
@@ -179,6 +210,39 @@ public class Directives {
             .definition(DEFER_DIRECTIVE_DEFINITION)
             .build();
 
+    /**
+     * The @stream directive can be used on list fields to return the first items of the list in the initial result
+     * and then stream the remaining items later in the query.
+     * This is an opt-in directive that, unlike {@link #DeferDirective}, is not added to schemas automatically and hence
+     * needs to be explicitly put into the schema.
+     * <p>
+     * This implementation is based on the state of <a href="https://github.com/graphql/graphql-spec/pull/742">Defer/Stream PR</a>
+     */
+    @ExperimentalApi
+    public static final GraphQLDirective StreamDirective = GraphQLDirective.newDirective()
+            .name(STREAM)
+            .description("This directive allows the items of a list field to be streamed during execution")
+            .validLocations(FIELD)
+            .argument(newArgument()
+                    .name("if")
+                    .type(nonNull(GraphQLBoolean))
+                    .description("Streamed behaviour is controlled by this argument")
+                    .defaultValueLiteral(BooleanValue.newBooleanValue(true).build())
+            )
+            .argument(newArgument()
+                    .name("label")
+                    .type(GraphQLString)
+                    .description("A unique label that represents the field being streamed")
+            )
+            .argument(newArgument()
+                    .name("initialCount")
+                    .type(GraphQLInt)
+                    .description("The number of list items that are returned in the initial result")
+                    .defaultValueLiteral(IntValue.of(0))
+            )
+            .definition(STREAM_DIRECTIVE_DEFINITION)
+            .build();
+
     public static final GraphQLDirective IncludeDirective = GraphQLDirective.newDirective()
             .name(INCLUDE)
             .description("Directs the executor to include this field or fragment only when the `if` argument is true")
@@ -8,6 +8,7 @@ import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.Execution;
 import graphql.execution.ExecutionId;
 import graphql.execution.ExecutionIdProvider;
+import graphql.execution.ExecutionPlan;
 import graphql.execution.ExecutionStrategy;
 import graphql.execution.ResponseMapFactory;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
@@ -24,15 +25,19 @@ import graphql.execution.instrumentation.parameters.InstrumentationValidationPar
 import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.sink.RootFieldDelivery;
 import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationCache;
 import graphql.validation.ValidationError;
+import graphql.validation.Validator;
 
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -482,6 +487,7 @@ public class GraphQL {
         return engineRunningState.engineRun(() -> {
             ExecutionInput executionInputWithId = ensureInputHasId(executionInput);
             engineRunningState.updateExecutionInput(executionInputWithId);
+            RootFieldDelivery rootFieldDelivery = RootFieldDelivery.create(executionInputWithId.getGraphQLContext(), instrumentation);
 
             CompletableFuture<InstrumentationState> instrumentationStateCF = instrumentation.createStateAsync(new InstrumentationCreateStateParameters(this.graphQLSchema, executionInputWithId));
             instrumentationStateCF = Async.orNullCompletedFuture(instrumentationStateCF);
@@ -504,9 +510,15 @@ public class GraphQL {
                     //
                     // allow instrumentation to tweak the result
                     executionResult = engineRunningState.compose(executionResult, (result -> instrumentation.instrumentExecutionResult(result, instrumentationParameters, instrumentationState)));
+                    //
+                    // hand what has not been delivered yet to the result sink, even if the execution failed
+                    if (rootFieldDelivery != null) {
+                        executionResult = executionResult.whenComplete(rootFieldDelivery::finish);
+                    }
                     return executionResult;
                 } catch (AbortExecutionException abortException) {
-                    return handleAbortException(executionInput, instrumentationState, abortException);
+                    CompletableFuture<ExecutionResult> executionResult = handleAbortException(executionInput, instrumentationState, abortException);
+                    return rootFieldDelivery != null ? executionResult.whenComplete(rootFieldDelivery::finish) : executionResult;
                 }
             }));
         });
@@ -542,7 +554,7 @@ public class GraphQL {
                 return CompletableFuture.completedFuture(new ExecutionResultImpl(preparsedDocumentEntry.getErrors()));
             }
             try {
-                return execute(executionInputRef.get(), preparsedDocumentEntry.getDocument(), graphQLSchema, instrumentationState, engineRunningState);
+                return execute(executionInputRef.get(), preparsedDocumentEntry, graphQLSchema, instrumentationState, engineRunningState);
             } catch (AbortExecutionException e) {
                 return CompletableFuture.completedFuture(e.toExecutionResult());
             }
@@ -594,16 +606,19 @@ public class GraphQL {
         InstrumentationContext<List<ValidationError>> validationCtx = nonNullCtx(instrumentation.beginValidation(new InstrumentationValidationParameters(executionInput, document, graphQLSchema), instrumentationState));
         validationCtx.onDispatched();
 
-        Predicate<Class<?>> validationRulePredicate = executionInput.getGraphQLContext().getOrDefault(ParseAndValidate.INTERNAL_VALIDATION_PREDICATE_HINT, r -> true);
+        GraphQLContext graphQLContext = executionInput.getGraphQLContext();
+        Predicate<Class<?>> validationRulePredicate = graphQLContext.get(ParseAndValidate.INTERNAL_VALIDATION_PREDICATE_HINT);
         Locale locale = executionInput.getLocale() != null ? executionInput.getLocale() : Locale.getDefault();
-        List<ValidationError> validationErrors = ParseAndValidate.validate(graphQLSchema, document, validationRulePredicate, locale);
+        Executor parallelValidationExecutor = graphQLContext.get(Validator.PARALLEL_VALIDATION_EXECUTOR);
+        ValidationCache validationCache = graphQLContext.get(Validator.VALIDATION_CACHE);
+        List<ValidationError> validationErrors = ParseAndValidate.validate(graphQLSchema, document, validationRulePredicate, locale, parallelValidationExecutor, validationCache);
 
         validationCtx.onCompleted(validationErrors, null);
         return validationErrors;
     }
 
     private CompletableFuture<ExecutionResult> execute(ExecutionInput executionInput,
-                                                       Document document,
+                                                       PreparsedDocumentEntry preparsedDocumentEntry,
                                                        GraphQLSchema graphQLSchema,
                                                        InstrumentationState instrumentationState,
                                                        EngineRunningState engineRunningState
@@ -612,7 +627,11 @@ public class GraphQL {
         Execution execution = new Execution(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, valueUnboxer, doNotAutomaticallyDispatchDataLoader);
         ExecutionId executionId = executionInput.getExecutionId();
 
-        return execution.execute(document, graphQLSchema, executionId, executionInput, instrumentationState, engineRunningState);
+        Document document = preparsedDocumentEntry.getDocument();
+        // the no-op provider hands out a new entry on every request, so a plan compiled into it would never be re-used
+        boolean usesExecutionPlan = preparsedDocumentProvider != NoOpPreparsedDocumentProvider.INSTANCE && ExecutionPlan.isApplicable(executionInput.getGraphQLContext());
+        ExecutionPlan executionPlan = usesExecutionPlan ? preparsedDocumentEntry.getExecutionPlan(graphQLSchema) : null;
+        return execution.execute(document, executionPlan, graphQLSchema, executionId, executionInput, instrumentationState, engineRunningState);
     }
 
 }
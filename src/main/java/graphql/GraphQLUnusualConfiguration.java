@@ -1,14 +1,24 @@
 package graphql;
 
+import graphql.execution.ExecutionPlan;
 import graphql.execution.ResponseMapFactory;
+import graphql.execution.incremental.IncrementalUtils;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchStatistics;
 import graphql.execution.instrumentation.dataloader.DelayedDataLoaderDispatcherExecutorFactory;
+import graphql.execution.sink.ExecutionResultSink;
+import graphql.execution.sink.RootFieldDelivery;
 import graphql.introspection.GoodFaithIntrospection;
 import graphql.parser.ParserOptions;
 import graphql.schema.PropertyDataFetcherHelper;
+import graphql.validation.ValidationCache;
+import graphql.validation.Validator;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+import static graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys.DATA_LOADER_DISPATCH_STATISTICS;
 import static graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys.DELAYED_DATA_LOADER_BATCH_WINDOW_SIZE_NANO_SECONDS;
 import static graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys.DELAYED_DATA_LOADER_DISPATCHING_EXECUTOR_FACTORY;
 import static graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys.ENABLE_DATA_LOADER_CHAINING;
@@ -166,6 +176,34 @@ public class GraphQLUnusualConfiguration {
             ParserOptions.setDefaultSdlParserOptions(options);
             return this;
         }
+
+        /**
+         * @return true if operations are parsed by the recursive descent parser by default
+         *
+         * @see ParserOptions#isRecursiveDescentParsing()
+         */
+        @ExperimentalApi
+        public boolean isRecursiveDescentParsingEnabled() {
+            return ParserOptions.getDefaultOperationParserOptions().isRecursiveDescentParsing();
+        }
+
+        /**
+         * By default, operations are parsed by the ANTLR based parser.  This changes the JVM wide default operation parser
+         * options so that operations are parsed by a hand written recursive descent parser instead, which produces the same
+         * AST.  Documents it does not handle, such as documents with syntax errors, are still parsed by ANTLR.
+         *
+         * @param enable true to parse operations with the recursive descent parser
+         *
+         * @return this config
+         *
+         * @see ParserOptions#isRecursiveDescentParsing()
+         */
+        @ExperimentalApi
+        public ParserConfig enableRecursiveDescentParsing(boolean enable) {
+            ParserOptions options = ParserOptions.getDefaultOperationParserOptions();
+            ParserOptions.setDefaultOperationParserOptions(options.transform(builder -> builder.recursiveDescentParsing(enable)));
+            return this;
+        }
     }
 
     public static class PropertyDataFetcherConfig extends BaseConfig {
@@ -280,6 +318,27 @@ public class GraphQLUnusualConfiguration {
             return new ResponseMapFactoryConfig(this);
         }
 
+        /**
+         * @return an element that allows you to control whether cached {@link ExecutionPlan}s are used
+         */
+        public ExecutionPlanConfig executionPlans() {
+            return new ExecutionPlanConfig(this);
+        }
+
+        /**
+         * @return an element that allows you to hand the execution result, root field by root field, to an {@link ExecutionResultSink}
+         */
+        public ResultSinkConfig resultSink() {
+            return new ResultSinkConfig(this);
+        }
+
+        /**
+         * @return an element that allows you to control how the query is validated
+         */
+        public ValidationConfig validation() {
+            return new ValidationConfig(this);
+        }
+
         private void put(String named, Object value) {
             if (graphQLContext != null) {
                 graphQLContext.put(named, value);
@@ -341,6 +400,25 @@ public class GraphQLUnusualConfiguration {
             contextConfig.put(ExperimentalApi.ENABLE_INCREMENTAL_SUPPORT, enable);
             return this;
         }
+
+        /**
+         * @return the maximum number of @stream list items sent in one payload
+         */
+        public int getStreamBatchSize() {
+            Integer batchSize = contextConfig.get(IncrementalUtils.STREAM_BATCH_SIZE);
+            return batchSize != null ? batchSize : 1;
+        }
+
+        /**
+         * This controls how many @stream list items are batched into one payload.  Larger batches
+         * cut the per payload overhead at the cost of a longer wait for the first items of each batch.
+         */
+        @ExperimentalApi
+        public IncrementalSupportConfig streamBatchSize(int batchSize) {
+            assertTrue(batchSize > 0, () -> "batchSize must be greater than 0");
+            contextConfig.put(IncrementalUtils.STREAM_BATCH_SIZE, batchSize);
+            return this;
+        }
     }
 
     public static class DataloaderConfig extends BaseContextConfig {
@@ -400,6 +478,26 @@ public class GraphQLUnusualConfiguration {
             contextConfig.put(DELAYED_DATA_LOADER_DISPATCHING_EXECUTOR_FACTORY, delayedDataLoaderDispatcherExecutorFactory);
             return this;
         }
+
+        /**
+         * @return the {@link DataLoaderDispatchStatistics} used for adaptive dispatching or null if it is not enabled
+         */
+        public DataLoaderDispatchStatistics dataLoaderDispatchStatistics() {
+            return contextConfig.get(DATA_LOADER_DISPATCH_STATISTICS);
+        }
+
+        /**
+         * Enables adaptive dispatching of chained DataLoaders: the given statistics learn the batch sizes and latencies
+         * of the DataLoaders across executions and decide when to dispatch early and how long to wait for delayed
+         * DataLoaders.  The same statistics should be passed to all the executions against a schema.
+         * <p>
+         * Only has an effect if {@link #enableDataLoaderChaining(boolean)} is enabled.
+         */
+        @ExperimentalApi
+        public DataloaderConfig enableAdaptiveDispatching(DataLoaderDispatchStatistics dataLoaderDispatchStatistics) {
+            contextConfig.put(DATA_LOADER_DISPATCH_STATISTICS, assertNotNull(dataLoaderDispatchStatistics));
+            return this;
+        }
     }
 
     public static class ResponseMapFactoryConfig extends BaseContextConfig {
@@ -425,4 +523,106 @@ public class GraphQLUnusualConfiguration {
             return this;
         }
     }
+
+    public static class ExecutionPlanConfig extends BaseContextConfig {
+        private ExecutionPlanConfig(GraphQLContextConfiguration contextConfig) {
+            super(contextConfig);
+        }
+
+        /**
+         * @return true if cached execution plans are used for this execution
+         */
+        public boolean isExecutionPlansEnabled() {
+            return contextConfig.getBoolean(ExecutionPlan.ENABLE_EXECUTION_PLANS);
+        }
+
+        /**
+         * This controls whether an {@link ExecutionPlan} is compiled once per preparsed document and then
+         * re-used by this execution.  It has no effect unless a caching
+         * {@link graphql.execution.preparsed.PreparsedDocumentProvider} has been configured.  The normalized operation
+         * of the document is only re-used by executions with identical variable values.
+         */
+        @ExperimentalApi
+        public ExecutionPlanConfig enableExecutionPlans(boolean enable) {
+            contextConfig.put(ExecutionPlan.ENABLE_EXECUTION_PLANS, enable);
+            return this;
+        }
+    }
+
+    public static class ResultSinkConfig extends BaseContextConfig {
+        private ResultSinkConfig(GraphQLContextConfiguration contextConfig) {
+            super(contextConfig);
+        }
+
+        /**
+         * @return the {@link ExecutionResultSink} the result of this execution is handed to - this can be null
+         */
+        @ExperimentalApi
+        public ExecutionResultSink getResultSink() {
+            return contextConfig.get(RootFieldDelivery.RESULT_SINK);
+        }
+
+        /**
+         * This hands the result of this request to the given {@link ExecutionResultSink} root field by root field, for
+         * example to write it to an HTTP response via a {@link graphql.execution.sink.JsonExecutionResultSink}, rather than
+         * first turning it into a specification map.  Each root field is handed over as its complete value.  The
+         * {@link ExecutionResult} is still returned but the values of the root fields that were handed over while the
+         * execution was running are not kept in it, see {@link ExecutionResultSink}.
+         * <p>
+         * This is not used for subscriptions.
+         */
+        @ExperimentalApi
+        public ResultSinkConfig deliverResultInto(ExecutionResultSink resultSink) {
+            contextConfig.put(RootFieldDelivery.RESULT_SINK, resultSink);
+            return this;
+        }
+    }
+
+    public static class ValidationConfig extends BaseContextConfig {
+        private ValidationConfig(GraphQLContextConfiguration contextConfig) {
+            super(contextConfig);
+        }
+
+        /**
+         * @return the {@link Executor} the validation rules are run on in parallel - this can be null
+         */
+        @ExperimentalApi
+        public Executor getParallelValidationExecutor() {
+            return contextConfig.get(Validator.PARALLEL_VALIDATION_EXECUTOR);
+        }
+
+        /**
+         * This validates the query with independent groups of validation rules running in parallel on the given
+         * {@link Executor}, which lowers the validation latency of large queries.  The same errors are reported, although
+         * they are ordered by group of rules rather than by position in the query.
+         * <p>
+         * By default the query is validated on the calling thread.
+         */
+        @ExperimentalApi
+        public ValidationConfig parallelValidationExecutor(Executor executor) {
+            contextConfig.put(Validator.PARALLEL_VALIDATION_EXECUTOR, assertNotNull(executor));
+            return this;
+        }
+
+        /**
+         * @return the {@link ValidationCache} of documents that passed validation - this can be null
+         */
+        @ExperimentalApi
+        public ValidationCache getValidationCache() {
+            return contextConfig.get(Validator.VALIDATION_CACHE);
+        }
+
+        /**
+         * This remembers the documents that passed validation in the given {@link ValidationCache}, so that documents
+         * which only differ from them in their literal values only need to run the validation rules that look at literal
+         * values.  The cache should be shared by all executions.
+         * <p>
+         * By default all the validation rules are run for every document.
+         */
+        @ExperimentalApi
+        public ValidationConfig validationCache(ValidationCache validationCache) {
+            contextConfig.put(Validator.VALIDATION_CACHE, assertNotNull(validationCache));
+            return this;
+        }
+    }
 }
@@ -6,12 +6,15 @@ import graphql.parser.Parser;
 import graphql.parser.ParserEnvironment;
 import graphql.parser.ParserOptions;
 import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationCache;
 import graphql.validation.ValidationError;
 import graphql.validation.Validator;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import static java.util.Optional.ofNullable;
@@ -118,6 +121,15 @@ public class ParseAndValidate {
         return validator.validateDocument(graphQLSchema, parsedDocument, rulePredicate, locale);
     }
 
+    static List<ValidationError> validate(GraphQLSchema graphQLSchema, Document parsedDocument, @Nullable Predicate<Class<?>> rulePredicate, Locale locale, @Nullable Executor parallelValidationExecutor, @Nullable ValidationCache validationCache) {
+        Validator validator = new Validator();
+        // the cache only holds documents that passed all the rules, so it is not used when some of them are left out
+        if (rulePredicate != null) {
+            return validator.validateDocument(graphQLSchema, parsedDocument, rulePredicate, locale, parallelValidationExecutor);
+        }
+        return validator.validateDocument(graphQLSchema, parsedDocument, locale, parallelValidationExecutor, validationCache);
+    }
+
     /**
      * This can be called to validate a parsed graphql query, with the JVM default locale.
      *
@@ -6,6 +6,7 @@ import graphql.execution.incremental.DeferredExecutionSupport;
 import graphql.execution.instrumentation.ExecutionStrategyInstrumentationContext;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
+import graphql.execution.sink.RootFieldDelivery;
 import graphql.introspection.Introspection;
 
 import java.util.List;
@@ -56,7 +57,8 @@ public class AsyncExecutionStrategy extends AbstractAsyncExecutionStrategy {
 
         dataLoaderDispatcherStrategy.executionStrategy(executionContext, parameters, deferredExecutionSupport.getNonDeferredFieldNames(fieldNames).size());
 
-        Async.CombinedBuilder<FieldValueInfo> futures = getAsyncFieldValueInfo(executionContext, parameters, deferredExecutionSupport);
+        RootFieldDelivery rootFieldDelivery = RootFieldDelivery.deliverRootFields(executionContext, parameters);
+        Async.CombinedBuilder<FieldValueInfo> futures = getAsyncFieldValueInfo(executionContext, parameters, deferredExecutionSupport, rootFieldDelivery);
 
         CompletableFuture<ExecutionResult> overallResult = new CompletableFuture<>();
         executionStrategyCtx.onDispatched();
@@ -73,8 +75,9 @@ public class AsyncExecutionStrategy extends AbstractAsyncExecutionStrategy {
             }
 
             Async.CombinedBuilder<Object> fieldValuesFutures = Async.ofExpectedSize(completeValueInfos.size());
-            for (FieldValueInfo completeValueInfo : completeValueInfos) {
-                fieldValuesFutures.addObject(completeValueInfo.getFieldValueObject());
+            for (int i = 0; i < completeValueInfos.size(); i++) {
+                // delivered root fields are not kept in the result once they have been written
+                fieldValuesFutures.addObject(rootFieldDelivery != null ? rootFieldDelivery.rootFieldWritten(i) : completeValueInfos.get(i).getFieldValueObject());
             }
             dataLoaderDispatcherStrategy.executionStrategyOnFieldValuesInfo(completeValueInfos, parameters);
             executionStrategyCtx.onFieldValuesInfo(completeValueInfos);
@@ -0,0 +1,236 @@
+package graphql.execution;
+
+import com.google.common.collect.ImmutableList;
+import graphql.ExperimentalApi;
+import graphql.PublicApi;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A {@link ResponseMapFactory} that stores result objects in columns: every object of a selection has the same keys,
+ * so the keys are held once in a shared array and each result map only holds an array of its values.  For large lists
+ * this avoids the entry objects and hash table of a {@link java.util.LinkedHashMap} per object.
+ * <p>
+ * The maps created by this factory are read only and keep the insertion order of the keys.  It can be enabled per
+ * request via
+ * <pre>
+ * {@code
+ * GraphQL.unusualConfiguration(executionInput).responseMapFactory().setFactory(new ColumnarResponseMapFactory());
+ * }
+ * </pre>
+ * A factory can be shared between requests, the key sets it has seen are then shared too.  The {@code maxKeySets} most
+ * recently used key sets are kept.  The engine passes the same immutable list of keys for all the objects of a selection,
+ * so key sets are first looked up by the identity of that list and the keys are only hashed when the list is new.
+ */
+@ExperimentalApi
+@PublicApi
+public class ColumnarResponseMapFactory implements ResponseMapFactory {
+
+    public static final int DEFAULT_MAX_KEY_SETS = 1000;
+
+    // a power of 2, so that an identity hash code can be masked into a slot
+    private static final int RECENT_KEY_SETS = 256;
+
+    private final int maxKeySets;
+    // guarded by itself, in access order so that the eldest entry is the least recently used one
+    private final Map<List<String>, ResponseKeys> keySets;
+    // a direct mapped cache by the identity of the keys list, a slot is simply overwritten on a collision
+    private final AtomicReferenceArray<RecentKeySet> recentKeySets = new AtomicReferenceArray<>(RECENT_KEY_SETS);
+
+    public ColumnarResponseMapFactory() {
+        this(DEFAULT_MAX_KEY_SETS);
+    }
+
+    /**
+     * @param maxKeySets the maximum number of distinct key sets to share
+     */
+    public ColumnarResponseMapFactory(int maxKeySets) {
+        assertTrue(maxKeySets >= 0, () -> "maxKeySets must not be negative");
+        this.maxKeySets = maxKeySets;
+        this.keySets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, ResponseKeys> eldest) {
+                return size() > ColumnarResponseMapFactory.this.maxKeySets;
+            }
+        };
+    }
+
+    @Override
+    public Map<String, Object> createInsertionOrdered(List<String> keys, List<Object> values) {
+        assertTrue(keys.size() == values.size(), () -> "There must be as many keys as values");
+        return new ColumnarMap(responseKeys(keys), values.toArray());
+    }
+
+    private ResponseKeys responseKeys(List<String> keys) {
+        if (maxKeySets == 0) {
+            return new ResponseKeys(keys);
+        }
+        // only immutable lists can be recognised by their identity, others could have been changed since
+        boolean immutableKeys = keys instanceof ImmutableList;
+        int slot = System.identityHashCode(keys) & (RECENT_KEY_SETS - 1);
+        if (immutableKeys) {
+            RecentKeySet recentKeySet = recentKeySets.get(slot);
+            if (recentKeySet != null && recentKeySet.keys == keys) {
+                return recentKeySet.responseKeys;
+            }
+        }
+        ResponseKeys responseKeys;
+        synchronized (keySets) {
+            responseKeys = keySets.get(keys);
+            if (responseKeys == null) {
+                responseKeys = new ResponseKeys(keys);
+                keySets.put(responseKeys.keyList, responseKeys);
+            }
+        }
+        if (immutableKeys) {
+            recentKeySets.set(slot, new RecentKeySet(keys, responseKeys));
+        }
+        return responseKeys;
+    }
+
+    private static class RecentKeySet {
+        private final List<String> keys;
+        private final ResponseKeys responseKeys;
+
+        RecentKeySet(List<String> keys, ResponseKeys responseKeys) {
+            this.keys = keys;
+            this.responseKeys = responseKeys;
+        }
+    }
+
+    /**
+     * The keys of one selection, shared by all the result maps of that selection
+     */
+    private static class ResponseKeys {
+        // a linear scan is faster than hashing for the typical small selection
+        private static final int INDEXED_THRESHOLD = 8;
+
+        private final ImmutableList<String> keyList;
+        private final String[] keys;
+        private final Map<String, Integer> indexByKey;
+
+        ResponseKeys(List<String> keys) {
+            this.keyList = ImmutableList.copyOf(keys);
+            this.keys = keyList.toArray(new String[0]);
+            if (this.keys.length > INDEXED_THRESHOLD) {
+                indexByKey = new HashMap<>(this.keys.length * 2);
+                for (int i = 0; i < this.keys.length; i++) {
+                    indexByKey.putIfAbsent(this.keys[i], i);
+                }
+            } else {
+                indexByKey = null;
+            }
+        }
+
+        int indexOf(Object key) {
+            if (indexByKey != null) {
+                Integer index = indexByKey.get(key);
+                return index != null ? index : -1;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static class ColumnarMap extends AbstractMap<String, Object> {
+        private final ResponseKeys responseKeys;
+        private final Object[] values;
+
+        ColumnarMap(ResponseKeys responseKeys, Object[] values) {
+            this.responseKeys = responseKeys;
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return responseKeys.indexOf(key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int index = responseKeys.indexOf(key);
+            return index >= 0 ? values[index] : null;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Object> action) {
+            String[] keys = responseKeys.keys;
+            for (int i = 0; i < values.length; i++) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return responseKeys.keyList.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return containsKey(o);
+                }
+            };
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<Entry<String, Object>>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (index >= values.length) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Object> entry = new SimpleImmutableEntry<>(responseKeys.keys[index], values[index]);
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+    }
+}
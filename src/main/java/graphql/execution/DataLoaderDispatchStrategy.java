@@ -64,4 +64,8 @@ public interface DataLoaderDispatchStrategy {
     default void newSubscriptionExecution(FieldValueInfo fieldValueInfo, AlternativeCallContext alternativeCallContext) {
 
     }
+
+    default void newStreamedItemsExecution(FieldValueInfo listFieldValueInfo, ExecutionStrategyParameters parameters) {
+
+    }
 }
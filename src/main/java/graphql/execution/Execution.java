@@ -30,6 +30,7 @@ import graphql.schema.GraphQLSchema;
 import graphql.schema.impl.SchemaUtil;
 import graphql.util.FpKit;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 
 import java.util.Collections;
@@ -72,6 +73,10 @@ public class Execution {
     }
 
     public CompletableFuture<ExecutionResult> execute(Document document, GraphQLSchema graphQLSchema, ExecutionId executionId, ExecutionInput executionInput, InstrumentationState instrumentationState, EngineRunningState engineRunningState) {
+        return execute(document, null, graphQLSchema, executionId, executionInput, instrumentationState, engineRunningState);
+    }
+
+    public CompletableFuture<ExecutionResult> execute(Document document, @Nullable ExecutionPlan executionPlan, GraphQLSchema graphQLSchema, ExecutionId executionId, ExecutionInput executionInput, InstrumentationState instrumentationState, EngineRunningState engineRunningState) {
         NodeUtil.GetOperationResult getOperationResult;
         CoercedVariables coercedVariables;
         Supplier<NormalizedVariables> normalizedVariableValues;
@@ -118,6 +123,7 @@ public class Execution {
                 .locale(executionInput.getLocale())
                 .valueUnboxer(valueUnboxer)
                 .responseMapFactory(responseMapFactory)
+                .executionPlan(executionPlan)
                 .executionInput(executionInput)
                 .propagapropagateErrorsOnNonNullContractFailureeErrors(propagateErrorsOnNonNullContractFailure)
                 .engineRunningState(engineRunningState)
@@ -185,11 +191,15 @@ public class Execution {
                 .graphQLContext(graphQLContext)
                 .build();
 
-        MergedSelectionSet fields = fieldCollector.collectFields(
+        Supplier<MergedSelectionSet> rootFieldsCollector = () -> fieldCollector.collectFields(
                 collectorParameters,
                 operationDefinition.getSelectionSet(),
                 executionContext.hasIncrementalSupport()
         );
+        ExecutionPlan executionPlan = executionContext.getExecutionPlan();
+        MergedSelectionSet fields = executionPlan != null
+                ? executionPlan.getRootSelectionSet(operationDefinition, operationRootType, rootFieldsCollector)
+                : rootFieldsCollector.get();
 
         ResultPath path = ResultPath.rootPath();
         ExecutionStepInfo executionStepInfo = newExecutionStepInfo().type(operationRootType).path(path).build();
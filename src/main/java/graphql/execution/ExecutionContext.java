@@ -11,14 +11,18 @@ import graphql.GraphQLError;
 import graphql.Internal;
 import graphql.PublicApi;
 import graphql.collect.ImmutableKit;
+import graphql.collect.ImmutableMapWithNullValues;
 import graphql.execution.incremental.IncrementalCallState;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.language.Document;
+import graphql.language.Field;
 import graphql.language.FragmentDefinition;
 import graphql.language.OperationDefinition;
 import graphql.normalized.ExecutableNormalizedOperation;
 import graphql.normalized.ExecutableNormalizedOperationFactory;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import graphql.util.FpKit;
 import graphql.util.LockKit;
@@ -30,6 +34,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -63,6 +68,9 @@ public class ExecutionContext {
     private final IncrementalCallState incrementalCallState = new IncrementalCallState();
     private final ValueUnboxer valueUnboxer;
     private final ResponseMapFactory responseMapFactory;
+    private final ExecutionPlan executionPlan;
+    private final Map<ExecutionPlan.FieldKey, MergedSelectionSet> selectionSets = new ConcurrentHashMap<>();
+    private final Map<ExecutionPlan.FieldKey, ImmutableMapWithNullValues<String, Object>> argumentValues = new ConcurrentHashMap<>();
 
     private final ExecutionInput executionInput;
     private final Supplier<ExecutableNormalizedOperation> queryTree;
@@ -96,11 +104,12 @@ public class ExecutionContext {
         this.locale = builder.locale;
         this.valueUnboxer = builder.valueUnboxer;
         this.responseMapFactory = builder.responseMapFactory;
+        this.executionPlan = builder.executionPlan;
         this.errors.set(builder.errors);
         this.localContext = builder.localContext;
         this.executionInput = builder.executionInput;
         this.dataLoaderDispatcherStrategy = builder.dataLoaderDispatcherStrategy;
-        this.queryTree = FpKit.interThreadMemoize(() -> ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(graphQLSchema, operationDefinition, fragmentsByName, coercedVariables));
+        this.queryTree = FpKit.interThreadMemoize(this::createNormalizedOperation);
         this.propagateErrorsOnNonNullContractFailure = builder.propagateErrorsOnNonNullContractFailure;
         this.engineRunningState = builder.engineRunningState;
     }
@@ -303,6 +312,63 @@ public class ExecutionContext {
         return responseMapFactory;
     }
 
+    /**
+     * @return the cached {@link ExecutionPlan} for this execution or null if execution plans are not in use
+     */
+    @Internal
+    @Nullable
+    public ExecutionPlan getExecutionPlan() {
+        return executionPlan;
+    }
+
+    /*
+     * The variables that drive @skip and @include can't change during an execution, so the sub selection of a field is the
+     * same for every object of a given type.  It is collected once per execution rather than once per object, which saves
+     * walking the same fragments again for every element of a list.  Selection sets with @defer are not remembered since
+     * their deferred executions are not meant to be shared between objects.
+     */
+    MergedSelectionSet getSelectionSet(MergedField mergedField, GraphQLObjectType objectType, Supplier<MergedSelectionSet> collector) {
+        if (hasIncrementalSupport()) {
+            return collector.get();
+        }
+        ExecutionPlan.FieldKey key = new ExecutionPlan.FieldKey(mergedField, objectType);
+        MergedSelectionSet selectionSet = selectionSets.get(key);
+        if (selectionSet == null) {
+            selectionSet = collector.get();
+            selectionSets.putIfAbsent(key, selectionSet);
+        }
+        return selectionSet;
+    }
+
+    /*
+     * The arguments of a field in the document coerce to the same values for every object the field is executed on, so they
+     * are coerced once per execution rather than once per object.  Arguments made of literals only are also remembered by
+     * the execution plan, if there is one, so that later executions of the same document don't coerce them at all.  Only
+     * values that can be frozen are shared like this, see ExecutionPlan.freezeArgumentValues.
+     */
+    ImmutableMapWithNullValues<String, Object> getArgumentValues(Field field, GraphQLFieldDefinition fieldDefinition, Supplier<ImmutableMapWithNullValues<String, Object>> coercer) {
+        ExecutionPlan.FieldKey key = new ExecutionPlan.FieldKey(field, fieldDefinition);
+        ImmutableMapWithNullValues<String, Object> values = argumentValues.get(key);
+        if (values != null) {
+            return values;
+        }
+        if (executionPlan != null) {
+            values = executionPlan.getArgumentValues(field, fieldDefinition, graphQLContext, locale);
+        }
+        if (values == null) {
+            ImmutableMapWithNullValues<String, Object> coercedValues = coercer.get();
+            values = ExecutionPlan.freezeArgumentValues(fieldDefinition, coercedValues);
+            if (values == null) {
+                return coercedValues;
+            }
+            if (executionPlan != null) {
+                executionPlan.putArgumentValues(field, fieldDefinition, graphQLContext, locale, values);
+            }
+        }
+        argumentValues.putIfAbsent(key, values);
+        return values;
+    }
+
     /**
      * @return the total list of errors for this execution context
      */
@@ -340,6 +406,17 @@ public class ExecutionContext {
         return queryTree;
     }
 
+    /*
+     * The normalized operation only depends on the document, the operation and the coerced variables, so an execution plan
+     * can hand the same one to every execution of the document with identical variable values.
+     */
+    private ExecutableNormalizedOperation createNormalizedOperation() {
+        Supplier<ExecutableNormalizedOperation> factory = () -> ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(graphQLSchema, operationDefinition, fragmentsByName, coercedVariables);
+        return executionPlan != null
+                ? executionPlan.getNormalizedOperation(operationDefinition, coercedVariables, factory)
+                : factory.get();
+    }
+
     @Internal
     public void setDataLoaderDispatcherStrategy(DataLoaderDispatchStrategy dataLoaderDispatcherStrategy) {
         this.dataLoaderDispatcherStrategy = dataLoaderDispatcherStrategy;
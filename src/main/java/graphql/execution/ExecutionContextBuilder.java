@@ -53,6 +53,7 @@ public class ExecutionContextBuilder {
     boolean propagateErrorsOnNonNullContractFailure = true;
     EngineRunningState engineRunningState;
     ResponseMapFactory responseMapFactory = ResponseMapFactory.DEFAULT;
+    ExecutionPlan executionPlan;
 
     /**
      * @return a new builder of {@link graphql.execution.ExecutionContext}s
@@ -102,6 +103,7 @@ public class ExecutionContextBuilder {
         propagateErrorsOnNonNullContractFailure = other.propagateErrorsOnNonNullContractFailure();
         engineRunningState = other.getEngineRunningState();
         responseMapFactory = other.getResponseMapFactory();
+        executionPlan = other.getExecutionPlan();
     }
 
     public ExecutionContextBuilder instrumentation(Instrumentation instrumentation) {
@@ -232,6 +234,12 @@ public class ExecutionContextBuilder {
         return this;
     }
 
+    @Internal
+    public ExecutionContextBuilder executionPlan(ExecutionPlan executionPlan) {
+        this.executionPlan = executionPlan;
+        return this;
+    }
+
     public ExecutionContextBuilder resetErrors() {
         this.errors = emptyList();
         return this;
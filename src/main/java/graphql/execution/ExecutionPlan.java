@@ -0,0 +1,435 @@
+package graphql.execution;
+
+import com.google.common.collect.ImmutableSet;
+import graphql.ExperimentalApi;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.collect.ImmutableMapWithNullValues;
+import graphql.execution.conditional.ConditionalNodeDecision;
+import graphql.execution.values.InputInterceptor;
+import graphql.introspection.Introspection;
+import graphql.language.Argument;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.Node;
+import graphql.language.OperationDefinition;
+import graphql.language.VariableReference;
+import graphql.normalized.ExecutableNormalizedOperation;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInputType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLSchemaElement;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static graphql.Directives.IncludeDirective;
+import static graphql.Directives.SkipDirective;
+
+/**
+ * An execution plan is compiled once for a validated {@link Document} and a {@link GraphQLSchema} and then re-used
+ * by every execution of that document.  It remembers the work the {@link ExecutionStrategy} would otherwise repeat
+ * on every request, namely the field definition lookups, the {@link MergedSelectionSet}s collected for each possible object type,
+ * the coerced values of field arguments that are made of literals only and the {@link ExecutableNormalizedOperation}s
+ * built for the operations of the document.
+ * <p>
+ * The plan is filled in lazily as executions walk the document, so the first execution pays the normal cost and
+ * subsequent executions only walk the plan.
+ * <p>
+ * Merged selection sets depend on the values of @skip and @include and hence they are only remembered if the
+ * document has no variable driven conditional directives.  The field definitions are always remembered.  Data fetchers
+ * are not, since a {@link graphql.schema.DataFetcherFactory} may hand out a new one each time, and they are looked up in
+ * the {@link graphql.schema.CodeRegistryDispatchTable} of the schema instead.  Literal argument values are remembered per locale unless an {@link InputInterceptor} is in play,
+ * which means that scalars must not coerce literals differently depending on the {@link GraphQLContext} of an execution.
+ * They are only remembered if they can be made deeply unmodifiable, see {@link #freezeArgumentValues(GraphQLFieldDefinition, Map)}.
+ * Normalized operations hold the values of @skip, @include and the field arguments, and so they are remembered per
+ * operation and per set of coerced variable values.  Only executions with identical variable values share a normalized
+ * operation, an operation that is run with a different id variable each time gets a new one every time.  At most
+ * {@link #MAX_NORMALIZED_OPERATIONS} of them, the most recently used ones, are kept per plan.  Variable values that might
+ * be mutable, such as objects made by custom scalars, are not remembered.
+ * <p>
+ * Plans are held inside the {@link graphql.execution.preparsed.PreparsedDocumentEntry} so that they live exactly as
+ * long as the cached document does.  They are opt-in via {@link #ENABLE_EXECUTION_PLANS}
+ *
+ * @see graphql.GraphQLUnusualConfiguration.ExecutionPlanConfig
+ */
+@Internal
+public class ExecutionPlan {
+
+    /**
+     * The key that should be associated with a boolean value which indicates whether cached execution plans are used for this execution.
+     */
+    @ExperimentalApi
+    public static final String ENABLE_EXECUTION_PLANS = "ENABLE_EXECUTION_PLANS";
+
+    /**
+     * The most normalized operations a plan remembers, which bounds the memory used by documents that are executed with
+     * ever different variables
+     */
+    static final int MAX_NORMALIZED_OPERATIONS = 32;
+
+    private static final Set<Class<?>> IMMUTABLE_LEAF_TYPES = ImmutableSet.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+            UUID.class, URI.class, Locale.class);
+    private static final Object NOT_FREEZABLE = new Object();
+
+    private final GraphQLSchema graphQLSchema;
+    private final boolean selectionSetsCacheable;
+    private final ConcurrentMap<FieldKey, MergedSelectionSet> selectionSets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FieldKey, MergedSelectionSet> rootSelectionSets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FieldKey, GraphQLFieldDefinition> fieldDefinitions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FieldKey, LiteralArgumentValues> literalArgumentValues = new ConcurrentHashMap<>();
+    // guarded by itself, in access order so that the eldest entry is the least recently used one
+    private final Map<OperationKey, ExecutableNormalizedOperation> normalizedOperations = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<OperationKey, ExecutableNormalizedOperation> eldest) {
+            return size() > MAX_NORMALIZED_OPERATIONS;
+        }
+    };
+
+    ExecutionPlan(GraphQLSchema graphQLSchema, Document document) {
+        this.graphQLSchema = graphQLSchema;
+        this.selectionSetsCacheable = !hasVariableConditionals(document);
+    }
+
+    /**
+     * Compiles a new execution plan for the document and schema
+     *
+     * @param graphQLSchema the schema the document is executed against
+     * @param document      the validated document
+     *
+     * @return a new execution plan
+     */
+    public static ExecutionPlan compile(GraphQLSchema graphQLSchema, Document document) {
+        return new ExecutionPlan(graphQLSchema, document);
+    }
+
+    public GraphQLSchema getGraphQLSchema() {
+        return graphQLSchema;
+    }
+
+    /**
+     * @return true if merged selection sets are remembered by this plan
+     */
+    public boolean isSelectionSetsCacheable() {
+        return selectionSetsCacheable;
+    }
+
+    /**
+     * A plan is only used for an execution if execution plans have been enabled on it and its selection sets could not
+     * have been altered by per execution settings such as @defer or a {@link ConditionalNodeDecision}
+     *
+     * @param graphQLContext the context of the current execution
+     *
+     * @return true if a plan can be used for the execution
+     */
+    public static boolean isApplicable(GraphQLContext graphQLContext) {
+        return graphQLContext.getBoolean(ENABLE_EXECUTION_PLANS)
+                && !graphQLContext.getBoolean(ExperimentalApi.ENABLE_INCREMENTAL_SUPPORT)
+                && graphQLContext.get(ConditionalNodeDecision.class) == null;
+    }
+
+    MergedSelectionSet getRootSelectionSet(OperationDefinition operationDefinition, GraphQLObjectType operationRootType, Supplier<MergedSelectionSet> collector) {
+        if (!selectionSetsCacheable) {
+            return collector.get();
+        }
+        FieldKey key = new FieldKey(operationDefinition, operationRootType);
+        MergedSelectionSet selectionSet = rootSelectionSets.get(key);
+        if (selectionSet == null) {
+            selectionSet = collector.get();
+            rootSelectionSets.putIfAbsent(key, selectionSet);
+        }
+        return selectionSet;
+    }
+
+    MergedSelectionSet getSelectionSet(MergedField mergedField, GraphQLObjectType objectType, Supplier<MergedSelectionSet> collector) {
+        if (!selectionSetsCacheable) {
+            return collector.get();
+        }
+        FieldKey key = new FieldKey(mergedField, objectType);
+        MergedSelectionSet selectionSet = selectionSets.get(key);
+        if (selectionSet == null) {
+            selectionSet = collector.get();
+            selectionSets.putIfAbsent(key, selectionSet);
+        }
+        return selectionSet;
+    }
+
+    GraphQLFieldDefinition getFieldDefinition(GraphQLObjectType parentType, String fieldName) {
+        FieldKey key = new FieldKey(fieldName, parentType);
+        GraphQLFieldDefinition fieldDefinition = fieldDefinitions.get(key);
+        if (fieldDefinition == null) {
+            fieldDefinition = Introspection.getFieldDefinition(graphQLSchema, parentType, fieldName);
+            fieldDefinitions.putIfAbsent(key, fieldDefinition);
+        }
+        return fieldDefinition;
+    }
+
+    @Nullable ImmutableMapWithNullValues<String, Object> getArgumentValues(Field field,
+                                                                           GraphQLFieldDefinition fieldDefinition,
+                                                                           GraphQLContext graphQLContext,
+                                                                           Locale locale) {
+        if (!argumentValuesCacheable(field, graphQLContext)) {
+            return null;
+        }
+        LiteralArgumentValues argumentValues = literalArgumentValues.get(new FieldKey(field, fieldDefinition));
+        return argumentValues != null && Objects.equals(argumentValues.locale, locale) ? argumentValues.values : null;
+    }
+
+    void putArgumentValues(Field field,
+                           GraphQLFieldDefinition fieldDefinition,
+                           GraphQLContext graphQLContext,
+                           Locale locale,
+                           ImmutableMapWithNullValues<String, Object> frozenValues) {
+        if (argumentValuesCacheable(field, graphQLContext)) {
+            literalArgumentValues.put(new FieldKey(field, fieldDefinition), new LiteralArgumentValues(locale, frozenValues));
+        }
+    }
+
+    private static boolean argumentValuesCacheable(Field field, GraphQLContext graphQLContext) {
+        // values that come from variables differ between executions and interceptors may too
+        if (graphQLContext.get(InputInterceptor.class) != null) {
+            return false;
+        }
+        for (Argument argument : field.getArguments()) {
+            if (hasVariableReferences(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Argument values are shared by all the objects a field is executed on and, via the plan, by later executions of the
+     * document, so a data fetcher must not be able to change them for the others.  Input objects and lists are
+     * therefore copied into unmodifiable ones.  Scalar and enum values that might be mutable, such as maps made by custom
+     * scalars, mean that the argument values are not shared at all.
+     *
+     * @param fieldDefinition the field the arguments belong to
+     * @param values          the coerced argument values
+     *
+     * @return the deeply unmodifiable argument values or null if they cannot be frozen
+     */
+    static @Nullable ImmutableMapWithNullValues<String, Object> freezeArgumentValues(GraphQLFieldDefinition fieldDefinition, Map<String, Object> values) {
+        Map<String, Object> frozen = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            GraphQLArgument argument = fieldDefinition.getArgument(entry.getKey());
+            Object frozenValue = argument != null ? freeze(entry.getValue(), argument.getType()) : NOT_FREEZABLE;
+            if (frozenValue == NOT_FREEZABLE) {
+                return null;
+            }
+            frozen.put(entry.getKey(), frozenValue);
+        }
+        return ImmutableMapWithNullValues.copyOf(frozen);
+    }
+
+    private static Object freeze(@Nullable Object value, GraphQLInputType type) {
+        GraphQLType unwrappedType = GraphQLTypeUtil.unwrapNonNull(type);
+        if (value == null) {
+            return null;
+        }
+        if (unwrappedType instanceof GraphQLList && value instanceof List) {
+            GraphQLInputType elementType = (GraphQLInputType) ((GraphQLList) unwrappedType).getWrappedType();
+            List<Object> frozen = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                Object frozenElement = freeze(element, elementType);
+                if (frozenElement == NOT_FREEZABLE) {
+                    return NOT_FREEZABLE;
+                }
+                frozen.add(frozenElement);
+            }
+            // lists of input values may hold nulls
+            return Collections.unmodifiableList(frozen);
+        }
+        if (unwrappedType instanceof GraphQLInputObjectType && value instanceof Map) {
+            GraphQLInputObjectType inputObjectType = (GraphQLInputObjectType) unwrappedType;
+            Map<Object, Object> frozen = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                GraphQLInputObjectField field = inputObjectType.getField(String.valueOf(entry.getKey()));
+                Object frozenValue = field != null ? freeze(entry.getValue(), field.getType()) : NOT_FREEZABLE;
+                if (frozenValue == NOT_FREEZABLE) {
+                    return NOT_FREEZABLE;
+                }
+                frozen.put(entry.getKey(), frozenValue);
+            }
+            return ImmutableMapWithNullValues.copyOf(frozen);
+        }
+        return isImmutableLeaf(value) ? value : NOT_FREEZABLE;
+    }
+
+    ExecutableNormalizedOperation getNormalizedOperation(OperationDefinition operationDefinition,
+                                                         CoercedVariables coercedVariables,
+                                                         Supplier<ExecutableNormalizedOperation> factory) {
+        // the tree holds the resolved field arguments, so only identical variable values can share it.  The key holds a
+        // copy of the variables since the caller could change them afterwards
+        Object variables = snapshot(coercedVariables.toMap());
+        if (variables == NOT_FREEZABLE) {
+            return factory.get();
+        }
+        @SuppressWarnings("unchecked")
+        OperationKey key = new OperationKey(operationDefinition, (Map<String, Object>) variables);
+        ExecutableNormalizedOperation normalizedOperation;
+        synchronized (normalizedOperations) {
+            normalizedOperation = normalizedOperations.get(key);
+        }
+        if (normalizedOperation == null) {
+            normalizedOperation = factory.get();
+            synchronized (normalizedOperations) {
+                normalizedOperations.putIfAbsent(key, normalizedOperation);
+            }
+        }
+        return normalizedOperation;
+    }
+
+    /*
+     * An unmodifiable copy of variable values, or NOT_FREEZABLE if they hold values that might be mutable
+     */
+    private static Object snapshot(@Nullable Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object copiedValue = snapshot(entry.getValue());
+                if (copiedValue == NOT_FREEZABLE) {
+                    return NOT_FREEZABLE;
+                }
+                copy.put(entry.getKey(), copiedValue);
+            }
+            return ImmutableMapWithNullValues.copyOf(copy);
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                Object copiedElement = snapshot(element);
+                if (copiedElement == NOT_FREEZABLE) {
+                    return NOT_FREEZABLE;
+                }
+                copy.add(copiedElement);
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value == null || isImmutableLeaf(value) ? value : NOT_FREEZABLE;
+    }
+
+    private static boolean isImmutableLeaf(Object value) {
+        // all the java.time values are immutable
+        return value instanceof Enum || IMMUTABLE_LEAF_TYPES.contains(value.getClass()) || value.getClass().getName().startsWith("java.time.");
+    }
+
+    private static boolean hasVariableReferences(Node<?> node) {
+        if (node instanceof VariableReference) {
+            return true;
+        }
+        for (Node<?> child : node.getChildren()) {
+            if (hasVariableReferences(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasVariableConditionals(Node<?> node) {
+        if (node instanceof Directive) {
+            Directive directive = (Directive) node;
+            if (directive.getName().equals(SkipDirective.getName()) || directive.getName().equals(IncludeDirective.getName())) {
+                for (Argument argument : directive.getArguments()) {
+                    if (argument.getValue() instanceof VariableReference) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        for (Node<?> child : node.getChildren()) {
+            if (hasVariableConditionals(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class LiteralArgumentValues {
+        private final Locale locale;
+        private final ImmutableMapWithNullValues<String, Object> values;
+
+        private LiteralArgumentValues(Locale locale, ImmutableMapWithNullValues<String, Object> values) {
+            this.locale = locale;
+            this.values = values;
+        }
+    }
+
+    private static class OperationKey {
+        private final OperationDefinition operationDefinition;
+        private final Map<String, Object> variables;
+
+        private OperationKey(OperationDefinition operationDefinition, Map<String, Object> variables) {
+            this.operationDefinition = operationDefinition;
+            this.variables = variables;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            OperationKey that = (OperationKey) o;
+            return operationDefinition == that.operationDefinition && variables.equals(that.variables);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(operationDefinition), variables);
+        }
+    }
+
+    static class FieldKey {
+        private final Object field;
+        private final GraphQLSchemaElement objectType;
+
+        FieldKey(Object field, GraphQLSchemaElement objectType) {
+            this.field = field;
+            this.objectType = objectType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FieldKey that = (FieldKey) o;
+            return objectType == that.objectType && field.equals(that.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, System.identityHashCode(objectType));
+        }
+    }
+}
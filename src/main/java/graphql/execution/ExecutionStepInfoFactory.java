@@ -2,7 +2,7 @@ package graphql.execution;
 
 import graphql.Internal;
 import graphql.collect.ImmutableMapWithNullValues;
-import graphql.language.Argument;
+import graphql.language.Field;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLFieldDefinition;
@@ -53,7 +53,7 @@ public class ExecutionStepInfoFactory {
         // no need to create args at all if there are none on the field def
         //
         if (!fieldArgDefs.isEmpty()) {
-            argumentValues = getArgumentValues(executionContext, fieldArgDefs, field.getArguments());
+            argumentValues = getArgumentValues(executionContext, fieldDefinition, field.getSingleField());
         }
 
 
@@ -70,20 +70,22 @@ public class ExecutionStepInfoFactory {
 
     @NonNull
     private static Supplier<ImmutableMapWithNullValues<String, Object>> getArgumentValues(ExecutionContext executionContext,
-                                                                                          List<GraphQLArgument> fieldArgDefs,
-                                                                                          List<Argument> fieldArgs) {
+                                                                                          GraphQLFieldDefinition fieldDefinition,
+                                                                                          Field field) {
         Supplier<ImmutableMapWithNullValues<String, Object>> argumentValues;
         GraphQLCodeRegistry codeRegistry = executionContext.getGraphQLSchema().getCodeRegistry();
-        Supplier<ImmutableMapWithNullValues<String, Object>> argValuesSupplier = () -> {
+        Supplier<ImmutableMapWithNullValues<String, Object>> coercer = () -> {
             Map<String, Object> resolvedValues = ValuesResolver.getArgumentValues(codeRegistry,
-                    fieldArgDefs,
-                    fieldArgs,
+                    fieldDefinition.getArguments(),
+                    field.getArguments(),
                     executionContext.getCoercedVariables(),
                     executionContext.getGraphQLContext(),
                     executionContext.getLocale());
 
             return ImmutableMapWithNullValues.copyOf(resolvedValues);
         };
+        // the same field in the document has the same arguments for every object, so they are coerced once per execution
+        Supplier<ImmutableMapWithNullValues<String, Object>> argValuesSupplier = () -> executionContext.getArgumentValues(field, fieldDefinition, coercer);
         argumentValues = FpKit.intraThreadMemoize(argValuesSupplier);
         return argumentValues;
     }
@@ -12,9 +12,12 @@ import graphql.SerializationError;
 import graphql.TrivialDataFetcher;
 import graphql.TypeMismatchError;
 import graphql.UnresolvedTypeError;
-import graphql.execution.directives.QueryDirectives;
-import graphql.execution.directives.QueryDirectivesImpl;
+import graphql.execution.incremental.AlternativeCallContext;
 import graphql.execution.incremental.DeferredExecutionSupport;
+import graphql.execution.incremental.IncrementalCallState;
+import graphql.execution.incremental.IncrementalUtils;
+import graphql.execution.incremental.StreamedCall;
+import graphql.execution.incremental.StreamedExecution;
 import graphql.execution.instrumentation.ExecuteObjectInstrumentationContext;
 import graphql.execution.instrumentation.FieldFetchingInstrumentationContext;
 import graphql.execution.instrumentation.Instrumentation;
@@ -24,29 +27,33 @@ import graphql.execution.instrumentation.parameters.InstrumentationFieldComplete
 import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationFieldParameters;
 import graphql.execution.reactive.ReactiveSupport;
+import graphql.execution.sink.RootFieldDelivery;
 import graphql.extensions.ExtensionsBuilder;
 import graphql.introspection.Introspection;
 import graphql.language.Field;
 import graphql.normalized.ExecutableNormalizedField;
 import graphql.normalized.ExecutableNormalizedOperation;
+import graphql.schema.BatchTypeResolver;
 import graphql.schema.CoercingSerializeException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
-import graphql.schema.DataFetchingFieldSelectionSetImpl;
-import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNamedOutputType;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
 import graphql.schema.LightDataFetcher;
 import graphql.util.FpKit;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
@@ -65,7 +72,6 @@ import static graphql.execution.FieldValueInfo.CompleteValueType.OBJECT;
 import static graphql.execution.FieldValueInfo.CompleteValueType.SCALAR;
 import static graphql.execution.ResultNodesInfo.MAX_RESULT_NODES;
 import static graphql.execution.instrumentation.SimpleInstrumentationContext.nonNullCtx;
-import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment;
 import static graphql.schema.GraphQLTypeUtil.isEnum;
 import static graphql.schema.GraphQLTypeUtil.isList;
 import static graphql.schema.GraphQLTypeUtil.isScalar;
@@ -301,6 +307,15 @@ public abstract class ExecutionStrategy {
             ExecutionContext executionContext,
             ExecutionStrategyParameters parameters,
             DeferredExecutionSupport deferredExecutionSupport
+    ) {
+        return getAsyncFieldValueInfo(executionContext, parameters, deferredExecutionSupport, null);
+    }
+
+    Async.@NonNull CombinedBuilder<FieldValueInfo> getAsyncFieldValueInfo(
+            ExecutionContext executionContext,
+            ExecutionStrategyParameters parameters,
+            DeferredExecutionSupport deferredExecutionSupport,
+            @Nullable RootFieldDelivery rootFieldDelivery
     ) {
         executionContext.throwIfCancelled();
 
@@ -312,6 +327,7 @@ public abstract class ExecutionStrategy {
         Async.CombinedBuilder<FieldValueInfo> futures = Async
                 .ofExpectedSize(fields.size() - deferredExecutionSupport.deferredFieldsCount());
 
+        int index = 0;
         for (String fieldName : fields.getKeys()) {
             executionContext.throwIfCancelled();
 
@@ -322,6 +338,9 @@ public abstract class ExecutionStrategy {
 
             if (!deferredExecutionSupport.isDeferredField(currentField)) {
                 Object fieldValueInfo = resolveFieldWithInfo(executionContext, newParameters);
+                if (rootFieldDelivery != null) {
+                    rootFieldDelivery.rootField(index++, fieldValueInfo);
+                }
                 futures.addObject(fieldValueInfo);
             }
         }
@@ -395,8 +414,7 @@ public abstract class ExecutionStrategy {
     @DuckTyped(shape = "CompletableFuture<FetchedValue> | FetchedValue")
     protected Object fetchField(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
         MergedField field = parameters.getField();
-        GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
-        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, field.getSingleField());
+        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext, parameters, field.getSingleField());
         return fetchField(fieldDef, executionContext, parameters);
     }
 
@@ -412,43 +430,12 @@ public abstract class ExecutionStrategy {
         GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
 
         // if the DF (like PropertyDataFetcher) does not use the arguments or execution step info then dont build any
+        // - the environment is a flyweight over the parameters that builds its costly parts on first use
+        // and is its own supplier
+        Supplier<DataFetchingEnvironment> dataFetchingEnvironment = new LazyDataFetchingEnvironment(this, executionContext, parameters, fieldDef, parentType);
 
-        Supplier<DataFetchingEnvironment> dataFetchingEnvironment = FpKit.intraThreadMemoize(() -> {
-
-            Supplier<ExecutionStepInfo> executionStepInfo = FpKit.intraThreadMemoize(
-                    () -> createExecutionStepInfo(executionContext, parameters, fieldDef, parentType));
-
-            Supplier<Map<String, Object>> argumentValues = () -> executionStepInfo.get().getArguments();
-
-            Supplier<ExecutableNormalizedField> normalizedFieldSupplier = getNormalizedField(executionContext, parameters, executionStepInfo);
-
-            // DataFetchingFieldSelectionSet and QueryDirectives is a supplier of sorts - eg a lazy pattern
-            DataFetchingFieldSelectionSet fieldCollector = DataFetchingFieldSelectionSetImpl.newCollector(executionContext.getGraphQLSchema(), fieldDef.getType(), normalizedFieldSupplier);
-            QueryDirectives queryDirectives = new QueryDirectivesImpl(field,
-                    executionContext.getGraphQLSchema(),
-                    executionContext.getCoercedVariables(),
-                    executionContext.getNormalizedVariables(),
-                    executionContext.getGraphQLContext(),
-                    executionContext.getLocale());
-
-
-            return newDataFetchingEnvironment(executionContext)
-                    .source(parameters.getSource())
-                    .localContext(parameters.getLocalContext())
-                    .arguments(argumentValues)
-                    .fieldDefinition(fieldDef)
-                    .mergedField(parameters.getField())
-                    .fieldType(fieldDef.getType())
-                    .executionStepInfo(executionStepInfo)
-                    .parentType(parentType)
-                    .selectionSet(fieldCollector)
-                    .queryDirectives(queryDirectives)
-                    .deferredCallContext(parameters.getDeferredCallContext())
-                    .build();
-        });
-
-        GraphQLCodeRegistry codeRegistry = executionContext.getGraphQLSchema().getCodeRegistry();
-        DataFetcher<?> dataFetcher = codeRegistry.getDataFetcher(parentType, fieldDef);
+        // the factory is asked on every fetch, since it may hand out a new data fetcher each time
+        DataFetcher<?> dataFetcher = executionContext.getGraphQLSchema().getCodeRegistryDispatchTable().getDataFetcher(parentType, fieldDef);
 
         Instrumentation instrumentation = executionContext.getInstrumentation();
 
@@ -460,7 +447,7 @@ public abstract class ExecutionStrategy {
         dataFetcher = instrumentation.instrumentDataFetcher(dataFetcher, instrumentationFieldFetchParams, executionContext.getInstrumentationState());
         dataFetcher = executionContext.getDataLoaderDispatcherStrategy().modifyDataFetcher(dataFetcher);
         Object fetchedObject = invokeDataFetcher(executionContext, parameters, fieldDef, dataFetchingEnvironment, dataFetcher);
-        executionContext.getDataLoaderDispatcherStrategy().fieldFetched(executionContext, parameters, dataFetcher, fetchedObject, dataFetchingEnvironment);
+        fieldFetched(executionContext, parameters, dataFetcher, fetchedObject, dataFetchingEnvironment);
         fetchCtx.onDispatched();
         fetchCtx.onFetchedValue(fetchedObject);
         // if it's a subscription, leave any reactive objects alone
@@ -495,11 +482,23 @@ public abstract class ExecutionStrategy {
         }
     }
 
-    /*
+    /**
+     * Called to invoke the {@link DataFetcher} for a field.  Execution strategies can override this to change
+     * where and how data fetchers are run.
+     * <p>
      * ExecutionContext is not used in the method, but the java agent uses it, so it needs to be present
+     *
+     * @param executionContext        contains the top level execution parameters
+     * @param parameters              contains the parameters holding the fields to be executed and source object
+     * @param fieldDef                the field definition being fetched
+     * @param dataFetchingEnvironment the lazily built environment for the data fetcher
+     * @param dataFetcher             the data fetcher to invoke
+     *
+     * @return a {@link CompletableFuture} to the fetched value or the materialized fetched value
      */
     @SuppressWarnings("unused")
-    private Object invokeDataFetcher(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLFieldDefinition fieldDef, Supplier<DataFetchingEnvironment> dataFetchingEnvironment, DataFetcher<?> dataFetcher) {
+    @DuckTyped(shape = "CompletableFuture<Object> | Object")
+    protected Object invokeDataFetcher(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLFieldDefinition fieldDef, Supplier<DataFetchingEnvironment> dataFetchingEnvironment, DataFetcher<?> dataFetcher) {
         Object fetchedValue;
         try {
             Object fetchedValueRaw;
@@ -515,6 +514,20 @@ public abstract class ExecutionStrategy {
         return fetchedValue;
     }
 
+    /**
+     * Called once a data fetcher has been invoked to tell the {@link DataLoaderDispatchStrategy} that the field
+     * has been fetched.
+     *
+     * @param executionContext        contains the top level execution parameters
+     * @param parameters              contains the parameters holding the fields to be executed and source object
+     * @param dataFetcher             the data fetcher that was invoked
+     * @param fetchedObject           the value returned from {@link #invokeDataFetcher(ExecutionContext, ExecutionStrategyParameters, GraphQLFieldDefinition, Supplier, DataFetcher)}
+     * @param dataFetchingEnvironment the lazily built environment for the data fetcher
+     */
+    protected void fieldFetched(ExecutionContext executionContext, ExecutionStrategyParameters parameters, DataFetcher<?> dataFetcher, Object fetchedObject, Supplier<DataFetchingEnvironment> dataFetchingEnvironment) {
+        executionContext.getDataLoaderDispatcherStrategy().fieldFetched(executionContext, parameters, dataFetcher, fetchedObject, dataFetchingEnvironment);
+    }
+
     protected Supplier<ExecutableNormalizedField> getNormalizedField(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Supplier<ExecutionStepInfo> executionStepInfo) {
         Supplier<ExecutableNormalizedOperation> normalizedQuery = executionContext.getNormalizedQueryTree();
         return () -> normalizedQuery.get().getNormalizedField(parameters.getField(), executionStepInfo.get().getObjectType(), executionStepInfo.get().getPath());
@@ -603,8 +616,7 @@ public abstract class ExecutionStrategy {
         executionContext.throwIfCancelled();
 
         Field field = parameters.getField().getSingleField();
-        GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
-        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, field);
+        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext, parameters, field);
         return completeField(fieldDef, executionContext, parameters, fetchedValue);
     }
 
@@ -766,9 +778,19 @@ public abstract class ExecutionStrategy {
                 instrumentationParams, executionContext.getInstrumentationState()
         ));
 
+        StreamedExecution streamedExecution = getStreamedExecution(executionContext, parameters);
+        BatchResolvedList batchResolvedList = streamedExecution == null ? resolveTypesInBatch(executionContext, parameters, iterableValues) : null;
+
         List<FieldValueInfo> fieldValueInfos = new ArrayList<>(size.orElse(1));
         int index = 0;
-        for (Object item : iterableValues) {
+        Iterator<Object> iterator = batchResolvedList != null ? batchResolvedList.items.iterator() : iterableValues.iterator();
+        while (iterator.hasNext()) {
+            if (streamedExecution != null && index >= streamedExecution.getInitialCount()) {
+                // the remaining items are completed later and sent via the incremental publisher
+                enqueueStreamedItems(executionContext, parameters, streamedExecution, iterator, index);
+                break;
+            }
+            Object item = iterator.next();
             if (incrementAndCheckMaxNodesExceeded(executionContext)) {
                 return new FieldValueInfo(NULL, null, fieldValueInfos);
             }
@@ -777,6 +799,12 @@ public abstract class ExecutionStrategy {
 
             ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(executionStepInfo, indexedPath);
 
+            if (batchResolvedList != null) {
+                fieldValueInfos.add(completeBatchResolvedValue(executionContext, parameters, stepInfoForListElement, indexedPath, batchResolvedList, index));
+                index++;
+                continue;
+            }
+
             FetchedValue value = unboxPossibleDataFetcherResult(executionContext, parameters, item);
 
             ExecutionStrategyParameters newParameters = parameters.transform(stepInfoForListElement,
@@ -816,6 +844,170 @@ public abstract class ExecutionStrategy {
         return new FieldValueInfo(LIST, listOrPromiseToList, fieldValueInfos);
     }
 
+    /**
+     * The object types of the elements of a list of an abstract type can be resolved in one go if the type resolver of
+     * the abstract type is a {@link BatchTypeResolver}.  The list is materialised and its elements unboxed up front so
+     * the batch type resolver sees the same values the type resolver would have seen one at a time.
+     */
+    private @Nullable BatchResolvedList resolveTypesInBatch(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Iterable<Object> iterableValues) {
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        GraphQLType listType = executionStepInfo.getUnwrappedNonNullType();
+        if (!(listType instanceof GraphQLList)) {
+            return null;
+        }
+        GraphQLType elementType = GraphQLTypeUtil.unwrapNonNull(((GraphQLList) listType).getWrappedType());
+        BatchTypeResolver batchTypeResolver = resolvedType.getBatchTypeResolver(executionContext, elementType);
+        if (batchTypeResolver == null) {
+            return null;
+        }
+
+        List<Object> items = new ArrayList<>();
+        List<FetchedValue> fetchedValues = new ArrayList<>();
+        List<Object> results = new ArrayList<>();
+        List<Object> nonNullResults = new ArrayList<>();
+        for (Object item : iterableValues) {
+            FetchedValue value = unboxPossibleDataFetcherResult(executionContext, parameters, item);
+            Object result = executionContext.getValueUnboxer().unbox(value.getFetchedValue());
+            items.add(item);
+            fetchedValues.add(value);
+            results.add(result);
+            if (result != null) {
+                nonNullResults.add(result);
+            }
+        }
+
+        List<GraphQLObjectType> resolvedTypes = nonNullResults.isEmpty() ? Collections.emptyList() : resolvedType.resolveTypes(executionContext,
+                batchTypeResolver,
+                parameters.getField(),
+                nonNullResults,
+                executionStepInfo,
+                (GraphQLNamedOutputType) elementType,
+                parameters.getLocalContext());
+        List<GraphQLObjectType> types = new ArrayList<>(results.size());
+        int resolvedIndex = 0;
+        for (Object result : results) {
+            types.add(result != null ? resolvedTypes.get(resolvedIndex++) : null);
+        }
+        return new BatchResolvedList((GraphQLNamedOutputType) elementType, items, fetchedValues, results, types);
+    }
+
+    /*
+     * Completes an element of a list whose object type has been resolved in a batch.  The element still goes through
+     * completeValue, which picks up the resolved type via resolveType, so strategies that override the completion methods
+     * see batch resolved elements like any other.  Elements the batch type resolver could not resolve are reported here.
+     */
+    private FieldValueInfo completeBatchResolvedValue(ExecutionContext executionContext,
+                                                      ExecutionStrategyParameters parameters,
+                                                      ExecutionStepInfo stepInfoForListElement,
+                                                      ResultPath indexedPath,
+                                                      BatchResolvedList batchResolvedList,
+                                                      int index) {
+        FetchedValue value = batchResolvedList.fetchedValues.get(index);
+        GraphQLObjectType resolvedObjectType = null;
+        if (batchResolvedList.results.get(index) != null) {
+            try {
+                resolvedObjectType = resolvedType.checkResolvedType(executionContext.getGraphQLSchema(), batchResolvedList.elementType, batchResolvedList.types.get(index));
+            } catch (UnresolvedTypeException ex) {
+                ExecutionStrategyParameters newParameters = parameters.transform(stepInfoForListElement, indexedPath, value.getLocalContext(), value.getFetchedValue());
+                handleUnresolvedTypeProblem(executionContext, newParameters, ex);
+                return getFieldValueInfoForNull(newParameters);
+            }
+        }
+        ExecutionStrategyParameters newParameters = parameters.transform(stepInfoForListElement,
+                indexedPath,
+                value.getLocalContext(),
+                value.getFetchedValue(),
+                resolvedObjectType);
+        return completeValue(executionContext, newParameters);
+    }
+
+    private static class BatchResolvedList {
+        private final GraphQLNamedOutputType elementType;
+        private final List<Object> items;
+        private final List<FetchedValue> fetchedValues;
+        private final List<Object> results;
+        private final List<GraphQLObjectType> types;
+
+        private BatchResolvedList(GraphQLNamedOutputType elementType, List<Object> items, List<FetchedValue> fetchedValues, List<Object> results, List<GraphQLObjectType> types) {
+            this.elementType = elementType;
+            this.items = items;
+            this.fetchedValues = fetchedValues;
+            this.results = results;
+            this.types = types;
+        }
+    }
+
+    /**
+     * A list field is streamed if it has an active @stream directive and incremental support is enabled.  Nested lists
+     * are never streamed, only the items of the outermost list.
+     */
+    private @Nullable StreamedExecution getStreamedExecution(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+        if (!executionContext.hasIncrementalSupport() || parameters.getPath().isListSegment()) {
+            return null;
+        }
+        return IncrementalUtils.createStreamedExecution(
+                executionContext.getCoercedVariables().toMap(),
+                parameters.getField().getSingleField().getDirectives()
+        );
+    }
+
+    private void enqueueStreamedItems(ExecutionContext executionContext,
+                                      ExecutionStrategyParameters parameters,
+                                      StreamedExecution streamedExecution,
+                                      Iterator<Object> iterator,
+                                      int startIndex) {
+        Integer batchSize = executionContext.getGraphQLContext().get(IncrementalUtils.STREAM_BATCH_SIZE);
+        StreamedCall streamedCall = createStreamedCall(executionContext, parameters, streamedExecution, iterator, startIndex, batchSize != null && batchSize > 0 ? batchSize : 1);
+        executionContext.getIncrementalCallState().enqueue(streamedCall);
+    }
+
+    /*
+     * Each batch of streamed items waits for the subscriber to ask for more results before the items are completed
+     * and the next batch is only enqueued once the current one is done, hence the items iterator is never used concurrently.
+     */
+    private StreamedCall createStreamedCall(ExecutionContext executionContext,
+                                            ExecutionStrategyParameters parameters,
+                                            StreamedExecution streamedExecution,
+                                            Iterator<Object> iterator,
+                                            int startIndex,
+                                            int batchSize) {
+        AlternativeCallContext alternativeCallContext = new AlternativeCallContext(parameters.getPath().getLevel(), 1);
+        ExecutionStrategyParameters streamParameters = parameters.transform(builder -> builder.deferredCallContext(alternativeCallContext));
+        IncrementalCallState incrementalCallState = executionContext.getIncrementalCallState();
+
+        Supplier<CompletableFuture<List<Object>>> itemsCall = () -> incrementalCallState.whenDemanded().thenCompose(ignored -> {
+            List<FieldValueInfo> fieldValueInfos = new ArrayList<>(batchSize);
+            int index = startIndex;
+            while (iterator.hasNext() && fieldValueInfos.size() < batchSize) {
+                Object item = iterator.next();
+                if (incrementAndCheckMaxNodesExceeded(executionContext)) {
+                    break;
+                }
+                ResultPath indexedPath = streamParameters.getPath().segment(index);
+                ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(streamParameters.getExecutionStepInfo(), indexedPath);
+                FetchedValue value = unboxPossibleDataFetcherResult(executionContext, streamParameters, item);
+                ExecutionStrategyParameters newParameters = streamParameters.transform(stepInfoForListElement,
+                        indexedPath,
+                        value.getLocalContext(),
+                        value.getFetchedValue());
+                fieldValueInfos.add(completeValue(executionContext, newParameters));
+                index++;
+            }
+            executionContext.getDataLoaderDispatcherStrategy().newStreamedItemsExecution(new FieldValueInfo(LIST, null, fieldValueInfos), streamParameters);
+
+            int nextIndex = index;
+            return Async.each(fieldValueInfos, FieldValueInfo::getFieldValueFuture).thenApply(items -> {
+                // the next batch is enqueued before this one is published so the publisher knows there is more to come
+                if (iterator.hasNext() && !executionContext.getResultNodesInfo().isMaxResultNodesExceeded()) {
+                    incrementalCallState.enqueue(createStreamedCall(executionContext, parameters, streamedExecution, iterator, nextIndex, batchSize));
+                }
+                return items;
+            });
+        });
+
+        return new StreamedCall(streamedExecution.getLabel(), parameters.getPath().segment(startIndex), itemsCall, alternativeCallContext);
+    }
+
     protected <T> void handleValueException(CompletableFuture<T> overallResult, Throwable e, ExecutionContext executionContext) {
         Throwable underlyingException = e;
         if (e instanceof CompletionException) {
@@ -904,22 +1096,37 @@ public abstract class ExecutionStrategy {
      */
     @DuckTyped(shape = "CompletableFuture<Map<String, Object>> | Map<String, Object>")
     protected Object completeValueForObject(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLObjectType resolvedObjectType, Object result) {
-        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
-
-        FieldCollectorParameters collectorParameters = newParameters()
-                .schema(executionContext.getGraphQLSchema())
-                .objectType(resolvedObjectType)
-                .fragments(executionContext.getFragmentsByName())
-                .variables(executionContext.getCoercedVariables().toMap())
-                .graphQLContext(executionContext.getGraphQLContext())
-                .build();
+        MergedSelectionSet subFields = collectSubFields(executionContext, parameters, resolvedObjectType);
+        return completeValueForObject(executionContext, parameters, resolvedObjectType, subFields, result);
+    }
 
-        MergedSelectionSet subFields = fieldCollector.collectFields(
-                collectorParameters,
-                parameters.getField(),
-                executionContext.hasIncrementalSupport()
-        );
+    private MergedSelectionSet collectSubFields(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLObjectType resolvedObjectType) {
+        MergedField field = parameters.getField();
+        Supplier<MergedSelectionSet> subFieldsCollector = () -> {
+            FieldCollectorParameters collectorParameters = newParameters()
+                    .schema(executionContext.getGraphQLSchema())
+                    .objectType(resolvedObjectType)
+                    .fragments(executionContext.getFragmentsByName())
+                    .variables(executionContext.getCoercedVariables().toMap())
+                    .graphQLContext(executionContext.getGraphQLContext())
+                    .build();
+            return fieldCollector.collectFields(
+                    collectorParameters,
+                    field,
+                    executionContext.hasIncrementalSupport()
+            );
+        };
+        // the plan remembers selection sets across executions, the execution context only for this execution
+        Supplier<MergedSelectionSet> executionSubFieldsCollector = () -> executionContext.getSelectionSet(field, resolvedObjectType, subFieldsCollector);
+        ExecutionPlan executionPlan = executionContext.getExecutionPlan();
+        return executionPlan != null
+                ? executionPlan.getSelectionSet(field, resolvedObjectType, executionSubFieldsCollector)
+                : executionSubFieldsCollector.get();
+    }
 
+    @DuckTyped(shape = "CompletableFuture<Map<String, Object>> | Map<String, Object>")
+    private Object completeValueForObject(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLObjectType resolvedObjectType, MergedSelectionSet subFields, Object result) {
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
         ExecutionStepInfo newExecutionStepInfo = executionStepInfo.changeTypeWithPreservedNonNull(resolvedObjectType);
 
         ExecutionStrategyParameters newParameters = parameters.transform(newExecutionStepInfo,
@@ -944,6 +1151,11 @@ public abstract class ExecutionStrategy {
         if (fieldType instanceof GraphQLObjectType) {
             return (GraphQLObjectType) fieldType;
         }
+        // the elements of a list may have had their types resolved in one batch already
+        GraphQLObjectType resolvedObjectType = parameters.getResolvedObjectType();
+        if (resolvedObjectType != null) {
+            return resolvedObjectType;
+        }
         return resolvedType.resolveType(executionContext, parameters.getField(), parameters.getSource(), parameters.getExecutionStepInfo(), fieldType, parameters.getLocalContext());
     }
 
@@ -993,6 +1205,10 @@ public abstract class ExecutionStrategy {
      */
     protected GraphQLFieldDefinition getFieldDef(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Field field) {
         GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
+        ExecutionPlan executionPlan = executionContext.getExecutionPlan();
+        if (executionPlan != null) {
+            return executionPlan.getFieldDefinition(parentType, field.getName());
+        }
         return getFieldDef(executionContext.getGraphQLSchema(), parentType, field);
     }
 
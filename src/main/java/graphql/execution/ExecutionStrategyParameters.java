@@ -3,6 +3,7 @@ package graphql.execution;
 import graphql.Internal;
 import graphql.PublicApi;
 import graphql.execution.incremental.AlternativeCallContext;
+import graphql.schema.GraphQLObjectType;
 import org.jspecify.annotations.Nullable;
 
 import java.util.function.Consumer;
@@ -23,6 +24,7 @@ public class ExecutionStrategyParameters {
     private final MergedField currentField;
     private final ExecutionStrategyParameters parent;
     private final AlternativeCallContext alternativeCallContext;
+    private final @Nullable GraphQLObjectType resolvedObjectType;
 
     private ExecutionStrategyParameters(ExecutionStepInfo executionStepInfo,
                                         Object source,
@@ -32,7 +34,8 @@ public class ExecutionStrategyParameters {
                                         ResultPath path,
                                         MergedField currentField,
                                         ExecutionStrategyParameters parent,
-                                        AlternativeCallContext alternativeCallContext) {
+                                        AlternativeCallContext alternativeCallContext,
+                                        @Nullable GraphQLObjectType resolvedObjectType) {
 
         this.executionStepInfo = assertNotNull(executionStepInfo, () -> "executionStepInfo is null");
         this.localContext = localContext;
@@ -43,6 +46,7 @@ public class ExecutionStrategyParameters {
         this.currentField = currentField;
         this.parent = parent;
         this.alternativeCallContext = alternativeCallContext;
+        this.resolvedObjectType = resolvedObjectType;
     }
 
     public ExecutionStepInfo getExecutionStepInfo() {
@@ -108,6 +112,18 @@ public class ExecutionStrategyParameters {
         return alternativeCallContext != null;
     }
 
+    /**
+     * Returns the object type of the current value if it has already been resolved, which is the case for the elements
+     * of a list whose types were resolved in one call by a {@link graphql.schema.BatchTypeResolver}
+     *
+     * @return the already resolved object type of the current value or null if it is yet to be resolved
+     */
+    @Nullable
+    @Internal
+    public GraphQLObjectType getResolvedObjectType() {
+        return resolvedObjectType;
+    }
+
     /**
      * This returns the current field in its query representations.
      *
@@ -128,7 +144,8 @@ public class ExecutionStrategyParameters {
                 path,
                 currentField,
                 parent,
-                alternativeCallContext);
+                alternativeCallContext,
+                null);
     }
 
     @Internal
@@ -143,7 +160,8 @@ public class ExecutionStrategyParameters {
                 path,
                 currentField,
                 parent,
-                alternativeCallContext);
+                alternativeCallContext,
+                null);
     }
 
     @Internal
@@ -159,7 +177,8 @@ public class ExecutionStrategyParameters {
                 path,
                 currentField,
                 parent,
-                alternativeCallContext);
+                alternativeCallContext,
+                null);
     }
 
     @Internal
@@ -174,7 +193,8 @@ public class ExecutionStrategyParameters {
                 path,
                 currentField,
                 parent,
-                alternativeCallContext);
+                alternativeCallContext,
+                null);
     }
 
     @Internal
@@ -189,7 +209,26 @@ public class ExecutionStrategyParameters {
                 path,
                 currentField,
                 parent,
-                alternativeCallContext);
+                alternativeCallContext,
+                null);
+    }
+
+    @Internal
+    ExecutionStrategyParameters transform(ExecutionStepInfo executionStepInfo,
+                                          ResultPath path,
+                                          Object localContext,
+                                          Object source,
+                                          @Nullable GraphQLObjectType resolvedObjectType) {
+        return new ExecutionStrategyParameters(executionStepInfo,
+                source,
+                localContext,
+                fields,
+                nonNullableFieldValidator,
+                path,
+                currentField,
+                parent,
+                alternativeCallContext,
+                resolvedObjectType);
     }
 
     public ExecutionStrategyParameters transform(Consumer<Builder> builderConsumer) {
@@ -295,7 +334,7 @@ public class ExecutionStrategyParameters {
         }
 
         public ExecutionStrategyParameters build() {
-            return new ExecutionStrategyParameters(executionStepInfo, source, localContext, fields, nonNullableFieldValidator, path, currentField, parent, alternativeCallContext);
+            return new ExecutionStrategyParameters(executionStepInfo, source, localContext, fields, nonNullableFieldValidator, path, currentField, parent, alternativeCallContext, null);
         }
     }
 }
@@ -0,0 +1,256 @@
+package graphql.execution;
+
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.collect.ImmutableMapWithNullValues;
+import graphql.execution.directives.QueryDirectives;
+import graphql.execution.directives.QueryDirectivesImpl;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.OperationDefinition;
+import graphql.normalized.ExecutableNormalizedField;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingFieldSelectionSetImpl;
+import graphql.schema.DataLoaderWithContext;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The {@link DataFetchingEnvironment} that {@link ExecutionStrategy} hands to data fetchers.
+ * <p>
+ * This is a flyweight view over the {@link ExecutionContext} and the current {@link ExecutionStrategyParameters}.  Most of its
+ * values are read straight from them, and the costly ones, the {@link ExecutionStepInfo} (and hence the arguments), the
+ * {@link DataFetchingFieldSelectionSet} and the {@link QueryDirectives}, are only built the first time they are asked for.
+ * <p>
+ * Its creation is a single small allocation, and it is its own {@link Supplier}, so a {@link graphql.schema.LightDataFetcher} or a
+ * {@link graphql.TrivialDataFetcher} that never asks for the environment costs nothing more than that.  Like
+ * {@link graphql.util.FpKit#intraThreadMemoize(Supplier)} the lazy values are not guarded by locks and so may be built more
+ * than once if the environment is used on several threads at the same time.
+ */
+@Internal
+@NullMarked
+@SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
+public final class LazyDataFetchingEnvironment implements DataFetchingEnvironment, Supplier<DataFetchingEnvironment> {
+
+    private final ExecutionStrategy executionStrategy;
+    private final ExecutionContext executionContext;
+    private final ExecutionStrategyParameters parameters;
+    private final GraphQLFieldDefinition fieldDefinition;
+    private final GraphQLObjectType parentType;
+
+    private @Nullable ExecutionStepInfo executionStepInfo;
+    private @Nullable DataFetchingFieldSelectionSet selectionSet;
+    private @Nullable QueryDirectives queryDirectives;
+
+    LazyDataFetchingEnvironment(ExecutionStrategy executionStrategy,
+                                ExecutionContext executionContext,
+                                ExecutionStrategyParameters parameters,
+                                GraphQLFieldDefinition fieldDefinition,
+                                GraphQLObjectType parentType) {
+        this.executionStrategy = executionStrategy;
+        this.executionContext = executionContext;
+        this.parameters = parameters;
+        this.fieldDefinition = fieldDefinition;
+        this.parentType = parentType;
+    }
+
+    /**
+     * @return this environment
+     */
+    @Override
+    public DataFetchingEnvironment get() {
+        return this;
+    }
+
+    @Override
+    public @Nullable <T> T getSource() {
+        return (T) parameters.getSource();
+    }
+
+    @Override
+    public Map<String, Object> getArguments() {
+        return ImmutableMapWithNullValues.copyOf(getExecutionStepInfo().getArguments());
+    }
+
+    @Override
+    public boolean containsArgument(String name) {
+        return getExecutionStepInfo().getArguments().containsKey(name);
+    }
+
+    @Override
+    public @Nullable <T> T getArgument(String name) {
+        return (T) getExecutionStepInfo().getArguments().get(name);
+    }
+
+    @Override
+    public <T> T getArgumentOrDefault(String name, T defaultValue) {
+        return (T) getExecutionStepInfo().getArguments().getOrDefault(name, defaultValue);
+    }
+
+    @Override
+    @Deprecated(since = "2021-07-05")
+    public @Nullable <T> T getContext() {
+        return (T) executionContext.getContext();
+    }
+
+    @Override
+    public GraphQLContext getGraphQlContext() {
+        return executionContext.getGraphQLContext();
+    }
+
+    @Override
+    public <T> @Nullable T getLocalContext() {
+        return (T) parameters.getLocalContext();
+    }
+
+    @Override
+    public @Nullable <T> T getRoot() {
+        return (T) executionContext.getRoot();
+    }
+
+    @Override
+    public GraphQLFieldDefinition getFieldDefinition() {
+        return fieldDefinition;
+    }
+
+    @Override
+    public List<Field> getFields() {
+        return parameters.getField().getFields();
+    }
+
+    @Override
+    public Field getField() {
+        return parameters.getField().getSingleField();
+    }
+
+    @Override
+    public MergedField getMergedField() {
+        return parameters.getField();
+    }
+
+    @Override
+    public GraphQLOutputType getFieldType() {
+        return fieldDefinition.getType();
+    }
+
+    @Override
+    public GraphQLType getParentType() {
+        return parentType;
+    }
+
+    @Override
+    public GraphQLSchema getGraphQLSchema() {
+        return executionContext.getGraphQLSchema();
+    }
+
+    @Override
+    public Map<String, FragmentDefinition> getFragmentsByName() {
+        return executionContext.getFragmentsByName();
+    }
+
+    @Override
+    public ExecutionId getExecutionId() {
+        return executionContext.getExecutionId();
+    }
+
+    @Override
+    public ExecutionStepInfo getExecutionStepInfo() {
+        ExecutionStepInfo stepInfo = executionStepInfo;
+        if (stepInfo == null) {
+            stepInfo = executionStrategy.createExecutionStepInfo(executionContext, parameters, fieldDefinition, parentType);
+            executionStepInfo = stepInfo;
+        }
+        return stepInfo;
+    }
+
+    @Override
+    public DataFetchingFieldSelectionSet getSelectionSet() {
+        DataFetchingFieldSelectionSet fieldSelectionSet = selectionSet;
+        if (fieldSelectionSet == null) {
+            Supplier<ExecutableNormalizedField> normalizedField = executionStrategy.getNormalizedField(executionContext, parameters, this::getExecutionStepInfo);
+            fieldSelectionSet = DataFetchingFieldSelectionSetImpl.newCollector(executionContext.getGraphQLSchema(), fieldDefinition.getType(), normalizedField);
+            selectionSet = fieldSelectionSet;
+        }
+        return fieldSelectionSet;
+    }
+
+    @Override
+    public QueryDirectives getQueryDirectives() {
+        QueryDirectives directives = queryDirectives;
+        if (directives == null) {
+            directives = new QueryDirectivesImpl(parameters.getField(),
+                    executionContext.getGraphQLSchema(),
+                    executionContext.getCoercedVariables(),
+                    executionContext.getNormalizedVariables(),
+                    executionContext.getGraphQLContext(),
+                    executionContext.getLocale());
+            queryDirectives = directives;
+        }
+        return directives;
+    }
+
+    @Override
+    public <K, V> @Nullable DataLoader<K, V> getDataLoader(String dataLoaderName) {
+        DataLoader<K, V> dataLoader = executionContext.getDataLoaderRegistry().getDataLoader(dataLoaderName);
+        if (dataLoader == null) {
+            return null;
+        }
+        if (!executionContext.getGraphQLContext().getBoolean(DataLoaderDispatchingContextKeys.ENABLE_DATA_LOADER_CHAINING, false)) {
+            return dataLoader;
+        }
+        return new DataLoaderWithContext<>(this, dataLoaderName, dataLoader);
+    }
+
+    @Override
+    public DataLoaderRegistry getDataLoaderRegistry() {
+        return executionContext.getDataLoaderRegistry();
+    }
+
+    @Override
+    public Locale getLocale() {
+        return executionContext.getLocale();
+    }
+
+    @Override
+    public OperationDefinition getOperationDefinition() {
+        return executionContext.getOperationDefinition();
+    }
+
+    @Override
+    public Document getDocument() {
+        return executionContext.getDocument();
+    }
+
+    @Override
+    public Map<String, Object> getVariables() {
+        return executionContext.getCoercedVariables().toMap();
+    }
+
+    @Override
+    public Object toInternal() {
+        return new DataFetchingEnvironmentImpl.DFEInternalState(executionContext.getDataLoaderDispatcherStrategy(), parameters.getDeferredCallContext());
+    }
+
+    @Override
+    public String toString() {
+        return "LazyDataFetchingEnvironment{" +
+                "executionStepInfo=" + getExecutionStepInfo() +
+                '}';
+    }
+}
@@ -5,16 +5,20 @@ import graphql.Internal;
 import graphql.TypeResolutionEnvironment;
 import graphql.normalized.ExecutableNormalizedField;
 import graphql.normalized.ExecutableNormalizedOperation;
+import graphql.schema.BatchTypeResolver;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.DataFetchingFieldSelectionSetImpl;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLNamedOutputType;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLUnionType;
 import graphql.schema.TypeResolver;
+import org.jspecify.annotations.Nullable;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 @Internal
@@ -42,6 +46,59 @@ public class ResolveType {
         }
     }
 
+    /**
+     * Returns the type resolver of an abstract type if it can resolve the types of all the elements of a list at once
+     *
+     * @param executionContext the execution context
+     * @param elementType      the unwrapped element type of a list
+     *
+     * @return the batch type resolver or null if the element type is not abstract or its type resolver can't batch
+     */
+    public @Nullable BatchTypeResolver getBatchTypeResolver(ExecutionContext executionContext, GraphQLType elementType) {
+        TypeResolver typeResolver;
+        if (elementType instanceof GraphQLInterfaceType) {
+            typeResolver = executionContext.getGraphQLSchema().getCodeRegistryDispatchTable().getTypeResolver((GraphQLInterfaceType) elementType);
+        } else if (elementType instanceof GraphQLUnionType) {
+            typeResolver = executionContext.getGraphQLSchema().getCodeRegistryDispatchTable().getTypeResolver((GraphQLUnionType) elementType);
+        } else {
+            return null;
+        }
+        return typeResolver instanceof BatchTypeResolver ? (BatchTypeResolver) typeResolver : null;
+    }
+
+    /**
+     * Resolves the object types of the elements of a list in one call to the batch type resolver.  The returned types
+     * are not checked, see {@link #checkResolvedType(GraphQLSchema, GraphQLNamedOutputType, GraphQLObjectType)}
+     *
+     * @param executionContext  the execution context
+     * @param batchTypeResolver the batch type resolver of the element type
+     * @param field             the list field
+     * @param values            the non null elements of the list
+     * @param executionStepInfo the step info of the list field
+     * @param elementType       the abstract element type of the list
+     * @param localContext      the local context of the list field
+     *
+     * @return the resolved types in the order of the values
+     */
+    public List<GraphQLObjectType> resolveTypes(ExecutionContext executionContext, BatchTypeResolver batchTypeResolver, MergedField field, List<Object> values, ExecutionStepInfo executionStepInfo, GraphQLNamedOutputType elementType, Object localContext) {
+        DataFetchingFieldSelectionSet fieldSelectionSet = buildSelectionSet(executionContext, field, elementType, executionStepInfo);
+        TypeResolutionEnvironment env = TypeResolutionParameters.newParameters()
+                .field(field)
+                .fieldType(elementType)
+                .value(values)
+                .argumentValues(executionStepInfo::getArguments)
+                .selectionSet(fieldSelectionSet)
+                .context(executionContext.getContext())
+                .graphQLContext(executionContext.getGraphQLContext())
+                .localContext(localContext)
+                .schema(executionContext.getGraphQLSchema())
+                .build();
+        List<GraphQLObjectType> types = batchTypeResolver.getTypes(env, values);
+        Assert.assertTrue(types != null && types.size() == values.size(),
+                () -> "The batch type resolver of " + elementType.getName() + " must return one type for each of the " + values.size() + " values");
+        return types;
+    }
+
     private DataFetchingFieldSelectionSet buildSelectionSet(ExecutionContext executionContext, MergedField field, GraphQLOutputType fieldType, ExecutionStepInfo executionStepInfo) {
         Supplier<ExecutableNormalizedOperation> normalizedQuery = executionContext.getNormalizedQueryTree();
         Supplier<ExecutableNormalizedField> normalizedFieldSupplier = () -> normalizedQuery.get().getNormalizedField(field, executionStepInfo.getObjectType(), executionStepInfo.getPath());
@@ -49,21 +106,35 @@ public class ResolveType {
     }
 
     public GraphQLObjectType resolveTypeForInterface(TypeResolutionEnvironment env, GraphQLInterfaceType abstractType) {
-        TypeResolver typeResolver = env.getSchema().getCodeRegistry().getTypeResolver(abstractType);
+        TypeResolver typeResolver = env.getSchema().getCodeRegistryDispatchTable().getTypeResolver(abstractType);
         return resolveAbstractType(env, typeResolver, abstractType);
     }
 
     public GraphQLObjectType resolveTypeForUnion(TypeResolutionEnvironment env, GraphQLUnionType abstractType) {
-        TypeResolver typeResolver = env.getSchema().getCodeRegistry().getTypeResolver(abstractType);
+        TypeResolver typeResolver = env.getSchema().getCodeRegistryDispatchTable().getTypeResolver(abstractType);
         return resolveAbstractType(env, typeResolver, abstractType);
     }
 
     private GraphQLObjectType resolveAbstractType(TypeResolutionEnvironment env, TypeResolver typeResolver, GraphQLNamedOutputType abstractType) {
-        GraphQLObjectType result = typeResolver.getType(env);
+        return checkResolvedType(env.getSchema(), abstractType, typeResolver.getType(env));
+    }
+
+    /**
+     * Checks that a type resolver returned a possible type of the abstract type
+     *
+     * @param schema       the schema
+     * @param abstractType the abstract type
+     * @param result       the type the type resolver returned
+     *
+     * @return the resolved type
+     *
+     * @throws UnresolvedTypeException if the type is null or not a possible type of the abstract type
+     */
+    public GraphQLObjectType checkResolvedType(GraphQLSchema schema, GraphQLNamedOutputType abstractType, @Nullable GraphQLObjectType result) {
         if (result == null) {
             throw new UnresolvedTypeException(abstractType);
         }
-        if (!env.getSchema().isPossibleType(abstractType, result)) {
+        if (!schema.isPossibleType(abstractType, result)) {
             throw new UnresolvedTypeException(abstractType, result);
         }
         return result;
@@ -19,6 +19,9 @@ import static java.lang.String.format;
 /**
  * As a graphql query is executed, each field forms a hierarchical path from parent field to child field and this
  * class represents that path as a series of segments.
+ * <p>
+ * A path is created for every field and list item, so it is kept compact: it shares its parent chain, stores list
+ * indices unboxed and only renders its string form when {@link #toString()} is first called.
  */
 @PublicApi
 public class ResultPath {
@@ -34,59 +37,48 @@ public class ResultPath {
     }
 
     private final ResultPath parent;
-    private final Object segment;
+    // the name of a named segment or null for a list segment, the index is only meaningful for list segments
+    private final String name;
+    private final int index;
+    private final int level;
 
-    // hash is effective immutable but lazily initialized similar to the hash code of java.lang.String
+    // hash and the string value are effective immutable but lazily initialized similar to the hash code of java.lang.String
     private int hash;
-    private final String toStringValue;
+    private String toStringValue;
 
     private ResultPath() {
         parent = null;
-        segment = null;
-        this.toStringValue = initString();
+        name = null;
+        index = 0;
+        level = 0;
     }
 
     private ResultPath(ResultPath parent, String segment) {
         this.parent = assertNotNull(parent, () -> "Must provide a parent path");
-        this.segment = assertNotNull(segment, () -> "Must provide a sub path");
-        this.toStringValue = initString();
+        this.name = assertNotNull(segment, () -> "Must provide a sub path");
+        this.index = 0;
+        this.level = parent.level + 1;
     }
 
     private ResultPath(ResultPath parent, int segment) {
         this.parent = assertNotNull(parent, () -> "Must provide a parent path");
-        this.segment = segment;
-        this.toStringValue = initString();
-    }
-
-    private String initString() {
-        if (parent == null) {
-            return "";
-        }
-
-        if (ROOT_PATH.equals(parent)) {
-            return segmentToString();
-        }
-        return parent + segmentToString();
-
+        this.name = null;
+        this.index = segment;
+        this.level = parent.level;
     }
 
+    /**
+     * @return the number of named segments in this path
+     */
     public int getLevel() {
-        int counter = 0;
-        ResultPath currentPath = this;
-        while (currentPath != null) {
-            if (currentPath.segment instanceof String) {
-                counter++;
-            }
-            currentPath = currentPath.parent;
-        }
-        return counter;
+        return level;
     }
 
     public ResultPath getPathWithoutListEnd() {
         if (ROOT_PATH.equals(this)) {
             return ROOT_PATH;
         }
-        if (segment instanceof String) {
+        if (name != null) {
             return this;
         }
         return parent;
@@ -96,27 +88,30 @@ public class ResultPath {
      * @return true if the end of the path has a list style segment eg 'a/b[2]'
      */
     public boolean isListSegment() {
-        return segment instanceof Integer;
+        return parent != null && name == null;
     }
 
     /**
      * @return true if the end of the path has a named style segment eg 'a/b[2]/c'
      */
     public boolean isNamedSegment() {
-        return segment instanceof String;
+        return name != null;
     }
 
 
     public String getSegmentName() {
-        return (String) segment;
+        return name;
     }
 
     public int getSegmentIndex() {
-        return (int) segment;
+        return index;
     }
 
     public Object getSegmentValue() {
-        return segment;
+        if (parent == null) {
+            return null;
+        }
+        return name != null ? name : (Object) index;
     }
 
     public ResultPath getParent() {
@@ -277,13 +272,13 @@ public class ResultPath {
         if (parent == null) {
             return ImmutableKit.emptyList();
         }
-        LinkedList<Object> list = new LinkedList<>();
+        Object[] segments = new Object[depth()];
         ResultPath p = this;
-        while (p.segment != null) {
-            list.addFirst(p.segment);
+        for (int i = segments.length - 1; i >= 0; i--) {
+            segments[i] = p.getSegmentValue();
             p = p.parent;
         }
-        return ImmutableList.copyOf(list);
+        return ImmutableList.copyOf(segments);
     }
 
     /**
@@ -295,32 +290,78 @@ public class ResultPath {
         }
         LinkedList<String> list = new LinkedList<>();
         ResultPath p = this;
-        while (p.segment != null) {
-            if (p.segment instanceof String) {
-                list.addFirst((String) p.segment);
+        while (p.parent != null) {
+            if (p.name != null) {
+                list.addFirst(p.name);
             }
             p = p.parent;
         }
         return list;
     }
 
+    private int depth() {
+        int depth = 0;
+        for (ResultPath p = this; p.parent != null; p = p.parent) {
+            depth++;
+        }
+        return depth;
+    }
+
 
     /**
      * @return the path as a string which represents the call hierarchy
      */
     @Override
     public String toString() {
-        return toStringValue;
+        String s = toStringValue;
+        if (s == null) {
+            s = renderString();
+            toStringValue = s;
+        }
+        return s;
     }
 
-    public String segmentToString() {
-        if (segment instanceof String) {
-            return "/" + segment;
+    /*
+     * Paths are created for every field and list item but only rarely rendered, so the string is built on demand,
+     * starting from the closest parent that has already been rendered
+     */
+    private String renderString() {
+        if (parent == null) {
+            return "";
+        }
+        int count = 0;
+        ResultPath p = this;
+        while (p.parent != null && p.toStringValue == null) {
+            count++;
+            p = p.parent;
+        }
+        ResultPath[] unrendered = new ResultPath[count];
+        StringBuilder sb = new StringBuilder(p.parent == null ? "" : p.toStringValue);
+        p = this;
+        for (int i = count - 1; i >= 0; i--) {
+            unrendered[i] = p;
+            p = p.parent;
+        }
+        for (ResultPath path : unrendered) {
+            path.appendSegment(sb);
+        }
+        return sb.toString();
+    }
+
+    private void appendSegment(StringBuilder sb) {
+        if (name != null) {
+            sb.append('/').append(name);
         } else {
-            return "[" + segment + "]";
+            sb.append('[').append(index).append(']');
         }
     }
 
+    public String segmentToString() {
+        StringBuilder sb = new StringBuilder();
+        appendSegment(sb);
+        return sb.toString();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -332,8 +373,8 @@ public class ResultPath {
 
         ResultPath self = this;
         ResultPath that = (ResultPath) o;
-        while (self.segment != null && that.segment != null) {
-            if (!Objects.equals(self.segment, that.segment)) {
+        while (self.parent != null && that.parent != null) {
+            if (self.index != that.index || !Objects.equals(self.name, that.name)) {
                 return false;
             }
             self = self.parent;
@@ -350,8 +391,8 @@ public class ResultPath {
             h = 1;
             ResultPath self = this;
             while (self != null) {
-                Object value = self.segment;
-                h = 31 * h + (value == null ? 0 : value.hashCode());
+                int segmentHash = self.parent == null ? 0 : (self.name != null ? self.name.hashCode() : Integer.hashCode(self.index));
+                h = 31 * h + segmentHash;
                 self = self.parent;
             }
             hash = h;
@@ -0,0 +1,420 @@
+package graphql.execution;
+
+import graphql.ExecutionResult;
+import graphql.DuckTyped;
+import graphql.ExperimentalApi;
+import graphql.Internal;
+import graphql.PublicApi;
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DelegatingDataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.LightDataFetcher;
+import org.dataloader.DataLoader;
+import org.dataloader.DelegatingDataLoader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * An execution strategy that runs each (non-trivial) {@link DataFetcher} on its own thread so that data fetchers can
+ * be written in a plain blocking style, eg. JDBC or blocking HTTP calls, without wrapping them in
+ * {@link graphql.schema.AsyncDataFetcher}.
+ * <p>
+ * When the JVM supports virtual threads (Java 21+) then each fetch runs on a new virtual thread, otherwise it
+ * falls back to a cached pool of daemon platform threads.  The library itself targets Java 11 and hence the virtual thread
+ * executor is discovered at runtime.
+ * <p>
+ * All fetches of an execution belong to a fetch scope.  When the execution completes, for example because it was
+ * aborted or a non-null field error bubbled to the top, any outstanding fetches are cancelled and their threads interrupted.
+ * <p>
+ * {@link TrivialDataFetcher}s and {@link LightDataFetcher}s, such as {@link graphql.schema.PropertyDataFetcher}, are run on the calling
+ * thread since they are cheap and non-blocking.
+ * <p>
+ * This strategy works with the per level {@link org.dataloader.DataLoader} dispatching.  A field is only considered
+ * fetched, for the purposes of dispatching, once its data fetcher has either returned or is parked waiting on a
+ * {@link DataLoader} value.  So a level is dispatched once all of its blocking data fetchers are parked.  Any further
+ * {@link DataLoader} loads a data fetcher makes after it is resumed are treated as delayed loads.
+ * <p>
+ * Waiting on a {@link DataLoader} value, or on a stage derived from it, is noticed straight away.  Waiting on it in any
+ * other way, for example via {@link CompletableFuture#allOf(CompletableFuture[])}, is noticed by watching the state of the
+ * fetching thread while it has a {@link DataLoader} value outstanding, which takes up to a millisecond.
+ * <p>
+ * The default executor is shared by all instances of this strategy and runs on virtual or daemon threads, so it
+ * never needs to be shut down.  An executor service given to the strategy is owned by the caller.
+ */
+@PublicApi
+@ExperimentalApi
+public class VirtualThreadExecutionStrategy extends AsyncExecutionStrategy {
+
+    private static final ThreadLocal<VirtualThreadFetch> CURRENT_FETCH = new ThreadLocal<>();
+
+    private final ExecutorService executorService;
+    // the fetch scope of each running execution, kept here rather than in the contexts of the execution
+    private final Map<ExecutionContext, FetchScope> fetchScopes = new ConcurrentHashMap<>();
+    // fetches made outside of execute, eg. of deferred fields after the initial result, are not cancelled
+    private final FetchScope unscopedFetches;
+
+    /**
+     * Creates an execution strategy that runs data fetchers on virtual threads if the JVM supports them
+     */
+    public VirtualThreadExecutionStrategy() {
+        this(new SimpleDataFetcherExceptionHandler());
+    }
+
+    /**
+     * Creates an execution strategy that runs data fetchers on virtual threads if the JVM supports them
+     *
+     * @param exceptionHandler the exception handler to use
+     */
+    public VirtualThreadExecutionStrategy(DataFetcherExceptionHandler exceptionHandler) {
+        this(exceptionHandler, DefaultExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates an execution strategy that runs data fetchers on threads from the given executor service
+     *
+     * @param exceptionHandler the exception handler to use
+     * @param executorService  the executor service that data fetchers are run on
+     */
+    public VirtualThreadExecutionStrategy(DataFetcherExceptionHandler exceptionHandler, ExecutorService executorService) {
+        super(exceptionHandler);
+        this.executorService = assertNotNull(executorService, () -> "executorService must not be null");
+        this.unscopedFetches = new FetchScope(executorService);
+    }
+
+    /**
+     * @return true if the running JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return DefaultExecutor.VIRTUAL_THREADS;
+    }
+
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public CompletableFuture<ExecutionResult> execute(ExecutionContext executionContext, ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+        FetchScope fetchScope = new FetchScope(executorService);
+        fetchScopes.put(executionContext, fetchScope);
+        CompletableFuture<ExecutionResult> result;
+        try {
+            result = super.execute(executionContext, parameters);
+        } catch (RuntimeException e) {
+            closeFetchScope(executionContext, fetchScope);
+            throw e;
+        }
+        result.whenComplete((executionResult, throwable) -> closeFetchScope(executionContext, fetchScope));
+        return result;
+    }
+
+    @Override
+    @DuckTyped(shape = "CompletableFuture<Object> | Object")
+    protected Object invokeDataFetcher(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLFieldDefinition fieldDef, Supplier<DataFetchingEnvironment> dataFetchingEnvironment, DataFetcher<?> dataFetcher) {
+        if (runsOnCallingThread(dataFetcher)) {
+            return super.invokeDataFetcher(executionContext, parameters, fieldDef, dataFetchingEnvironment, dataFetcher);
+        }
+        FetchScope fetchScope = fetchScopes.getOrDefault(executionContext, unscopedFetches);
+        VirtualThreadFetch fetch = new VirtualThreadFetch();
+        Supplier<DataFetchingEnvironment> parkingEnvironment = () -> new ParkingDataFetchingEnvironment(dataFetchingEnvironment.get());
+        fetchScope.submit(fetch, () -> {
+            CURRENT_FETCH.set(fetch);
+            fetch.thread = Thread.currentThread();
+            try {
+                Object fetchedValue = super.invokeDataFetcher(executionContext, parameters, fieldDef, parkingEnvironment, dataFetcher);
+                fetch.done(fetchedValue);
+            } finally {
+                CURRENT_FETCH.remove();
+            }
+        });
+        return fetch;
+    }
+
+    @Override
+    protected void fieldFetched(ExecutionContext executionContext, ExecutionStrategyParameters parameters, DataFetcher<?> dataFetcher, Object fetchedObject, Supplier<DataFetchingEnvironment> dataFetchingEnvironment) {
+        if (fetchedObject instanceof VirtualThreadFetch) {
+            // the field only counts as fetched once the blocking data fetcher has returned or is parked on a DataLoader
+            ((VirtualThreadFetch) fetchedObject).parkedOrDone.whenComplete((v, t) ->
+                    super.fieldFetched(executionContext, parameters, dataFetcher, fetchedObject, dataFetchingEnvironment));
+        } else {
+            super.fieldFetched(executionContext, parameters, dataFetcher, fetchedObject, dataFetchingEnvironment);
+        }
+    }
+
+    private boolean runsOnCallingThread(DataFetcher<?> dataFetcher) {
+        return dataFetcher instanceof TrivialDataFetcher || dataFetcher instanceof LightDataFetcher;
+    }
+
+    private void closeFetchScope(ExecutionContext executionContext, FetchScope fetchScope) {
+        fetchScopes.remove(executionContext);
+        fetchScope.close();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The executor shared by all strategies that have not been given one, created on first use
+     */
+    private static class DefaultExecutor {
+        private static final ExecutorService VIRTUAL_THREAD_EXECUTOR = newVirtualThreadPerTaskExecutor();
+        static final boolean VIRTUAL_THREADS = VIRTUAL_THREAD_EXECUTOR != null;
+        static final ExecutorService INSTANCE = VIRTUAL_THREADS
+                ? VIRTUAL_THREAD_EXECUTOR
+                : Executors.newCachedThreadPool(daemonThreadFactory("graphql-java-fetch-"));
+
+        private static @Nullable ExecutorService newVirtualThreadPerTaskExecutor() {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) method.invoke(null);
+            } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Notices fetches that wait on a {@link DataLoader} value without going through a {@link ParkingFuture}, by checking
+     * whether their thread is waiting while they have a value outstanding
+     */
+    private static class ParkWatcher {
+        private static final long CHECK_INTERVAL_MICROS = 500;
+        private static final ScheduledExecutorService WATCHER = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("graphql-java-park-watcher-"));
+
+        @SuppressWarnings("FutureReturnValueIgnored")
+        static void watch(VirtualThreadFetch fetch) {
+            WATCHER.schedule(() -> {
+                if (fetch.signalled.get()) {
+                    return;
+                }
+                if (fetch.isWaiting()) {
+                    fetch.parked();
+                } else {
+                    watch(fetch);
+                }
+            }, CHECK_INTERVAL_MICROS, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    /**
+     * The fetch scope of one execution.  It tracks the outstanding fetches so they can be cancelled when the execution is over.
+     */
+    @Internal
+    static class FetchScope {
+        private final ExecutorService executorService;
+        private final Set<Future<?>> outstanding = ConcurrentHashMap.newKeySet();
+        private volatile boolean closed;
+
+        FetchScope(ExecutorService executorService) {
+            this.executorService = executorService;
+        }
+
+        void submit(VirtualThreadFetch fetch, Runnable task) {
+            if (closed) {
+                fetch.cancel(false);
+                return;
+            }
+            Future<?> future = executorService.submit(() -> {
+                try {
+                    task.run();
+                } catch (Throwable throwable) {
+                    fetch.done(Async.exceptionallyCompletedFuture(throwable));
+                }
+            });
+            outstanding.add(future);
+            fetch.whenComplete((v, t) -> outstanding.remove(future));
+            if (closed) {
+                future.cancel(true);
+            }
+        }
+
+        void close() {
+            closed = true;
+            for (Future<?> future : outstanding) {
+                future.cancel(true);
+            }
+            outstanding.clear();
+        }
+
+        int outstandingCount() {
+            return outstanding.size();
+        }
+    }
+
+    /**
+     * The promise to a value fetched on another thread
+     */
+    @Internal
+    static class VirtualThreadFetch extends CompletableFuture<Object> {
+        private final CompletableFuture<Void> parkedOrDone = new CompletableFuture<>();
+        private final AtomicBoolean signalled = new AtomicBoolean();
+        private final AtomicBoolean watched = new AtomicBoolean();
+        private volatile @Nullable Thread thread;
+
+        /*
+         * A thread that waits while it has a data loader value outstanding is taken to be waiting on that value.  If it
+         * waits on something else instead then the level is merely dispatched early.
+         */
+        void loadOutstanding() {
+            if (!signalled.get() && watched.compareAndSet(false, true)) {
+                ParkWatcher.watch(this);
+            }
+        }
+
+        boolean isWaiting() {
+            Thread fetchThread = thread;
+            if (fetchThread == null) {
+                return false;
+            }
+            Thread.State state = fetchThread.getState();
+            return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+        }
+
+        void parked() {
+            if (signalled.compareAndSet(false, true)) {
+                parkedOrDone.complete(null);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void done(Object fetchedValue) {
+            // tell the dispatching first so that the level is counted before the value is completed
+            parked();
+            if (fetchedValue instanceof CompletableFuture) {
+                ((CompletableFuture<Object>) fetchedValue).whenComplete((value, throwable) -> {
+                    if (throwable != null) {
+                        completeExceptionally(throwable);
+                    } else {
+                        complete(value);
+                    }
+                });
+            } else {
+                complete(fetchedValue);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            parked();
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * Hands out {@link DataLoader}s whose value promises tell the fetch it is parked when they are waited upon
+     */
+    private static class ParkingDataFetchingEnvironment extends DelegatingDataFetchingEnvironment {
+
+        ParkingDataFetchingEnvironment(DataFetchingEnvironment delegateEnvironment) {
+            super(delegateEnvironment);
+        }
+
+        @Override
+        public <K, V> @Nullable DataLoader<K, V> getDataLoader(String dataLoaderName) {
+            DataLoader<K, V> dataLoader = super.getDataLoader(dataLoaderName);
+            return dataLoader == null ? null : new ParkingDataLoader<>(dataLoader);
+        }
+    }
+
+    private static class ParkingDataLoader<K, V> extends DelegatingDataLoader<K, V> {
+
+        ParkingDataLoader(DataLoader<K, V> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public CompletableFuture<V> load(@NonNull K key, @Nullable Object keyContext) {
+            return parking(super.load(key, keyContext));
+        }
+
+        @Override
+        public CompletableFuture<List<V>> loadMany(List<K> keys) {
+            return parking(super.loadMany(keys));
+        }
+
+        @Override
+        public CompletableFuture<List<V>> loadMany(List<K> keys, List<Object> keyContexts) {
+            return parking(super.loadMany(keys, keyContexts));
+        }
+
+        @Override
+        public CompletableFuture<Map<K, V>> loadMany(Map<K, ?> keysAndContexts) {
+            return parking(super.loadMany(keysAndContexts));
+        }
+
+        private static <T> CompletableFuture<T> parking(CompletableFuture<T> value) {
+            VirtualThreadFetch fetch = CURRENT_FETCH.get();
+            if (fetch == null || value.isDone()) {
+                return value;
+            }
+            fetch.loadOutstanding();
+            ParkingFuture<T> parkingFuture = new ParkingFuture<>(fetch);
+            value.whenComplete((v, throwable) -> {
+                if (throwable != null) {
+                    parkingFuture.completeExceptionally(throwable);
+                } else {
+                    parkingFuture.complete(v);
+                }
+            });
+            return parkingFuture;
+        }
+    }
+
+    /**
+     * Tells the fetch it is parked when it waits on this promise or on any stage derived from it
+     */
+    private static class ParkingFuture<V> extends CompletableFuture<V> {
+        private final VirtualThreadFetch fetch;
+
+        ParkingFuture(VirtualThreadFetch fetch) {
+            this.fetch = fetch;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new ParkingFuture<>(fetch);
+        }
+
+        @Override
+        public V join() {
+            fetch.parked();
+            return super.join();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            fetch.parked();
+            return super.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            fetch.parked();
+            return super.get(timeout, unit);
+        }
+    }
+}
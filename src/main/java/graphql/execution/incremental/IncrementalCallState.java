@@ -11,6 +11,7 @@ import org.reactivestreams.Publisher;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -83,6 +84,16 @@ public class IncrementalCallState {
         calls.forEach(this::enqueue);
     }
 
+    /**
+     * Incremental calls can use this to only do their work once the subscriber has asked for more results
+     * than are already waiting to be delivered.
+     *
+     * @return a promise that completes once there is demand for more results
+     */
+    public CompletableFuture<Void> whenDemanded() {
+        return publisher.get().whenDemanded();
+    }
+
     public boolean getIncrementalCallsDetected() {
         return incrementalCallsDetected.get();
     }
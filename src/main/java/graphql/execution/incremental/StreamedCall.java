@@ -1,19 +1,100 @@
 package graphql.execution.incremental;
 
+import graphql.GraphQLError;
 import graphql.Internal;
+import graphql.execution.NonNullableFieldWasNullError;
+import graphql.execution.NonNullableFieldWasNullException;
+import graphql.execution.ResultPath;
 import graphql.incremental.StreamPayload;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Represents a call that fetches data that was streamed, via the @stream directive.
  * <p>
- * This is a placeholder class, created to showcase the proposed structure that accommodates both @defer and @stream execution.
+ * A streamed call encompasses a batch of consecutive items of a list field.  The call resolves once all the items
+ * in the batch are complete.
+ * <p>
+ * For example, this query:
+ * <pre>
+ * {
+ *     feed @stream(initialCount: 2) {
+ *         title
+ *     }
+ * }
+ * </pre>
+ * Will return the first 2 items of the feed in the initial result and then one `StreamedCall` per batch
+ * of the remaining items.
  */
 @Internal
 public class StreamedCall implements IncrementalCall<StreamPayload> {
+    private final String label;
+    private final ResultPath path;
+    private final Supplier<CompletableFuture<List<Object>>> itemsCall;
+    private final AlternativeCallContext alternativeCallContext;
+
+    /**
+     * @param label                  the label of the @stream directive
+     * @param path                   the path to the first item in the batch
+     * @param itemsCall              the call that completes the items of the batch
+     * @param alternativeCallContext the context that captures the errors of this batch
+     */
+    public StreamedCall(
+            String label,
+            ResultPath path,
+            Supplier<CompletableFuture<List<Object>>> itemsCall,
+            AlternativeCallContext alternativeCallContext
+    ) {
+        this.label = label;
+        this.path = path;
+        this.itemsCall = itemsCall;
+        this.alternativeCallContext = alternativeCallContext;
+    }
+
+    public ResultPath getPath() {
+        return path;
+    }
+
     @Override
     public CompletableFuture<StreamPayload> invoke() {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return itemsCall.get()
+                .thenApply(this::transformToStreamPayload)
+                .handle(this::handleNonNullableFieldError);
+    }
+
+    private StreamPayload transformToStreamPayload(List<Object> items) {
+        return StreamPayload.newStreamedItem()
+                .items(items)
+                .errors(alternativeCallContext.getErrors())
+                .path(path)
+                .label(label)
+                .build();
+    }
+
+    /**
+     * A non-nullable item that is null can't null out the list that has already been sent, so instead the
+     * payload has null items and the error, and the stream stops.
+     */
+    private StreamPayload handleNonNullableFieldError(StreamPayload result, Throwable throwable) {
+        if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause instanceof NonNullableFieldWasNullException) {
+                GraphQLError error = new NonNullableFieldWasNullError((NonNullableFieldWasNullException) cause);
+                return StreamPayload.newStreamedItem()
+                        .errors(Collections.singletonList(error))
+                        .label(label)
+                        .path(path)
+                        .build();
+            }
+            if (throwable instanceof CompletionException) {
+                throw (CompletionException) throwable;
+            }
+            throw new CompletionException(throwable);
+        }
+        return result;
     }
 }
@@ -31,6 +31,8 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static graphql.Assert.assertNotNull;
 
@@ -49,8 +51,28 @@ public class ChainedInstrumentation implements Instrumentation {
 
     protected final ImmutableList<Instrumentation> instrumentations;
 
+    // the indexes of the instrumentations that override the hooks called for every object and field, the others are not called for them
+    private final int[] executeObjectIndexes;
+    private final int[] fieldExecutionIndexes;
+    private final int[] fieldFetchIndexes;
+    private final int[] fieldFetchingIndexes;
+    private final int[] fieldCompletionIndexes;
+    private final int[] fieldListCompletionIndexes;
+    private final int[] dataFetcherIndexes;
+
     public ChainedInstrumentation(List<Instrumentation> instrumentations) {
         this.instrumentations = ImmutableList.copyOf(assertNotNull(instrumentations));
+        this.executeObjectIndexes = overridingIndexes("beginExecuteObject", InstrumentationExecutionStrategyParameters.class, InstrumentationState.class);
+        this.fieldExecutionIndexes = overridingIndexes("beginFieldExecution", InstrumentationFieldParameters.class, InstrumentationState.class);
+        this.fieldFetchIndexes = overridingIndexes("beginFieldFetch", InstrumentationFieldFetchParameters.class, InstrumentationState.class);
+        // the default beginFieldFetching calls beginFieldFetch
+        this.fieldFetchingIndexes = IntStream.range(0, this.instrumentations.size())
+                .filter(i -> Arrays.binarySearch(fieldFetchIndexes, i) >= 0
+                        || overrides(this.instrumentations.get(i), "beginFieldFetching", InstrumentationFieldFetchParameters.class, InstrumentationState.class))
+                .toArray();
+        this.fieldCompletionIndexes = overridingIndexes("beginFieldCompletion", InstrumentationFieldCompleteParameters.class, InstrumentationState.class);
+        this.fieldListCompletionIndexes = overridingIndexes("beginFieldListCompletion", InstrumentationFieldCompleteParameters.class, InstrumentationState.class);
+        this.dataFetcherIndexes = overridingIndexes("instrumentDataFetcher", DataFetcher.class, InstrumentationFieldFetchParameters.class, InstrumentationState.class);
     }
 
     public ChainedInstrumentation(Instrumentation... instrumentations) {
@@ -64,6 +86,48 @@ public class ChainedInstrumentation implements Instrumentation {
         return instrumentations;
     }
 
+    private int[] overridingIndexes(String methodName, Class<?>... parameterTypes) {
+        return IntStream.range(0, instrumentations.size())
+                .filter(i -> overrides(instrumentations.get(i), methodName, parameterTypes))
+                .toArray();
+    }
+
+    /*
+     * The hooks of Instrumentation and SimplePerformantInstrumentation do nothing and return no op contexts, so there is no
+     * need to call them.  If in doubt the hook is considered overridden.
+     */
+    private static boolean overrides(Instrumentation instrumentation, String methodName, Class<?>... parameterTypes) {
+        try {
+            Class<?> declaringClass = instrumentation.getClass().getMethod(methodName, parameterTypes).getDeclaringClass();
+            return declaringClass != Instrumentation.class && declaringClass != SimplePerformantInstrumentation.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return true;
+        }
+    }
+
+    /*
+     * Like chainedCtx but only for the instrumentations at the given indexes.  The hook function gets the parameters passed
+     * in rather than capturing them, so that no lambda is allocated per call.
+     */
+    private <P, C> @Nullable C chainedCtx(InstrumentationState state, int[] indexes, P parameters, ChainedInstrumentationFunction<Instrumentation, P, InstrumentationState, C> hook, C noOp, Function<ImmutableList<C>, C> chained) {
+        if (indexes.length == 0) {
+            return noOp;
+        }
+        ChainedInstrumentationState chainedInstrumentationState = (ChainedInstrumentationState) state;
+        if (indexes.length == 1) {
+            int index = indexes[0];
+            return hook.apply(instrumentations.get(index), parameters, chainedInstrumentationState.getState(index));
+        }
+        ImmutableList.Builder<C> contexts = ImmutableList.builderWithExpectedSize(indexes.length);
+        for (int index : indexes) {
+            C context = hook.apply(instrumentations.get(index), parameters, chainedInstrumentationState.getState(index));
+            if (context != null) {
+                contexts.add(context);
+            }
+        }
+        return chained.apply(contexts.build());
+    }
+
     private <T> InstrumentationContext<T> chainedCtx(InstrumentationState state, BiFunction<Instrumentation, InstrumentationState, InstrumentationContext<T>> mapper) {
         // if we have zero or 1 instrumentations (and 1 is the most common), then we can avoid an object allocation
         // of the ChainedInstrumentationContext since it won't be needed
@@ -153,15 +217,8 @@ public class ChainedInstrumentation implements Instrumentation {
 
     @Override
     public @Nullable ExecuteObjectInstrumentationContext beginExecuteObject(InstrumentationExecutionStrategyParameters parameters, InstrumentationState state) {
-        if (instrumentations.isEmpty()) {
-            return ExecuteObjectInstrumentationContext.NOOP;
-        }
-        BiFunction<Instrumentation, InstrumentationState, ExecuteObjectInstrumentationContext> mapper = (instrumentation, specificState) -> instrumentation.beginExecuteObject(parameters, specificState);
-        ChainedInstrumentationState chainedInstrumentationState = (ChainedInstrumentationState) state;
-        if (instrumentations.size() == 1) {
-            return mapper.apply(instrumentations.get(0), chainedInstrumentationState.getState(0));
-        }
-        return new ChainedExecuteObjectInstrumentationContext(chainedMapAndDropNulls(chainedInstrumentationState, mapper));
+        return chainedCtx(state, executeObjectIndexes, parameters, Instrumentation::beginExecuteObject,
+                ExecuteObjectInstrumentationContext.NOOP, ChainedExecuteObjectInstrumentationContext::new);
     }
 
     @ExperimentalApi
@@ -178,38 +235,34 @@ public class ChainedInstrumentation implements Instrumentation {
 
     @Override
     public @Nullable InstrumentationContext<Object> beginFieldExecution(InstrumentationFieldParameters parameters, InstrumentationState state) {
-        return chainedCtx(state, (instrumentation, specificState) -> instrumentation.beginFieldExecution(parameters, specificState));
+        return chainedCtx(state, fieldExecutionIndexes, parameters, Instrumentation::beginFieldExecution,
+                SimpleInstrumentationContext.noOp(), ChainedInstrumentationContext::new);
     }
 
     @SuppressWarnings("deprecation")
     @Override
     public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
-        return chainedCtx(state, (instrumentation, specificState) -> instrumentation.beginFieldFetch(parameters, specificState));
+        return chainedCtx(state, fieldFetchIndexes, parameters, Instrumentation::beginFieldFetch,
+                SimpleInstrumentationContext.noOp(), ChainedInstrumentationContext::new);
     }
 
     @Override
     public FieldFetchingInstrumentationContext beginFieldFetching(InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
-        if (instrumentations.isEmpty()) {
-            return FieldFetchingInstrumentationContext.NOOP;
-        }
-        BiFunction<Instrumentation, InstrumentationState, FieldFetchingInstrumentationContext> mapper = (instrumentation, specificState) -> instrumentation.beginFieldFetching(parameters, specificState);
-        ChainedInstrumentationState chainedInstrumentationState = (ChainedInstrumentationState) state;
-        if (instrumentations.size() == 1) {
-            return mapper.apply(instrumentations.get(0), chainedInstrumentationState.getState(0));
-        }
-        ImmutableList<FieldFetchingInstrumentationContext> objects = chainedMapAndDropNulls(chainedInstrumentationState, mapper);
-        return new ChainedFieldFetchingInstrumentationContext(objects);
+        return chainedCtx(state, fieldFetchingIndexes, parameters, Instrumentation::beginFieldFetching,
+                FieldFetchingInstrumentationContext.NOOP, ChainedFieldFetchingInstrumentationContext::new);
     }
 
     @Override
     public @Nullable InstrumentationContext<Object> beginFieldCompletion(InstrumentationFieldCompleteParameters parameters, InstrumentationState state) {
-        return chainedCtx(state, (instrumentation, specificState) -> instrumentation.beginFieldCompletion(parameters, specificState));
+        return chainedCtx(state, fieldCompletionIndexes, parameters, Instrumentation::beginFieldCompletion,
+                SimpleInstrumentationContext.noOp(), ChainedInstrumentationContext::new);
     }
 
 
     @Override
     public @Nullable InstrumentationContext<Object> beginFieldListCompletion(InstrumentationFieldCompleteParameters parameters, InstrumentationState state) {
-        return chainedCtx(state, (instrumentation, specificState) -> instrumentation.beginFieldListCompletion(parameters, specificState));
+        return chainedCtx(state, fieldListCompletionIndexes, parameters, Instrumentation::beginFieldListCompletion,
+                SimpleInstrumentationContext.noOp(), ChainedInstrumentationContext::new);
     }
 
     @NonNull
@@ -242,8 +295,14 @@ public class ChainedInstrumentation implements Instrumentation {
     @NonNull
     @Override
     public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
-        return chainedInstrument(state, dataFetcher, (Instrumentation instrumentation, InstrumentationState specificState, DataFetcher<?> accumulator) ->
-                instrumentation.instrumentDataFetcher(accumulator, parameters, specificState));
+        if (dataFetcherIndexes.length == 0) {
+            return dataFetcher;
+        }
+        ChainedInstrumentationState chainedInstrumentationState = (ChainedInstrumentationState) state;
+        for (int index : dataFetcherIndexes) {
+            dataFetcher = instrumentations.get(index).instrumentDataFetcher(dataFetcher, parameters, chainedInstrumentationState.getState(index));
+        }
+        return dataFetcher;
     }
 
     @NonNull
@@ -0,0 +1,162 @@
+package graphql.execution.instrumentation.dataloader;
+
+import graphql.ExperimentalApi;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Learns the batch sizes and batch latencies of DataLoaders across executions, so that chained DataLoaders can be
+ * dispatched adaptively instead of with a fixed batch window.
+ * <p>
+ * With adaptive dispatching enabled (see {@link DataLoaderDispatchingContextKeys#DATA_LOADER_DISPATCH_STATISTICS}) and
+ * DataLoader chaining enabled:
+ * <ul>
+ *     <li>a DataLoader that has a max batch size is dispatched as soon as a full batch is queued, rather than waiting
+ *     for its level to be ready, because the batch can't grow anymore</li>
+ *     <li>a delayed DataLoader is dispatched as soon as as many keys are queued as its delayed batches usually have,
+ *     rather than waiting for the end of the batch window</li>
+ *     <li>the batch window of delayed DataLoaders grows with the latency of their batches, up to
+ *     {@value #MAX_WINDOW_FACTOR} times the configured window, because an extra round trip costs more for slow batch
+ *     loaders than waiting a little longer for more keys</li>
+ * </ul>
+ * The statistics are keyed by DataLoader name, so one instance should be shared by the executions of one schema.  It
+ * is meant to be long-lived.
+ */
+@ExperimentalApi
+@NullMarked
+public class DataLoaderDispatchStatistics {
+
+    /**
+     * The number of batches of a DataLoader that need to be seen before the statistics are used
+     */
+    public static final int MIN_BATCHES = 5;
+
+    /**
+     * The maximum factor by which the configured delayed batch window is stretched
+     */
+    public static final int MAX_WINDOW_FACTOR = 10;
+
+    // the weight of a new sample in the moving averages
+    private static final double SMOOTHING = 0.2;
+    // how much of a batch latency is worth waiting for more keys
+    private static final double WAIT_FRACTION = 0.1;
+    // how fast the peak delayed batch size is forgotten
+    private static final double PEAK_DECAY = 0.95;
+
+    private final Map<String, DataLoaderStatistics> statisticsByName = new ConcurrentHashMap<>();
+
+    /**
+     * @param dataLoaderName the name of the DataLoader
+     *
+     * @return the statistics of the DataLoader or null if none of its batches has been seen yet
+     */
+    public @Nullable DataLoaderStatistics getStatistics(String dataLoaderName) {
+        return statisticsByName.get(dataLoaderName);
+    }
+
+    /**
+     * Records one dispatched batch
+     *
+     * @param dataLoaderName the name of the DataLoader
+     * @param delayed        true if the batch was dispatched by the delayed batch window
+     * @param batchSize      the number of keys in the batch
+     * @param latencyNanos   the time it took until the batch values were available
+     */
+    public void recordBatch(String dataLoaderName, boolean delayed, int batchSize, long latencyNanos) {
+        statisticsByName.computeIfAbsent(dataLoaderName, k -> new DataLoaderStatistics()).record(delayed, batchSize, latencyNanos);
+    }
+
+    /**
+     * Forgets everything that has been learned
+     */
+    public void clear() {
+        statisticsByName.clear();
+    }
+
+    long delayedBatchWindowNanos(String dataLoaderName, long configuredWindowNanos) {
+        DataLoaderStatistics statistics = statisticsByName.get(dataLoaderName);
+        if (statistics == null || statistics.getBatchCount() < MIN_BATCHES) {
+            return configuredWindowNanos;
+        }
+        long worthWaiting = (long) (statistics.getMeanLatencyNanos() * WAIT_FRACTION);
+        return Math.max(configuredWindowNanos, Math.min(worthWaiting, configuredWindowNanos * MAX_WINDOW_FACTOR));
+    }
+
+    boolean isDelayedBatchComplete(String dataLoaderName, int queuedKeys) {
+        DataLoaderStatistics statistics = statisticsByName.get(dataLoaderName);
+        if (statistics == null || statistics.getDelayedBatchCount() < MIN_BATCHES) {
+            return false;
+        }
+        return queuedKeys >= Math.ceil(statistics.getPeakDelayedBatchSize());
+    }
+
+    /**
+     * What has been learned about one DataLoader
+     */
+    @ExperimentalApi
+    public static class DataLoaderStatistics {
+        private long batchCount;
+        private long delayedBatchCount;
+        private double meanBatchSize;
+        private double meanLatencyNanos;
+        private double peakDelayedBatchSize;
+
+        private synchronized void record(boolean delayed, int batchSize, long latencyNanos) {
+            meanBatchSize = batchCount == 0 ? batchSize : movingAverage(meanBatchSize, batchSize);
+            meanLatencyNanos = batchCount == 0 ? latencyNanos : movingAverage(meanLatencyNanos, latencyNanos);
+            batchCount++;
+            if (delayed) {
+                // the peak rather than the mean, because batches dispatched once they reach the mean would drag it down
+                peakDelayedBatchSize = Math.max(batchSize, peakDelayedBatchSize * PEAK_DECAY);
+                delayedBatchCount++;
+            }
+        }
+
+        private static double movingAverage(double average, double sample) {
+            return average + SMOOTHING * (sample - average);
+        }
+
+        public synchronized long getBatchCount() {
+            return batchCount;
+        }
+
+        public synchronized long getDelayedBatchCount() {
+            return delayedBatchCount;
+        }
+
+        /**
+         * @return the exponential moving average of the number of keys per batch
+         */
+        public synchronized double getMeanBatchSize() {
+            return meanBatchSize;
+        }
+
+        /**
+         * @return the exponential moving average of the batch latencies in nanoseconds
+         */
+        public synchronized double getMeanLatencyNanos() {
+            return meanLatencyNanos;
+        }
+
+        /**
+         * @return the slowly decaying peak of the number of keys per delayed batch
+         */
+        public synchronized double getPeakDelayedBatchSize() {
+            return peakDelayedBatchSize;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "DataLoaderStatistics{" +
+                    "batchCount=" + batchCount +
+                    ", delayedBatchCount=" + delayedBatchCount +
+                    ", meanBatchSize=" + meanBatchSize +
+                    ", meanLatencyNanos=" + meanLatencyNanos +
+                    ", peakDelayedBatchSize=" + peakDelayedBatchSize +
+                    '}';
+        }
+    }
+}
@@ -46,6 +46,14 @@ public final class DataLoaderDispatchingContextKeys {
      */
     public static final String ENABLE_DATA_LOADER_CHAINING = "__GJ_enable_data_loader_chaining";
 
+    /**
+     * An instance of {@link DataLoaderDispatchStatistics} that enables adaptive dispatching of chained DataLoaders,
+     * based on what it has learned from earlier executions.
+     * <p>
+     * Only has an effect if DataLoader chaining is enabled.  Not set by default.
+     */
+    public static final String DATA_LOADER_DISPATCH_STATISTICS = "__GJ_data_loader_dispatch_statistics";
+
 
     /**
      * Enables the ability that chained DataLoaders are dispatched automatically.
@@ -80,4 +88,14 @@ public final class DataLoaderDispatchingContextKeys {
     public static void setDelayedDataLoaderDispatchingExecutorFactory(GraphQLContext graphQLContext, DelayedDataLoaderDispatcherExecutorFactory delayedDataLoaderDispatcherExecutorFactory) {
         graphQLContext.put(DELAYED_DATA_LOADER_DISPATCHING_EXECUTOR_FACTORY, delayedDataLoaderDispatcherExecutorFactory);
     }
+
+    /**
+     * Enables adaptive dispatching of chained DataLoaders, see {@link DataLoaderDispatchStatistics}
+     *
+     * @param graphQLContext
+     * @param dataLoaderDispatchStatistics the statistics to learn from and to add to
+     */
+    public static void setDataLoaderDispatchStatistics(GraphQLContext graphQLContext, DataLoaderDispatchStatistics dataLoaderDispatchStatistics) {
+        graphQLContext.put(DATA_LOADER_DISPATCH_STATISTICS, dataLoaderDispatchStatistics);
+    }
 }
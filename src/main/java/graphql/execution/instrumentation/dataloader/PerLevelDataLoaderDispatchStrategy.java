@@ -7,6 +7,7 @@ import graphql.execution.DataLoaderDispatchStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
 import graphql.execution.FieldValueInfo;
+import graphql.execution.ResultPath;
 import graphql.execution.incremental.AlternativeCallContext;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
@@ -14,6 +15,7 @@ import graphql.util.InterThreadMemoizedSupplier;
 import graphql.util.LockKit;
 import org.dataloader.DataLoader;
 import org.dataloader.DataLoaderRegistry;
+import org.dataloader.DispatchResult;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
@@ -40,6 +42,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
     private final ExecutionContext executionContext;
     private final long batchWindowNs;
     private final boolean enableDataLoaderChaining;
+    private final @Nullable DataLoaderDispatchStatistics dispatchStatistics;
 
     private final InterThreadMemoizedSupplier<ScheduledExecutorService> delayedDataLoaderDispatchExecutor;
 
@@ -107,7 +110,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
         private final Set<Integer> dispatchingStartedPerLevel = ConcurrentHashMap.newKeySet();
         private final Set<Integer> dispatchingFinishedPerLevel = ConcurrentHashMap.newKeySet();
         // Set of ResultPath
-        private final Set<String> batchWindowOfDelayedDataLoaderToDispatch = ConcurrentHashMap.newKeySet();
+        private final Set<ResultPath> batchWindowOfDelayedDataLoaderToDispatch = ConcurrentHashMap.newKeySet();
 
         private boolean batchWindowOpen;
 
@@ -218,6 +221,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
         });
 
         this.enableDataLoaderChaining = graphQLContext.getBoolean(DataLoaderDispatchingContextKeys.ENABLE_DATA_LOADER_CHAINING, false);
+        this.dispatchStatistics = graphQLContext.get(DataLoaderDispatchingContextKeys.DATA_LOADER_DISPATCH_STATISTICS);
     }
 
 
@@ -299,6 +303,16 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
         onFieldValuesInfoDispatchIfNeeded(callStack.deferredFragmentRootFieldsFetched, 1, callStack);
     }
 
+    @Override
+    public void newStreamedItemsExecution(FieldValueInfo listFieldValueInfo, ExecutionStrategyParameters parameters) {
+        // each batch of streamed items has its own call stack which starts at the level of the list field,
+        // and the list field counts as the single fetched field of that level
+        CallStack callStack = getCallStack(parameters);
+        int level = parameters.getPath().getLevel();
+        callStack.lock.runLocked(() -> callStack.increaseFetchCount(level));
+        onFieldValuesInfoDispatchIfNeeded(Collections.singletonList(listFieldValueInfo), level, callStack);
+    }
+
     @Override
     public void deferredOnFieldValue(String resultKey, FieldValueInfo fieldValueInfo, Throwable
             throwable, ExecutionStrategyParameters parameters) {
@@ -492,7 +506,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
 
         Set<ResultPathWithDataLoader> resultPathWithDataLoaders = callStack.levelToResultPathWithDataLoader.get(level);
         if (resultPathWithDataLoaders != null) {
-            Set<String> resultPathToDispatch = callStack.lock.callLocked(() -> {
+            Set<ResultPath> resultPathToDispatch = callStack.lock.callLocked(() -> {
                 callStack.dispatchingStartedPerLevel.add(level);
                 return resultPathWithDataLoaders
                         .stream()
@@ -509,7 +523,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
     }
 
 
-    private void dispatchDLCFImpl(Set<String> resultPathsToDispatch, @Nullable Integer level, CallStack callStack) {
+    private void dispatchDLCFImpl(Set<ResultPath> resultPathsToDispatch, @Nullable Integer level, CallStack callStack) {
 
         // filter out all DataLoaderCFS that are matching the fields we want to dispatch
         List<ResultPathWithDataLoader> relevantResultPathWithDataLoader = new ArrayList<>();
@@ -533,7 +547,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
         }
         List<CompletableFuture> allDispatchedCFs = new ArrayList<>();
         for (ResultPathWithDataLoader resultPathWithDataLoader : relevantResultPathWithDataLoader) {
-            allDispatchedCFs.add(resultPathWithDataLoader.dataLoader.dispatch());
+            allDispatchedCFs.add(dispatchDataLoader(resultPathWithDataLoader, level == null));
         }
         CompletableFuture.allOf(allDispatchedCFs.toArray(new CompletableFuture[0]))
                 .whenComplete((unused, throwable) -> {
@@ -544,7 +558,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
     }
 
 
-    public void newDataLoaderLoadCall(String resultPath, int level, DataLoader dataLoader, String
+    public void newDataLoaderLoadCall(ResultPath resultPath, int level, DataLoader dataLoader, String
             dataLoaderName, Object key, @Nullable AlternativeCallContext alternativeCallContext) {
         if (!enableDataLoaderChaining) {
             return;
@@ -562,11 +576,41 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
         });
         if (levelFinished) {
             newDelayedDataLoader(resultPathWithDataLoader, callStack);
+        } else if (dispatchStatistics != null) {
+            dispatchIfBatchIsFull(resultPathWithDataLoader);
         }
 
 
     }
 
+    private CompletableFuture<?> dispatchDataLoader(ResultPathWithDataLoader resultPathWithDataLoader, boolean delayed) {
+        DataLoader<?, ?> dataLoader = resultPathWithDataLoader.dataLoader;
+        DataLoaderDispatchStatistics statistics = this.dispatchStatistics;
+        if (statistics == null) {
+            return dataLoader.dispatch();
+        }
+        long startNanos = System.nanoTime();
+        DispatchResult<?> dispatchResult = dataLoader.dispatchWithCounts();
+        int batchSize = dispatchResult.getKeysCount();
+        CompletableFuture<?> promisedResults = dispatchResult.getPromisedResults();
+        if (batchSize > 0) {
+            String name = resultPathWithDataLoader.name;
+            promisedResults.whenComplete((values, throwable) -> statistics.recordBatch(name, delayed, batchSize, System.nanoTime() - startNanos));
+        }
+        return promisedResults;
+    }
+
+    /*
+     * a DataLoader with a max batch size can't batch more keys than that, so a full batch doesn't need to wait
+     * for its level to be ready
+     */
+    private void dispatchIfBatchIsFull(ResultPathWithDataLoader resultPathWithDataLoader) {
+        int maxBatchSize = resultPathWithDataLoader.dataLoader.getOptions().maxBatchSize();
+        if (maxBatchSize > 0 && resultPathWithDataLoader.dataLoader.dispatchDepth() >= maxBatchSize) {
+            dispatchDataLoader(resultPathWithDataLoader, false);
+        }
+    }
+
     class DispatchDelayedDataloader implements Runnable {
 
         private final CallStack callStack;
@@ -577,7 +621,7 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
 
         @Override
         public void run() {
-            AtomicReference<Set<String>> resultPathToDispatch = new AtomicReference<>();
+            AtomicReference<Set<ResultPath>> resultPathToDispatch = new AtomicReference<>();
             callStack.lock.runLocked(() -> {
                 resultPathToDispatch.set(new LinkedHashSet<>(callStack.batchWindowOfDelayedDataLoaderToDispatch));
                 callStack.batchWindowOfDelayedDataLoaderToDispatch.clear();
@@ -592,20 +636,25 @@ public class PerLevelDataLoaderDispatchStrategy implements DataLoaderDispatchStr
             callStack.batchWindowOfDelayedDataLoaderToDispatch.add(resultPathWithDataLoader.resultPath);
             if (!callStack.batchWindowOpen) {
                 callStack.batchWindowOpen = true;
-                delayedDataLoaderDispatchExecutor.get().schedule(new DispatchDelayedDataloader(callStack), this.batchWindowNs, TimeUnit.NANOSECONDS);
+                long windowNs = dispatchStatistics == null ? this.batchWindowNs : dispatchStatistics.delayedBatchWindowNanos(resultPathWithDataLoader.name, this.batchWindowNs);
+                delayedDataLoaderDispatchExecutor.get().schedule(new DispatchDelayedDataloader(callStack), windowNs, TimeUnit.NANOSECONDS);
             }
 
         });
+        // no more keys are expected, so there is no point in waiting for the end of the batch window
+        if (dispatchStatistics != null && dispatchStatistics.isDelayedBatchComplete(resultPathWithDataLoader.name, resultPathWithDataLoader.dataLoader.dispatchDepth())) {
+            dispatchDataLoader(resultPathWithDataLoader, true);
+        }
     }
 
     private static class ResultPathWithDataLoader {
-        final String resultPath;
+        final ResultPath resultPath;
         final int level;
         final DataLoader dataLoader;
         final String name;
         final Object key;
 
-        public ResultPathWithDataLoader(String resultPath, int level, DataLoader dataLoader, String name, Object key) {
+        public ResultPathWithDataLoader(ResultPath resultPath, int level, DataLoader dataLoader, String name, Object key) {
             this.resultPath = resultPath;
             this.level = level;
             this.dataLoader = dataLoader;
@@ -0,0 +1,185 @@
+package graphql.execution.instrumentation.metrics;
+
+import graphql.ExperimentalApi;
+import graphql.PublicApi;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldCompleteParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.execution.instrumentation.tracing.TracingInstrumentation;
+import graphql.schema.FieldCoordinates;
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static graphql.Assert.assertTrue;
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.noOp;
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.whenCompleted;
+
+/**
+ * This {@link Instrumentation} aggregates the fetch and completion latencies of every field, by {@link FieldCoordinates},
+ * into {@link LatencyHistogram}s.  Unlike {@link TracingInstrumentation} nothing is kept per request and nothing is added
+ * to the result, instead the latencies are read via {@link #snapshot()} or {@link #snapshotAndReset()}, for example by a
+ * metrics scraper.
+ * <p>
+ * To keep the overhead low only a fraction of the executions can be sampled, see {@link Options#sampleRate(double)}.
+ * The instrumentation is meant to be long-lived and shared by all executions.
+ */
+@ExperimentalApi
+@PublicApi
+public class FieldLatencyInstrumentation extends SimplePerformantInstrumentation {
+
+    public static class Options {
+        private final double sampleRate;
+        private final boolean includeTrivialDataFetchers;
+
+        private Options(double sampleRate, boolean includeTrivialDataFetchers) {
+            this.sampleRate = sampleRate;
+            this.includeTrivialDataFetchers = includeTrivialDataFetchers;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public boolean isIncludeTrivialDataFetchers() {
+            return includeTrivialDataFetchers;
+        }
+
+        /**
+         * By default every execution is sampled, but you can limit this to a fraction of the executions
+         *
+         * @param sampleRate the fraction of executions to sample, between 0 and 1
+         *
+         * @return a new options object
+         */
+        public Options sampleRate(double sampleRate) {
+            assertTrue(sampleRate >= 0 && sampleRate <= 1, () -> "The sample rate must be between 0 and 1");
+            return new Options(sampleRate, includeTrivialDataFetchers);
+        }
+
+        /**
+         * By default the fetch latencies of trivial data fetchers (those that simply pull data from an object into a field)
+         * are not recorded, since they are not interesting and recording them costs more than fetching them.  Their
+         * completion latencies are always recorded.
+         *
+         * @param flag the flag on whether to record the fetch latencies of trivial data fetchers
+         *
+         * @return a new options object
+         */
+        public Options includeTrivialDataFetchers(boolean flag) {
+            return new Options(sampleRate, flag);
+        }
+
+        public static Options newOptions() {
+            return new Options(1, false);
+        }
+    }
+
+    private static final InstrumentationState SAMPLED = new InstrumentationState() {
+    };
+
+    private final Options options;
+    // replaced as a whole on reset, so that recorders never write into maps that are being cleared
+    private volatile Map<String, Map<String, FieldLatencies>> latenciesByType = new ConcurrentHashMap<>();
+
+    public FieldLatencyInstrumentation() {
+        this(Options.newOptions());
+    }
+
+    public FieldLatencyInstrumentation(Options options) {
+        this.options = options;
+    }
+
+    @Override
+    public @Nullable InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        double sampleRate = options.sampleRate;
+        if (sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return SAMPLED;
+        }
+        return null;
+    }
+
+    @Override
+    public @Nullable InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+        if (state != SAMPLED || (parameters.isTrivialDataFetcher() && !options.includeTrivialDataFetchers)) {
+            return noOp();
+        }
+        LatencyHistogram histogram = fieldLatencies(parameters.getExecutionStepInfo()).fetchLatencies;
+        long startNanos = System.nanoTime();
+        return whenCompleted((result, throwable) -> histogram.record(System.nanoTime() - startNanos));
+    }
+
+    @Override
+    public @Nullable InstrumentationContext<Object> beginFieldCompletion(InstrumentationFieldCompleteParameters parameters, InstrumentationState state) {
+        if (state != SAMPLED) {
+            return noOp();
+        }
+        LatencyHistogram histogram = fieldLatencies(parameters.getExecutionStepInfo()).completionLatencies;
+        long startNanos = System.nanoTime();
+        return whenCompleted((result, throwable) -> histogram.record(System.nanoTime() - startNanos));
+    }
+
+    private FieldLatencies fieldLatencies(ExecutionStepInfo executionStepInfo) {
+        String typeName = executionStepInfo.getObjectType().getName();
+        String fieldName = executionStepInfo.getFieldDefinition().getName();
+        Map<String, Map<String, FieldLatencies>> latenciesByType = this.latenciesByType;
+        Map<String, FieldLatencies> latenciesByField = latenciesByType.get(typeName);
+        if (latenciesByField == null) {
+            latenciesByField = latenciesByType.computeIfAbsent(typeName, k -> new ConcurrentHashMap<>());
+        }
+        FieldLatencies fieldLatencies = latenciesByField.get(fieldName);
+        if (fieldLatencies == null) {
+            fieldLatencies = latenciesByField.computeIfAbsent(fieldName, k -> new FieldLatencies());
+        }
+        return fieldLatencies;
+    }
+
+    /**
+     * @return the latencies of all the fields recorded so far
+     */
+    public Map<FieldCoordinates, FieldLatencySnapshot> snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Takes a snapshot of all the fields and resets their latencies, so that each snapshot covers the latencies since
+     * the previous one
+     *
+     * @return the latencies of all the fields recorded since the last reset
+     */
+    public Map<FieldCoordinates, FieldLatencySnapshot> snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    /**
+     * Forgets all the recorded latencies, including the fields they were recorded for.  Latencies that are being recorded
+     * while this happens may go to the forgotten fields.
+     */
+    public void reset() {
+        latenciesByType = new ConcurrentHashMap<>();
+    }
+
+    private Map<FieldCoordinates, FieldLatencySnapshot> snapshot(boolean reset) {
+        Map<FieldCoordinates, FieldLatencySnapshot> snapshot = new LinkedHashMap<>();
+        latenciesByType.forEach((typeName, latenciesByField) -> latenciesByField.forEach((fieldName, fieldLatencies) -> {
+            FieldCoordinates coordinates = FieldCoordinates.coordinates(typeName, fieldName);
+            LatencyHistogram.Snapshot fetch = reset ? fieldLatencies.fetchLatencies.snapshotAndReset() : fieldLatencies.fetchLatencies.snapshot();
+            LatencyHistogram.Snapshot completion = reset ? fieldLatencies.completionLatencies.snapshotAndReset() : fieldLatencies.completionLatencies.snapshot();
+            snapshot.put(coordinates, new FieldLatencySnapshot(coordinates, fetch, completion));
+        }));
+        return snapshot;
+    }
+
+    private static class FieldLatencies {
+        private final LatencyHistogram fetchLatencies = new LatencyHistogram();
+        private final LatencyHistogram completionLatencies = new LatencyHistogram();
+    }
+}
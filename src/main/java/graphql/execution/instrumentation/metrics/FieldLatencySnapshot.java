@@ -0,0 +1,50 @@
+package graphql.execution.instrumentation.metrics;
+
+import graphql.ExperimentalApi;
+import graphql.PublicApi;
+import graphql.schema.FieldCoordinates;
+
+/**
+ * The fetch and completion latencies of one field as captured by {@link FieldLatencyInstrumentation}
+ */
+@ExperimentalApi
+@PublicApi
+public class FieldLatencySnapshot {
+    private final FieldCoordinates coordinates;
+    private final LatencyHistogram.Snapshot fetchLatencies;
+    private final LatencyHistogram.Snapshot completionLatencies;
+
+    FieldLatencySnapshot(FieldCoordinates coordinates, LatencyHistogram.Snapshot fetchLatencies, LatencyHistogram.Snapshot completionLatencies) {
+        this.coordinates = coordinates;
+        this.fetchLatencies = fetchLatencies;
+        this.completionLatencies = completionLatencies;
+    }
+
+    public FieldCoordinates getCoordinates() {
+        return coordinates;
+    }
+
+    /**
+     * @return the latencies from invoking the data fetcher until its value was available
+     */
+    public LatencyHistogram.Snapshot getFetchLatencies() {
+        return fetchLatencies;
+    }
+
+    /**
+     * @return the latencies from starting to complete the fetched value until it was completed, which includes the
+     * latencies of any sub selection
+     */
+    public LatencyHistogram.Snapshot getCompletionLatencies() {
+        return completionLatencies;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldLatencySnapshot{" +
+                "coordinates=" + coordinates +
+                ", fetchLatencies=" + fetchLatencies +
+                ", completionLatencies=" + completionLatencies +
+                '}';
+    }
+}
@@ -0,0 +1,209 @@
+package graphql.execution.instrumentation.metrics;
+
+import graphql.ExperimentalApi;
+import graphql.PublicApi;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A lock free histogram of latencies in nanoseconds.
+ * <p>
+ * Like an HDR histogram the values are counted in buckets that grow exponentially, with 16 linear sub buckets for each
+ * power of two, so that any recorded value is reported with a relative error of at most 1/16.  Values above
+ * {@link #MAX_TRACKABLE_NANOS} (about 68 seconds) are counted as that value.
+ * <p>
+ * To avoid contention the counts are striped by recording thread and only merged when a {@link Snapshot} is taken.
+ * The stripes are allocated on first use by a thread that maps to them.
+ */
+@ExperimentalApi
+@PublicApi
+public class LatencyHistogram {
+
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+    private static final int MAX_STRIPES = 8;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int stripeMask;
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        int stripeCount = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES));
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records one latency
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        stripe().incrementAndGet(bucketIndex(value));
+        totalNanos.add(value);
+    }
+
+    /**
+     * @return a snapshot of the latencies recorded so far
+     */
+    public Snapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Takes a snapshot and resets the histogram in one go.  No recorded latency is lost or counted twice, although a
+     * latency that is recorded concurrently may be reflected in the mean of one snapshot and the counts of the next.
+     *
+     * @return a snapshot of the latencies recorded since the last reset
+     */
+    public Snapshot snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private Snapshot snapshot(boolean reset) {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int s = 0; s < stripes.length(); s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += reset ? stripe.getAndSet(i, 0) : stripe.get(i);
+            }
+        }
+        long total = reset ? totalNanos.sumThenReset() : totalNanos.sum();
+        return new Snapshot(counts, total);
+    }
+
+    private AtomicLongArray stripe() {
+        int index = System.identityHashCode(Thread.currentThread()) & stripeMask;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long highest = ((SUB_BUCKET_COUNT + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+        return Math.min(highest, MAX_TRACKABLE_NANOS);
+    }
+
+    /**
+     * An immutable view of the latencies recorded by a {@link LatencyHistogram}
+     */
+    @ExperimentalApi
+    @PublicApi
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+
+        private Snapshot(long[] counts, long totalNanos) {
+            this.counts = counts;
+            long count = 0;
+            for (long c : counts) {
+                count += c;
+            }
+            this.count = count;
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * @return the number of recorded latencies
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the mean latency in nanoseconds or 0 if nothing was recorded
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * @return the highest recorded latency in nanoseconds, within the precision of the histogram
+         */
+        public long getMax() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return highestValueInBucket(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the latency that the given percentage of the recorded latencies are at or below, eg
+         * {@code getValueAtPercentile(99)} is the p99 latency
+         *
+         * @param percentile the percentile between 0 and 100
+         *
+         * @return the latency in nanoseconds, within the precision of the histogram, or 0 if nothing was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            assertTrue(percentile >= 0 && percentile <= 100, () -> "The percentile must be between 0 and 100");
+            if (count == 0) {
+                return 0;
+            }
+            long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= countAtPercentile) {
+                    return highestValueInBucket(i);
+                }
+            }
+            return getMax();
+        }
+
+        /**
+         * @param percentile the percentile between 0 and 100
+         * @param unit       the unit to return the latency in
+         *
+         * @return the latency at the percentile converted to the given unit
+         *
+         * @see #getValueAtPercentile(double)
+         */
+        public long getValueAtPercentile(double percentile, TimeUnit unit) {
+            return unit.convert(getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "count=" + count +
+                    ", mean=" + getMean() +
+                    ", p50=" + getValueAtPercentile(50) +
+                    ", p99=" + getValueAtPercentile(99) +
+                    ", max=" + getMax() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package graphql.execution.preparsed;
+
+import graphql.ExecutionInput;
+import graphql.ExperimentalApi;
+import graphql.Internal;
+import graphql.PublicApi;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A {@link PreparsedDocumentProvider} that caches the parsed and validated documents of queries in a bounded cache,
+ * keyed by the query text and operation name.
+ * <p>
+ * The size of the cache is bounded by the total weight of its entries, where the weight of an entry is the number of
+ * characters of its query, which the size of the parsed document is proportional to.  When the cache is full, entries
+ * are evicted with a W-TinyLFU like policy: new entries go into a small LRU admission window, and when they leave the
+ * window they only replace an entry of the main cache if they were requested more often, as estimated by a frequency
+ * sketch.  This keeps the frequently used queries cached, even when there are many one-off queries, for example those
+ * varied by an attacker.
+ * <p>
+ * Concurrent misses for the same query each parse and validate it.  The cache does not know about the schema, so it
+ * must be {@link #invalidateAll() invalidated} when the schema changes.
+ */
+@ExperimentalApi
+@PublicApi
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    /**
+     * The default maximum weight, which is the total number of query characters that are cached
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 1_000_000;
+
+    private final Map<CacheKey, Node> cache = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final long maximumWeight;
+    private final long windowMaximumWeight;
+    private final long protectedMaximumWeight;
+
+    // guarded by lock
+    private final AccessOrderDeque window = new AccessOrderDeque(Region.WINDOW);
+    private final AccessOrderDeque probation = new AccessOrderDeque(Region.PROBATION);
+    private final AccessOrderDeque protectedDeque = new AccessOrderDeque(Region.PROTECTED);
+    private final FrequencySketch frequencySketch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public CachingPreparsedDocumentProvider() {
+        this(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * @param maximumWeight the maximum total number of query characters to cache
+     */
+    public CachingPreparsedDocumentProvider(long maximumWeight) {
+        assertTrue(maximumWeight > 0, () -> "maximumWeight must be positive");
+        this.maximumWeight = maximumWeight;
+        this.windowMaximumWeight = Math.max(1, maximumWeight / 100);
+        this.protectedMaximumWeight = (maximumWeight - windowMaximumWeight) * 8 / 10;
+        // assume an average query of about 100 characters to size the sketch
+        this.frequencySketch = new FrequencySketch(maximumWeight / 100);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        CacheKey key = new CacheKey(executionInput.getQuery(), executionInput.getOperationName());
+        Node node = cache.get(key);
+        if (node != null) {
+            hitCount.increment();
+            // like a lossy read buffer: under contention the access is not recorded rather than waited for
+            if (lock.tryLock()) {
+                try {
+                    onAccess(node);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return CompletableFuture.completedFuture(node.entry);
+        }
+        missCount.increment();
+        PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+        lock.lock();
+        try {
+            onMiss(key, entry);
+        } finally {
+            lock.unlock();
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Removes all the cached documents, for example after a schema change
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            cache.clear();
+            window.clear();
+            probation.clear();
+            protectedDeque.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of this cache
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), cache.size(),
+                    window.weight + probation.weight + protectedDeque.weight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // guarded by lock
+    private void onAccess(Node node) {
+        if (node.region == null) {
+            // evicted concurrently
+            return;
+        }
+        frequencySketch.increment(node.key.hashCode());
+        if (node.region == Region.WINDOW) {
+            window.moveToTail(node);
+        } else if (node.region == Region.PROBATION) {
+            probation.remove(node);
+            protectedDeque.addLast(node);
+            demoteFromProtected();
+        } else {
+            protectedDeque.moveToTail(node);
+        }
+    }
+
+    // guarded by lock
+    private void onMiss(CacheKey key, PreparsedDocumentEntry entry) {
+        frequencySketch.increment(key.hashCode());
+        long weight = key.weight();
+        if (weight > maximumWeight || cache.containsKey(key)) {
+            return;
+        }
+        Node node = new Node(key, entry, weight);
+        cache.put(key, node);
+        window.addLast(node);
+        evict();
+    }
+
+    // guarded by lock
+    private void demoteFromProtected() {
+        while (protectedDeque.weight > protectedMaximumWeight) {
+            Node demoted = protectedDeque.removeFirst();
+            probation.addLast(demoted);
+        }
+    }
+
+    // guarded by lock
+    private void evict() {
+        // the entries that leave the window become candidates at the end of the probation queue
+        while (window.weight > windowMaximumWeight) {
+            probation.addLast(window.removeFirst());
+        }
+        while (window.weight + probation.weight + protectedDeque.weight > maximumWeight) {
+            Node victim = probation.peekFirst();
+            Node candidate = probation.peekLast();
+            if (victim == null) {
+                victim = protectedDeque.peekFirst() != null ? protectedDeque.peekFirst() : window.peekFirst();
+                evict(victim);
+            } else if (victim == candidate) {
+                evict(victim);
+            } else if (frequencySketch.frequency(candidate.key.hashCode()) > frequencySketch.frequency(victim.key.hashCode())) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    // guarded by lock
+    private void evict(Node node) {
+        if (node.region == Region.WINDOW) {
+            window.remove(node);
+        } else if (node.region == Region.PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedDeque.remove(node);
+        }
+        cache.remove(node.key, node);
+        evictionCount.increment();
+    }
+
+    /**
+     * The statistics of a {@link CachingPreparsedDocumentProvider}
+     */
+    @ExperimentalApi
+    @PublicApi
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long entryCount;
+        private final long weightedSize;
+
+        private Stats(long hitCount, long missCount, long evictionCount, long entryCount, long weightedSize) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.entryCount = entryCount;
+            this.weightedSize = weightedSize;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the fraction of requests that were hits or 1 if there were no requests
+         */
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1 : (double) hitCount / requestCount;
+        }
+
+        /**
+         * @return the number of entries that were evicted or not admitted into the cache
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getEntryCount() {
+            return entryCount;
+        }
+
+        /**
+         * @return the total weight of the cached entries
+         */
+        public long getWeightedSize() {
+            return weightedSize;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    ", entryCount=" + entryCount +
+                    ", weightedSize=" + weightedSize +
+                    '}';
+        }
+    }
+
+    private static class CacheKey {
+        private final String query;
+        private final String operationName;
+        private final int hash;
+
+        CacheKey(String query, String operationName) {
+            this.query = query;
+            this.operationName = operationName;
+            this.hash = 31 * query.hashCode() + Objects.hashCode(operationName);
+        }
+
+        long weight() {
+            return Math.max(1, query.length() + (operationName == null ? 0 : operationName.length()));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return hash == that.hash && query.equals(that.query) && Objects.equals(operationName, that.operationName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private enum Region {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static class Node {
+        private final CacheKey key;
+        private final PreparsedDocumentEntry entry;
+        private final long weight;
+        private Region region;
+        private Node prev;
+        private Node next;
+
+        Node(CacheKey key, PreparsedDocumentEntry entry, long weight) {
+            this.key = key;
+            this.entry = entry;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A doubly linked queue of nodes from least to most recently used
+     */
+    private static class AccessOrderDeque {
+        private final Region region;
+        private Node first;
+        private Node last;
+        private long weight;
+
+        AccessOrderDeque(Region region) {
+            this.region = region;
+        }
+
+        Node peekFirst() {
+            return first;
+        }
+
+        Node peekLast() {
+            return last;
+        }
+
+        void addLast(Node node) {
+            node.region = region;
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            weight += node.weight;
+        }
+
+        Node removeFirst() {
+            Node node = first;
+            remove(node);
+            return node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.region = null;
+            weight -= node.weight;
+        }
+
+        void moveToTail(Node node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            for (Node node = first; node != null; node = node.next) {
+                node.region = null;
+            }
+            first = null;
+            last = null;
+            weight = 0;
+        }
+    }
+
+    /**
+     * A count-min sketch with 4 bit counters that estimates how often a key has been requested.  The counters are
+     * halved periodically so that the estimates reflect recent popularity.
+     */
+    @Internal
+    static class FrequencySketch {
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long expectedEntries) {
+            int size = (int) Math.min(1 << 20, Math.max(64, Long.highestOneBit(Math.max(1, expectedEntries - 1)) << 1));
+            this.table = new long[size];
+            this.sampleSize = size * 10;
+        }
+
+        int frequency(int hash) {
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offsetOf(hash, i)) & 0xF));
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = offsetOf(hash, i);
+                if (((table[index] >>> offset) & 0xF) != 0xF) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private long mix(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return h ^ (h >>> 32);
+        }
+
+        private int indexOf(int hash, int i) {
+            return (int) mix(hash, i) & (table.length - 1);
+        }
+
+        // each long holds 16 counters of 4 bits
+        private int offsetOf(int hash, int i) {
+            return (int) ((mix(hash, i) >>> 40) & 0xF) << 2;
+        }
+    }
+}
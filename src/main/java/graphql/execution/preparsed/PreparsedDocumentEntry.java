@@ -1,8 +1,11 @@
 package graphql.execution.preparsed;
 
 import graphql.GraphQLError;
+import graphql.Internal;
 import graphql.PublicApi;
+import graphql.execution.ExecutionPlan;
 import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
 
 import java.io.Serializable;
 import java.util.List;
@@ -24,6 +27,8 @@ import static java.util.Collections.singletonList;
 public class PreparsedDocumentEntry implements Serializable {
     private final Document document;
     private final List<? extends GraphQLError> errors;
+    // plans are rebuilt on demand and hence are never serialised
+    private transient volatile ExecutionPlan executionPlan;
 
     public PreparsedDocumentEntry(Document document,
                                   List<? extends GraphQLError> errors) {
@@ -60,4 +65,23 @@ public class PreparsedDocumentEntry implements Serializable {
     public boolean hasErrors() {
         return errors != null && !errors.isEmpty();
     }
+
+    /**
+     * Returns the {@link ExecutionPlan} for this document and the given schema, compiling a new one if
+     * there is none yet or if the schema has changed since it was compiled.
+     *
+     * @param graphQLSchema the schema the document is being executed against
+     *
+     * @return the execution plan for this document
+     */
+    @Internal
+    public ExecutionPlan getExecutionPlan(GraphQLSchema graphQLSchema) {
+        assertNotNull(document);
+        ExecutionPlan plan = executionPlan;
+        if (plan == null || plan.getGraphQLSchema() != graphQLSchema) {
+            plan = ExecutionPlan.compile(graphQLSchema, document);
+            executionPlan = plan;
+        }
+        return plan;
+    }
 }
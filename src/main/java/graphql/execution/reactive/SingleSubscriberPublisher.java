@@ -5,7 +5,10 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 import static graphql.Assert.assertNotNull;
@@ -35,6 +38,7 @@ public class SingleSubscriberPublisher<T> implements Publisher<T> {
     private boolean running = true;
     private boolean noMoreData = false;
     private long demand = 0;
+    private final List<CompletableFuture<Void>> demandWaiters = new ArrayList<>();
 
     /**
      * Constructs a publisher with no callback when subscribed
@@ -77,6 +81,29 @@ public class SingleSubscriberPublisher<T> implements Publisher<T> {
         });
     }
 
+    /**
+     * Allows the producing code to apply back pressure, that is to only produce data once the subscriber
+     * has asked for more than has already been offered.
+     *
+     * @return a promise that completes once the subscriber demands more data than is buffered
+     */
+    public CompletableFuture<Void> whenDemanded() {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        mutex.execute(() -> {
+            demandWaiters.add(waiter);
+            notifyDemandWaitersInMutex();
+        });
+        return waiter;
+    }
+
+    private void notifyDemandWaitersInMutex() {
+        if (running && subscriber != null && demand > dataQ.size() && !demandWaiters.isEmpty()) {
+            List<CompletableFuture<Void>> waiters = new ArrayList<>(demandWaiters);
+            demandWaiters.clear();
+            waiters.forEach(waiter -> waiter.complete(null));
+        }
+    }
+
     public void offerError(Throwable t) {
         mutex.execute(() -> {
             pendingThrowable = t;
@@ -165,6 +192,7 @@ public class SingleSubscriberPublisher<T> implements Publisher<T> {
                         if (old == 0) {
                             maybeReadInMutex();
                         }
+                        notifyDemandWaitersInMutex();
                     }
                 }
             });
@@ -0,0 +1,92 @@
+package graphql.execution.sink;
+
+import graphql.ExperimentalApi;
+import graphql.GraphQLError;
+import graphql.PublicSpi;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An execution result sink is given the parts of an {@link graphql.ExecutionResult}, root field by root field, so that
+ * they can be serialized straight to the wire rather than first being turned into a specification map via
+ * {@link graphql.ExecutionResult#toSpecification()}.
+ * <p>
+ * This is per root field delivery, not streaming of the values themselves.  Each root field is handed over as its
+ * complete value, which has been built in full by the execution, so the peak memory of a single large root field is
+ * not reduced.  What is saved is the specification copy of the result and the holding back of root fields that are
+ * complete while later ones are still being fetched.
+ * <p>
+ * The calls are made in specification order and look like this
+ * <pre>
+ * {@code
+ *    (beginData dataField* endData | nullData)? errors? extensions? end
+ * }
+ * </pre>
+ * The root fields of a query may be handed to {@link #dataField(String, Object)} while the execution is still running, as
+ * soon as a root field and all the root fields before it are complete.  This is only done when what has been written
+ * cannot change anymore, that is when all the root fields are nullable and no
+ * {@link graphql.execution.instrumentation.Instrumentation} overrides
+ * {@link graphql.execution.instrumentation.Instrumentation#instrumentExecutionResult}.  Otherwise the data is given to
+ * the sink once the execution is complete and the instrumentation is done with it.
+ * <p>
+ * When root fields have been delivered early the sink holds the result.  The values of those root fields are then not
+ * kept in the data of the returned {@link graphql.ExecutionResult}, those root fields are null there, while its errors
+ * and extensions are complete.
+ * <p>
+ * The sink is always given a well-formed result.  If the execution is aborted after root fields have been delivered,
+ * the root fields that have not been written yet are written as null and the errors say why the execution was aborted.
+ * If the execution fails with an exception, the sink is given a single error and the returned promise fails as usual.
+ * <p>
+ * The calls are made one at a time but may be made from different threads.
+ *
+ * @see graphql.GraphQLUnusualConfiguration.ResultSinkConfig
+ * @see JsonExecutionResultSink
+ */
+@ExperimentalApi
+@PublicSpi
+public interface ExecutionResultSink {
+
+    /**
+     * Called before the first data field
+     */
+    void beginData();
+
+    /**
+     * Called for each root field of the data in response order
+     *
+     * @param name  the result key of the root field
+     * @param value the complete value of the root field
+     */
+    void dataField(String name, @Nullable Object value);
+
+    /**
+     * Called after the last data field
+     */
+    void endData();
+
+    /**
+     * Called instead of {@link #beginData()} and {@link #endData()} if the data is present but null
+     */
+    void nullData();
+
+    /**
+     * Called if there are errors
+     *
+     * @param errors the non-empty list of errors
+     */
+    void errors(List<GraphQLError> errors);
+
+    /**
+     * Called if there are extensions
+     *
+     * @param extensions the extensions
+     */
+    void extensions(Map<Object, Object> extensions);
+
+    /**
+     * Called once the result has been completely given to the sink
+     */
+    void end();
+}
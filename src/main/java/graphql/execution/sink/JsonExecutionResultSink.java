@@ -0,0 +1,265 @@
+package graphql.execution.sink;
+
+import graphql.ExperimentalApi;
+import graphql.GraphQLError;
+import graphql.PublicApi;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * An {@link ExecutionResultSink} that writes the result as JSON to a {@link Writer}.  The writer is flushed after each
+ * root field and at the end, but it is never closed.
+ * <p>
+ * Maps are written as JSON objects, iterables and arrays as JSON arrays, strings, numbers and booleans as themselves
+ * and any other value via its {@link Object#toString()} as a JSON string.
+ * <p>
+ * {@link IOException}s are rethrown as {@link UncheckedIOException}s
+ */
+@ExperimentalApi
+@PublicApi
+public class JsonExecutionResultSink implements ExecutionResultSink {
+
+    // valid in JSON but not in javascript strings
+    private static final char LINE_SEPARATOR = (char) 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = (char) 0x2029;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private boolean firstEntry = true;
+    private boolean firstDataField = true;
+
+    public JsonExecutionResultSink(Writer writer) {
+        this.writer = assertNotNull(writer);
+    }
+
+    /**
+     * @param outputStream the stream to write UTF-8 encoded JSON to
+     *
+     * @return a sink that writes to the output stream
+     */
+    public static JsonExecutionResultSink forOutputStream(OutputStream outputStream) {
+        return new JsonExecutionResultSink(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param channel the channel to write UTF-8 encoded JSON to
+     *
+     * @return a sink that writes to the channel
+     */
+    public static JsonExecutionResultSink forChannel(WritableByteChannel channel) {
+        return new JsonExecutionResultSink(new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void beginData() {
+        try {
+            entryName("data");
+            writer.write('{');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void dataField(String name, @Nullable Object value) {
+        try {
+            if (!firstDataField) {
+                writer.write(',');
+            }
+            firstDataField = false;
+            writeString(name);
+            writer.write(':');
+            writeValue(value);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void endData() {
+        try {
+            writer.write('}');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void nullData() {
+        try {
+            entryName("data");
+            writer.write("null");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void errors(List<GraphQLError> errors) {
+        try {
+            entryName("errors");
+            writer.write('[');
+            boolean first = true;
+            for (GraphQLError error : errors) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeValue(error.toSpecification());
+            }
+            writer.write(']');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void extensions(Map<Object, Object> extensions) {
+        try {
+            entryName("extensions");
+            writeValue(extensions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void end() {
+        try {
+            if (firstEntry) {
+                writer.write('{');
+            }
+            writer.write('}');
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void entryName(String name) throws IOException {
+        writer.write(firstEntry ? '{' : ',');
+        firstEntry = false;
+        writeString(name);
+        writer.write(':');
+    }
+
+    private void writeValue(@Nullable Object value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writer.write(value.toString());
+        } else if (value instanceof Number) {
+            writeNumber((Number) value);
+        } else if (value instanceof Map) {
+            writer.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()));
+                writer.write(':');
+                writeValue(entry.getValue());
+            }
+            writer.write('}');
+        } else if (value instanceof Iterable) {
+            writer.write('[');
+            boolean first = true;
+            for (Object item : (Iterable<?>) value) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeValue(item);
+            }
+            writer.write(']');
+        } else if (value.getClass().isArray()) {
+            writer.write('[');
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(Array.get(value, i));
+            }
+            writer.write(']');
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeNumber(Number number) throws IOException {
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                // JSON has no representation for these
+                writer.write("null");
+                return;
+            }
+        }
+        writer.write(number.toString());
+    }
+
+    private void writeString(String s) throws IOException {
+        writer.write('"');
+        int start = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != LINE_SEPARATOR && c != PARAGRAPH_SEPARATOR) {
+                continue;
+            }
+            writer.write(s, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                case '\b':
+                    writer.write("\\b");
+                    break;
+                case '\f':
+                    writer.write("\\f");
+                    break;
+                default:
+                    writer.write("\\u");
+                    writer.write(HEX[(c >> 12) & 0xF]);
+                    writer.write(HEX[(c >> 8) & 0xF]);
+                    writer.write(HEX[(c >> 4) & 0xF]);
+                    writer.write(HEX[c & 0xF]);
+            }
+        }
+        writer.write(s, start, length - start);
+        writer.write('"');
+    }
+}
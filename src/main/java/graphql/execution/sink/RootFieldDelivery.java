@@ -0,0 +1,278 @@
+package graphql.execution.sink;
+
+import graphql.ExecutionResult;
+import graphql.ExperimentalApi;
+import graphql.GraphQLContext;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.Internal;
+import graphql.execution.ExecutionContext;
+import graphql.execution.ExecutionStrategyParameters;
+import graphql.execution.FieldValueInfo;
+import graphql.execution.MergedField;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.introspection.Introspection;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLTypeUtil;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hands the parts of one execution result to the {@link ExecutionResultSink} of that execution, in specification order.
+ * The root fields of a query can be handed over one by one as they complete, each as its complete value.
+ * <p>
+ * The sink is only ever called while holding the lock of this object, so the calls are made one at a time.
+ */
+@Internal
+public class RootFieldDelivery {
+
+    /**
+     * The key in the {@link GraphQLContext} that holds the {@link ExecutionResultSink} of an execution
+     */
+    public static final String RESULT_SINK = ExecutionResultSink.class.getCanonicalName();
+
+    private static final String DELIVERY = RootFieldDelivery.class.getCanonicalName();
+
+    private final ExecutionResultSink sink;
+    // root fields that have been written cannot be changed by the instrumentation anymore
+    private final boolean resultsRewritten;
+
+    // the root fields being delivered, guarded by this
+    private List<String> rootFieldNames = Collections.emptyList();
+    private Object[] rootFieldValues = new Object[0];
+    private boolean[] rootFieldsCompleted = new boolean[0];
+    private Throwable[] rootFieldFailures = new Throwable[0];
+    private List<CompletableFuture<Object>> rootFieldsWritten = Collections.emptyList();
+    private int nextRootField;
+    private boolean dataStarted;
+    private boolean finished;
+
+    private RootFieldDelivery(ExecutionResultSink sink, Instrumentation instrumentation) {
+        this.sink = sink;
+        this.resultsRewritten = rewritesResults(instrumentation);
+    }
+
+    /**
+     * Creates the root field delivery of an execution if a sink has been configured
+     *
+     * @param graphQLContext  the context of the execution
+     * @param instrumentation the instrumentation of the execution
+     *
+     * @return the root field delivery or null if there is no sink
+     */
+    public static @Nullable RootFieldDelivery create(GraphQLContext graphQLContext, Instrumentation instrumentation) {
+        ExecutionResultSink sink = graphQLContext.get(RESULT_SINK);
+        if (sink == null) {
+            return null;
+        }
+        RootFieldDelivery delivery = new RootFieldDelivery(sink, instrumentation);
+        graphQLContext.put(DELIVERY, delivery);
+        return delivery;
+    }
+
+    /**
+     * Starts delivering the root fields of an execution as they complete if that is possible.  That is only done if
+     * no later failure can null the data out and no instrumentation can rewrite it, otherwise it is handed over by
+     * {@link #finish(ExecutionResult, Throwable)}.
+     *
+     * @param executionContext the execution context in play
+     * @param parameters       the parameters of the root fields
+     *
+     * @return the delivery to give the root fields to via {@link #rootField(int, Object)} or null if they are handed over at the end
+     */
+    public static @Nullable RootFieldDelivery deliverRootFields(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+        RootFieldDelivery delivery = executionContext.getGraphQLContext().get(DELIVERY);
+        if (delivery == null || delivery.resultsRewritten || !canDeliverRootFields(executionContext, parameters)) {
+            return null;
+        }
+        return delivery.beginRootFields(parameters.getFields().getKeys()) ? delivery : null;
+    }
+
+    private synchronized boolean beginRootFields(List<String> fieldNames) {
+        if (dataStarted || finished) {
+            return false;
+        }
+        int size = fieldNames.size();
+        rootFieldNames = fieldNames;
+        rootFieldValues = new Object[size];
+        rootFieldsCompleted = new boolean[size];
+        rootFieldFailures = new Throwable[size];
+        rootFieldsWritten = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rootFieldsWritten.add(new CompletableFuture<>());
+        }
+        dataStarted = true;
+        sink.beginData();
+        return true;
+    }
+
+    private static boolean canDeliverRootFields(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+        if (executionContext.getGraphQLContext().getBoolean(ExperimentalApi.ENABLE_INCREMENTAL_SUPPORT)) {
+            return false;
+        }
+        GraphQLObjectType rootType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
+        for (String fieldName : parameters.getFields().getKeys()) {
+            MergedField mergedField = parameters.getFields().getSubField(fieldName);
+            GraphQLFieldDefinition fieldDefinition = Introspection.getFieldDefinition(executionContext.getGraphQLSchema(), rootType, mergedField.getName());
+            if (GraphQLTypeUtil.isNonNull(fieldDefinition.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Only the inherited instrumentExecutionResult hooks leave the result alone.  If in doubt the result is
+     * considered rewritten.
+     */
+    private static boolean rewritesResults(Instrumentation instrumentation) {
+        if (instrumentation instanceof ChainedInstrumentation) {
+            return ((ChainedInstrumentation) instrumentation).getInstrumentations().stream().anyMatch(RootFieldDelivery::rewritesResults);
+        }
+        try {
+            Class<?> declaringClass = instrumentation.getClass()
+                    .getMethod("instrumentExecutionResult", ExecutionResult.class, InstrumentationExecutionParameters.class, InstrumentationState.class)
+                    .getDeclaringClass();
+            return declaringClass != Instrumentation.class && declaringClass != SimplePerformantInstrumentation.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Gives a dispatched root field to the delivery.  It is handed to the sink as soon as it and the root fields before it
+     * are complete.
+     *
+     * @param index          the index of the root field in response order
+     * @param fieldValueInfo the {@link FieldValueInfo} of the root field or a promise to it
+     */
+    @SuppressWarnings("unchecked")
+    public void rootField(int index, Object /* CompletableFuture<FieldValueInfo> | FieldValueInfo */ fieldValueInfo) {
+        if (fieldValueInfo instanceof CompletableFuture) {
+            ((CompletableFuture<FieldValueInfo>) fieldValueInfo).whenComplete((info, throwable) -> {
+                if (throwable != null) {
+                    rootFieldCompleted(index, null, throwable);
+                } else {
+                    rootField(index, info);
+                }
+            });
+        } else {
+            ((FieldValueInfo) fieldValueInfo).getFieldValueFuture().whenComplete((value, throwable) -> rootFieldCompleted(index, value, throwable));
+        }
+    }
+
+    /**
+     * The value of a delivered root field is not kept once it has been handed to the sink, so this promise completes
+     * with null rather than with the value.  It fails if the root field failed.
+     *
+     * @param index the index of the root field in response order
+     *
+     * @return a promise that completes once the root field has been handed to the sink
+     */
+    public CompletableFuture<Object> rootFieldWritten(int index) {
+        return rootFieldsWritten.get(index);
+    }
+
+    private void rootFieldCompleted(int index, @Nullable Object value, @Nullable Throwable throwable) {
+        int from;
+        int to;
+        RuntimeException sinkFailure = null;
+        synchronized (this) {
+            rootFieldValues[index] = value;
+            rootFieldFailures[index] = throwable;
+            rootFieldsCompleted[index] = true;
+            if (finished) {
+                return;
+            }
+            from = nextRootField;
+            try {
+                while (nextRootField < rootFieldNames.size() && rootFieldsCompleted[nextRootField]) {
+                    // a failed root field fails the execution as a whole, the errors will say why
+                    sink.dataField(rootFieldNames.get(nextRootField), rootFieldValues[nextRootField]);
+                    rootFieldValues[nextRootField] = null;
+                    nextRootField++;
+                }
+            } catch (RuntimeException e) {
+                // the sink is broken, so stop writing to it and fail the execution
+                finished = true;
+                sinkFailure = e;
+            }
+            to = nextRootField;
+        }
+        for (int i = from; i < to; i++) {
+            if (rootFieldFailures[i] != null) {
+                rootFieldsWritten.get(i).completeExceptionally(rootFieldFailures[i]);
+            } else {
+                rootFieldsWritten.get(i).complete(null);
+            }
+        }
+        if (sinkFailure != null) {
+            for (int i = to; i < rootFieldsWritten.size(); i++) {
+                rootFieldsWritten.get(i).completeExceptionally(sinkFailure);
+            }
+        }
+    }
+
+    /**
+     * Hands the rest of the result to the sink.
+     * <p>
+     * If root fields have been delivered but the execution did not complete them, because it was aborted or failed, the
+     * root fields that have not been written yet are written as null, so the sink is always given a well-formed result
+     * whose errors say what went wrong.
+     *
+     * @param executionResult the final execution result or null if the execution failed
+     * @param throwable       the failure of the execution or null if it completed
+     */
+    public synchronized void finish(@Nullable ExecutionResult executionResult, @Nullable Throwable throwable) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (throwable != null) {
+            executionResult = failedResult();
+        }
+        Object data = executionResult.isDataPresent() ? executionResult.getData() : null;
+        if (dataStarted) {
+            for (; nextRootField < rootFieldNames.size(); nextRootField++) {
+                String fieldName = rootFieldNames.get(nextRootField);
+                sink.dataField(fieldName, data instanceof Map ? ((Map<?, ?>) data).get(fieldName) : null);
+            }
+            sink.endData();
+        } else if (executionResult.isDataPresent()) {
+            if (data instanceof Map) {
+                sink.beginData();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) data).entrySet()) {
+                    sink.dataField(String.valueOf(entry.getKey()), entry.getValue());
+                }
+                sink.endData();
+            } else if (data == null) {
+                sink.nullData();
+            }
+        }
+        List<GraphQLError> errors = executionResult.getErrors();
+        if (!errors.isEmpty()) {
+            sink.errors(errors);
+        }
+        Map<Object, Object> extensions = executionResult.getExtensions();
+        if (extensions != null) {
+            sink.extensions(extensions);
+        }
+        sink.end();
+    }
+
+    private static ExecutionResult failedResult() {
+        // the failure itself is reported by the execution, the client is only told that there is no result
+        GraphQLError error = GraphqlErrorBuilder.newError().message("The execution failed").build();
+        return ExecutionResult.newExecutionResult().addError(error).build();
+    }
+}
@@ -0,0 +1,1181 @@
+package graphql.language;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import graphql.ExperimentalApi;
+import graphql.Internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static graphql.Assert.assertShouldNeverHappen;
+import static graphql.Assert.assertTrue;
+
+/**
+ * A compact binary form of the graphql language AST, so that a {@link Document} that is known at build time can be
+ * parsed once, written out as an artifact and then read back at start up in a fraction of the time parsing takes.
+ * <p>
+ * The format starts with a header made of the {@code GQLB} magic bytes, a format version and the kind of content,
+ * followed by a table of every distinct string and then the nodes, each of which is a tag byte that names its class
+ * followed by its source location, comments, ignored chars, additional data and its own fields.  Integers are
+ * written as variable length ints and strings as ids into the string table, so repeated names cost a byte or two
+ * and are shared by the nodes that are read back.
+ * <p>
+ * Reading back gives an AST equal to the one written, including source locations, comments and ignored chars.
+ * Only the node classes of this package can be written.  The version is bumped whenever the format changes and
+ * bytes written by another version are rejected, so an artifact must be produced by the same graphql-java version
+ * that reads it.
+ *
+ * @see graphql.schema.idl.TypeDefinitionRegistryBinaryFormat
+ */
+@ExperimentalApi
+public class AstBinaryFormat {
+
+    private static final byte[] MAGIC = {'G', 'Q', 'L', 'B'};
+    private static final int VERSION = 1;
+
+    @Internal
+    public static final int KIND_DOCUMENT = 1;
+    @Internal
+    public static final int KIND_TYPE_DEFINITION_REGISTRY = 2;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_DOCUMENT = 1;
+    private static final int TAG_OPERATION_DEFINITION = 2;
+    private static final int TAG_FRAGMENT_DEFINITION = 3;
+    private static final int TAG_VARIABLE_DEFINITION = 4;
+    private static final int TAG_SELECTION_SET = 5;
+    private static final int TAG_FIELD = 6;
+    private static final int TAG_FRAGMENT_SPREAD = 7;
+    private static final int TAG_INLINE_FRAGMENT = 8;
+    private static final int TAG_ARGUMENT = 9;
+    private static final int TAG_DIRECTIVE = 10;
+    private static final int TAG_TYPE_NAME = 11;
+    private static final int TAG_LIST_TYPE = 12;
+    private static final int TAG_NON_NULL_TYPE = 13;
+    private static final int TAG_INT_VALUE = 14;
+    private static final int TAG_FLOAT_VALUE = 15;
+    private static final int TAG_STRING_VALUE = 16;
+    private static final int TAG_BOOLEAN_VALUE = 17;
+    private static final int TAG_NULL_VALUE = 18;
+    private static final int TAG_ENUM_VALUE = 19;
+    private static final int TAG_VARIABLE_REFERENCE = 20;
+    private static final int TAG_ARRAY_VALUE = 21;
+    private static final int TAG_OBJECT_VALUE = 22;
+    private static final int TAG_OBJECT_FIELD = 23;
+    private static final int TAG_SCHEMA_DEFINITION = 24;
+    private static final int TAG_SCHEMA_EXTENSION_DEFINITION = 25;
+    private static final int TAG_OPERATION_TYPE_DEFINITION = 26;
+    private static final int TAG_DIRECTIVE_DEFINITION = 27;
+    private static final int TAG_DIRECTIVE_LOCATION = 28;
+    private static final int TAG_OBJECT_TYPE_DEFINITION = 29;
+    private static final int TAG_OBJECT_TYPE_EXTENSION_DEFINITION = 30;
+    private static final int TAG_INTERFACE_TYPE_DEFINITION = 31;
+    private static final int TAG_INTERFACE_TYPE_EXTENSION_DEFINITION = 32;
+    private static final int TAG_UNION_TYPE_DEFINITION = 33;
+    private static final int TAG_UNION_TYPE_EXTENSION_DEFINITION = 34;
+    private static final int TAG_ENUM_TYPE_DEFINITION = 35;
+    private static final int TAG_ENUM_TYPE_EXTENSION_DEFINITION = 36;
+    private static final int TAG_ENUM_VALUE_DEFINITION = 37;
+    private static final int TAG_SCALAR_TYPE_DEFINITION = 38;
+    private static final int TAG_SCALAR_TYPE_EXTENSION_DEFINITION = 39;
+    private static final int TAG_INPUT_OBJECT_TYPE_DEFINITION = 40;
+    private static final int TAG_INPUT_OBJECT_TYPE_EXTENSION_DEFINITION = 41;
+    private static final int TAG_FIELD_DEFINITION = 42;
+    private static final int TAG_INPUT_VALUE_DEFINITION = 43;
+
+    // the node classes are matched exactly, since the extension definitions are subclasses of the definitions
+    private static final Map<Class<?>, Integer> TAGS = ImmutableMap.<Class<?>, Integer>builder()
+            .put(Document.class, TAG_DOCUMENT)
+            .put(OperationDefinition.class, TAG_OPERATION_DEFINITION)
+            .put(FragmentDefinition.class, TAG_FRAGMENT_DEFINITION)
+            .put(VariableDefinition.class, TAG_VARIABLE_DEFINITION)
+            .put(SelectionSet.class, TAG_SELECTION_SET)
+            .put(Field.class, TAG_FIELD)
+            .put(FragmentSpread.class, TAG_FRAGMENT_SPREAD)
+            .put(InlineFragment.class, TAG_INLINE_FRAGMENT)
+            .put(Argument.class, TAG_ARGUMENT)
+            .put(Directive.class, TAG_DIRECTIVE)
+            .put(TypeName.class, TAG_TYPE_NAME)
+            .put(ListType.class, TAG_LIST_TYPE)
+            .put(NonNullType.class, TAG_NON_NULL_TYPE)
+            .put(IntValue.class, TAG_INT_VALUE)
+            .put(FloatValue.class, TAG_FLOAT_VALUE)
+            .put(StringValue.class, TAG_STRING_VALUE)
+            .put(BooleanValue.class, TAG_BOOLEAN_VALUE)
+            .put(NullValue.class, TAG_NULL_VALUE)
+            .put(EnumValue.class, TAG_ENUM_VALUE)
+            .put(VariableReference.class, TAG_VARIABLE_REFERENCE)
+            .put(ArrayValue.class, TAG_ARRAY_VALUE)
+            .put(ObjectValue.class, TAG_OBJECT_VALUE)
+            .put(ObjectField.class, TAG_OBJECT_FIELD)
+            .put(SchemaDefinition.class, TAG_SCHEMA_DEFINITION)
+            .put(SchemaExtensionDefinition.class, TAG_SCHEMA_EXTENSION_DEFINITION)
+            .put(OperationTypeDefinition.class, TAG_OPERATION_TYPE_DEFINITION)
+            .put(DirectiveDefinition.class, TAG_DIRECTIVE_DEFINITION)
+            .put(DirectiveLocation.class, TAG_DIRECTIVE_LOCATION)
+            .put(ObjectTypeDefinition.class, TAG_OBJECT_TYPE_DEFINITION)
+            .put(ObjectTypeExtensionDefinition.class, TAG_OBJECT_TYPE_EXTENSION_DEFINITION)
+            .put(InterfaceTypeDefinition.class, TAG_INTERFACE_TYPE_DEFINITION)
+            .put(InterfaceTypeExtensionDefinition.class, TAG_INTERFACE_TYPE_EXTENSION_DEFINITION)
+            .put(UnionTypeDefinition.class, TAG_UNION_TYPE_DEFINITION)
+            .put(UnionTypeExtensionDefinition.class, TAG_UNION_TYPE_EXTENSION_DEFINITION)
+            .put(EnumTypeDefinition.class, TAG_ENUM_TYPE_DEFINITION)
+            .put(EnumTypeExtensionDefinition.class, TAG_ENUM_TYPE_EXTENSION_DEFINITION)
+            .put(EnumValueDefinition.class, TAG_ENUM_VALUE_DEFINITION)
+            .put(ScalarTypeDefinition.class, TAG_SCALAR_TYPE_DEFINITION)
+            .put(ScalarTypeExtensionDefinition.class, TAG_SCALAR_TYPE_EXTENSION_DEFINITION)
+            .put(InputObjectTypeDefinition.class, TAG_INPUT_OBJECT_TYPE_DEFINITION)
+            .put(InputObjectTypeExtensionDefinition.class, TAG_INPUT_OBJECT_TYPE_EXTENSION_DEFINITION)
+            .put(FieldDefinition.class, TAG_FIELD_DEFINITION)
+            .put(InputValueDefinition.class, TAG_INPUT_VALUE_DEFINITION)
+            .build();
+
+    private static final int FLAG_COMMENTS = 1;
+    private static final int FLAG_IGNORED_CHARS = 1 << 1;
+    private static final int FLAG_ADDITIONAL_DATA = 1 << 2;
+
+    private static final int LOCATION_NULL = 0;
+    private static final int LOCATION_EMPTY = 1;
+    // lines are written relative to the previous location and the source name only when it changes
+    private static final int LOCATION_SAME_SOURCE = 2;
+    private static final int LOCATION_NEW_SOURCE = 3;
+
+    private static final int DESCRIPTION_NULL = 0;
+    private static final int DESCRIPTION_SINGLE_LINE = 1;
+    private static final int DESCRIPTION_MULTI_LINE = 2;
+
+    private AstBinaryFormat() {
+    }
+
+    /**
+     * Writes a document in the binary format
+     *
+     * @param document the document to write
+     *
+     * @return the bytes of the document
+     */
+    public static byte[] writeDocument(Document document) {
+        Writer writer = new Writer();
+        writer.writeNode(document);
+        return writer.toByteArray(KIND_DOCUMENT);
+    }
+
+    /**
+     * Reads a document that was written by {@link #writeDocument(Document)}
+     *
+     * @param bytes the bytes of the document
+     *
+     * @return the document
+     *
+     * @throws graphql.AssertException if the bytes are not a document written by this version of the format
+     */
+    public static Document readDocument(byte[] bytes) {
+        return readDocument(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads a document that was written by {@link #writeDocument(Document)} from the position to the limit of the
+     * buffer, which are left untouched, so a memory mapped artifact can be read without copying it first
+     *
+     * @param bytes the bytes of the document
+     *
+     * @return the document
+     *
+     * @throws graphql.AssertException if the bytes are not a document written by this version of the format
+     */
+    public static Document readDocument(ByteBuffer bytes) {
+        Reader reader = new Reader(bytes, KIND_DOCUMENT);
+        Node<?> node;
+        try {
+            node = reader.readNode();
+        } catch (ClassCastException e) {
+            // corrupt bytes can put one kind of node where another kind belongs
+            return assertShouldNeverHappen("The binary AST is corrupt");
+        }
+        assertTrue(node instanceof Document, "The binary AST does not hold a document");
+        return (Document) node;
+    }
+
+    /**
+     * Writes AST nodes in the binary format.  The nodes are encoded into a body buffer while their strings are
+     * collected into the string table, which is emitted ahead of the body so that a {@link Reader} can decode
+     * every string once before reading any node.
+     */
+    @Internal
+    public static class Writer {
+
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final ByteSink strings = new ByteSink();
+        private final ByteSink body = new ByteSink();
+        private int previousLine;
+        private String previousSourceName;
+
+        public void writeNode(Node<?> node) {
+            int tag = tagOf(node);
+            body.writeByte(tag);
+            writeNodeData(node);
+            switch (tag) {
+                case TAG_DOCUMENT:
+                    writeNodes(((Document) node).getDefinitions());
+                    break;
+                case TAG_OPERATION_DEFINITION: {
+                    OperationDefinition operationDefinition = (OperationDefinition) node;
+                    writeString(operationDefinition.getName());
+                    OperationDefinition.Operation operation = operationDefinition.getOperation();
+                    writeVarInt(operation == null ? 0 : operation.ordinal() + 1);
+                    writeNodes(operationDefinition.getVariableDefinitions());
+                    writeNodes(operationDefinition.getDirectives());
+                    writeNullableNode(operationDefinition.getSelectionSet());
+                    break;
+                }
+                case TAG_FRAGMENT_DEFINITION: {
+                    FragmentDefinition fragmentDefinition = (FragmentDefinition) node;
+                    writeString(fragmentDefinition.getName());
+                    writeNullableNode(fragmentDefinition.getTypeCondition());
+                    writeNodes(fragmentDefinition.getDirectives());
+                    writeNullableNode(fragmentDefinition.getSelectionSet());
+                    break;
+                }
+                case TAG_VARIABLE_DEFINITION: {
+                    VariableDefinition variableDefinition = (VariableDefinition) node;
+                    writeString(variableDefinition.getName());
+                    writeNullableNode(variableDefinition.getType());
+                    writeNullableNode(variableDefinition.getDefaultValue());
+                    writeNodes(variableDefinition.getDirectives());
+                    break;
+                }
+                case TAG_SELECTION_SET:
+                    writeNodes(((SelectionSet) node).getSelections());
+                    break;
+                case TAG_FIELD: {
+                    Field field = (Field) node;
+                    writeString(field.getName());
+                    writeString(field.getAlias());
+                    writeNodes(field.getArguments());
+                    writeNodes(field.getDirectives());
+                    writeNullableNode(field.getSelectionSet());
+                    break;
+                }
+                case TAG_FRAGMENT_SPREAD: {
+                    FragmentSpread fragmentSpread = (FragmentSpread) node;
+                    writeString(fragmentSpread.getName());
+                    writeNodes(fragmentSpread.getDirectives());
+                    break;
+                }
+                case TAG_INLINE_FRAGMENT: {
+                    InlineFragment inlineFragment = (InlineFragment) node;
+                    writeNullableNode(inlineFragment.getTypeCondition());
+                    writeNodes(inlineFragment.getDirectives());
+                    writeNullableNode(inlineFragment.getSelectionSet());
+                    break;
+                }
+                case TAG_ARGUMENT: {
+                    Argument argument = (Argument) node;
+                    writeString(argument.getName());
+                    writeNullableNode(argument.getValue());
+                    break;
+                }
+                case TAG_DIRECTIVE: {
+                    Directive directive = (Directive) node;
+                    writeString(directive.getName());
+                    writeNodes(directive.getArguments());
+                    break;
+                }
+                case TAG_TYPE_NAME:
+                    writeString(((TypeName) node).getName());
+                    break;
+                case TAG_LIST_TYPE:
+                    writeNullableNode(((ListType) node).getType());
+                    break;
+                case TAG_NON_NULL_TYPE:
+                    writeNullableNode(((NonNullType) node).getType());
+                    break;
+                case TAG_INT_VALUE:
+                    writeBytes(((IntValue) node).getValue().toByteArray());
+                    break;
+                case TAG_FLOAT_VALUE: {
+                    BigDecimal value = ((FloatValue) node).getValue();
+                    writeBytes(value.unscaledValue().toByteArray());
+                    writeVarInt(zigZag(value.scale()));
+                    break;
+                }
+                case TAG_STRING_VALUE:
+                    writeString(((StringValue) node).getValue());
+                    break;
+                case TAG_BOOLEAN_VALUE:
+                    body.writeByte(((BooleanValue) node).isValue() ? 1 : 0);
+                    break;
+                case TAG_NULL_VALUE:
+                    break;
+                case TAG_ENUM_VALUE:
+                    writeString(((EnumValue) node).getName());
+                    break;
+                case TAG_VARIABLE_REFERENCE:
+                    writeString(((VariableReference) node).getName());
+                    break;
+                case TAG_ARRAY_VALUE:
+                    writeNodes(((ArrayValue) node).getValues());
+                    break;
+                case TAG_OBJECT_VALUE:
+                    writeNodes(((ObjectValue) node).getObjectFields());
+                    break;
+                case TAG_OBJECT_FIELD: {
+                    ObjectField objectField = (ObjectField) node;
+                    writeString(objectField.getName());
+                    writeNullableNode(objectField.getValue());
+                    break;
+                }
+                case TAG_SCHEMA_DEFINITION: {
+                    SchemaDefinition schemaDefinition = (SchemaDefinition) node;
+                    writeDescription(schemaDefinition.getDescription());
+                    writeNodes(schemaDefinition.getDirectives());
+                    writeNodes(schemaDefinition.getOperationTypeDefinitions());
+                    break;
+                }
+                case TAG_SCHEMA_EXTENSION_DEFINITION: {
+                    SchemaExtensionDefinition schemaExtensionDefinition = (SchemaExtensionDefinition) node;
+                    writeNodes(schemaExtensionDefinition.getDirectives());
+                    writeNodes(schemaExtensionDefinition.getOperationTypeDefinitions());
+                    break;
+                }
+                case TAG_OPERATION_TYPE_DEFINITION: {
+                    OperationTypeDefinition operationTypeDefinition = (OperationTypeDefinition) node;
+                    writeString(operationTypeDefinition.getName());
+                    writeNullableNode(operationTypeDefinition.getTypeName());
+                    break;
+                }
+                case TAG_DIRECTIVE_DEFINITION: {
+                    DirectiveDefinition directiveDefinition = (DirectiveDefinition) node;
+                    writeString(directiveDefinition.getName());
+                    writeDescription(directiveDefinition.getDescription());
+                    body.writeByte(directiveDefinition.isRepeatable() ? 1 : 0);
+                    writeNodes(directiveDefinition.getInputValueDefinitions());
+                    writeNodes(directiveDefinition.getDirectiveLocations());
+                    break;
+                }
+                case TAG_DIRECTIVE_LOCATION:
+                    writeString(((DirectiveLocation) node).getName());
+                    break;
+                case TAG_OBJECT_TYPE_DEFINITION:
+                case TAG_OBJECT_TYPE_EXTENSION_DEFINITION: {
+                    ObjectTypeDefinition objectTypeDefinition = (ObjectTypeDefinition) node;
+                    writeString(objectTypeDefinition.getName());
+                    writeDescription(objectTypeDefinition.getDescription());
+                    writeNodes(objectTypeDefinition.getImplements());
+                    writeNodes(objectTypeDefinition.getDirectives());
+                    writeNodes(objectTypeDefinition.getFieldDefinitions());
+                    break;
+                }
+                case TAG_INTERFACE_TYPE_DEFINITION:
+                case TAG_INTERFACE_TYPE_EXTENSION_DEFINITION: {
+                    InterfaceTypeDefinition interfaceTypeDefinition = (InterfaceTypeDefinition) node;
+                    writeString(interfaceTypeDefinition.getName());
+                    writeDescription(interfaceTypeDefinition.getDescription());
+                    writeNodes(interfaceTypeDefinition.getImplements());
+                    writeNodes(interfaceTypeDefinition.getDirectives());
+                    writeNodes(interfaceTypeDefinition.getFieldDefinitions());
+                    break;
+                }
+                case TAG_UNION_TYPE_DEFINITION:
+                case TAG_UNION_TYPE_EXTENSION_DEFINITION: {
+                    UnionTypeDefinition unionTypeDefinition = (UnionTypeDefinition) node;
+                    writeString(unionTypeDefinition.getName());
+                    writeDescription(unionTypeDefinition.getDescription());
+                    writeNodes(unionTypeDefinition.getDirectives());
+                    writeNodes(unionTypeDefinition.getMemberTypes());
+                    break;
+                }
+                case TAG_ENUM_TYPE_DEFINITION:
+                case TAG_ENUM_TYPE_EXTENSION_DEFINITION: {
+                    EnumTypeDefinition enumTypeDefinition = (EnumTypeDefinition) node;
+                    writeString(enumTypeDefinition.getName());
+                    writeDescription(enumTypeDefinition.getDescription());
+                    writeNodes(enumTypeDefinition.getDirectives());
+                    writeNodes(enumTypeDefinition.getEnumValueDefinitions());
+                    break;
+                }
+                case TAG_ENUM_VALUE_DEFINITION: {
+                    EnumValueDefinition enumValueDefinition = (EnumValueDefinition) node;
+                    writeString(enumValueDefinition.getName());
+                    writeDescription(enumValueDefinition.getDescription());
+                    writeNodes(enumValueDefinition.getDirectives());
+                    break;
+                }
+                case TAG_SCALAR_TYPE_DEFINITION:
+                case TAG_SCALAR_TYPE_EXTENSION_DEFINITION: {
+                    ScalarTypeDefinition scalarTypeDefinition = (ScalarTypeDefinition) node;
+                    writeString(scalarTypeDefinition.getName());
+                    writeDescription(scalarTypeDefinition.getDescription());
+                    writeNodes(scalarTypeDefinition.getDirectives());
+                    break;
+                }
+                case TAG_INPUT_OBJECT_TYPE_DEFINITION:
+                case TAG_INPUT_OBJECT_TYPE_EXTENSION_DEFINITION: {
+                    InputObjectTypeDefinition inputObjectTypeDefinition = (InputObjectTypeDefinition) node;
+                    writeString(inputObjectTypeDefinition.getName());
+                    writeDescription(inputObjectTypeDefinition.getDescription());
+                    writeNodes(inputObjectTypeDefinition.getDirectives());
+                    writeNodes(inputObjectTypeDefinition.getInputValueDefinitions());
+                    break;
+                }
+                case TAG_FIELD_DEFINITION: {
+                    FieldDefinition fieldDefinition = (FieldDefinition) node;
+                    writeString(fieldDefinition.getName());
+                    writeDescription(fieldDefinition.getDescription());
+                    writeNullableNode(fieldDefinition.getType());
+                    writeNodes(fieldDefinition.getInputValueDefinitions());
+                    writeNodes(fieldDefinition.getDirectives());
+                    break;
+                }
+                case TAG_INPUT_VALUE_DEFINITION: {
+                    InputValueDefinition inputValueDefinition = (InputValueDefinition) node;
+                    writeString(inputValueDefinition.getName());
+                    writeDescription(inputValueDefinition.getDescription());
+                    writeNullableNode(inputValueDefinition.getType());
+                    writeNullableNode(inputValueDefinition.getDefaultValue());
+                    writeNodes(inputValueDefinition.getDirectives());
+                    break;
+                }
+                default:
+                    assertShouldNeverHappen("Unknown tag %d", tag);
+            }
+        }
+
+        public void writeNullableNode(Node<?> node) {
+            if (node == null) {
+                body.writeByte(TAG_NULL);
+            } else {
+                writeNode(node);
+            }
+        }
+
+        // the AST holds raw typed lists of nodes, which can't be passed as a list of Node<?>
+        public void writeNodes(List<?> nodes) {
+            writeVarInt(nodes.size());
+            for (Object node : nodes) {
+                writeNode((Node<?>) node);
+            }
+        }
+
+        public void writeString(String string) {
+            if (string == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer id = stringIds.get(string);
+            if (id == null) {
+                id = stringIds.size() + 1;
+                stringIds.put(string, id);
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                strings.writeVarInt(utf8.length);
+                strings.writeBytes(utf8);
+            }
+            writeVarInt(id);
+        }
+
+        public void writeVarInt(int value) {
+            body.writeVarInt(value);
+        }
+
+        /**
+         * @param kind the kind of content the body holds
+         *
+         * @return the header, the string table and the body written so far
+         */
+        public byte[] toByteArray(int kind) {
+            ByteSink out = new ByteSink();
+            out.writeBytes(MAGIC);
+            out.writeVarInt(VERSION);
+            out.writeByte(kind);
+            out.writeVarInt(stringIds.size());
+            out.writeBytes(strings.bytes, strings.size);
+            out.writeBytes(body.bytes, body.size);
+            return Arrays.copyOf(out.bytes, out.size);
+        }
+
+        private static int tagOf(Node<?> node) {
+            Integer tag = TAGS.get(node.getClass());
+            if (tag == null) {
+                return assertShouldNeverHappen("The node class %s can not be written in the binary AST format", node.getClass().getName());
+            }
+            return tag;
+        }
+
+        private void writeNodeData(Node<?> node) {
+            List<Comment> comments = node.getComments();
+            IgnoredChars ignoredChars = node.getIgnoredChars();
+            Map<String, String> additionalData = node.getAdditionalData();
+            boolean hasIgnoredChars = !ignoredChars.getLeft().isEmpty() || !ignoredChars.getRight().isEmpty();
+            int flags = (comments.isEmpty() ? 0 : FLAG_COMMENTS)
+                    | (hasIgnoredChars ? FLAG_IGNORED_CHARS : 0)
+                    | (additionalData.isEmpty() ? 0 : FLAG_ADDITIONAL_DATA);
+            body.writeByte(flags);
+            writeSourceLocation(node.getSourceLocation());
+            if (!comments.isEmpty()) {
+                writeVarInt(comments.size());
+                for (Comment comment : comments) {
+                    writeString(comment.getContent());
+                    writeSourceLocation(comment.getSourceLocation());
+                }
+            }
+            if (hasIgnoredChars) {
+                writeIgnoredChars(ignoredChars.getLeft());
+                writeIgnoredChars(ignoredChars.getRight());
+            }
+            if (!additionalData.isEmpty()) {
+                writeVarInt(additionalData.size());
+                additionalData.forEach((key, value) -> {
+                    writeString(key);
+                    writeString(value);
+                });
+            }
+        }
+
+        private void writeIgnoredChars(List<IgnoredChar> ignoredChars) {
+            writeVarInt(ignoredChars.size());
+            for (IgnoredChar ignoredChar : ignoredChars) {
+                writeString(ignoredChar.getValue());
+                writeVarInt(ignoredChar.getKind().ordinal());
+                writeSourceLocation(ignoredChar.getSourceLocation());
+            }
+        }
+
+        private void writeSourceLocation(SourceLocation sourceLocation) {
+            if (sourceLocation == null) {
+                body.writeByte(LOCATION_NULL);
+            } else if (sourceLocation == SourceLocation.EMPTY) {
+                body.writeByte(LOCATION_EMPTY);
+            } else {
+                String sourceName = sourceLocation.getSourceName();
+                boolean sameSource = Objects.equals(sourceName, previousSourceName);
+                body.writeByte(sameSource ? LOCATION_SAME_SOURCE : LOCATION_NEW_SOURCE);
+                writeVarInt(zigZag(sourceLocation.getLine() - previousLine));
+                writeVarInt(zigZag(sourceLocation.getColumn()));
+                if (!sameSource) {
+                    writeString(sourceName);
+                }
+                previousLine = sourceLocation.getLine();
+                previousSourceName = sourceName;
+            }
+        }
+
+        private void writeDescription(Description description) {
+            if (description == null) {
+                body.writeByte(DESCRIPTION_NULL);
+                return;
+            }
+            body.writeByte(description.isMultiLine() ? DESCRIPTION_MULTI_LINE : DESCRIPTION_SINGLE_LINE);
+            writeString(description.getContent());
+            writeSourceLocation(description.getSourceLocation());
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeVarInt(bytes.length);
+            body.writeBytes(bytes);
+        }
+
+        private static int zigZag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+
+        private static class ByteSink {
+            private byte[] bytes = new byte[1024];
+            private int size;
+
+            void writeByte(int value) {
+                ensureCapacity(1);
+                bytes[size++] = (byte) value;
+            }
+
+            void writeVarInt(int value) {
+                ensureCapacity(5);
+                while ((value & ~0x7F) != 0) {
+                    bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                    value >>>= 7;
+                }
+                bytes[size++] = (byte) value;
+            }
+
+            void writeBytes(byte[] source) {
+                writeBytes(source, source.length);
+            }
+
+            void writeBytes(byte[] source, int length) {
+                ensureCapacity(length);
+                System.arraycopy(source, 0, bytes, size, length);
+                size += length;
+            }
+
+            private void ensureCapacity(int extra) {
+                if (size + extra > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads AST nodes written by a {@link Writer}.  The string table is decoded up front so that every node that
+     * is read back shares the same string instances.
+     */
+    @Internal
+    public static class Reader {
+
+        private final ByteBuffer bytes;
+        private final String[] strings;
+        private int previousLine;
+        private String previousSourceName;
+
+        public Reader(ByteBuffer bytes, int expectedKind) {
+            this.bytes = bytes.duplicate();
+            for (byte magic : MAGIC) {
+                assertTrue(this.bytes.remaining() > 0 && this.bytes.get() == magic, "The bytes are not in the binary AST format");
+            }
+            int version = readVarInt();
+            assertTrue(version == VERSION, "The binary AST format version %d is not supported, only version %d is", version, VERSION);
+            int kind = readByte();
+            assertTrue(kind == expectedKind, "The binary AST holds content of kind %d but kind %d was expected", kind, expectedKind);
+            int count = readSize();
+            strings = new String[count + 1];
+            for (int i = 1; i <= count; i++) {
+                strings[i] = decodeString(readSize());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T extends Node<?>> T readNode() {
+            int tag = readByte();
+            if (tag == TAG_NULL) {
+                return null;
+            }
+            NodeData data = readNodeData();
+            Node<?> node;
+            switch (tag) {
+                case TAG_DOCUMENT: {
+                    Document.Builder builder = Document.newDocument();
+                    data.applyTo(builder);
+                    node = builder.definitions(readNodes()).build();
+                    break;
+                }
+                case TAG_OPERATION_DEFINITION: {
+                    OperationDefinition.Builder builder = OperationDefinition.newOperationDefinition();
+                    data.applyTo(builder);
+                    builder.name(readString());
+                    int operation = readVarInt();
+                    builder.operation(operation == 0 ? null : readConstant(OperationDefinition.Operation.values(), operation - 1));
+                    node = builder.variableDefinitions(readNodes())
+                            .directives(readNodes())
+                            .selectionSet(readNode())
+                            .build();
+                    break;
+                }
+                case TAG_FRAGMENT_DEFINITION: {
+                    FragmentDefinition.Builder builder = FragmentDefinition.newFragmentDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .typeCondition(readNode())
+                            .directives(readNodes())
+                            .selectionSet(readNode())
+                            .build();
+                    break;
+                }
+                case TAG_VARIABLE_DEFINITION: {
+                    VariableDefinition.Builder builder = VariableDefinition.newVariableDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .type(readNode())
+                            .defaultValue(readNode())
+                            .directives(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_SELECTION_SET: {
+                    SelectionSet.Builder builder = SelectionSet.newSelectionSet();
+                    data.applyTo(builder);
+                    node = builder.selections(readNodes()).build();
+                    break;
+                }
+                case TAG_FIELD: {
+                    Field.Builder builder = Field.newField();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .alias(readString())
+                            .arguments(readNodes())
+                            .directives(readNodes())
+                            .selectionSet(readNode())
+                            .build();
+                    break;
+                }
+                case TAG_FRAGMENT_SPREAD: {
+                    FragmentSpread.Builder builder = FragmentSpread.newFragmentSpread();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).directives(readNodes()).build();
+                    break;
+                }
+                case TAG_INLINE_FRAGMENT: {
+                    InlineFragment.Builder builder = InlineFragment.newInlineFragment();
+                    data.applyTo(builder);
+                    node = builder.typeCondition(readNode())
+                            .directives(readNodes())
+                            .selectionSet(readNode())
+                            .build();
+                    break;
+                }
+                case TAG_ARGUMENT: {
+                    Argument.Builder builder = Argument.newArgument();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).value(readNode()).build();
+                    break;
+                }
+                case TAG_DIRECTIVE: {
+                    Directive.Builder builder = Directive.newDirective();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).arguments(readNodes()).build();
+                    break;
+                }
+                case TAG_TYPE_NAME: {
+                    TypeName.Builder builder = TypeName.newTypeName();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).build();
+                    break;
+                }
+                case TAG_LIST_TYPE: {
+                    ListType.Builder builder = ListType.newListType();
+                    data.applyTo(builder);
+                    node = builder.type(readNode()).build();
+                    break;
+                }
+                case TAG_NON_NULL_TYPE: {
+                    NonNullType.Builder builder = NonNullType.newNonNullType();
+                    data.applyTo(builder);
+                    node = builder.type((Type) readNode()).build();
+                    break;
+                }
+                case TAG_INT_VALUE: {
+                    IntValue.Builder builder = IntValue.newIntValue();
+                    data.applyTo(builder);
+                    node = builder.value(new BigInteger(readBytes())).build();
+                    break;
+                }
+                case TAG_FLOAT_VALUE: {
+                    FloatValue.Builder builder = FloatValue.newFloatValue();
+                    data.applyTo(builder);
+                    BigInteger unscaledValue = new BigInteger(readBytes());
+                    node = builder.value(new BigDecimal(unscaledValue, unZigZag(readVarInt()))).build();
+                    break;
+                }
+                case TAG_STRING_VALUE: {
+                    StringValue.Builder builder = StringValue.newStringValue();
+                    data.applyTo(builder);
+                    node = builder.value(readString()).build();
+                    break;
+                }
+                case TAG_BOOLEAN_VALUE: {
+                    BooleanValue.Builder builder = BooleanValue.newBooleanValue();
+                    data.applyTo(builder);
+                    node = builder.value(readByte() != 0).build();
+                    break;
+                }
+                case TAG_NULL_VALUE: {
+                    NullValue.Builder builder = NullValue.newNullValue();
+                    data.applyTo(builder);
+                    node = builder.build();
+                    break;
+                }
+                case TAG_ENUM_VALUE: {
+                    EnumValue.Builder builder = EnumValue.newEnumValue();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).build();
+                    break;
+                }
+                case TAG_VARIABLE_REFERENCE: {
+                    VariableReference.Builder builder = VariableReference.newVariableReference();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).build();
+                    break;
+                }
+                case TAG_ARRAY_VALUE: {
+                    ArrayValue.Builder builder = ArrayValue.newArrayValue();
+                    data.applyTo(builder);
+                    node = builder.values(readNodes()).build();
+                    break;
+                }
+                case TAG_OBJECT_VALUE: {
+                    ObjectValue.Builder builder = ObjectValue.newObjectValue();
+                    data.applyTo(builder);
+                    node = builder.objectFields(readNodes()).build();
+                    break;
+                }
+                case TAG_OBJECT_FIELD: {
+                    ObjectField.Builder builder = ObjectField.newObjectField();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).value(readNode()).build();
+                    break;
+                }
+                case TAG_SCHEMA_DEFINITION: {
+                    SchemaDefinition.Builder builder = SchemaDefinition.newSchemaDefinition();
+                    data.applyTo(builder);
+                    node = builder.description(readDescription())
+                            .directives(readNodes())
+                            .operationTypeDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_SCHEMA_EXTENSION_DEFINITION: {
+                    SchemaExtensionDefinition.Builder builder = SchemaExtensionDefinition.newSchemaExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.directives(readNodes())
+                            .operationTypeDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_OPERATION_TYPE_DEFINITION: {
+                    OperationTypeDefinition.Builder builder = OperationTypeDefinition.newOperationTypeDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).typeName(readNode()).build();
+                    break;
+                }
+                case TAG_DIRECTIVE_DEFINITION: {
+                    DirectiveDefinition.Builder builder = DirectiveDefinition.newDirectiveDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .repeatable(readByte() != 0)
+                            .inputValueDefinitions(readNodes())
+                            .directiveLocations(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_DIRECTIVE_LOCATION: {
+                    DirectiveLocation.Builder builder = DirectiveLocation.newDirectiveLocation();
+                    data.applyTo(builder);
+                    node = builder.name(readString()).build();
+                    break;
+                }
+                case TAG_OBJECT_TYPE_DEFINITION: {
+                    ObjectTypeDefinition.Builder builder = ObjectTypeDefinition.newObjectTypeDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .implementz(readNodes())
+                            .directives(readNodes())
+                            .fieldDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_OBJECT_TYPE_EXTENSION_DEFINITION: {
+                    ObjectTypeExtensionDefinition.Builder builder = ObjectTypeExtensionDefinition.newObjectTypeExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .implementz(readNodes())
+                            .directives(readNodes())
+                            .fieldDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_INTERFACE_TYPE_DEFINITION: {
+                    InterfaceTypeDefinition.Builder builder = InterfaceTypeDefinition.newInterfaceTypeDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .implementz(readNodes())
+                            .directives(readNodes())
+                            .definitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_INTERFACE_TYPE_EXTENSION_DEFINITION: {
+                    InterfaceTypeExtensionDefinition.Builder builder = InterfaceTypeExtensionDefinition.newInterfaceTypeExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .implementz(readNodes())
+                            .directives(readNodes())
+                            .definitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_UNION_TYPE_DEFINITION: {
+                    UnionTypeDefinition.Builder builder = UnionTypeDefinition.newUnionTypeDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .memberTypes(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_UNION_TYPE_EXTENSION_DEFINITION: {
+                    UnionTypeExtensionDefinition.Builder builder = UnionTypeExtensionDefinition.newUnionTypeExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .memberTypes(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_ENUM_TYPE_DEFINITION: {
+                    EnumTypeDefinition.Builder builder = EnumTypeDefinition.newEnumTypeDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .enumValueDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_ENUM_TYPE_EXTENSION_DEFINITION: {
+                    EnumTypeExtensionDefinition.Builder builder = EnumTypeExtensionDefinition.newEnumTypeExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .enumValueDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_ENUM_VALUE_DEFINITION: {
+                    EnumValueDefinition.Builder builder = EnumValueDefinition.newEnumValueDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_SCALAR_TYPE_DEFINITION: {
+                    ScalarTypeDefinition.Builder builder = ScalarTypeDefinition.newScalarTypeDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_SCALAR_TYPE_EXTENSION_DEFINITION: {
+                    ScalarTypeExtensionDefinition.Builder builder = ScalarTypeExtensionDefinition.newScalarTypeExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_INPUT_OBJECT_TYPE_DEFINITION: {
+                    InputObjectTypeDefinition.Builder builder = InputObjectTypeDefinition.newInputObjectDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .inputValueDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_INPUT_OBJECT_TYPE_EXTENSION_DEFINITION: {
+                    InputObjectTypeExtensionDefinition.Builder builder = InputObjectTypeExtensionDefinition.newInputObjectTypeExtensionDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .directives(readNodes())
+                            .inputValueDefinitions(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_FIELD_DEFINITION: {
+                    FieldDefinition.Builder builder = FieldDefinition.newFieldDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .type(readNode())
+                            .inputValueDefinitions(readNodes())
+                            .directives(readNodes())
+                            .build();
+                    break;
+                }
+                case TAG_INPUT_VALUE_DEFINITION: {
+                    InputValueDefinition.Builder builder = InputValueDefinition.newInputValueDefinition();
+                    data.applyTo(builder);
+                    node = builder.name(readString())
+                            .description(readDescription())
+                            .type(readNode())
+                            .defaultValue(readNode())
+                            .directives(readNodes())
+                            .build();
+                    break;
+                }
+                default:
+                    return assertShouldNeverHappen("Unknown binary AST node tag %d", tag);
+            }
+            return (T) node;
+        }
+
+        // immutable lists are not copied again by the node builders
+        public <T extends Node<?>> List<T> readNodes() {
+            int size = readSize();
+            if (size == 0) {
+                return ImmutableList.of();
+            }
+            ImmutableList.Builder<T> nodes = ImmutableList.builderWithExpectedSize(size);
+            for (int i = 0; i < size; i++) {
+                nodes.add(readNode());
+            }
+            return nodes.build();
+        }
+
+        public String readString() {
+            int index = readVarInt();
+            assertTrue(index >= 0 && index < strings.length, "The binary AST refers to a string that is not in its string table");
+            return strings[index];
+        }
+
+        public int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                assertTrue(bytes.hasRemaining(), "The binary AST is truncated");
+                int b = bytes.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            return assertShouldNeverHappen("Malformed variable length int in the binary AST");
+        }
+
+        private int readByte() {
+            assertTrue(bytes.hasRemaining(), "The binary AST is truncated");
+            return bytes.get() & 0xFF;
+        }
+
+        /*
+         * Every element of a list and every byte of a string takes up at least one byte, so a size larger than what is
+         * left can only come from truncated or corrupt bytes.  Checking it up front also keeps them from allocating
+         * huge arrays.
+         */
+        private int readSize() {
+            int size = readVarInt();
+            assertTrue(size >= 0 && size <= bytes.remaining(), "The binary AST is truncated");
+            return size;
+        }
+
+        private static <T> T readConstant(T[] constants, int ordinal) {
+            assertTrue(ordinal >= 0 && ordinal < constants.length, "The binary AST holds an unknown constant");
+            return constants[ordinal];
+        }
+
+        private byte[] readBytes() {
+            byte[] result = new byte[readSize()];
+            bytes.get(result);
+            return result;
+        }
+
+        private String decodeString(int length) {
+            if (bytes.hasArray()) {
+                int offset = bytes.arrayOffset() + bytes.position();
+                bytes.position(bytes.position() + length);
+                return new String(bytes.array(), offset, length, StandardCharsets.UTF_8);
+            }
+            byte[] utf8 = new byte[length];
+            bytes.get(utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        private NodeData readNodeData() {
+            int flags = readByte();
+            NodeData data = new NodeData(readSourceLocation());
+            if ((flags & FLAG_COMMENTS) != 0) {
+                int size = readSize();
+                data.comments = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    data.comments.add(new Comment(readString(), readSourceLocation()));
+                }
+            }
+            if ((flags & FLAG_IGNORED_CHARS) != 0) {
+                data.ignoredChars = new IgnoredChars(readIgnoredChars(), readIgnoredChars());
+            }
+            if ((flags & FLAG_ADDITIONAL_DATA) != 0) {
+                int size = readSize();
+                data.additionalData = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    data.additionalData.put(readString(), readString());
+                }
+            }
+            return data;
+        }
+
+        private List<IgnoredChar> readIgnoredChars() {
+            int size = readSize();
+            List<IgnoredChar> ignoredChars = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String value = readString();
+                IgnoredChar.IgnoredCharKind kind = readConstant(IgnoredChar.IgnoredCharKind.values(), readVarInt());
+                ignoredChars.add(new IgnoredChar(value, kind, readSourceLocation()));
+            }
+            return ignoredChars;
+        }
+
+        private SourceLocation readSourceLocation() {
+            int location = readByte();
+            if (location == LOCATION_NULL) {
+                return null;
+            }
+            if (location == LOCATION_EMPTY) {
+                return SourceLocation.EMPTY;
+            }
+            int line = previousLine + unZigZag(readVarInt());
+            int column = unZigZag(readVarInt());
+            String sourceName = location == LOCATION_NEW_SOURCE ? readString() : previousSourceName;
+            previousLine = line;
+            previousSourceName = sourceName;
+            return new SourceLocation(line, column, sourceName);
+        }
+
+        private Description readDescription() {
+            int description = readByte();
+            if (description == DESCRIPTION_NULL) {
+                return null;
+            }
+            String content = readString();
+            return new Description(content, readSourceLocation(), description == DESCRIPTION_MULTI_LINE);
+        }
+
+        private static int unZigZag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    private static class NodeData {
+        private final SourceLocation sourceLocation;
+        private List<Comment> comments;
+        private IgnoredChars ignoredChars;
+        private Map<String, String> additionalData;
+
+        private NodeData(SourceLocation sourceLocation) {
+            this.sourceLocation = sourceLocation;
+        }
+
+        private void applyTo(NodeBuilder builder) {
+            builder.sourceLocation(sourceLocation);
+            if (comments != null) {
+                builder.comments(comments);
+            }
+            if (ignoredChars != null) {
+                builder.ignoredChars(ignoredChars);
+            }
+            if (additionalData != null) {
+                builder.additionalData(additionalData);
+            }
+        }
+    }
+}
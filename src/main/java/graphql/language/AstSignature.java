@@ -1,5 +1,6 @@
 package graphql.language;
 
+import graphql.Internal;
 import graphql.PublicApi;
 import graphql.collect.ImmutableKit;
 import graphql.util.TraversalControl;
@@ -65,6 +66,20 @@ public class AstSignature {
         );
     }
 
+    /**
+     * This produces a canonical AST for caching validation results.  Unlike {@link AstSignature#signatureQuery(Document, String)}
+     * it keeps all the operations, the field aliases and the structure of object and list literals, since they all
+     * matter to validation, but it hides scalar literal values, renames variables and sorts the result.
+     *
+     * @param document the document to make a validation signature query from
+     *
+     * @return the validation signature query in document form
+     */
+    @Internal
+    public Document validationSignatureQuery(Document document) {
+        return sortAST(hideLiterals(false, document));
+    }
+
     private Document hideLiterals(boolean signatureMode, Document document) {
         final Map<String, String> variableRemapping = new HashMap<>();
         final AtomicInteger variableCount = new AtomicInteger();
@@ -54,6 +54,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -86,6 +92,7 @@ public class ExecutableNormalizedOperationFactory {
         private final int maxFieldsCount;
 
         private final boolean deferSupport;
+        private final @Nullable ForkJoinPool parallelBuildPool;
 
         /**
          * The default max fields count is 100,000.
@@ -97,18 +104,21 @@ public class ExecutableNormalizedOperationFactory {
                 Locale.getDefault(),
                 Integer.MAX_VALUE,
                 DEFAULT_MAX_FIELDS_COUNT,
-                false);
+                false,
+                null);
 
         private Options(GraphQLContext graphQLContext,
                         Locale locale,
                         int maxChildrenDepth,
                         int maxFieldsCount,
-                        boolean deferSupport) {
+                        boolean deferSupport,
+                        @Nullable ForkJoinPool parallelBuildPool) {
             this.graphQLContext = graphQLContext;
             this.locale = locale;
             this.maxChildrenDepth = maxChildrenDepth;
             this.deferSupport = deferSupport;
             this.maxFieldsCount = maxFieldsCount;
+            this.parallelBuildPool = parallelBuildPool;
         }
 
         /**
@@ -140,7 +150,7 @@ public class ExecutableNormalizedOperationFactory {
          * @return new options object to use
          */
         public Options locale(Locale locale) {
-            return new Options(this.graphQLContext, locale, this.maxChildrenDepth, this.maxFieldsCount, this.deferSupport);
+            return new Options(this.graphQLContext, locale, this.maxChildrenDepth, this.maxFieldsCount, this.deferSupport, this.parallelBuildPool);
         }
 
         /**
@@ -153,7 +163,7 @@ public class ExecutableNormalizedOperationFactory {
          * @return new options object to use
          */
         public Options graphQLContext(GraphQLContext graphQLContext) {
-            return new Options(graphQLContext, this.locale, this.maxChildrenDepth, this.maxFieldsCount, this.deferSupport);
+            return new Options(graphQLContext, this.locale, this.maxChildrenDepth, this.maxFieldsCount, this.deferSupport, this.parallelBuildPool);
         }
 
         /**
@@ -165,7 +175,7 @@ public class ExecutableNormalizedOperationFactory {
          * @return new options object to use
          */
         public Options maxChildrenDepth(int maxChildrenDepth) {
-            return new Options(this.graphQLContext, this.locale, maxChildrenDepth, this.maxFieldsCount, this.deferSupport);
+            return new Options(this.graphQLContext, this.locale, maxChildrenDepth, this.maxFieldsCount, this.deferSupport, this.parallelBuildPool);
         }
 
         /**
@@ -177,7 +187,7 @@ public class ExecutableNormalizedOperationFactory {
          * @return new options object to use
          */
         public Options maxFieldsCount(int maxFieldsCount) {
-            return new Options(this.graphQLContext, this.locale, this.maxChildrenDepth, maxFieldsCount, this.deferSupport);
+            return new Options(this.graphQLContext, this.locale, this.maxChildrenDepth, maxFieldsCount, this.deferSupport, this.parallelBuildPool);
         }
 
         /**
@@ -189,7 +199,26 @@ public class ExecutableNormalizedOperationFactory {
          */
         @ExperimentalApi
         public Options deferSupport(boolean deferSupport) {
-            return new Options(this.graphQLContext, this.locale, this.maxChildrenDepth, this.maxFieldsCount, deferSupport);
+            return new Options(this.graphQLContext, this.locale, this.maxChildrenDepth, this.maxFieldsCount, deferSupport, this.parallelBuildPool);
+        }
+
+        /**
+         * Builds the sibling sub trees of large operations in parallel on the given pool.  The resulting
+         * {@link ExecutableNormalizedOperation} is the same as the one built on the calling thread, and the
+         * {@link #maxFieldsCount(int)} and {@link #maxChildrenDepth(int)} limits are still enforced, however if the
+         * operation exceeds both then which of the two is reported can vary.
+         * <p>
+         * With a pool set, any {@link graphql.execution.conditional.ConditionalNodeDecision} or
+         * {@link graphql.execution.values.InputInterceptor} in the {@link #graphQLContext(GraphQLContext)} is called
+         * concurrently and must be thread safe.
+         *
+         * @param parallelBuildPool the pool to build on or null to build on the calling thread, which is the default
+         *
+         * @return new options object to use
+         */
+        @ExperimentalApi
+        public Options parallelBuildPool(@Nullable ForkJoinPool parallelBuildPool) {
+            return new Options(this.graphQLContext, this.locale, this.maxChildrenDepth, this.maxFieldsCount, this.deferSupport, parallelBuildPool);
         }
 
         /**
@@ -232,6 +261,16 @@ public class ExecutableNormalizedOperationFactory {
         public boolean getDeferSupport() {
             return deferSupport;
         }
+
+        /**
+         * @return the pool that sub trees are built on in parallel or null if they are built on the calling thread
+         *
+         * @see #parallelBuildPool(ForkJoinPool)
+         */
+        @ExperimentalApi
+        public @Nullable ForkJoinPool getParallelBuildPool() {
+            return parallelBuildPool;
+        }
     }
 
     private static final ConditionalNodes conditionalNodes = new ConditionalNodes();
@@ -455,11 +494,19 @@ public class ExecutableNormalizedOperationFactory {
         private final ImmutableMap.Builder<ExecutableNormalizedField, MergedField> normalizedFieldToMergedField = ImmutableMap.builder();
         private final ImmutableMap.Builder<ExecutableNormalizedField, QueryDirectives> normalizedFieldToQueryDirectives = ImmutableMap.builder();
         private final ImmutableListMultimap.Builder<FieldCoordinates, ExecutableNormalizedField> coordinatesToNormalizedFields = ImmutableListMultimap.builder();
-        private int fieldCount = 0;
-        private int maxDepthSeen = 0;
+        // atomic since sub trees may be built in parallel
+        private final AtomicInteger fieldCount = new AtomicInteger();
+        private final AtomicInteger maxDepthSeen = new AtomicInteger();
 
         private final List<ExecutableNormalizedField> rootEnfs = new ArrayList<>();
 
+        // when building in parallel the merged fields and possible mergers are captured per field and then put into
+        // the operation in the same order a build on one thread would have put them
+        private final @Nullable ForkJoinPool parallelBuildPool;
+        private final Map<ExecutableNormalizedField, MergedField> parallelMergedFields = new ConcurrentHashMap<>();
+        private final Map<ExecutableNormalizedField, List<PossibleMerger>> parallelPossibleMergers = new ConcurrentHashMap<>();
+        private final AtomicReference<RuntimeException> parallelBuildFailure = new AtomicReference<>();
+
         private ExecutableNormalizedOperationFactoryImpl(
                 GraphQLSchema graphQLSchema,
                 OperationDefinition operationDefinition,
@@ -474,13 +521,23 @@ public class ExecutableNormalizedOperationFactory {
             this.coercedVariableValues = coercedVariableValues;
             this.normalizedVariableValues = normalizedVariableValues;
             this.options = options;
+            this.parallelBuildPool = options.getParallelBuildPool();
         }
 
         /**
          * Creates a new ExecutableNormalizedOperation for the provided query
          */
         private ExecutableNormalizedOperation createNormalizedQueryImpl() {
-            buildEnfsRecursively(null, null, 0);
+            if (parallelBuildPool != null) {
+                parallelBuildPool.invoke(new BuildSubTree(null, null, 0));
+                RuntimeException failure = parallelBuildFailure.get();
+                if (failure != null) {
+                    throw failure;
+                }
+                captureSubTrees(rootEnfs);
+            } else {
+                buildEnfsRecursively(null, null, 0);
+            }
 
             for (PossibleMerger possibleMerger : possibleMergerList) {
                 List<ExecutableNormalizedField> childrenWithSameResultKey = possibleMerger.parent.getChildrenWithSameResultKey(possibleMerger.resultKey);
@@ -494,11 +551,28 @@ public class ExecutableNormalizedOperationFactory {
                     normalizedFieldToMergedField.build(),
                     normalizedFieldToQueryDirectives.build(),
                     coordinatesToNormalizedFields.build(),
-                    fieldCount,
-                    maxDepthSeen
+                    fieldCount.get(),
+                    maxDepthSeen.get()
             );
         }
 
+        private void captureSubTrees(List<ExecutableNormalizedField> enfs) {
+            for (ExecutableNormalizedField enf : enfs) {
+                captureNormalizedField(enf, parallelMergedFields.get(enf));
+                List<PossibleMerger> possibleMergers = parallelPossibleMergers.get(enf);
+                if (possibleMergers != null) {
+                    possibleMergerList.addAll(possibleMergers);
+                }
+                captureSubTrees(enf.getChildren());
+            }
+        }
+
+        private void captureNormalizedField(ExecutableNormalizedField enf, MergedField mergedField) {
+            captureMergedField(enf, mergedField);
+            updateFieldToNFMap(enf, mergedField);
+            updateCoordinatedToNFMap(enf);
+        }
+
         private void captureMergedField(ExecutableNormalizedField enf, MergedField mergedFld) {
             // QueryDirectivesImpl is a lazy object and only computes itself when asked for
             QueryDirectives queryDirectives = new QueryDirectivesImpl(mergedFld,
@@ -514,8 +588,8 @@ public class ExecutableNormalizedOperationFactory {
         private void buildEnfsRecursively(@Nullable ExecutableNormalizedField executableNormalizedField,
                                           @Nullable ImmutableList<CollectedField> fieldAndAstParents,
                                           int curLevel) {
-            if (this.maxDepthSeen < curLevel) {
-                this.maxDepthSeen = curLevel;
+            if (this.maxDepthSeen.get() < curLevel) {
+                this.maxDepthSeen.accumulateAndGet(curLevel, Math::max);
                 checkMaxDepthExceeded(curLevel);
             }
             Set<GraphQLObjectType> possibleObjects;
@@ -561,6 +635,7 @@ public class ExecutableNormalizedOperationFactory {
             ImmutableList<ExecutableNormalizedField> nextLevelChildren = resultNFs.build();
             ImmutableListMultimap<ExecutableNormalizedField, CollectedField> nextLevelNormalizedFieldToAstFields = normalizedFieldToAstFields.build();
 
+            List<BuildSubTree> subTrees = null;
             for (ExecutableNormalizedField childENF : nextLevelChildren) {
                 if (executableNormalizedField == null) {
                     // all root ENFs don't have a parent, but are collected in the rootEnfs list
@@ -571,16 +646,37 @@ public class ExecutableNormalizedOperationFactory {
                 ImmutableList<CollectedField> childFieldAndAstParents = nextLevelNormalizedFieldToAstFields.get(childENF);
 
                 MergedField mergedField = newMergedField(childFieldAndAstParents);
-                captureMergedField(childENF, mergedField);
-
-                updateFieldToNFMap(childENF, childFieldAndAstParents);
-                updateCoordinatedToNFMap(childENF);
+                if (parallelBuildPool == null) {
+                    captureNormalizedField(childENF, mergedField);
+                } else {
+                    parallelMergedFields.put(childENF, mergedField);
+                    // leaf fields are cheap and are built straight away rather than being forked
+                    if (hasSubSelection(childFieldAndAstParents)) {
+                        if (subTrees == null) {
+                            subTrees = new ArrayList<>();
+                        }
+                        subTrees.add(new BuildSubTree(childENF, childFieldAndAstParents, curLevel + 1));
+                        continue;
+                    }
+                }
 
                 // recursive call
                 buildEnfsRecursively(childENF,
                         childFieldAndAstParents,
                         curLevel + 1);
             }
+            if (subTrees != null) {
+                ForkJoinTask.invokeAll(subTrees);
+            }
+        }
+
+        private static boolean hasSubSelection(ImmutableList<CollectedField> fieldAndAstParents) {
+            for (CollectedField fieldAndAstParent : fieldAndAstParents) {
+                if (fieldAndAstParent.field.getSelectionSet() != null) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         private void checkMaxDepthExceeded(int depthSeen) {
@@ -594,9 +690,9 @@ public class ExecutableNormalizedOperationFactory {
         }
 
         private void updateFieldToNFMap(ExecutableNormalizedField executableNormalizedField,
-                                        ImmutableList<CollectedField> mergedField) {
-            for (CollectedField astField : mergedField) {
-                fieldToNormalizedField.put(astField.field, executableNormalizedField);
+                                        MergedField mergedField) {
+            for (Field astField : mergedField.getFields()) {
+                fieldToNormalizedField.put(astField, executableNormalizedField);
             }
         }
 
@@ -640,7 +736,11 @@ public class ExecutableNormalizedOperationFactory {
                     }
                 }
                 if (commonParentsGroups.size() > 1) {
-                    possibleMergerList.add(new PossibleMerger(parent, resultKey));
+                    if (parallelBuildPool != null && parent != null) {
+                        parallelPossibleMergers.computeIfAbsent(parent, ignored -> new ArrayList<>()).add(new PossibleMerger(parent, resultKey));
+                    } else {
+                        possibleMergerList.add(new PossibleMerger(parent, resultKey));
+                    }
                 }
             }
         }
@@ -650,9 +750,9 @@ public class ExecutableNormalizedOperationFactory {
                                                    int level,
                                                    ExecutableNormalizedField parent) {
 
-            this.fieldCount++;
-            if (this.fieldCount > this.options.getMaxFieldsCount()) {
-                throw new AbortExecutionException("Maximum field count exceeded. " + this.fieldCount + " > " + this.options.getMaxFieldsCount());
+            int fieldCount = this.fieldCount.incrementAndGet();
+            if (fieldCount > this.options.getMaxFieldsCount()) {
+                throw new AbortExecutionException("Maximum field count exceeded. " + fieldCount + " > " + this.options.getMaxFieldsCount());
             }
             Field field;
             Set<GraphQLObjectType> objectTypes = collectedFieldGroup.objectTypes;
@@ -907,6 +1007,35 @@ public class ExecutableNormalizedOperationFactory {
             }
         }
 
+        private class BuildSubTree extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final @Nullable ExecutableNormalizedField executableNormalizedField;
+            private final @Nullable ImmutableList<CollectedField> fieldAndAstParents;
+            private final int level;
+
+            private BuildSubTree(@Nullable ExecutableNormalizedField executableNormalizedField,
+                                 @Nullable ImmutableList<CollectedField> fieldAndAstParents,
+                                 int level) {
+                this.executableNormalizedField = executableNormalizedField;
+                this.fieldAndAstParents = fieldAndAstParents;
+                this.level = level;
+            }
+
+            @Override
+            protected void compute() {
+                // the first failure is kept as is, rather than being re-created by the fork join framework, and stops the other sub trees
+                if (parallelBuildFailure.get() != null) {
+                    return;
+                }
+                try {
+                    buildEnfsRecursively(executableNormalizedField, fieldAndAstParents, level);
+                } catch (RuntimeException e) {
+                    parallelBuildFailure.compareAndSet(null, e);
+                }
+            }
+        }
+
         private static class PossibleMerger {
             ExecutableNormalizedField parent;
             String resultKey;
@@ -0,0 +1,556 @@
+package graphql.parser;
+
+import graphql.Internal;
+import graphql.language.IgnoredChar;
+
+import java.util.Arrays;
+
+/**
+ * The lexer of the {@link ExecutableDocumentParser}.  It tokenizes the whole document up front into parallel arrays,
+ * with the same tokens, lines and columns as the ANTLR lexer of the graphql grammar.
+ * <p>
+ * Anything that the ANTLR lexer would reject, or that can only be part of an SDL document, makes {@link #tokenize()}
+ * return false so that the document is parsed by ANTLR instead, which reports the exact same error as always.  The same
+ * goes for documents that have more tokens than the {@link ParserOptions} allow.
+ */
+@Internal
+public class ExecutableDocumentLexer {
+
+    static final int EOF = 0;
+    static final int NAME = 1;
+    static final int INT = 2;
+    static final int FLOAT = 3;
+    static final int STRING = 4;
+    static final int BLOCK_STRING = 5;
+    static final int BANG = 6;
+    static final int DOLLAR = 7;
+    static final int LPAREN = 8;
+    static final int RPAREN = 9;
+    static final int SPREAD = 10;
+    static final int COLON = 11;
+    static final int EQUALS = 12;
+    static final int AT = 13;
+    static final int LBRACKET = 14;
+    static final int RBRACKET = 15;
+    static final int LBRACE = 16;
+    static final int RBRACE = 17;
+
+    // the kinds of the hidden tokens, which are the ordinals of IgnoredChar.IgnoredCharKind apart from comments
+    static final int COMMENT = -1;
+
+    private static final IgnoredChar.IgnoredCharKind[] IGNORED_CHAR_KINDS = IgnoredChar.IgnoredCharKind.values();
+
+    private final String text;
+    private final int length;
+    private final int maxTokens;
+    private final int maxWhitespaceTokens;
+    private final boolean keepComments;
+    private final boolean keepWhitespace;
+
+    // the grammar tokens, the last one being EOF
+    private int tokenCount;
+    private int[] kinds = new int[64];
+    private int[] starts = new int[64];
+    private int[] ends = new int[64];
+    private int[] lines = new int[64];
+    private int[] columns = new int[64];
+    // the number of kept hidden tokens up to each grammar token
+    private int[] hiddenCounts = new int[64];
+
+    // the hidden tokens that are kept, that is comments and / or whitespace
+    private int hiddenCount;
+    private int[] hiddenKinds = new int[16];
+    private int[] hiddenStarts = new int[16];
+    private int[] hiddenEnds = new int[16];
+    private int[] hiddenLines = new int[16];
+    private int[] hiddenColumns = new int[16];
+
+    private int commentCount;
+    private int whitespaceCount;
+
+    private int pos;
+    private int line = 1;
+    private int column;
+
+    ExecutableDocumentLexer(String text, ParserOptions parserOptions) {
+        this.text = text;
+        this.length = text.length();
+        this.maxTokens = parserOptions.getMaxTokens();
+        this.maxWhitespaceTokens = parserOptions.getMaxWhitespaceTokens();
+        this.keepComments = parserOptions.isCaptureLineComments();
+        this.keepWhitespace = parserOptions.isCaptureIgnoredChars();
+    }
+
+    /**
+     * @return false if the document has to be parsed by ANTLR
+     */
+    boolean tokenize() {
+        while (true) {
+            skipIgnored();
+            if (pos < 0) {
+                return false;
+            }
+            if (pos >= length) {
+                // like ANTLR the EOF token counts towards the maximum number of tokens
+                return addToken(EOF, length, length);
+            }
+            int start = pos;
+            char c = text.charAt(pos);
+            int kind;
+            switch (c) {
+                case '!':
+                    kind = BANG;
+                    break;
+                case '$':
+                    kind = DOLLAR;
+                    break;
+                case '(':
+                    kind = LPAREN;
+                    break;
+                case ')':
+                    kind = RPAREN;
+                    break;
+                case ':':
+                    kind = COLON;
+                    break;
+                case '=':
+                    kind = EQUALS;
+                    break;
+                case '@':
+                    kind = AT;
+                    break;
+                case '[':
+                    kind = LBRACKET;
+                    break;
+                case ']':
+                    kind = RBRACKET;
+                    break;
+                case '{':
+                    kind = LBRACE;
+                    break;
+                case '}':
+                    kind = RBRACE;
+                    break;
+                case '.':
+                    if (!text.startsWith("...", pos)) {
+                        return false;
+                    }
+                    if (!addToken(SPREAD, start, start + 3)) {
+                        return false;
+                    }
+                    pos += 3;
+                    column += 3;
+                    continue;
+                case '"':
+                    if (!lexString()) {
+                        return false;
+                    }
+                    continue;
+                default:
+                    if (isNameStart(c)) {
+                        lexName();
+                        if (!addToken(NAME, start, pos)) {
+                            return false;
+                        }
+                        column += pos - start;
+                        continue;
+                    }
+                    if (c == '-' || isDigit(c)) {
+                        if (!lexNumber()) {
+                            return false;
+                        }
+                        continue;
+                    }
+                    return false;
+            }
+            if (!addToken(kind, start, start + 1)) {
+                return false;
+            }
+            pos++;
+            column++;
+        }
+    }
+
+    private void skipIgnored() {
+        while (pos < length) {
+            char c = text.charAt(pos);
+            IgnoredChar.IgnoredCharKind kind;
+            switch (c) {
+                case ' ':
+                    kind = IgnoredChar.IgnoredCharKind.SPACE;
+                    break;
+                case ',':
+                    kind = IgnoredChar.IgnoredCharKind.COMMA;
+                    break;
+                case '\n':
+                    kind = IgnoredChar.IgnoredCharKind.LF;
+                    break;
+                case '\t':
+                    kind = IgnoredChar.IgnoredCharKind.TAB;
+                    break;
+                case '\r':
+                    kind = IgnoredChar.IgnoredCharKind.CR;
+                    break;
+                case '\u2028':
+                case '\u2029':
+                case '\ufeff':
+                    kind = IgnoredChar.IgnoredCharKind.OTHER;
+                    break;
+                case '#':
+                    if (!lexComment()) {
+                        pos = -1;
+                        return;
+                    }
+                    continue;
+                default:
+                    return;
+            }
+            if (++whitespaceCount > maxWhitespaceTokens) {
+                pos = -1;
+                return;
+            }
+            if (keepWhitespace) {
+                addHiddenToken(kind.ordinal(), pos, pos + 1, line, column);
+            }
+            pos++;
+            if (c == '\n') {
+                line++;
+                column = 0;
+            } else {
+                column++;
+            }
+        }
+    }
+
+    private boolean lexComment() {
+        int start = pos;
+        int startColumn = column;
+        pos++;
+        column++;
+        while (pos < length) {
+            char c = text.charAt(pos);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            if (!advanceSourceCharacter(c)) {
+                return false;
+            }
+        }
+        if (++commentCount > maxTokens) {
+            return false;
+        }
+        if (keepComments) {
+            addHiddenToken(COMMENT, start, pos, line, startColumn);
+        }
+        return true;
+    }
+
+    private void lexName() {
+        pos++;
+        while (pos < length) {
+            char c = text.charAt(pos);
+            if (!isNameStart(c) && !isDigit(c)) {
+                break;
+            }
+            pos++;
+        }
+    }
+
+    private boolean lexNumber() {
+        int start = pos;
+        if (text.charAt(pos) == '-') {
+            pos++;
+        }
+        if (pos >= length || !isDigit(text.charAt(pos))) {
+            return false;
+        }
+        if (text.charAt(pos) == '0') {
+            pos++;
+        } else {
+            pos = skipDigits(pos);
+        }
+        int kind = INT;
+        if (pos < length && text.charAt(pos) == '.') {
+            int fractionStart = pos + 1;
+            pos = skipDigits(fractionStart);
+            if (pos == fractionStart) {
+                return false;
+            }
+            kind = FLOAT;
+        }
+        if (pos < length && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E')) {
+            pos++;
+            if (pos < length && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) {
+                pos++;
+            }
+            int exponentStart = pos;
+            pos = skipDigits(exponentStart);
+            if (pos == exponentStart) {
+                return false;
+            }
+            kind = FLOAT;
+        }
+        // the same lookahead restriction as the grammar
+        if (pos < length) {
+            char c = text.charAt(pos);
+            if (isDigit(c) || c == '.' || isNameStart(c)) {
+                return false;
+            }
+        }
+        if (!addToken(kind, start, pos)) {
+            return false;
+        }
+        column += pos - start;
+        return true;
+    }
+
+    private int skipDigits(int from) {
+        int i = from;
+        while (i < length && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private boolean lexString() {
+        int start = pos;
+        int startLine = line;
+        int startColumn = column;
+        if (text.startsWith("\"\"\"", pos)) {
+            pos += 3;
+            column += 3;
+            while (true) {
+                if (pos >= length) {
+                    return false;
+                }
+                char c = text.charAt(pos);
+                if (c == '"' && text.startsWith("\"\"\"", pos)) {
+                    pos += 3;
+                    column += 3;
+                    break;
+                }
+                if (c == '\\' && text.startsWith("\\\"\"\"", pos)) {
+                    pos += 4;
+                    column += 4;
+                } else if (c == '\n') {
+                    pos++;
+                    line++;
+                    column = 0;
+                } else if (!advanceSourceCharacter(c)) {
+                    return false;
+                }
+            }
+            return addToken(BLOCK_STRING, start, pos, startLine, startColumn);
+        }
+        pos++;
+        column++;
+        while (true) {
+            if (pos >= length) {
+                return false;
+            }
+            char c = text.charAt(pos);
+            if (c == '"') {
+                pos++;
+                column++;
+                break;
+            }
+            if (c == '\n' || c == '\r') {
+                return false;
+            }
+            if (c == '\\') {
+                if (!lexEscape()) {
+                    return false;
+                }
+            } else if (!advanceSourceCharacter(c)) {
+                return false;
+            }
+        }
+        return addToken(STRING, start, pos, startLine, startColumn);
+    }
+
+    private boolean lexEscape() {
+        if (pos + 1 >= length) {
+            return false;
+        }
+        char c = text.charAt(pos + 1);
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                pos += 2;
+                column += 2;
+                return true;
+            case 'u':
+                int i = pos + 2;
+                if (i < length && text.charAt(i) == '{') {
+                    int hexStart = ++i;
+                    while (i < length && isHex(text.charAt(i))) {
+                        i++;
+                    }
+                    if (i == hexStart || i >= length || text.charAt(i) != '}') {
+                        return false;
+                    }
+                    i++;
+                } else {
+                    for (int n = 0; n < 4; n++, i++) {
+                        if (i >= length || !isHex(text.charAt(i))) {
+                            return false;
+                        }
+                    }
+                }
+                column += i - pos;
+                pos = i;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // a surrogate pair is one character for ANTLR, and a lone surrogate is not a source character
+    private boolean advanceSourceCharacter(char c) {
+        if (Character.isHighSurrogate(c)) {
+            if (pos + 1 >= length || !Character.isLowSurrogate(text.charAt(pos + 1))) {
+                return false;
+            }
+            pos += 2;
+        } else if (Character.isLowSurrogate(c)) {
+            return false;
+        } else {
+            pos++;
+        }
+        column++;
+        return true;
+    }
+
+    private boolean addToken(int kind, int start, int end) {
+        return addToken(kind, start, end, line, column);
+    }
+
+    private boolean addToken(int kind, int start, int end, int tokenLine, int tokenColumn) {
+        if (tokenCount + 1 > maxTokens) {
+            return false;
+        }
+        if (tokenCount == kinds.length) {
+            int newLength = tokenCount * 2;
+            kinds = Arrays.copyOf(kinds, newLength);
+            starts = Arrays.copyOf(starts, newLength);
+            ends = Arrays.copyOf(ends, newLength);
+            lines = Arrays.copyOf(lines, newLength);
+            columns = Arrays.copyOf(columns, newLength);
+            hiddenCounts = Arrays.copyOf(hiddenCounts, newLength);
+        }
+        kinds[tokenCount] = kind;
+        starts[tokenCount] = start;
+        ends[tokenCount] = end;
+        lines[tokenCount] = tokenLine;
+        columns[tokenCount] = tokenColumn;
+        hiddenCounts[tokenCount] = hiddenCount;
+        tokenCount++;
+        return true;
+    }
+
+    private void addHiddenToken(int kind, int start, int end, int tokenLine, int tokenColumn) {
+        if (hiddenCount == hiddenKinds.length) {
+            int newLength = hiddenCount * 2;
+            hiddenKinds = Arrays.copyOf(hiddenKinds, newLength);
+            hiddenStarts = Arrays.copyOf(hiddenStarts, newLength);
+            hiddenEnds = Arrays.copyOf(hiddenEnds, newLength);
+            hiddenLines = Arrays.copyOf(hiddenLines, newLength);
+            hiddenColumns = Arrays.copyOf(hiddenColumns, newLength);
+        }
+        hiddenKinds[hiddenCount] = kind;
+        hiddenStarts[hiddenCount] = start;
+        hiddenEnds[hiddenCount] = end;
+        hiddenLines[hiddenCount] = tokenLine;
+        hiddenColumns[hiddenCount] = tokenColumn;
+        hiddenCount++;
+    }
+
+    private static boolean isNameStart(char c) {
+        return c == '_' || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    String getText() {
+        return text;
+    }
+
+    int getTokenCount() {
+        return tokenCount;
+    }
+
+    int kind(int token) {
+        return kinds[token];
+    }
+
+    int start(int token) {
+        return starts[token];
+    }
+
+    int end(int token) {
+        return ends[token];
+    }
+
+    int line(int token) {
+        return lines[token];
+    }
+
+    int column(int token) {
+        return columns[token];
+    }
+
+    String tokenText(int token) {
+        return text.substring(starts[token], ends[token]);
+    }
+
+    boolean tokenTextEquals(int token, String value) {
+        int start = starts[token];
+        return ends[token] - start == value.length() && text.startsWith(value, start);
+    }
+
+    /**
+     * @return the index of the first kept hidden token that precedes the grammar token
+     */
+    int hiddenFrom(int token) {
+        return token == 0 ? 0 : hiddenCounts[token - 1];
+    }
+
+    /**
+     * @return the index after the last kept hidden token that precedes the grammar token
+     */
+    int hiddenTo(int token) {
+        return hiddenCounts[token];
+    }
+
+    boolean isHiddenComment(int hidden) {
+        return hiddenKinds[hidden] == COMMENT;
+    }
+
+    IgnoredChar.IgnoredCharKind hiddenIgnoredCharKind(int hidden) {
+        return IGNORED_CHAR_KINDS[hiddenKinds[hidden]];
+    }
+
+    String hiddenText(int hidden) {
+        return text.substring(hiddenStarts[hidden], hiddenEnds[hidden]);
+    }
+
+    int hiddenLine(int hidden) {
+        return hiddenLines[hidden];
+    }
+
+    int hiddenColumn(int hidden) {
+        return hiddenColumns[hidden];
+    }
+}
@@ -0,0 +1,667 @@
+package graphql.parser;
+
+import com.google.common.collect.ImmutableList;
+import graphql.Internal;
+import graphql.collect.ImmutableKit;
+import graphql.i18n.I18n;
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.Comment;
+import graphql.language.Definition;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.EnumValue;
+import graphql.language.Field;
+import graphql.language.FloatValue;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.IgnoredChar;
+import graphql.language.IgnoredChars;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.ListType;
+import graphql.language.NodeBuilder;
+import graphql.language.NonNullType;
+import graphql.language.NullValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.SourceLocation;
+import graphql.language.StringValue;
+import graphql.language.Type;
+import graphql.language.TypeName;
+import graphql.language.Value;
+import graphql.language.VariableDefinition;
+import graphql.language.VariableReference;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static graphql.parser.ExecutableDocumentLexer.AT;
+import static graphql.parser.ExecutableDocumentLexer.BANG;
+import static graphql.parser.ExecutableDocumentLexer.BLOCK_STRING;
+import static graphql.parser.ExecutableDocumentLexer.COLON;
+import static graphql.parser.ExecutableDocumentLexer.DOLLAR;
+import static graphql.parser.ExecutableDocumentLexer.EOF;
+import static graphql.parser.ExecutableDocumentLexer.EQUALS;
+import static graphql.parser.ExecutableDocumentLexer.FLOAT;
+import static graphql.parser.ExecutableDocumentLexer.INT;
+import static graphql.parser.ExecutableDocumentLexer.LBRACE;
+import static graphql.parser.ExecutableDocumentLexer.LBRACKET;
+import static graphql.parser.ExecutableDocumentLexer.LPAREN;
+import static graphql.parser.ExecutableDocumentLexer.NAME;
+import static graphql.parser.ExecutableDocumentLexer.RBRACE;
+import static graphql.parser.ExecutableDocumentLexer.RBRACKET;
+import static graphql.parser.ExecutableDocumentLexer.RPAREN;
+import static graphql.parser.ExecutableDocumentLexer.SPREAD;
+import static graphql.parser.ExecutableDocumentLexer.STRING;
+import static graphql.parser.StringValueParsing.parseSingleQuotedString;
+import static graphql.parser.StringValueParsing.parseTripleQuotedString;
+
+/**
+ * A hand written recursive descent parser for executable documents, that is documents made of operations and fragments,
+ * which produces the same AST as the ANTLR based {@link Parser}, including source locations, comments and ignored chars,
+ * but without the cost of ANTLR's lexer, token stream, adaptive prediction and parse tree.
+ * <p>
+ * It only handles the happy path: documents that contain SDL definitions or syntax errors, or that exceed the limits of
+ * the {@link ParserOptions}, make {@link #parseDocument()} return null, and are then parsed by ANTLR so that they are
+ * accepted or rejected with the exact same result as always.  The limits are checked conservatively, in particular the
+ * rule depth of the grammar is over rather than under estimated.
+ *
+ * @see ParserOptions.Builder#recursiveDescentParsing(boolean)
+ */
+@Internal
+public class ExecutableDocumentParser {
+
+    private static final List<Comment> NO_COMMENTS = ImmutableKit.emptyList();
+
+    private final ExecutableDocumentLexer lexer;
+    private final MultiSourceReader multiSourceReader;
+    private final ParserOptions parserOptions;
+    private final I18n i18N;
+    private final int maxRuleDepth;
+    private final boolean captureSourceLocation;
+    private final boolean captureLineComments;
+    private final boolean captureIgnoredChars;
+
+    private int pos;
+
+    // the source location of a token is often needed more than once, since the nodes of nested rules start with it
+    private int lastLocationToken = -1;
+    private SourceLocation lastLocation;
+    // and the line of a token mapped to its source
+    private int lastLine = -1;
+    private MultiSourceReader.SourceAndLine lastSourceAndLine;
+
+    ExecutableDocumentParser(String text, MultiSourceReader multiSourceReader, ParserOptions parserOptions, I18n i18N) {
+        this.lexer = new ExecutableDocumentLexer(text, parserOptions);
+        this.multiSourceReader = multiSourceReader;
+        this.parserOptions = parserOptions;
+        this.i18N = i18N;
+        this.maxRuleDepth = parserOptions.getMaxRuleDepth();
+        this.captureSourceLocation = parserOptions.isCaptureSourceLocation();
+        this.captureLineComments = parserOptions.isCaptureLineComments();
+        this.captureIgnoredChars = parserOptions.isCaptureIgnoredChars();
+    }
+
+    /**
+     * @return the document or null if it has to be parsed by ANTLR
+     */
+    @Nullable Document parseDocument() {
+        if (!lexer.tokenize()) {
+            return null;
+        }
+        Document document;
+        try {
+            document = document();
+        } catch (Fallback | InvalidSyntaxException | NumberFormatException e) {
+            // string values and numbers are converted as they are parsed, while ANTLR only converts them once the whole
+            // document has been parsed, so conversion errors are reported by ANTLR too in case it finds an earlier error
+            return null;
+        }
+        notifyParsingListener();
+        return document;
+    }
+
+    private void notifyParsingListener() {
+        ParsingListener parsingListener = parserOptions.getParsingListener();
+        if (parsingListener == ParsingListener.NOOP) {
+            return;
+        }
+        int tokenCount = lexer.getTokenCount() - 1;
+        for (int token = 0; token < tokenCount; token++) {
+            String text = lexer.tokenText(token);
+            int line = lexer.line(token);
+            int column = lexer.column(token);
+            parsingListener.onToken(new ParsingListener.Token() {
+                @Override
+                public String getText() {
+                    return text;
+                }
+
+                @Override
+                public int getLine() {
+                    return line;
+                }
+
+                @Override
+                public int getCharPositionInLine() {
+                    return column;
+                }
+            });
+        }
+    }
+
+    // document : definition+
+    private Document document() {
+        checkDepth(1);
+        int start = pos;
+        List<Definition<?>> definitions = new ArrayList<>();
+        do {
+            definitions.add(definition(2));
+        } while (kind() != EOF);
+        Document.Builder document = Document.newDocument();
+        addCommonData(document, start);
+        document.definitions(ImmutableList.copyOf(definitions));
+        return document.build();
+    }
+
+    private Definition<?> definition(int depth) {
+        checkDepth(depth);
+        int kind = kind();
+        if (kind == LBRACE) {
+            return operationDefinition(depth + 1);
+        }
+        if (kind == NAME) {
+            if (isKeyword("query") || isKeyword("mutation") || isKeyword("subscription")) {
+                return operationDefinition(depth + 1);
+            }
+            if (isKeyword("fragment")) {
+                return fragmentDefinition(depth + 1);
+            }
+        }
+        // type system definitions and extensions are left to ANTLR
+        throw Fallback.INSTANCE;
+    }
+
+    // operationDefinition : selectionSet | operationType name? variableDefinitions? directives? selectionSet
+    private OperationDefinition operationDefinition(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        OperationDefinition.Builder operationDefinition = OperationDefinition.newOperationDefinition();
+        if (kind() == LBRACE) {
+            operationDefinition.operation(OperationDefinition.Operation.QUERY);
+        } else {
+            checkDepth(depth + 1);
+            if (isKeyword("query")) {
+                operationDefinition.operation(OperationDefinition.Operation.QUERY);
+            } else if (isKeyword("mutation")) {
+                operationDefinition.operation(OperationDefinition.Operation.MUTATION);
+            } else {
+                operationDefinition.operation(OperationDefinition.Operation.SUBSCRIPTION);
+            }
+            pos++;
+            if (kind() == NAME) {
+                operationDefinition.name(name(depth + 1));
+            }
+            operationDefinition.variableDefinitions(kind() == LPAREN ? variableDefinitions(depth + 1) : ImmutableKit.emptyList());
+            operationDefinition.directives(directives(depth + 1));
+        }
+        operationDefinition.selectionSet(selectionSet(depth + 1));
+        addCommonData(operationDefinition, start);
+        return operationDefinition.build();
+    }
+
+    // variableDefinitions : '(' variableDefinition+ ')'
+    private List<VariableDefinition> variableDefinitions(int depth) {
+        checkDepth(depth);
+        expect(LPAREN);
+        List<VariableDefinition> variableDefinitions = new ArrayList<>();
+        do {
+            variableDefinitions.add(variableDefinition(depth + 1));
+        } while (kind() != RPAREN);
+        pos++;
+        return variableDefinitions;
+    }
+
+    // variableDefinition : variable ':' type defaultValue? directives?
+    private VariableDefinition variableDefinition(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        VariableDefinition.Builder variableDefinition = VariableDefinition.newVariableDefinition();
+        expect(DOLLAR);
+        checkDepth(depth + 1);
+        variableDefinition.name(name(depth + 2));
+        expect(COLON);
+        variableDefinition.type(type(depth + 1));
+        if (kind() == EQUALS) {
+            checkDepth(depth + 1);
+            pos++;
+            variableDefinition.defaultValue(value(depth + 2, true));
+        }
+        variableDefinition.directives(directives(depth + 1));
+        addCommonData(variableDefinition, start);
+        return variableDefinition.build();
+    }
+
+    // fragmentDefinition : FRAGMENT fragmentName typeCondition directives? selectionSet
+    private FragmentDefinition fragmentDefinition(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        pos++;
+        FragmentDefinition.Builder fragmentDefinition = FragmentDefinition.newFragmentDefinition();
+        fragmentDefinition.name(fragmentName(depth + 1));
+        if (kind() != NAME || !isKeyword("on")) {
+            throw Fallback.INSTANCE;
+        }
+        pos++;
+        // typeCondition : ON_KEYWORD typeName, which has no source location like in ANTLR
+        checkDepth(depth + 2);
+        fragmentDefinition.typeCondition(TypeName.newTypeName().name(name(depth + 3)).build());
+        fragmentDefinition.directives(directives(depth + 1));
+        fragmentDefinition.selectionSet(selectionSet(depth + 1));
+        addCommonData(fragmentDefinition, start);
+        return fragmentDefinition.build();
+    }
+
+    // selectionSet : '{' selection+ '}'
+    private SelectionSet selectionSet(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        expect(LBRACE);
+        List<Selection<?>> selections = new ArrayList<>();
+        do {
+            selections.add(selection(depth + 1));
+        } while (kind() != RBRACE);
+        pos++;
+        SelectionSet.Builder selectionSet = SelectionSet.newSelectionSet();
+        addCommonData(selectionSet, start);
+        selectionSet.selections(selections);
+        return selectionSet.build();
+    }
+
+    // selection : field | fragmentSpread | inlineFragment
+    private Selection<?> selection(int depth) {
+        checkDepth(depth);
+        int kind = kind();
+        if (kind == NAME) {
+            return field(depth + 1);
+        }
+        if (kind == SPREAD) {
+            // the name of a fragment can't be 'on', so that is the start of a type condition
+            if (kind(pos + 1) == NAME && !lexer.tokenTextEquals(pos + 1, "on")) {
+                return fragmentSpread(depth + 1);
+            }
+            return inlineFragment(depth + 1);
+        }
+        throw Fallback.INSTANCE;
+    }
+
+    // field : alias? name arguments? directives? selectionSet?
+    private Field field(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        Field.Builder field = Field.newField();
+        if (kind(pos + 1) == COLON) {
+            checkDepth(depth + 1);
+            field.alias(name(depth + 2));
+            pos++;
+            if (kind() != NAME) {
+                throw Fallback.INSTANCE;
+            }
+        }
+        field.name(name(depth + 1));
+        field.arguments(kind() == LPAREN ? arguments(depth + 1) : ImmutableKit.emptyList());
+        field.directives(directives(depth + 1));
+        if (kind() == LBRACE) {
+            field.selectionSet(selectionSet(depth + 1));
+        }
+        addCommonData(field, start);
+        return field.build();
+    }
+
+    // fragmentSpread : '...' fragmentName directives?
+    private FragmentSpread fragmentSpread(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        pos++;
+        FragmentSpread.Builder fragmentSpread = FragmentSpread.newFragmentSpread().name(fragmentName(depth + 1));
+        fragmentSpread.directives(directives(depth + 1));
+        addCommonData(fragmentSpread, start);
+        return fragmentSpread.build();
+    }
+
+    // inlineFragment : '...' typeCondition? directives? selectionSet
+    private InlineFragment inlineFragment(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        pos++;
+        InlineFragment.Builder inlineFragment = InlineFragment.newInlineFragment();
+        if (kind() == NAME) {
+            // typeCondition : ON_KEYWORD typeName
+            checkDepth(depth + 1);
+            pos++;
+            if (kind() != NAME) {
+                throw Fallback.INSTANCE;
+            }
+            inlineFragment.typeCondition(typeName(depth + 2));
+        }
+        inlineFragment.directives(directives(depth + 1));
+        inlineFragment.selectionSet(selectionSet(depth + 1));
+        addCommonData(inlineFragment, start);
+        return inlineFragment.build();
+    }
+
+    // directives : directive+
+    private List<Directive> directives(int depth) {
+        if (kind() != AT) {
+            return ImmutableKit.emptyList();
+        }
+        checkDepth(depth);
+        List<Directive> directives = new ArrayList<>();
+        do {
+            directives.add(directive(depth + 1));
+        } while (kind() == AT);
+        return directives;
+    }
+
+    // directive : '@' name arguments?
+    private Directive directive(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        pos++;
+        Directive.Builder directive = Directive.newDirective();
+        directive.name(name(depth + 1));
+        directive.arguments(kind() == LPAREN ? arguments(depth + 1) : ImmutableKit.emptyList());
+        addCommonData(directive, start);
+        return directive.build();
+    }
+
+    // arguments : '(' argument+ ')'
+    private List<Argument> arguments(int depth) {
+        checkDepth(depth);
+        pos++;
+        List<Argument> arguments = new ArrayList<>();
+        do {
+            arguments.add(argument(depth + 1));
+        } while (kind() != RPAREN);
+        pos++;
+        return arguments;
+    }
+
+    // argument : name ':' valueWithVariable
+    private Argument argument(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        Argument.Builder argument = Argument.newArgument();
+        argument.name(name(depth + 1));
+        expect(COLON);
+        argument.value(value(depth + 1, false));
+        addCommonData(argument, start);
+        return argument.build();
+    }
+
+    // type : typeName | listType | nonNullType
+    private Type<?> type(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        int kind = kind();
+        Type<?> type;
+        if (kind == NAME) {
+            if (kind(pos + 1) != BANG) {
+                return typeName(depth + 1);
+            }
+            type = typeName(depth + 2);
+        } else if (kind == LBRACKET) {
+            // whether the list type is non null is only known after it, so its depth is the deeper one
+            type = listType(depth + 2);
+            if (kind() != BANG) {
+                return type;
+            }
+        } else {
+            throw Fallback.INSTANCE;
+        }
+        // nonNullType : typeName '!' | listType '!'
+        pos++;
+        NonNullType.Builder nonNullType = NonNullType.newNonNullType();
+        addCommonData(nonNullType, start);
+        nonNullType.type(type);
+        return nonNullType.build();
+    }
+
+    // listType : '[' type ']'
+    private ListType listType(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        pos++;
+        ListType.Builder listType = ListType.newListType();
+        listType.type(type(depth + 1));
+        expect(RBRACKET);
+        addCommonData(listType, start);
+        return listType.build();
+    }
+
+    // typeName : name
+    private TypeName typeName(int depth) {
+        checkDepth(depth);
+        int start = pos;
+        TypeName.Builder typeName = TypeName.newTypeName();
+        typeName.name(name(depth + 1));
+        addCommonData(typeName, start);
+        return typeName.build();
+    }
+
+    // value : ... | valueWithVariable : variable | ...
+    private Value<?> value(int depth, boolean constant) {
+        checkDepth(depth);
+        int start = pos;
+        switch (kind()) {
+            case DOLLAR:
+                if (constant) {
+                    throw Fallback.INSTANCE;
+                }
+                pos++;
+                checkDepth(depth + 1);
+                VariableReference.Builder variableReference = VariableReference.newVariableReference().name(name(depth + 2));
+                addCommonData(variableReference, start);
+                return variableReference.build();
+            case INT:
+                IntValue.Builder intValue = IntValue.newIntValue().value(new BigInteger(lexer.tokenText(pos++)));
+                addCommonData(intValue, start);
+                return intValue.build();
+            case FLOAT:
+                FloatValue.Builder floatValue = FloatValue.newFloatValue().value(new BigDecimal(lexer.tokenText(pos++)));
+                addCommonData(floatValue, start);
+                return floatValue.build();
+            case STRING:
+                String text = lexer.tokenText(pos++);
+                SourceLocation sourceLocation = AntlrHelper.createSourceLocation(multiSourceReader, lexer.line(start), lexer.column(start));
+                StringValue.Builder stringValue = StringValue.newStringValue().value(parseSingleQuotedString(i18N, text, sourceLocation));
+                addCommonData(stringValue, start);
+                return stringValue.build();
+            case BLOCK_STRING:
+                StringValue.Builder blockStringValue = StringValue.newStringValue().value(parseTripleQuotedString(lexer.tokenText(pos++)));
+                addCommonData(blockStringValue, start);
+                return blockStringValue.build();
+            case NAME:
+                if (isKeyword("true") || isKeyword("false")) {
+                    BooleanValue.Builder booleanValue = BooleanValue.newBooleanValue().value(isKeyword("true"));
+                    pos++;
+                    addCommonData(booleanValue, start);
+                    return booleanValue.build();
+                }
+                if (isKeyword("null")) {
+                    pos++;
+                    NullValue.Builder nullValue = NullValue.newNullValue();
+                    addCommonData(nullValue, start);
+                    return nullValue.build();
+                }
+                // enumValue : enumValueName
+                checkDepth(depth + 1);
+                EnumValue.Builder enumValue = EnumValue.newEnumValue().name(name(depth + 2));
+                addCommonData(enumValue, start);
+                return enumValue.build();
+            case LBRACKET:
+                checkDepth(depth + 1);
+                pos++;
+                List<Value<?>> values = new ArrayList<>();
+                while (kind() != RBRACKET) {
+                    values.add(value(depth + 2, constant));
+                }
+                pos++;
+                ArrayValue.Builder arrayValue = ArrayValue.newArrayValue();
+                addCommonData(arrayValue, start);
+                return arrayValue.values(ImmutableList.copyOf(values)).build();
+            case LBRACE:
+                checkDepth(depth + 1);
+                pos++;
+                List<ObjectField> objectFields = new ArrayList<>();
+                while (kind() != RBRACE) {
+                    // objectField : name ':' value, which has no source location like in ANTLR
+                    checkDepth(depth + 2);
+                    String name = name(depth + 3);
+                    expect(COLON);
+                    objectFields.add(ObjectField.newObjectField().name(name).value(value(depth + 3, constant)).build());
+                }
+                pos++;
+                ObjectValue.Builder objectValue = ObjectValue.newObjectValue();
+                addCommonData(objectValue, start);
+                return objectValue.objectFields(objectFields).build();
+            default:
+                throw Fallback.INSTANCE;
+        }
+    }
+
+    // fragmentName : baseName | BooleanValue | NullValue
+    private String fragmentName(int depth) {
+        if (kind() != NAME || isKeyword("on")) {
+            throw Fallback.INSTANCE;
+        }
+        return name(depth);
+    }
+
+    // name : baseName | BooleanValue | NullValue | ON_KEYWORD, counted as two rules deep
+    private String name(int depth) {
+        if (kind() != NAME) {
+            throw Fallback.INSTANCE;
+        }
+        checkDepth(depth + 1);
+        return lexer.tokenText(pos++);
+    }
+
+    private void expect(int kind) {
+        if (kind() != kind) {
+            throw Fallback.INSTANCE;
+        }
+        pos++;
+    }
+
+    private int kind() {
+        return lexer.kind(pos);
+    }
+
+    private int kind(int token) {
+        return token < lexer.getTokenCount() ? lexer.kind(token) : EOF;
+    }
+
+    private boolean isKeyword(String keyword) {
+        return lexer.tokenTextEquals(pos, keyword);
+    }
+
+    private void checkDepth(int depth) {
+        if (depth > maxRuleDepth) {
+            throw Fallback.INSTANCE;
+        }
+    }
+
+    private void addCommonData(NodeBuilder nodeBuilder, int startToken) {
+        if (captureLineComments) {
+            List<Comment> comments = comments(startToken);
+            if (!comments.isEmpty()) {
+                nodeBuilder.comments(comments);
+            }
+        }
+        nodeBuilder.sourceLocation(captureSourceLocation ? sourceLocation(startToken) : SourceLocation.EMPTY);
+        if (captureIgnoredChars) {
+            // the ignored chars to the right are the ones in front of the token after the last token of the node
+            nodeBuilder.ignoredChars(new IgnoredChars(ignoredChars(startToken), ignoredChars(pos)));
+        }
+    }
+
+    private SourceLocation sourceLocation(int token) {
+        if (token != lastLocationToken) {
+            lastLocation = sourceLocation(lexer.line(token), lexer.column(token) + 1);
+            lastLocationToken = token;
+        }
+        return lastLocation;
+    }
+
+    // the same as AntlrHelper.createSourceLocation but with the line lookups cached
+    private SourceLocation sourceLocation(int antlrLine, int column) {
+        if (antlrLine != lastLine) {
+            lastSourceAndLine = multiSourceReader.getSourceAndLineFromOverallLine(antlrLine - 1);
+            lastLine = antlrLine;
+        }
+        return new SourceLocation(lastSourceAndLine.getLine() + 1, column, lastSourceAndLine.getSourceName());
+    }
+
+    private List<Comment> comments(int token) {
+        int from = lexer.hiddenFrom(token);
+        int to = lexer.hiddenTo(token);
+        ImmutableList.Builder<Comment> comments = null;
+        for (int hidden = from; hidden < to; hidden++) {
+            if (!lexer.isHiddenComment(hidden)) {
+                continue;
+            }
+            if (comments == null) {
+                comments = ImmutableList.builder();
+            }
+            // like ANTLR the leading # is stripped, and the line is looked up without making it 0 based first
+            String text = lexer.hiddenText(hidden).substring(1);
+            SourceLocation sourceLocation = SourceLocation.EMPTY;
+            if (captureSourceLocation) {
+                MultiSourceReader.SourceAndLine sourceAndLine = multiSourceReader.getSourceAndLineFromOverallLine(lexer.hiddenLine(hidden));
+                sourceLocation = new SourceLocation(sourceAndLine.getLine() + 1, lexer.hiddenColumn(hidden), sourceAndLine.getSourceName());
+            }
+            comments.add(new Comment(text, sourceLocation));
+        }
+        return comments == null ? NO_COMMENTS : comments.build();
+    }
+
+    private List<IgnoredChar> ignoredChars(int token) {
+        int from = lexer.hiddenFrom(token);
+        int to = lexer.hiddenTo(token);
+        ImmutableList.Builder<IgnoredChar> ignoredChars = null;
+        for (int hidden = from; hidden < to; hidden++) {
+            if (lexer.isHiddenComment(hidden)) {
+                continue;
+            }
+            if (ignoredChars == null) {
+                ignoredChars = ImmutableList.builder();
+            }
+            SourceLocation sourceLocation = captureSourceLocation
+                    ? sourceLocation(lexer.hiddenLine(hidden), lexer.hiddenColumn(hidden) + 1)
+                    : SourceLocation.EMPTY;
+            ignoredChars.add(new IgnoredChar(lexer.hiddenText(hidden), lexer.hiddenIgnoredCharKind(hidden), sourceLocation));
+        }
+        return ignoredChars == null ? ImmutableKit.emptyList() : ignoredChars.build();
+    }
+
+    /**
+     * Thrown to abandon the parse in favour of ANTLR, without the cost of a stack trace
+     */
+    private static class Fallback extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private static final Fallback INSTANCE = new Fallback();
+
+        private Fallback() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.io.LineNumberReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,7 +20,8 @@ import java.util.List;
  * and the relative lines numbers.
  *
  * It can also track all data in memory if you want to have all of the previous read data in
- * place at some point in time.
+ * place at some point in time.  Strings and UTF-8 byte buffers are already in memory, so their data is
+ * tracked without being copied.
  */
 @PublicApi
 public class MultiSourceReader extends Reader {
@@ -28,7 +31,6 @@ public class MultiSourceReader extends Reader {
     private static final boolean LINE_NUMBER_READER_EOS_IS_TERMINATOR;
 
     private final List<SourcePart> sourceParts;
-    private final StringBuilder data = new StringBuilder();
     private int currentIndex = 0;
     private int overallLineNumber = 0;
     private final boolean trackData;
@@ -75,7 +77,9 @@ public class MultiSourceReader extends Reader {
                 // and sourcePart.lastRead
                 overallLineNumber = calcLineNumber();
                 if (read != -1) {
-                    trackData(cbuf, off, read);
+                    if (trackData) {
+                        sourcePart.trackData(cbuf, off, read);
+                    }
                     return read;
                 }
             } finally {
@@ -84,12 +88,6 @@ public class MultiSourceReader extends Reader {
         }
     }
 
-    private void trackData(char[] cbuf, int off, int len) {
-        if (trackData) {
-            data.append(cbuf, off, len);
-        }
-    }
-
     private int calcLineNumber() {
         int linenumber = 0;
         for (SourcePart sourcePart : sourceParts) {
@@ -211,6 +209,12 @@ public class MultiSourceReader extends Reader {
     }
 
     public List<String> getData() {
+        StringBuilder data = new StringBuilder();
+        readerLock.runLocked(() -> {
+            for (SourcePart sourcePart : sourceParts) {
+                sourcePart.appendTrackedData(data);
+            }
+        });
         LineNumberReader reader = new LineNumberReader(new StringReader(data.toString()));
         List<String> lines = new ArrayList<>();
         while (true) {
@@ -247,6 +251,33 @@ public class MultiSourceReader extends Reader {
         boolean closed;
         char lastRead;
         boolean reachedEndOfStream = false;
+        // the data read so far is either a prefix of the string or byte buffer this part reads, or is copied
+        String string;
+        ByteBuffer utf8;
+        int trackedLength;
+        StringBuilder trackedData;
+
+        void trackData(char[] cbuf, int off, int len) {
+            if (string != null || utf8 != null) {
+                trackedLength += len;
+            } else {
+                if (trackedData == null) {
+                    trackedData = new StringBuilder();
+                }
+                trackedData.append(cbuf, off, len);
+            }
+        }
+
+        void appendTrackedData(StringBuilder data) {
+            if (string != null) {
+                data.append(string, 0, trackedLength);
+            } else if (utf8 != null) {
+                // only done to build error previews, so decoding again is cheaper than keeping a copy
+                data.append(StandardCharsets.UTF_8.decode(utf8.duplicate()), 0, trackedLength);
+            } else if (trackedData != null) {
+                data.append(trackedData);
+            }
+        }
 
         /**
          * This handles the discrepancy between LineNumberReader.getLineNumber() for Java versions
@@ -291,6 +322,26 @@ public class MultiSourceReader extends Reader {
             sourcePart.lineReader = new LineNumberReader(new StringReader(input));
             sourcePart.sourceName = sourceName;
             sourcePart.closed = false;
+            sourcePart.string = input;
+            sourceParts.add(sourcePart);
+            return this;
+        }
+
+        /**
+         * Adds UTF-8 encoded input, read from the buffer position to its limit, which are left untouched.  The bytes
+         * are decoded as they are read, so a heap, direct or memory mapped buffer is never copied into a String as a whole.
+         *
+         * @param utf8Input  the UTF-8 encoded input
+         * @param sourceName the name of the source
+         *
+         * @return this builder
+         */
+        public Builder utf8(ByteBuffer utf8Input, String sourceName) {
+            SourcePart sourcePart = new SourcePart();
+            sourcePart.lineReader = new LineNumberReader(new Utf8ByteBufferReader(Assert.assertNotNull(utf8Input)));
+            sourcePart.sourceName = sourceName;
+            sourcePart.closed = false;
+            sourcePart.utf8 = utf8Input.duplicate();
             sourceParts.add(sourcePart);
             return this;
         }
@@ -31,6 +31,7 @@ import org.jspecify.annotations.NonNull;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -177,13 +178,30 @@ public class Parser {
         return parseDocumentImpl(parserEnvironment);
     }
 
+    /**
+     * Parses UTF-8 encoded input into a graphql AST {@link Document}.  The input is decoded as it is parsed, from the
+     * buffer position to its limit, so a heap, direct or memory mapped buffer is never decoded into a String as a whole.
+     *
+     * @param utf8Input the UTF-8 encoded input to parse
+     *
+     * @return an AST {@link Document}
+     *
+     * @throws InvalidSyntaxException if the input is not valid graphql syntax
+     */
+    public Document parseDocument(ByteBuffer utf8Input) throws InvalidSyntaxException {
+        ParserEnvironment parserEnvironment = ParserEnvironment.newParserEnvironment()
+                .document(utf8Input)
+                .build();
+        return parseDocumentImpl(parserEnvironment);
+    }
+
     private Document parseDocumentImpl(ParserEnvironment environment) throws InvalidSyntaxException {
         BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction = (parser, toLanguage) -> {
             GraphqlParser.DocumentContext documentContext = parser.document();
             Document doc = toLanguage.createDocument(documentContext);
             return new Object[]{documentContext, doc};
         };
-        return (Document) parseImpl(environment, nodeFunction);
+        return (Document) parseImpl(environment, nodeFunction, true);
     }
 
     private Value<?> parseValueImpl(String input) throws InvalidSyntaxException {
@@ -197,7 +215,7 @@ public class Parser {
                 .trackData(true)
                 .build();
         ParserEnvironment parserEnvironment = ParserEnvironment.newParserEnvironment().document(multiSourceReader).build();
-        return (Value<?>) parseImpl(parserEnvironment, nodeFunction);
+        return (Value<?>) parseImpl(parserEnvironment, nodeFunction, false);
     }
 
     private Type<?> parseTypeImpl(String input) throws InvalidSyntaxException {
@@ -212,7 +230,7 @@ public class Parser {
                 .build();
 
         ParserEnvironment parserEnvironment = ParserEnvironment.newParserEnvironment().document(multiSourceReader).build();
-        return (Type<?>) parseImpl(parserEnvironment, nodeFunction);
+        return (Type<?>) parseImpl(parserEnvironment, nodeFunction, false);
     }
 
     private FieldDefinition parseFieldDefinitionImpl(String input) throws InvalidSyntaxException {
@@ -227,10 +245,10 @@ public class Parser {
                 .build();
 
         ParserEnvironment parserEnvironment = ParserEnvironment.newParserEnvironment().document(multiSourceReader).build();
-        return (FieldDefinition) parseImpl(parserEnvironment, nodeFunction);
+        return (FieldDefinition) parseImpl(parserEnvironment, nodeFunction, false);
     }
 
-    private Node<?> parseImpl(ParserEnvironment environment, BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction) throws InvalidSyntaxException {
+    private Node<?> parseImpl(ParserEnvironment environment, BiFunction<GraphqlParser, GraphqlAntlrToLanguage, Object[]> nodeFunction, boolean document) throws InvalidSyntaxException {
         // default in the parser options if they are not set
         ParserOptions parserOptions = environment.getParserOptions();
         parserOptions = Optional.ofNullable(parserOptions).orElse(ParserOptions.getDefaultParserOptions());
@@ -239,7 +257,19 @@ public class Parser {
 
         SafeTokenReader safeTokenReader = setupSafeTokenReader(environment, parserOptions, multiSourceReader);
 
-        CodePointCharStream charStream = setupCharStream(safeTokenReader);
+        CodePointCharStream charStream;
+        // subclasses may customise the ANTLR to AST code, so they always get ANTLR
+        if (document && parserOptions.isRecursiveDescentParsing() && getClass() == Parser.class) {
+            String text = readFully(safeTokenReader);
+            Document doc = new ExecutableDocumentParser(text, multiSourceReader, parserOptions, environment.getI18N()).parseDocument();
+            if (doc != null) {
+                return doc;
+            }
+            // anything the recursive descent parser does not handle is parsed by ANTLR, with the same result as always
+            charStream = CharStreams.fromString(text);
+        } else {
+            charStream = setupCharStream(safeTokenReader);
+        }
 
         GraphqlLexer lexer = setupGraphqlLexer(environment, multiSourceReader, charStream);
 
@@ -319,6 +349,21 @@ public class Parser {
         return charStream;
     }
 
+    @NonNull
+    private static String readFully(SafeTokenReader safeTokenReader) {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[4096];
+        try {
+            int read;
+            while ((read = safeTokenReader.read(buffer, 0, buffer.length)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return text.toString();
+    }
+
     @NonNull
     private static GraphqlLexer setupGraphqlLexer(ParserEnvironment environment, MultiSourceReader multiSourceReader, CodePointCharStream charStream) {
         GraphqlLexer lexer = new GraphqlLexer(charStream);
@@ -4,7 +4,7 @@ import graphql.PublicApi;
 import graphql.i18n.I18n;
 
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.Locale;
 
 import static graphql.Assert.assertNotNull;
@@ -44,6 +44,8 @@ public interface ParserEnvironment {
 
     class Builder {
         Reader reader;
+        String documentString;
+        ByteBuffer documentUtf8;
         ParserOptions parserOptions = ParserOptions.getDefaultParserOptions();
         Locale locale = Locale.getDefault();
 
@@ -52,11 +54,31 @@ public interface ParserEnvironment {
 
         public Builder document(Reader documentText) {
             this.reader = assertNotNull(documentText);
+            this.documentString = null;
+            this.documentUtf8 = null;
             return this;
         }
 
         public Builder document(String documentText) {
-            return document(new StringReader(documentText));
+            this.documentString = assertNotNull(documentText);
+            this.reader = null;
+            this.documentUtf8 = null;
+            return this;
+        }
+
+        /**
+         * The document is decoded as it is parsed, from the buffer position to its limit, so a heap, direct or
+         * memory mapped buffer of UTF-8 never has to be decoded into a String first.
+         *
+         * @param utf8DocumentText the UTF-8 encoded document
+         *
+         * @return this builder
+         */
+        public Builder document(ByteBuffer utf8DocumentText) {
+            this.documentUtf8 = assertNotNull(utf8DocumentText);
+            this.reader = null;
+            this.documentString = null;
+            return this;
         }
 
         public Builder parserOptions(ParserOptions parserOptions) {
@@ -71,10 +93,24 @@ public interface ParserEnvironment {
 
         public ParserEnvironment build() {
             I18n i18n = I18n.i18n(I18n.BundleType.Parsing, locale);
+            Reader document = reader;
+            if (documentString != null || documentUtf8 != null) {
+                // a string or a buffer is already in memory, so the reader can track it without copying it
+                ParserOptions options = parserOptions != null ? parserOptions : ParserOptions.getDefaultParserOptions();
+                MultiSourceReader.Builder multiSourceReader = MultiSourceReader.newMultiSourceReader()
+                        .trackData(options.isReaderTrackData());
+                if (documentString != null) {
+                    multiSourceReader.string(documentString, null);
+                } else {
+                    multiSourceReader.utf8(documentUtf8, null);
+                }
+                document = multiSourceReader.build();
+            }
+            Reader finalDocument = document;
             return new ParserEnvironment() {
                 @Override
                 public Reader getDocument() {
-                    return reader;
+                    return finalDocument;
                 }
 
                 @Override
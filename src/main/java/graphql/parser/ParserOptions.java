@@ -1,5 +1,6 @@
 package graphql.parser;
 
+import graphql.ExperimentalApi;
 import graphql.PublicApi;
 
 import java.util.function.Consumer;
@@ -193,6 +194,7 @@ public class ParserOptions {
     private final int maxWhitespaceTokens;
     private final int maxRuleDepth;
     private final boolean redactTokenParserErrorMessages;
+    private final boolean recursiveDescentParsing;
     private final ParsingListener parsingListener;
 
     private ParserOptions(Builder builder) {
@@ -205,6 +207,7 @@ public class ParserOptions {
         this.maxWhitespaceTokens = builder.maxWhitespaceTokens;
         this.maxRuleDepth = builder.maxRuleDepth;
         this.redactTokenParserErrorMessages = builder.redactTokenParserErrorMessages;
+        this.recursiveDescentParsing = builder.recursiveDescentParsing;
         this.parsingListener = builder.parsingListener;
     }
 
@@ -309,6 +312,19 @@ public class ParserOptions {
         return redactTokenParserErrorMessages;
     }
 
+    /**
+     * By default documents are parsed by the ANTLR based parser.  With this option executable documents, that is
+     * documents made of operations and fragments, are parsed by a hand written recursive descent parser instead, which
+     * produces the same AST at a fraction of the cost.  Any other document, and any document with a syntax error, is
+     * still parsed by ANTLR, so the same documents are accepted with the same errors.
+     *
+     * @return true if executable documents are parsed by the recursive descent parser
+     */
+    @ExperimentalApi
+    public boolean isRecursiveDescentParsing() {
+        return recursiveDescentParsing;
+    }
+
     public ParsingListener getParsingListener() {
         return parsingListener;
     }
@@ -335,6 +351,7 @@ public class ParserOptions {
         private int maxWhitespaceTokens = MAX_WHITESPACE_TOKENS;
         private int maxRuleDepth = MAX_RULE_DEPTH;
         private boolean redactTokenParserErrorMessages = false;
+        private boolean recursiveDescentParsing = false;
 
         Builder() {
         }
@@ -343,11 +360,13 @@ public class ParserOptions {
             this.captureIgnoredChars = parserOptions.captureIgnoredChars;
             this.captureSourceLocation = parserOptions.captureSourceLocation;
             this.captureLineComments = parserOptions.captureLineComments;
+            this.readerTrackData = parserOptions.readerTrackData;
             this.maxCharacters = parserOptions.maxCharacters;
             this.maxTokens = parserOptions.maxTokens;
             this.maxWhitespaceTokens = parserOptions.maxWhitespaceTokens;
             this.maxRuleDepth = parserOptions.maxRuleDepth;
             this.redactTokenParserErrorMessages = parserOptions.redactTokenParserErrorMessages;
+            this.recursiveDescentParsing = parserOptions.recursiveDescentParsing;
             this.parsingListener = parserOptions.parsingListener;
         }
 
@@ -396,6 +415,12 @@ public class ParserOptions {
             return this;
         }
 
+        @ExperimentalApi
+        public Builder recursiveDescentParsing(boolean recursiveDescentParsing) {
+            this.recursiveDescentParsing = recursiveDescentParsing;
+            return this;
+        }
+
         public Builder parsingListener(ParsingListener parsingListener) {
             this.parsingListener = assertNotNull(parsingListener);
             return this;
@@ -0,0 +1,76 @@
+package graphql.parser;
+
+import graphql.Internal;
+import org.jspecify.annotations.NonNull;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * This reader decodes UTF-8 straight from a {@link ByteBuffer} into the buffers it is read into, so that a heap,
+ * direct or memory mapped buffer can be parsed without first being decoded into a String.
+ * <p>
+ * Malformed input is replaced like {@link String#String(byte[], java.nio.charset.Charset)} does.  The buffer
+ * is read from its position to its limit, which are left untouched.
+ */
+@Internal
+public class Utf8ByteBufferReader extends Reader {
+
+    private static final int NO_PENDING_CHAR = -1;
+
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    // the low surrogate of a pair that did not fit into the last read
+    private int pendingChar = NO_PENDING_CHAR;
+
+    public Utf8ByteBufferReader(ByteBuffer utf8) {
+        this.bytes = utf8.duplicate();
+    }
+
+    @Override
+    public int read(char @NonNull [] buff, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buff.length);
+        if (len == 0) {
+            return 0;
+        }
+        int read = 0;
+        if (pendingChar != NO_PENDING_CHAR) {
+            buff[off] = (char) pendingChar;
+            pendingChar = NO_PENDING_CHAR;
+            read = 1;
+        }
+        if (read < len && bytes.hasRemaining()) {
+            CharBuffer out = CharBuffer.wrap(buff, off + read, len - read);
+            decoder.decode(bytes, out, true);
+            read = out.position() - off;
+            if (read == 0) {
+                // there was only room for one char and the next code point needs a surrogate pair
+                CharBuffer pair = CharBuffer.allocate(2);
+                decoder.decode(bytes, pair, true);
+                pair.flip();
+                buff[off] = pair.get();
+                if (pair.hasRemaining()) {
+                    pendingChar = pair.get();
+                }
+                read = 1;
+            }
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    @Override
+    public boolean ready() {
+        return pendingChar != NO_PENDING_CHAR || bytes.hasRemaining();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,50 @@
+package graphql.schema;
+
+
+import graphql.PublicSpi;
+import graphql.TypeResolutionEnvironment;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link TypeResolver} that can work out the concrete {@link GraphQLObjectType}s of all the elements of a list at once.
+ * <p>
+ * When a field returns a list of a {@link GraphQLInterfaceType} or a {@link GraphQLUnionType} then the execution
+ * strategy calls {@link #getTypes(TypeResolutionEnvironment, List)} once for the whole list rather than calling
+ * {@link #getType(TypeResolutionEnvironment)} for each element.  This allows the resolver to look up the types of many
+ * values in one go, and the execution strategy collects the sub selection of the field once per resolved type rather than
+ * once per element.
+ * <p>
+ * Batch type resolvers are registered like any other type resolver, via
+ * {@link GraphQLCodeRegistry.Builder#typeResolver(String, TypeResolver)} or {@link graphql.schema.idl.TypeRuntimeWiring}.
+ * Values that are not elements of a list, as well as the elements of lists that are streamed via @stream, are still
+ * resolved one at a time via {@link #getType(TypeResolutionEnvironment)}
+ */
+@PublicSpi
+public interface BatchTypeResolver extends TypeResolver {
+
+    /**
+     * This call back is invoked with all the non null elements of a list to work out what object type to use for each
+     * of them.
+     *
+     * @param env    the runtime environment of the list field, its {@link TypeResolutionEnvironment#getObject()} is the
+     *               same list as the values
+     * @param values the non null elements of the list, in list order
+     *
+     * @return a graphql object type for each of the values, in the same order as the values
+     */
+    List<GraphQLObjectType> getTypes(TypeResolutionEnvironment env, List<Object> values);
+
+    /**
+     * By default a single value is resolved as a list of one value
+     *
+     * @param env the runtime environment
+     *
+     * @return a graphql object type to use based on examining the environment
+     */
+    @Override
+    default GraphQLObjectType getType(TypeResolutionEnvironment env) {
+        return getTypes(env, Collections.singletonList(env.getObject())).get(0);
+    }
+}
@@ -0,0 +1,127 @@
+package graphql.schema;
+
+import graphql.Internal;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The code of a {@link GraphQLCodeRegistry} frozen against the types of a {@link GraphQLSchema}, so that it can be looked
+ * up during execution without creating {@link FieldCoordinates} and hashing them.
+ * <p>
+ * Every field of every object type in the schema gets a stable ordinal, in type name order, and its {@link DataFetcherFactory}
+ * is stored in an array at that ordinal.  The ordinal is found via the identity of the field definition.  Field
+ * definitions that are shared by several object types, and fields that are not in the schema, such as the
+ * introspection meta fields, fall back to the code registry.
+ * <p>
+ * The {@link DataFetcherFactory} rather than the {@link DataFetcher} is frozen, since a factory is allowed to make a new
+ * data fetcher every time.
+ */
+@Internal
+@NullMarked
+public class CodeRegistryDispatchTable {
+
+    private static final int SHARED = -1;
+
+    private final GraphQLCodeRegistry codeRegistry;
+    private final Map<GraphQLFieldDefinition, Integer> ordinals;
+    private final GraphQLObjectType[] parentTypes;
+    private final DataFetcherFactory<?>[] dataFetcherFactories;
+    private final Map<GraphQLNamedOutputType, TypeResolver> typeResolvers;
+
+    CodeRegistryDispatchTable(GraphQLCodeRegistry codeRegistry, List<GraphQLNamedType> allTypes) {
+        this.codeRegistry = codeRegistry;
+        this.ordinals = new IdentityHashMap<>();
+        this.typeResolvers = new IdentityHashMap<>();
+        List<GraphQLObjectType> parentTypes = new ArrayList<>();
+        List<DataFetcherFactory<?>> dataFetcherFactories = new ArrayList<>();
+        for (GraphQLNamedType type : allTypes) {
+            if (type instanceof GraphQLObjectType) {
+                GraphQLObjectType objectType = (GraphQLObjectType) type;
+                for (GraphQLFieldDefinition fieldDefinition : objectType.getFieldDefinitions()) {
+                    int ordinal = parentTypes.size();
+                    parentTypes.add(objectType);
+                    dataFetcherFactories.add(codeRegistry.getDataFetcherFactory(objectType, fieldDefinition));
+                    Integer existing = ordinals.putIfAbsent(fieldDefinition, ordinal);
+                    if (existing != null) {
+                        ordinals.put(fieldDefinition, SHARED);
+                    }
+                }
+            } else if (type instanceof GraphQLInterfaceType || type instanceof GraphQLUnionType) {
+                TypeResolver typeResolver = codeRegistry.findTypeResolver((GraphQLNamedOutputType) type);
+                if (typeResolver != null) {
+                    typeResolvers.put((GraphQLNamedOutputType) type, typeResolver);
+                }
+            }
+        }
+        this.parentTypes = parentTypes.toArray(new GraphQLObjectType[0]);
+        this.dataFetcherFactories = dataFetcherFactories.toArray(new DataFetcherFactory<?>[0]);
+    }
+
+    /**
+     * @return the number of field ordinals, which are in the range 0 to this number (exclusive)
+     */
+    public int getFieldCount() {
+        return parentTypes.length;
+    }
+
+    /**
+     * Returns the stable ordinal of a field of an object type of the schema
+     *
+     * @param parentType      the object type
+     * @param fieldDefinition the field definition
+     *
+     * @return the ordinal or -1 if the field has no ordinal of its own
+     */
+    public int getFieldOrdinal(GraphQLObjectType parentType, GraphQLFieldDefinition fieldDefinition) {
+        Integer ordinal = ordinals.get(fieldDefinition);
+        if (ordinal == null || ordinal == SHARED || parentTypes[ordinal] != parentType) {
+            return -1;
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the same data fetcher as {@link GraphQLCodeRegistry#getDataFetcher(GraphQLObjectType, GraphQLFieldDefinition)}
+     *
+     * @param parentType      the object type
+     * @param fieldDefinition the field definition
+     *
+     * @return the data fetcher of the field
+     */
+    public DataFetcher<?> getDataFetcher(GraphQLObjectType parentType, GraphQLFieldDefinition fieldDefinition) {
+        int ordinal = getFieldOrdinal(parentType, fieldDefinition);
+        if (ordinal < 0) {
+            return codeRegistry.getDataFetcher(parentType, fieldDefinition);
+        }
+        return GraphQLCodeRegistry.getDataFetcher(dataFetcherFactories[ordinal], fieldDefinition);
+    }
+
+    /**
+     * Returns the same type resolver as {@link GraphQLCodeRegistry#getTypeResolver(GraphQLInterfaceType)}
+     *
+     * @param interfaceType the interface type
+     *
+     * @return the type resolver of the interface
+     */
+    public TypeResolver getTypeResolver(GraphQLInterfaceType interfaceType) {
+        TypeResolver typeResolver = typeResolvers.get(interfaceType);
+        return typeResolver != null ? typeResolver : codeRegistry.getTypeResolver(interfaceType);
+    }
+
+    /**
+     * Returns the same type resolver as {@link GraphQLCodeRegistry#getTypeResolver(GraphQLUnionType)}
+     *
+     * @param unionType the union type
+     *
+     * @return the type resolver of the union
+     */
+    public TypeResolver getTypeResolver(GraphQLUnionType unionType) {
+        TypeResolver typeResolver = typeResolvers.get(unionType);
+        return typeResolver != null ? typeResolver : codeRegistry.getTypeResolver(unionType);
+    }
+}
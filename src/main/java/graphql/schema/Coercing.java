@@ -188,6 +188,11 @@ public interface Coercing<I, O> {
      * method should be implemented.
      *
      * Note : if input is literal {@link graphql.language.NullValue}, input coercion will return null before this method is called
+     * <p>
+     * Note : when {@link graphql.GraphQLUnusualConfiguration.ExecutionPlanConfig execution plans} are enabled, the values of field arguments made of literals only
+     * are coerced once per document and locale and then shared by later executions.  The result must therefore only depend
+     * on the input and the locale and not on the graphql context.  Values other than strings, numbers, booleans, enums and
+     * well known immutable JDK types are not shared, since a data fetcher could change them.
      *
      * @param input          is never null
      * @param variables      the resolved variables passed to the query
@@ -98,7 +98,10 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
     }
 
     public static Builder newDataFetchingEnvironment(DataFetchingEnvironment environment) {
-        return new Builder((DataFetchingEnvironmentImpl) environment);
+        if (environment instanceof DataFetchingEnvironmentImpl) {
+            return new Builder((DataFetchingEnvironmentImpl) environment);
+        }
+        return new Builder(environment);
     }
 
     public static Builder newDataFetchingEnvironment(ExecutionContext executionContext) {
@@ -327,6 +330,45 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
             this.alternativeCallContext = env.dfeInternalState.alternativeCallContext;
         }
 
+        public Builder(DataFetchingEnvironment env) {
+            this.source = env.getSource();
+            this.arguments = env::getArguments;
+            this.context = env.getContext();
+            this.graphQLContext = env.getGraphQlContext();
+            this.localContext = env.getLocalContext();
+            this.root = env.getRoot();
+            this.fieldDefinition = env.getFieldDefinition();
+            this.mergedField = env.getMergedField();
+            this.fieldType = env.getFieldType();
+            this.parentType = env.getParentType();
+            this.graphQLSchema = env.getGraphQLSchema();
+            this.fragmentsByName = ImmutableMap.copyOf(env.getFragmentsByName());
+            this.executionId = env.getExecutionId();
+            this.selectionSet = env.getSelectionSet();
+            this.executionStepInfo = env::getExecutionStepInfo;
+            this.dataLoaderRegistry = env.getDataLoaderRegistry();
+            this.locale = env.getLocale();
+            this.operationDefinition = env.getOperationDefinition();
+            this.document = env.getDocument();
+            this.variables = ImmutableMapWithNullValues.copyOf(env.getVariables());
+            this.queryDirectives = env.getQueryDirectives();
+            DFEInternalState internalState = internalState(env);
+            if (internalState != null) {
+                this.dataLoaderDispatchStrategy = internalState.dataLoaderDispatchStrategy;
+                this.alternativeCallContext = internalState.alternativeCallContext;
+            }
+        }
+
+        private static DFEInternalState internalState(DataFetchingEnvironment env) {
+            try {
+                Object internalState = env.toInternal();
+                return internalState instanceof DFEInternalState ? (DFEInternalState) internalState : null;
+            } catch (UnsupportedOperationException e) {
+                // a custom environment that has no internal state
+                return null;
+            }
+        }
+
         public Builder() {
         }
 
@@ -462,9 +504,9 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
     @Internal
     public static class DFEInternalState {
         final DataLoaderDispatchStrategy dataLoaderDispatchStrategy;
-        final AlternativeCallContext alternativeCallContext;
+        final @Nullable AlternativeCallContext alternativeCallContext;
 
-        public DFEInternalState(DataLoaderDispatchStrategy dataLoaderDispatchStrategy, AlternativeCallContext alternativeCallContext) {
+        public DFEInternalState(DataLoaderDispatchStrategy dataLoaderDispatchStrategy, @Nullable AlternativeCallContext alternativeCallContext) {
             this.dataLoaderDispatchStrategy = dataLoaderDispatchStrategy;
             this.alternativeCallContext = alternativeCallContext;
         }
@@ -473,7 +515,7 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
             return dataLoaderDispatchStrategy;
         }
 
-        public AlternativeCallContext getDeferredCallContext() {
+        public @Nullable AlternativeCallContext getDeferredCallContext() {
             return alternativeCallContext;
         }
     }
@@ -1,6 +1,7 @@
 package graphql.schema;
 
 import graphql.Internal;
+import graphql.execution.ResultPath;
 import graphql.execution.incremental.AlternativeCallContext;
 import graphql.execution.instrumentation.dataloader.PerLevelDataLoaderDispatchStrategy;
 import org.dataloader.DataLoader;
@@ -28,12 +29,11 @@ public class DataLoaderWithContext<K, V> extends DelegatingDataLoader<K, V> {
         // calling super.load() is important, because otherwise the data loader will sometimes called
         // later than the dispatch, which results in a hanging DL
         CompletableFuture<V> result = super.load(key, keyContext);
-        DataFetchingEnvironmentImpl dfeImpl = (DataFetchingEnvironmentImpl) dfe;
-        DataFetchingEnvironmentImpl.DFEInternalState dfeInternalState = (DataFetchingEnvironmentImpl.DFEInternalState) dfeImpl.toInternal();
+        DataFetchingEnvironmentImpl.DFEInternalState dfeInternalState = (DataFetchingEnvironmentImpl.DFEInternalState) dfe.toInternal();
         if (dfeInternalState.getDataLoaderDispatchStrategy() instanceof PerLevelDataLoaderDispatchStrategy) {
             AlternativeCallContext alternativeCallContext = dfeInternalState.getDeferredCallContext();
-            int level = dfe.getExecutionStepInfo().getPath().getLevel();
-            String path = dfe.getExecutionStepInfo().getPath().toString();
+            ResultPath path = dfe.getExecutionStepInfo().getPath();
+            int level = path.getLevel();
             ((PerLevelDataLoaderDispatchStrategy) dfeInternalState.dataLoaderDispatchStrategy).newDataLoaderLoadCall(path, level, delegate, dataLoaderName, key, alternativeCallContext);
         }
         return result;
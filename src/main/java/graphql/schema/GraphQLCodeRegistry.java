@@ -4,6 +4,7 @@ import graphql.Assert;
 import graphql.Internal;
 import graphql.PublicApi;
 import graphql.schema.visibility.GraphqlFieldVisibility;
+import org.jspecify.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -22,6 +23,9 @@ import static graphql.schema.visibility.DefaultGraphqlFieldVisibility.DEFAULT_FI
  * the {@link graphql.schema.DataFetcher}s associated with fields, the {@link graphql.schema.TypeResolver}s associated with
  * abstract types and the {@link graphql.schema.visibility.GraphqlFieldVisibility}
  * <p>
+ * A type resolver that is a {@link graphql.schema.BatchTypeResolver} is asked for the object types of all the elements of
+ * a list at once.
+ * <p>
  * For legacy reasons these code functions can still exist on the original type objects but this will be removed in a future version.  Once
  * removed the type system objects will be able have proper hashCode/equals methods and be checked for proper equality.
  */
@@ -84,11 +88,15 @@ public class GraphQLCodeRegistry {
         return hasDataFetcherImpl(coordinates, dataFetcherMap, systemDataFetcherMap);
     }
 
-    @SuppressWarnings("deprecation")
     private static DataFetcher<?> getDataFetcherImpl(FieldCoordinates coordinates, GraphQLFieldDefinition fieldDefinition, Map<FieldCoordinates, DataFetcherFactory<?>> dataFetcherMap, Map<String, DataFetcherFactory<?>> systemDataFetcherMap, DataFetcherFactory<?> defaultDataFetcherFactory) {
         assertNotNull(coordinates);
         assertNotNull(fieldDefinition);
 
+        DataFetcherFactory<?> dataFetcherFactory = getDataFetcherFactoryImpl(coordinates, fieldDefinition, dataFetcherMap, systemDataFetcherMap, defaultDataFetcherFactory);
+        return getDataFetcher(dataFetcherFactory, fieldDefinition);
+    }
+
+    private static DataFetcherFactory<?> getDataFetcherFactoryImpl(FieldCoordinates coordinates, GraphQLFieldDefinition fieldDefinition, Map<FieldCoordinates, DataFetcherFactory<?>> dataFetcherMap, Map<String, DataFetcherFactory<?>> systemDataFetcherMap, DataFetcherFactory<?> defaultDataFetcherFactory) {
         DataFetcherFactory<?> dataFetcherFactory = systemDataFetcherMap.get(fieldDefinition.getName());
         if (dataFetcherFactory == null) {
             dataFetcherFactory = dataFetcherMap.get(coordinates);
@@ -96,6 +104,11 @@ public class GraphQLCodeRegistry {
                 dataFetcherFactory = defaultDataFetcherFactory;
             }
         }
+        return dataFetcherFactory;
+    }
+
+    @SuppressWarnings("deprecation")
+    static DataFetcher<?> getDataFetcher(DataFetcherFactory<?> dataFetcherFactory, GraphQLFieldDefinition fieldDefinition) {
         // call direct from the field - cheaper to not make a new environment object
         DataFetcher<?> dataFetcher = dataFetcherFactory.get(fieldDefinition);
         if (dataFetcher == null) {
@@ -107,6 +120,13 @@ public class GraphQLCodeRegistry {
         return dataFetcher;
     }
 
+    /*
+     * The factory is looked up exactly like getDataFetcher does, so that the dispatch table can freeze it
+     */
+    DataFetcherFactory<?> getDataFetcherFactory(GraphQLObjectType parentType, GraphQLFieldDefinition fieldDefinition) {
+        return getDataFetcherFactoryImpl(FieldCoordinates.coordinates(parentType, fieldDefinition), fieldDefinition, dataFetcherMap, systemDataFetcherMap, defaultDataFetcherFactory);
+    }
+
     private static boolean hasDataFetcherImpl(FieldCoordinates coords, Map<FieldCoordinates, DataFetcherFactory<?>> dataFetcherMap, Map<String, DataFetcherFactory<?>> systemDataFetcherMap) {
         assertNotNull(coords);
 
@@ -141,6 +161,22 @@ public class GraphQLCodeRegistry {
         return getTypeResolverForUnion(unionType, typeResolverMap);
     }
 
+    /*
+     * Like getTypeResolver but null rather than an assertion error if the abstract type has no type resolver
+     */
+    @SuppressWarnings("deprecation")
+    @Nullable TypeResolver findTypeResolver(GraphQLNamedOutputType abstractType) {
+        TypeResolver typeResolver = typeResolverMap.get(abstractType.getName());
+        if (typeResolver == null) {
+            if (abstractType instanceof GraphQLInterfaceType) {
+                typeResolver = ((GraphQLInterfaceType) abstractType).getTypeResolver();
+            } else if (abstractType instanceof GraphQLUnionType) {
+                typeResolver = ((GraphQLUnionType) abstractType).getTypeResolver();
+            }
+        }
+        return typeResolver;
+    }
+
     private static TypeResolver getTypeResolverForInterface(GraphQLInterfaceType parentType, Map<String, TypeResolver> typeResolverMap) {
         assertNotNull(parentType);
         TypeResolver typeResolver = typeResolverMap.get(parentType.getName());
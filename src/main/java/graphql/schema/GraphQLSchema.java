@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableSet;
 import graphql.Assert;
 import graphql.Directives;
 import graphql.DirectivesUtil;
+import graphql.ExperimentalApi;
 import graphql.Internal;
 import graphql.PublicApi;
 import graphql.collect.ImmutableKit;
@@ -23,10 +24,13 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import static graphql.Assert.assertNotNull;
@@ -64,10 +68,13 @@ public class GraphQLSchema {
     private final ImmutableList<SchemaExtensionDefinition> extensionDefinitions;
     private final String description;
     private final GraphQLCodeRegistry codeRegistry;
+    private final CodeRegistryDispatchTable codeRegistryDispatchTable;
 
     private final ImmutableMap<String, GraphQLNamedType> typeMap;
     private final ImmutableMap<String, ImmutableList<GraphQLObjectType>> interfaceNameToObjectTypes;
     private final ImmutableMap<String, ImmutableList<String>> interfaceNameToObjectTypeNames;
+    // the names of the types that reference each type, only built once types of the schema are replaced
+    private volatile Map<String, Set<String>> typeNameToDependentTypeNames;
 
     /*
      * This constructs partial GraphQL schema object which has the schema (query / mutation / subscription) trees
@@ -97,6 +104,7 @@ public class GraphQLSchema {
         this.description = builder.description;
 
         this.codeRegistry = null;
+        this.codeRegistryDispatchTable = null;
         this.typeMap = ImmutableKit.emptyMap();
         this.interfaceNameToObjectTypes = ImmutableKit.emptyMap();
         this.interfaceNameToObjectTypeNames = ImmutableKit.emptyMap();
@@ -130,6 +138,7 @@ public class GraphQLSchema {
         this.typeMap = typeMap;
         this.interfaceNameToObjectTypes = interfaceNameToObjectTypes;
         this.interfaceNameToObjectTypeNames = buildInterfacesToObjectName(interfaceNameToObjectTypes);
+        this.codeRegistryDispatchTable = new CodeRegistryDispatchTable(codeRegistry, getAllTypesAsList(typeMap));
     }
 
     /*
@@ -158,6 +167,7 @@ public class GraphQLSchema {
 
         this.description = builder.description;
         this.codeRegistry = builder.codeRegistry;
+        this.codeRegistryDispatchTable = new CodeRegistryDispatchTable(builder.codeRegistry, getAllTypesAsList(typeMap));
     }
 
     private static GraphQLDirective[] schemaDirectivesArray(GraphQLSchema existingSchema) {
@@ -181,6 +191,42 @@ public class GraphQLSchema {
         return map.build();
     }
 
+    private static ImmutableMap<String, ImmutableList<GraphQLObjectType>> replaceImplementations(GraphQLSchema existingSchema, Collection<GraphQLNamedType> replacedTypes) {
+        Set<String> replacedTypeNames = new HashSet<>();
+        Set<String> interfaceNames = new LinkedHashSet<>();
+        for (GraphQLNamedType replacedType : replacedTypes) {
+            replacedTypeNames.add(replacedType.getName());
+            addInterfaceNames(existingSchema.typeMap.get(replacedType.getName()), interfaceNames);
+        }
+        Map<String, List<GraphQLObjectType>> replacedImplementations = SchemaUtil.groupInterfaceImplementationsByName(ImmutableList.copyOf(replacedTypes));
+        interfaceNames.addAll(replacedImplementations.keySet());
+
+        Map<String, ImmutableList<GraphQLObjectType>> implementations = new TreeMap<>(existingSchema.interfaceNameToObjectTypes);
+        for (String interfaceName : interfaceNames) {
+            List<GraphQLObjectType> objectTypes = new ArrayList<>();
+            for (GraphQLObjectType objectType : implementations.getOrDefault(interfaceName, emptyList())) {
+                if (!replacedTypeNames.contains(objectType.getName())) {
+                    objectTypes.add(objectType);
+                }
+            }
+            objectTypes.addAll(replacedImplementations.getOrDefault(interfaceName, emptyList()));
+            if (objectTypes.isEmpty()) {
+                implementations.remove(interfaceName);
+            } else {
+                implementations.put(interfaceName, ImmutableList.copyOf(sortTypes(byNameAsc(), objectTypes)));
+            }
+        }
+        return ImmutableMap.copyOf(implementations);
+    }
+
+    private static void addInterfaceNames(@Nullable GraphQLNamedType type, Set<String> interfaceNames) {
+        if (type instanceof GraphQLObjectType) {
+            for (GraphQLNamedOutputType interfaceType : ((GraphQLObjectType) type).getInterfaces()) {
+                interfaceNames.add(interfaceType.getName());
+            }
+        }
+    }
+
     private static ImmutableMap<String, ImmutableList<String>> buildInterfacesToObjectName(ImmutableMap<String, ImmutableList<GraphQLObjectType>> byInterface) {
         ImmutableMap.Builder<String, ImmutableList<String>> map = ImmutableMap.builder();
         for (Map.Entry<String, ImmutableList<GraphQLObjectType>> e : byInterface.entrySet()) {
@@ -190,10 +236,30 @@ public class GraphQLSchema {
         return map.build();
     }
 
+    /*
+     * Used by incremental updates of the schema to find the types that have to be rebuilt when a type is replaced,
+     * or null if the schema was not updated incrementally yet.  The map must not be modified.
+     */
+    Map<String, Set<String>> getTypeNameToDependentTypeNames() {
+        return typeNameToDependentTypeNames;
+    }
+
+    void setTypeNameToDependentTypeNames(Map<String, Set<String>> typeNameToDependentTypeNames) {
+        this.typeNameToDependentTypeNames = typeNameToDependentTypeNames;
+    }
+
     public GraphQLCodeRegistry getCodeRegistry() {
         return codeRegistry;
     }
 
+    /**
+     * @return the code registry frozen against the types of this schema, which is what execution looks code up in
+     */
+    @Internal
+    public CodeRegistryDispatchTable getCodeRegistryDispatchTable() {
+        return codeRegistryDispatchTable;
+    }
+
     /**
      * @return the special system field called "__schema"
      */
@@ -681,6 +747,7 @@ public class GraphQLSchema {
         private SchemaDefinition definition;
         private List<SchemaExtensionDefinition> extensionDefinitions;
         private String description;
+        private Executor parallelBuildExecutor;
 
         // we default these in
         private final Set<GraphQLDirective> additionalDirectives = new LinkedHashSet<>(
@@ -832,6 +899,24 @@ public class GraphQLSchema {
             return this;
         }
 
+        /**
+         * If an executor is given then the type references of the schema are replaced and the schema is validated
+         * in parallel on it, which lowers the time it takes to build very large schemas.
+         * <p>
+         * The types that are collected from the roots of the schema are also found through type references that
+         * were replaced already, so the types of a schema can be built independently of each other and linked before
+         * they are put into the schema.
+         *
+         * @param parallelBuildExecutor the executor to build the schema on, or null to build it on the calling thread
+         *
+         * @return this builder
+         */
+        @ExperimentalApi
+        public Builder parallelBuildExecutor(@Nullable Executor parallelBuildExecutor) {
+            this.parallelBuildExecutor = parallelBuildExecutor;
+            return this;
+        }
+
         /**
          * Builds the schema
          *
@@ -859,7 +944,11 @@ public class GraphQLSchema {
             GraphQLCodeRegistry.Builder extractedDataFetchers = GraphQLCodeRegistry.newCodeRegistry(codeRegistry);
             CodeRegistryVisitor codeRegistryVisitor = new CodeRegistryVisitor(extractedDataFetchers);
             GraphQLTypeCollectingVisitor typeCollectingVisitor = new GraphQLTypeCollectingVisitor();
-            SchemaUtil.visitPartiallySchema(partiallyBuiltSchema, codeRegistryVisitor, typeCollectingVisitor);
+            if (parallelBuildExecutor == null) {
+                SchemaUtil.visitPartiallySchema(partiallyBuiltSchema, codeRegistryVisitor, typeCollectingVisitor);
+            } else {
+                SchemaUtil.visitPartiallySchemaFollowingReplacedTypes(partiallyBuiltSchema, codeRegistryVisitor, typeCollectingVisitor);
+            }
 
             codeRegistry = extractedDataFetchers.build();
             ImmutableMap<String, GraphQLNamedType> allTypes = typeCollectingVisitor.getResult();
@@ -870,10 +959,25 @@ public class GraphQLSchema {
 
             // this is now build however its contained types are still to be mutated by type reference replacement
             final GraphQLSchema finalSchema = new GraphQLSchema(partiallyBuiltSchema, codeRegistry, allTypes, interfaceNameToObjectTypes);
-            SchemaUtil.replaceTypeReferences(finalSchema);
+            if (parallelBuildExecutor == null) {
+                SchemaUtil.replaceTypeReferences(finalSchema);
+            } else {
+                SchemaUtil.replaceTypeReferences(finalSchema, parallelBuildExecutor);
+            }
             return validateSchema(finalSchema);
         }
 
+        /*
+         * Builds the schema from types that were collected, linked and validated already, which is how a few types of
+         * an existing schema are replaced without traversing all of its types again.  Only the interfaces that the
+         * replaced object types implement (or implemented) have their implementations grouped again.
+         */
+        GraphQLSchema buildWithReplacedTypes(GraphQLSchema existingSchema, ImmutableMap<String, GraphQLNamedType> typeMap, Collection<GraphQLNamedType> replacedTypes) {
+            final GraphQLSchema partiallyBuiltSchema = new GraphQLSchema(this);
+            ImmutableMap<String, ImmutableList<GraphQLObjectType>> interfaceNameToObjectTypes = replaceImplementations(existingSchema, replacedTypes);
+            return new GraphQLSchema(partiallyBuiltSchema, codeRegistry, typeMap, interfaceNameToObjectTypes);
+        }
+
         private void addBuiltInDirective(GraphQLDirective qlDirective, Set<GraphQLDirective> additionalDirectives1) {
             if (additionalDirectives1.stream().noneMatch(d -> d.getName().equals(qlDirective.getName()))) {
                 additionalDirectives1.add(qlDirective);
@@ -881,7 +985,9 @@ public class GraphQLSchema {
         }
 
         private GraphQLSchema validateSchema(GraphQLSchema graphQLSchema) {
-            Collection<SchemaValidationError> errors = new SchemaValidator().validateSchema(graphQLSchema);
+            Collection<SchemaValidationError> errors = parallelBuildExecutor == null
+                    ? new SchemaValidator().validateSchema(graphQLSchema)
+                    : new SchemaValidator().validateSchema(graphQLSchema, parallelBuildExecutor);
             if (!errors.isEmpty()) {
                 throw new InvalidSchemaException(errors);
             }
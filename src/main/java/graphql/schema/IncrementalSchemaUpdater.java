@@ -0,0 +1,296 @@
+package graphql.schema;
+
+import com.google.common.collect.ImmutableMap;
+import graphql.Internal;
+import graphql.introspection.Introspection;
+import graphql.schema.validation.InvalidSchemaException;
+import graphql.schema.validation.SchemaValidationError;
+import graphql.schema.validation.SchemaValidator;
+import graphql.util.FpKit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static graphql.Assert.assertFalse;
+import static graphql.Assert.assertTrue;
+import static graphql.collect.ImmutableKit.map;
+import static graphql.schema.GraphQLTypeReference.typeRef;
+import static java.util.Collections.emptySet;
+
+/**
+ * Replaces a few named types of a built schema without building the whole schema again.
+ * <p>
+ * The types of a built schema reference each other directly, so every type that reaches a replaced type through its
+ * fields, arguments, interfaces, union members or applied directives is rebuilt to reference the new type.  All the
+ * other types are shared with the existing schema as they are.  Only the rebuilt types have their type references
+ * replaced and are validated again, because whether a type is valid only depends on the types it reaches.
+ */
+@Internal
+public class IncrementalSchemaUpdater {
+
+    private final GraphQLSchema schema;
+    // the given types and the new types that are only reachable from them
+    private final Map<String, GraphQLNamedType> replacingTypes = new LinkedHashMap<>();
+    private final Set<String> rebuiltTypeNames = new LinkedHashSet<>();
+    // the schema elements created while rebuilding, which are the only ones that have their type references replaced
+    private final Set<GraphQLSchemaElement> rebuiltElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private IncrementalSchemaUpdater(GraphQLSchema schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Replaces the named types of the schema with the given types
+     *
+     * @param schema the schema to replace the types of
+     * @param types  the new versions of the types, types with a new name are added to the schema
+     *
+     * @return the new schema
+     *
+     * @throws InvalidSchemaException if the rebuilt types are not valid
+     */
+    public static GraphQLSchema replaceTypes(GraphQLSchema schema, Collection<? extends GraphQLNamedType> types) {
+        return new IncrementalSchemaUpdater(schema).replaceTypesImpl(types);
+    }
+
+    private GraphQLSchema replaceTypesImpl(Collection<? extends GraphQLNamedType> types) {
+        for (GraphQLNamedType type : types) {
+            assertFalse(type instanceof GraphQLTypeReference, "The type '%s' can't be replaced by a type reference", type.getName());
+            assertTrue(replacingTypes.put(type.getName(), type) == null, "The type '%s' is replaced more than once", type.getName());
+        }
+        List<GraphQLNamedType> addedTypes = FpKit.filterList(replacingTypes.values(), type -> !schema.containsType(type.getName()));
+        collectNewTypes();
+        Map<String, Set<String>> dependentTypeNames = dependentTypeNames();
+        collectRebuiltTypeNames(dependentTypeNames);
+
+        Map<String, GraphQLNamedType> rebuiltTypes = new LinkedHashMap<>();
+        for (String typeName : rebuiltTypeNames) {
+            assertFalse(Introspection.isIntrospectionTypes(typeName),
+                    "The introspection type '%s' references a replaced type, so it can't be replaced incrementally", typeName);
+            GraphQLNamedType replacingType = replacingTypes.get(typeName);
+            GraphQLNamedType rebuiltType = replacingType != null
+                    ? relink(replacingType, true)
+                    : relink((GraphQLNamedType) schema.getType(typeName), false);
+            rebuiltTypes.put(typeName, rebuiltType);
+        }
+
+        ImmutableMap.Builder<String, GraphQLNamedType> typeMapBuilder = ImmutableMap.builderWithExpectedSize(schema.getTypeMap().size() + rebuiltTypes.size());
+        schema.getTypeMap().forEach((typeName, type) -> typeMapBuilder.put(typeName, rebuiltTypes.getOrDefault(typeName, type)));
+        rebuiltTypes.forEach((typeName, type) -> {
+            if (!schema.containsType(typeName)) {
+                typeMapBuilder.put(typeName, type);
+            }
+        });
+        ImmutableMap<String, GraphQLNamedType> typeMap = typeMapBuilder.build();
+
+        List<GraphQLDirective> directives = map(schema.getDirectives(), this::relinkIfDependent);
+        List<GraphQLDirective> schemaDirectives = map(schema.getSchemaDirectives(), this::relinkIfDependent);
+        List<GraphQLAppliedDirective> schemaAppliedDirectives = map(schema.getSchemaAppliedDirectives(), this::relinkIfDependent);
+
+        List<GraphQLSchemaElement> rebuiltRoots = new ArrayList<>(rebuiltTypes.values());
+        addRebuilt(directives, rebuiltRoots);
+        addRebuilt(schemaDirectives, rebuiltRoots);
+        addRebuilt(schemaAppliedDirectives, rebuiltRoots);
+        replaceTypeReferences(rebuiltRoots, typeMap);
+
+        GraphQLCodeRegistry.Builder codeRegistry = GraphQLCodeRegistry.newCodeRegistry(schema.getCodeRegistry());
+        List<GraphQLNamedType> replacedTypes = map(replacingTypes.keySet(), rebuiltTypes::get);
+        new SchemaTraverser(IncrementalSchemaUpdater::childrenThatAreNotNamedTypes).depthFirst(new CodeRegistryVisitor(codeRegistry), replacedTypes);
+
+        Set<GraphQLType> additionalTypes = new LinkedHashSet<>();
+        for (GraphQLType additionalType : schema.getAdditionalTypes()) {
+            additionalTypes.add(additionalType instanceof GraphQLNamedType ? typeMap.get(((GraphQLNamedType) additionalType).getName()) : additionalType);
+        }
+        for (GraphQLNamedType addedType : addedTypes) {
+            additionalTypes.add(typeMap.get(addedType.getName()));
+        }
+
+        GraphQLSchema newSchema = GraphQLSchema.newSchema(schema)
+                .query(rootType(typeMap, schema.getQueryType()))
+                .mutation(rootType(typeMap, schema.getMutationType()))
+                .subscription(rootType(typeMap, schema.getSubscriptionType()))
+                .definition(schema.getDefinition())
+                .clearAdditionalTypes()
+                .additionalTypes(additionalTypes)
+                .clearDirectives()
+                .additionalDirectives(new LinkedHashSet<>(directives))
+                .clearSchemaDirectives()
+                .withSchemaDirectives(schemaDirectives)
+                .withSchemaAppliedDirectives(schemaAppliedDirectives)
+                .codeRegistry(codeRegistry.hasChanged() ? codeRegistry.build() : schema.getCodeRegistry())
+                .buildWithReplacedTypes(schema, typeMap, rebuiltTypes.values());
+
+        Set<SchemaValidationError> errors = new SchemaValidator().validateSchemaElements(newSchema, rebuiltRoots);
+        if (!errors.isEmpty()) {
+            throw new InvalidSchemaException(errors);
+        }
+        newSchema.setTypeNameToDependentTypeNames(updateDependentTypeNames(dependentTypeNames, rebuiltTypes));
+        return newSchema;
+    }
+
+    // the given types can reference new types directly rather than by type reference
+    private void collectNewTypes() {
+        Deque<GraphQLSchemaElement> stack = new ArrayDeque<>(replacingTypes.values());
+        while (!stack.isEmpty()) {
+            for (GraphQLSchemaElement child : stack.pop().getChildren()) {
+                if (child instanceof GraphQLTypeReference) {
+                    continue;
+                }
+                if (child instanceof GraphQLNamedType) {
+                    GraphQLNamedType namedType = (GraphQLNamedType) child;
+                    if (!schema.containsType(namedType.getName()) && !replacingTypes.containsKey(namedType.getName())) {
+                        replacingTypes.put(namedType.getName(), namedType);
+                        stack.push(namedType);
+                    }
+                } else {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    private void collectRebuiltTypeNames(Map<String, Set<String>> dependentTypeNames) {
+        rebuiltTypeNames.addAll(replacingTypes.keySet());
+        Deque<String> worklist = new ArrayDeque<>(replacingTypes.keySet());
+        while (!worklist.isEmpty()) {
+            for (String dependentTypeName : dependentTypeNames.getOrDefault(worklist.poll(), emptySet())) {
+                if (rebuiltTypeNames.add(dependentTypeName)) {
+                    worklist.add(dependentTypeName);
+                }
+            }
+        }
+    }
+
+    private Map<String, Set<String>> dependentTypeNames() {
+        Map<String, Set<String>> dependentTypeNames = schema.getTypeNameToDependentTypeNames();
+        if (dependentTypeNames == null) {
+            dependentTypeNames = new HashMap<>();
+            for (GraphQLNamedType type : schema.getTypeMap().values()) {
+                for (String referencedTypeName : referencedTypeNames(type)) {
+                    dependentTypeNames.computeIfAbsent(referencedTypeName, k -> new HashSet<>()).add(type.getName());
+                }
+            }
+            schema.setTypeNameToDependentTypeNames(dependentTypeNames);
+        }
+        return dependentTypeNames;
+    }
+
+    // only the replacing types can reference other types than before, the sets of the other types are shared
+    private Map<String, Set<String>> updateDependentTypeNames(Map<String, Set<String>> dependentTypeNames, Map<String, GraphQLNamedType> rebuiltTypes) {
+        Map<String, Set<String>> updatedDependentTypeNames = new HashMap<>(dependentTypeNames);
+        Set<String> copiedTypeNames = new HashSet<>();
+        for (String typeName : replacingTypes.keySet()) {
+            GraphQLType existingType = schema.getType(typeName);
+            if (existingType != null) {
+                for (String referencedTypeName : referencedTypeNames(existingType)) {
+                    copyOnWrite(updatedDependentTypeNames, copiedTypeNames, referencedTypeName).remove(typeName);
+                }
+            }
+            for (String referencedTypeName : referencedTypeNames(rebuiltTypes.get(typeName))) {
+                copyOnWrite(updatedDependentTypeNames, copiedTypeNames, referencedTypeName).add(typeName);
+            }
+        }
+        return updatedDependentTypeNames;
+    }
+
+    private static Set<String> copyOnWrite(Map<String, Set<String>> dependentTypeNames, Set<String> copiedTypeNames, String typeName) {
+        if (copiedTypeNames.add(typeName)) {
+            dependentTypeNames.put(typeName, new HashSet<>(dependentTypeNames.getOrDefault(typeName, emptySet())));
+        }
+        return dependentTypeNames.get(typeName);
+    }
+
+    private static Set<String> referencedTypeNames(GraphQLSchemaElement root) {
+        Set<String> typeNames = new HashSet<>();
+        Deque<GraphQLSchemaElement> stack = new ArrayDeque<>(root.getChildren());
+        while (!stack.isEmpty()) {
+            GraphQLSchemaElement element = stack.pop();
+            if (element instanceof GraphQLNamedType) {
+                typeNames.add(((GraphQLNamedType) element).getName());
+            } else {
+                stack.addAll(element.getChildren());
+            }
+        }
+        return typeNames;
+    }
+
+    private <T extends GraphQLSchemaElement> T relinkIfDependent(T element) {
+        for (String typeName : referencedTypeNames(element)) {
+            if (rebuiltTypeNames.contains(typeName)) {
+                return relink(element, false);
+            }
+        }
+        return element;
+    }
+
+    /*
+     * Copies the element and the elements below it that reference rebuilt types, or all types if relinkAllTypes is set,
+     * and references the types by type reference in the copies.  The other elements are shared with the given element.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends GraphQLSchemaElement> T relink(T element, boolean relinkAllTypes) {
+        Map<String, List<GraphQLSchemaElement>> children = element.getChildrenWithTypeReferences().getChildren();
+        Map<String, List<GraphQLSchemaElement>> newChildren = new LinkedHashMap<>();
+        boolean changed = false;
+        for (Map.Entry<String, List<GraphQLSchemaElement>> entry : children.entrySet()) {
+            List<GraphQLSchemaElement> newChildList = new ArrayList<>(entry.getValue().size());
+            for (GraphQLSchemaElement child : entry.getValue()) {
+                GraphQLSchemaElement newChild;
+                if (child instanceof GraphQLNamedType) {
+                    String typeName = ((GraphQLNamedType) child).getName();
+                    newChild = relinkAllTypes || rebuiltTypeNames.contains(typeName) ? typeRef(typeName) : child;
+                } else {
+                    newChild = relink(child, relinkAllTypes);
+                }
+                changed |= newChild != child;
+                newChildList.add(newChild);
+            }
+            newChildren.put(entry.getKey(), newChildList);
+        }
+        if (!changed) {
+            return element;
+        }
+        T newElement = (T) element.withNewChildren(SchemaElementChildrenContainer.newSchemaElementChildrenContainer(newChildren).build());
+        rebuiltElements.add(newElement);
+        return newElement;
+    }
+
+    private <T extends GraphQLSchemaElement> void addRebuilt(List<T> elements, List<GraphQLSchemaElement> rebuiltRoots) {
+        for (T element : elements) {
+            if (rebuiltElements.contains(element)) {
+                rebuiltRoots.add(element);
+            }
+        }
+    }
+
+    // the traversal only goes into the rebuilt elements, the shared ones have their type references replaced already
+    private void replaceTypeReferences(List<GraphQLSchemaElement> rebuiltRoots, Map<String, GraphQLNamedType> typeMap) {
+        SchemaTraverser schemaTraverser = new SchemaTraverser(schemaElement -> FpKit.filterList(schemaElement.getChildrenWithTypeReferences().getChildrenAsList(),
+                child -> child instanceof GraphQLTypeReference || rebuiltElements.contains(child)));
+        schemaTraverser.depthFirst(new GraphQLTypeResolvingVisitor(typeMap), rebuiltRoots);
+    }
+
+    private static List<GraphQLSchemaElement> childrenThatAreNotNamedTypes(GraphQLSchemaElement schemaElement) {
+        return FpKit.filterList(schemaElement.getChildren(), child -> !(child instanceof GraphQLNamedType));
+    }
+
+    private static GraphQLObjectType rootType(Map<String, GraphQLNamedType> typeMap, GraphQLObjectType rootType) {
+        if (rootType == null) {
+            return null;
+        }
+        GraphQLNamedType type = typeMap.get(rootType.getName());
+        assertTrue(type instanceof GraphQLObjectType, "The root type '%s' must be replaced by an object type", rootType.getName());
+        return (GraphQLObjectType) type;
+    }
+}
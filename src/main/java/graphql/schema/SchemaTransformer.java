@@ -2,6 +2,7 @@ package graphql.schema;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import graphql.ExperimentalApi;
 import graphql.PublicApi;
 import graphql.collect.ImmutableKit;
 import graphql.util.Breadcrumb;
@@ -102,6 +103,37 @@ public class SchemaTransformer {
         return schemaTransformer.transform(schema, visitor, postTransformation);
     }
 
+    /**
+     * Replaces named types of a GraphQLSchema with new versions of them and returns a new GraphQLSchema object.
+     * <p>
+     * Unlike {@link #transformSchema(GraphQLSchema, GraphQLTypeVisitor)} this does not traverse, rebuild and validate
+     * the whole schema.  Only the given types and the types that reference them, directly or through other types,
+     * are rebuilt and validated again.  Every other type of the schema is shared with the new schema, which makes
+     * this a cheap way to change a few types of a large schema.
+     * <pre>
+     * {@code
+     *  GraphQLObjectType changedType = schema.getObjectType("Foo").transform(builder -> builder.field(newField));
+     *  GraphQLSchema newSchema = SchemaTransformer.replaceTypes(schema, List.of(changedType));
+     *  }
+     * </pre>
+     * <p>
+     * The given types are linked to the types of the new schema by name, so they can reference other types by
+     * {@link GraphQLTypeReference} or by the types of the existing schema.  Types with a new name are added to the
+     * schema as additional types.  Types of the existing schema are never removed, even if they are not referenced
+     * anymore, and the introspection types and the types they reference can't be replaced.
+     *
+     * @param schema the schema to replace types of
+     * @param types  the new versions of the types
+     *
+     * @return a new GraphQLSchema instance.
+     *
+     * @throws graphql.schema.validation.InvalidSchemaException if the rebuilt types are not valid
+     */
+    @ExperimentalApi
+    public static GraphQLSchema replaceTypes(GraphQLSchema schema, Collection<? extends GraphQLNamedType> types) {
+        return IncrementalSchemaUpdater.replaceTypes(schema, types);
+    }
+
     /**
      * Transforms a {@link GraphQLSchemaElement} and returns a new element.
      *
@@ -73,6 +73,20 @@ public class SchemaTraverser {
         return traverser.traverse(roots, traverserDelegateListVisitor);
     }
 
+    /**
+     * This will visit the schema elements below the roots, invoking each visitor in turn.
+     *
+     * @param typeVisitors a list of visitors to use
+     * @param roots        the schema elements to start from
+     * @param rootVars     this sets up variables to be made available to the {@link TraverserContext}.  This can be empty but not null
+     *
+     * @return a traversal result
+     */
+    public TraverserResult depthFirst(List<GraphQLTypeVisitor> typeVisitors, Collection<? extends GraphQLSchemaElement> roots, Map<Class<?>, Object> rootVars) {
+        TraverserDelegateListVisitor traverserDelegateListVisitor = new TraverserDelegateListVisitor(typeVisitors);
+        return initTraverser().rootVars(rootVars).traverse(roots, traverserDelegateListVisitor);
+    }
+
     public TraverserResult depthFirst(GraphQLTypeVisitor graphQLTypeVisitor, GraphQLSchemaElement root) {
         return depthFirst(graphQLTypeVisitor, Collections.singletonList(root));
     }
@@ -1,5 +1,6 @@
 package graphql.schema.idl;
 
+import graphql.ExperimentalApi;
 import graphql.GraphQLError;
 import graphql.PublicApi;
 import graphql.language.OperationTypeDefinition;
@@ -12,6 +13,7 @@ import graphql.schema.idl.errors.SchemaProblem;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static graphql.schema.idl.SchemaGeneratorHelper.buildDescription;
 
@@ -128,6 +130,13 @@ public class SchemaGenerator {
 
         schemaGeneratorHelper.buildSchemaDirectivesAndExtensions(buildCtx, schemaBuilder);
 
+        Executor parallelBuildExecutor = options.getParallelBuildExecutor();
+        if (parallelBuildExecutor != null) {
+            // the operations and additional types below then pick up the types that were built in parallel
+            schemaGeneratorHelper.buildTypesInParallel(buildCtx, parallelBuildExecutor);
+            schemaBuilder.parallelBuildExecutor(parallelBuildExecutor);
+        }
+
         schemaGeneratorHelper.buildOperations(buildCtx, schemaBuilder);
 
         Set<GraphQLType> additionalTypes = schemaGeneratorHelper.buildAdditionalTypes(buildCtx);
@@ -166,11 +175,17 @@ public class SchemaGenerator {
         private final boolean useCommentsAsDescription;
         private final boolean captureAstDefinitions;
         private final boolean useAppliedDirectivesOnly;
+        private final Executor parallelBuildExecutor;
 
         Options(boolean useCommentsAsDescription, boolean captureAstDefinitions, boolean useAppliedDirectivesOnly) {
+            this(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, null);
+        }
+
+        Options(boolean useCommentsAsDescription, boolean captureAstDefinitions, boolean useAppliedDirectivesOnly, Executor parallelBuildExecutor) {
             this.useCommentsAsDescription = useCommentsAsDescription;
             this.captureAstDefinitions = captureAstDefinitions;
             this.useAppliedDirectivesOnly = useAppliedDirectivesOnly;
+            this.parallelBuildExecutor = parallelBuildExecutor;
         }
 
         public boolean isUseCommentsAsDescription() {
@@ -185,6 +200,11 @@ public class SchemaGenerator {
             return useAppliedDirectivesOnly;
         }
 
+        @ExperimentalApi
+        public Executor getParallelBuildExecutor() {
+            return parallelBuildExecutor;
+        }
+
         public static Options defaultOptions() {
             return new Options(true, true, false);
         }
@@ -199,7 +219,7 @@ public class SchemaGenerator {
          * @return a new Options object
          */
         public Options useCommentsAsDescriptions(boolean useCommentsAsDescription) {
-            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly);
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor);
         }
 
         /**
@@ -211,7 +231,7 @@ public class SchemaGenerator {
          * @return a new Options object
          */
         public Options captureAstDefinitions(boolean captureAstDefinitions) {
-            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly);
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor);
         }
 
         /**
@@ -224,7 +244,25 @@ public class SchemaGenerator {
          * @return a new Options object
          */
         public Options useAppliedDirectivesOnly(boolean useAppliedDirectivesOnly) {
-            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly);
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor);
+        }
+
+        /**
+         * Very large schemas can be built faster by building their named types in parallel.  If an executor is given then
+         * every named type of the registry is built on its own, with type references to the other named types, and the
+         * type references are then replaced in parallel.  The schema is also validated in parallel.
+         * <p>
+         * The built schema is the same as the one built on the calling thread, however the {@link WiringFactory} and the other
+         * callbacks of the {@link RuntimeWiring} are called concurrently and must be thread safe.  They also see type references
+         * rather than the types they refer to, for example as the field type of a {@link FieldWiringEnvironment}.
+         *
+         * @param parallelBuildExecutor the executor to build the schema on, or null to build it on the calling thread
+         *
+         * @return a new Options object
+         */
+        @ExperimentalApi
+        public Options parallelBuildExecutor(Executor parallelBuildExecutor) {
+            return new Options(useCommentsAsDescription, captureAstDefinitions, useAppliedDirectivesOnly, parallelBuildExecutor);
         }
     }
 }
\ No newline at end of file
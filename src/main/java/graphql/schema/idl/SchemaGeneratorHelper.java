@@ -48,6 +48,7 @@ import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLNamedInputType;
 import graphql.schema.GraphQLNamedOutputType;
+import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLScalarType;
@@ -59,6 +60,8 @@ import graphql.schema.GraphqlTypeComparatorRegistry;
 import graphql.schema.SingletonPropertyDataFetcher;
 import graphql.schema.TypeResolver;
 import graphql.schema.TypeResolverProxy;
+import graphql.schema.impl.SchemaParallelism;
+import graphql.schema.impl.SchemaUtil;
 import graphql.schema.idl.errors.NotAnInputTypeError;
 import graphql.schema.idl.errors.NotAnOutputTypeError;
 import graphql.util.FpKit;
@@ -75,6 +78,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -87,6 +91,7 @@ import static graphql.Directives.SPECIFIED_BY_DIRECTIVE_DEFINITION;
 import static graphql.Directives.SkipDirective;
 import static graphql.Directives.SpecifiedByDirective;
 import static graphql.collect.ImmutableKit.emptyList;
+import static graphql.collect.ImmutableKit.emptyMap;
 import static graphql.introspection.Introspection.DirectiveLocation.ARGUMENT_DEFINITION;
 import static graphql.introspection.Introspection.DirectiveLocation.ENUM;
 import static graphql.introspection.Introspection.DirectiveLocation.ENUM_VALUE;
@@ -117,21 +122,53 @@ public class SchemaGeneratorHelper {
 
         private final Map<String, GraphQLOutputType> outputGTypes = new LinkedHashMap<>();
         private final Map<String, GraphQLInputType> inputGTypes = new LinkedHashMap<>();
-        private final Set<GraphQLDirective> directives = new LinkedHashSet<>();
+        private final Set<GraphQLDirective> directives;
         private final GraphQLCodeRegistry.Builder codeRegistry;
         public final Map<String, OperationTypeDefinition> operationTypeDefs;
         public final SchemaGenerator.Options options;
         public boolean directiveWiringRequired;
 
+        // a forked context builds a single named type in parallel with the others, see buildTypesInParallel
+        private final BuildContext parent;
+        private final Set<String> referencedTypeNames = new LinkedHashSet<>();
+        // the types that were built in parallel, they are put into this context once they are reached
+        private Map<String, GraphQLNamedType> typesBuiltInParallel = emptyMap();
+        private Map<String, Set<String>> typesReferencedInParallel = emptyMap();
+
         BuildContext(ImmutableTypeDefinitionRegistry typeRegistry, RuntimeWiring wiring, Map<String, OperationTypeDefinition> operationTypeDefinitions, SchemaGenerator.Options options) {
             this.typeRegistry = typeRegistry;
             this.wiring = wiring;
+            this.directives = new LinkedHashSet<>();
             this.codeRegistry = GraphQLCodeRegistry.newCodeRegistry(wiring.getCodeRegistry());
             this.operationTypeDefs = operationTypeDefinitions;
             this.options = options;
+            this.parent = null;
             directiveWiringRequired = false;
         }
 
+        private BuildContext(BuildContext parent, GraphQLCodeRegistry.Builder codeRegistry) {
+            this.typeRegistry = parent.typeRegistry;
+            this.wiring = parent.wiring;
+            this.directives = parent.directives;
+            this.codeRegistry = codeRegistry;
+            this.operationTypeDefs = parent.operationTypeDefs;
+            this.options = parent.options;
+            this.parent = parent;
+            directiveWiringRequired = parent.directiveWiringRequired;
+        }
+
+        /**
+         * A forked context reads the types that were built before it from this context but keeps the type it builds and the
+         * code it registers to itself, so that it can run concurrently with the other forks.
+         *
+         * @param codeRegistry the code registry the fork registers data fetchers and type resolvers with
+         *
+         * @return a new forked context
+         */
+        BuildContext fork(GraphQLCodeRegistry.Builder codeRegistry) {
+            return new BuildContext(this, codeRegistry);
+        }
+
         public boolean isDirectiveWiringRequired() {
             return directiveWiringRequired;
         }
@@ -160,12 +197,77 @@ public class SchemaGeneratorHelper {
             typeStack.pop();
         }
 
+        /**
+         * @return true if this is a forked context that has started to build its type, in which case the other named types
+         * are referenced rather than built
+         */
+        boolean referencesOtherTypes() {
+            return parent != null && !typeStack.isEmpty();
+        }
+
+        void addReferencedType(TypeInfo typeInfo) {
+            referencedTypeNames.add(typeInfo.getName());
+        }
+
+        Set<String> getReferencedTypeNames() {
+            return referencedTypeNames;
+        }
+
+        void typesBuiltInParallel(Map<String, GraphQLNamedType> types, Map<String, Set<String>> referencedTypes) {
+            this.typesBuiltInParallel = new LinkedHashMap<>(types);
+            this.typesReferencedInParallel = referencedTypes;
+        }
+
         GraphQLOutputType hasOutputType(TypeDefinition<?> typeDefinition) {
-            return outputGTypes.get(typeDefinition.getName());
+            String name = typeDefinition.getName();
+            GraphQLOutputType outputType = outputGTypes.get(name);
+            if (outputType == null && parent != null) {
+                return parent.outputGTypes.get(name);
+            }
+            if (outputType == null && typesBuiltInParallel.containsKey(name)) {
+                putTypesBuiltInParallel(name);
+                outputType = outputGTypes.get(name);
+            }
+            return outputType;
         }
 
         GraphQLInputType hasInputType(TypeDefinition<?> typeDefinition) {
-            return inputGTypes.get(typeDefinition.getName());
+            String name = typeDefinition.getName();
+            GraphQLInputType inputType = inputGTypes.get(name);
+            if (inputType == null && parent != null) {
+                return parent.inputGTypes.get(name);
+            }
+            if (inputType == null && typesBuiltInParallel.containsKey(name)) {
+                putTypesBuiltInParallel(name);
+                inputType = inputGTypes.get(name);
+            }
+            return inputType;
+        }
+
+        // a type built in parallel is put in along with all the types it references, exactly like it would have been built
+        private void putTypesBuiltInParallel(String name) {
+            Deque<String> names = new ArrayDeque<>();
+            names.push(name);
+            while (!names.isEmpty()) {
+                String typeName = names.pop();
+                GraphQLNamedType type = typesBuiltInParallel.remove(typeName);
+                if (type != null) {
+                    if (type instanceof GraphQLNamedOutputType) {
+                        putOutputType((GraphQLNamedOutputType) type);
+                    } else {
+                        putInputType((GraphQLNamedInputType) type);
+                    }
+                    typesReferencedInParallel.get(typeName).forEach(names::push);
+                }
+            }
+        }
+
+        boolean hasDataFetcher(FieldCoordinates coordinates) {
+            return codeRegistry.hasDataFetcher(coordinates) || (parent != null && parent.hasDataFetcher(coordinates));
+        }
+
+        boolean hasTypeResolver(String typeName) {
+            return codeRegistry.hasTypeResolver(typeName) || (parent != null && parent.hasTypeResolver(typeName));
         }
 
         void putOutputType(GraphQLNamedOutputType outputType) {
@@ -272,6 +374,15 @@ public class SchemaGeneratorHelper {
             return typeInfo.decorate(typeRef(typeInfo.getName()));
         }
 
+        if (buildCtx.referencesOtherTypes()) {
+            // the type is built in parallel on its own and the type reference is replaced once all types are built
+            if (!isInputTypeDefinition(typeDefinition)) {
+                throw new NotAnInputTypeError(rawType, typeDefinition);
+            }
+            buildCtx.addReferencedType(typeInfo);
+            return typeInfo.decorate(typeRef(typeInfo.getName()));
+        }
+
         buildCtx.push(typeInfo);
 
         if (typeDefinition instanceof InputObjectTypeDefinition) {
@@ -606,7 +717,7 @@ public class SchemaGeneratorHelper {
         buildInterfaceTypeInterfaces(buildCtx, typeDefinition, builder, extensions);
 
         GraphQLInterfaceType interfaceType = builder.build();
-        if (!buildCtx.getCodeRegistry().hasTypeResolver(interfaceType.getName())) {
+        if (!buildCtx.hasTypeResolver(interfaceType.getName())) {
             TypeResolver typeResolver = getTypeResolverForInterface(buildCtx, typeDefinition);
             buildCtx.getCodeRegistry().typeResolver(interfaceType, typeResolver);
         }
@@ -719,7 +830,7 @@ public class SchemaGeneratorHelper {
         ));
 
         GraphQLUnionType unionType = builder.build();
-        if (!buildCtx.getCodeRegistry().hasTypeResolver(unionType.getName())) {
+        if (!buildCtx.hasTypeResolver(unionType.getName())) {
             TypeResolver typeResolver = getTypeResolverForUnion(buildCtx, typeDefinition);
             buildCtx.getCodeRegistry().typeResolver(unionType, typeResolver);
         }
@@ -751,6 +862,15 @@ public class SchemaGeneratorHelper {
             return typeInfo.decorate(typeRef(typeInfo.getName()));
         }
 
+        if (buildCtx.referencesOtherTypes()) {
+            // the type is built in parallel on its own and the type reference is replaced once all types are built
+            if (!isOutputTypeDefinition(typeDefinition)) {
+                throw new NotAnOutputTypeError(rawType, typeDefinition);
+            }
+            buildCtx.addReferencedType(typeInfo);
+            return typeInfo.decorate(typeRef(typeInfo.getName()));
+        }
+
         buildCtx.push(typeInfo);
 
         if (typeDefinition instanceof ObjectTypeDefinition) {
@@ -800,7 +920,7 @@ public class SchemaGeneratorHelper {
         GraphQLFieldDefinition fieldDefinition = builder.build();
         // if they have already wired in a fetcher - then leave it alone
         FieldCoordinates coordinates = FieldCoordinates.coordinates(parentType.getName(), fieldDefinition.getName());
-        if (!buildCtx.getCodeRegistry().hasDataFetcher(coordinates)) {
+        if (!buildCtx.hasDataFetcher(coordinates)) {
             Optional<DataFetcherFactory<?>> dataFetcherFactory = buildDataFetcherFactory(buildCtx,
                     parentType,
                     fieldDef,
@@ -1065,6 +1185,103 @@ public class SchemaGeneratorHelper {
         return detachedTypeNames;
     }
 
+    /**
+     * Builds all the named types that were not built along with the directive definitions in parallel on the executor.
+     * Every type is built in a forked context of its own, where the other named types are type references, and once they
+     * are all built the type references are replaced in parallel as well.  The operations and the additional types then
+     * pick up these types, in the same order as if they had been built one after the other.
+     *
+     * @param buildCtx the context we need to work out what we are doing
+     * @param executor the executor to build the types on
+     */
+    void buildTypesInParallel(BuildContext buildCtx, Executor executor) {
+        TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
+        List<TypeDefinition<?>> typeDefinitions = new ArrayList<>();
+        for (TypeDefinition<?> typeDefinition : typeRegistry.types().values()) {
+            if (buildCtx.hasOutputType(typeDefinition) == null && buildCtx.hasInputType(typeDefinition) == null) {
+                typeDefinitions.add(typeDefinition);
+            }
+        }
+        // like the additional types, the specified scalars are only built when they are referenced
+        for (ScalarTypeDefinition scalarTypeDefinition : typeRegistry.scalars().values()) {
+            if (!ScalarInfo.isGraphqlSpecifiedScalar(scalarTypeDefinition.getName()) && buildCtx.hasOutputType(scalarTypeDefinition) == null) {
+                typeDefinitions.add(scalarTypeDefinition);
+            }
+        }
+
+        List<TypesBuiltInParallel> chunks = SchemaParallelism.runInParallel(SchemaParallelism.partition(typeDefinitions),
+                chunk -> buildTypesInParallel(buildCtx, chunk), executor);
+
+        Map<String, GraphQLNamedType> types = new LinkedHashMap<>();
+        Map<String, Set<String>> referencedTypes = new LinkedHashMap<>();
+        for (TypesBuiltInParallel chunk : chunks) {
+            GraphQLCodeRegistry codeRegistry = chunk.codeRegistry.build();
+            buildCtx.getCodeRegistry().dataFetchers(codeRegistry).typeResolvers(codeRegistry);
+            buildCtx.directiveWiringRequired = buildCtx.directiveWiringRequired || chunk.directiveWiringRequired;
+            types.putAll(chunk.types);
+            referencedTypes.putAll(chunk.referencedTypes);
+        }
+
+        referencedTypes.values().forEach(typeNames -> typeNames.forEach(typeName -> {
+            if (!types.containsKey(typeName)) {
+                buildOutputType(buildCtx, TypeName.newTypeName().name(typeName).build());
+            }
+        }));
+
+        Map<String, GraphQLNamedType> typeMap = new LinkedHashMap<>(types);
+        buildCtx.outputGTypes.values().forEach(type -> typeMap.put(((GraphQLNamedType) type).getName(), (GraphQLNamedType) type));
+        buildCtx.inputGTypes.values().forEach(type -> typeMap.put(((GraphQLNamedType) type).getName(), (GraphQLNamedType) type));
+        SchemaUtil.replaceTypeReferences(new ArrayList<>(types.values()), typeMap, executor);
+
+        buildCtx.typesBuiltInParallel(types, referencedTypes);
+    }
+
+    private TypesBuiltInParallel buildTypesInParallel(BuildContext buildCtx, List<TypeDefinition<?>> typeDefinitions) {
+        TypesBuiltInParallel typesBuiltInParallel = new TypesBuiltInParallel(GraphQLCodeRegistry.newCodeRegistry()
+                .defaultDataFetcher(buildCtx.getCodeRegistry().getDefaultDataFetcherFactory()));
+        for (TypeDefinition<?> typeDefinition : typeDefinitions) {
+            BuildContext typeCtx = buildCtx.fork(typesBuiltInParallel.codeRegistry);
+            typeCtx.directiveWiringRequired = typesBuiltInParallel.directiveWiringRequired;
+            TypeName typeName = TypeName.newTypeName().name(typeDefinition.getName()).build();
+
+            GraphQLType type;
+            if (typeDefinition instanceof InputObjectTypeDefinition) {
+                type = buildInputType(typeCtx, typeName);
+            } else {
+                type = buildOutputType(typeCtx, typeName);
+            }
+            typesBuiltInParallel.types.put(typeDefinition.getName(), (GraphQLNamedType) type);
+            typesBuiltInParallel.referencedTypes.put(typeDefinition.getName(), typeCtx.getReferencedTypeNames());
+            typesBuiltInParallel.directiveWiringRequired = typeCtx.directiveWiringRequired;
+        }
+        return typesBuiltInParallel;
+    }
+
+    private static class TypesBuiltInParallel {
+        private final GraphQLCodeRegistry.Builder codeRegistry;
+        private final Map<String, GraphQLNamedType> types = new LinkedHashMap<>();
+        private final Map<String, Set<String>> referencedTypes = new LinkedHashMap<>();
+        private boolean directiveWiringRequired;
+
+        TypesBuiltInParallel(GraphQLCodeRegistry.Builder codeRegistry) {
+            this.codeRegistry = codeRegistry;
+        }
+    }
+
+    private static boolean isInputTypeDefinition(TypeDefinition<?> typeDefinition) {
+        return typeDefinition instanceof InputObjectTypeDefinition
+                || typeDefinition instanceof EnumTypeDefinition
+                || typeDefinition instanceof ScalarTypeDefinition;
+    }
+
+    private static boolean isOutputTypeDefinition(TypeDefinition<?> typeDefinition) {
+        return typeDefinition instanceof ObjectTypeDefinition
+                || typeDefinition instanceof InterfaceTypeDefinition
+                || typeDefinition instanceof UnionTypeDefinition
+                || typeDefinition instanceof EnumTypeDefinition
+                || typeDefinition instanceof ScalarTypeDefinition;
+    }
+
     Set<GraphQLDirective> buildAdditionalDirectiveDefinitions(BuildContext buildCtx) {
         Set<GraphQLDirective> additionalDirectives = new LinkedHashSet<>();
         TypeDefinitionRegistry typeRegistry = buildCtx.getTypeRegistry();
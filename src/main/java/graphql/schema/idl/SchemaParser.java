@@ -20,7 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -108,7 +108,38 @@ public class SchemaParser {
      * @throws SchemaProblem if there are problems compiling the schema definitions
      */
     public TypeDefinitionRegistry parse(String schemaInput) throws SchemaProblem {
-        return parseImpl(new StringReader(schemaInput));
+        return parseImpl(newParserEnvironment().document(schemaInput), null);
+    }
+
+    /**
+     * Parse UTF-8 encoded schema definitions and create a {@link TypeDefinitionRegistry}.  The input is decoded as it is
+     * parsed, so large schemas can be parsed from a memory mapped file, say via
+     * {@code FileChannel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())}, without being copied into a String first.
+     *
+     * @param utf8SchemaInput the UTF-8 encoded schema definitions, read from the buffer position to its limit
+     *
+     * @return registry of type definitions
+     *
+     * @throws SchemaProblem if there are problems compiling the schema definitions
+     */
+    public TypeDefinitionRegistry parse(ByteBuffer utf8SchemaInput) throws SchemaProblem {
+        return parse(utf8SchemaInput, null);
+    }
+
+    /**
+     * Parse UTF-8 encoded schema definitions and create a {@link TypeDefinitionRegistry}
+     *
+     * @param utf8SchemaInput the UTF-8 encoded schema definitions, read from the buffer position to its limit
+     * @param parserOptions   the parse options to use while parsing
+     *
+     * @return registry of type definitions
+     *
+     * @throws SchemaProblem if there are problems compiling the schema definitions
+     *
+     * @see #parse(ByteBuffer)
+     */
+    public TypeDefinitionRegistry parse(ByteBuffer utf8SchemaInput, @Nullable ParserOptions parserOptions) throws SchemaProblem {
+        return parseImpl(newParserEnvironment().document(utf8SchemaInput), parserOptions);
     }
 
     public TypeDefinitionRegistry parseImpl(Reader schemaInput) {
@@ -117,11 +148,15 @@ public class SchemaParser {
     }
 
     private TypeDefinitionRegistry parseImpl(Reader schemaInput, @Nullable ParserOptions parseOptions) {
+        return parseImpl(newParserEnvironment().document(schemaInput), parseOptions);
+    }
+
+    private TypeDefinitionRegistry parseImpl(ParserEnvironment.Builder parserEnvironmentBuilder, @Nullable ParserOptions parseOptions) {
         try {
             if (parseOptions == null) {
                 parseOptions = ParserOptions.getDefaultSdlParserOptions();
             }
-            ParserEnvironment parserEnvironment = newParserEnvironment().document(schemaInput).parserOptions(parseOptions).build();
+            ParserEnvironment parserEnvironment = parserEnvironmentBuilder.parserOptions(parseOptions).build();
             Document document = Parser.parse(parserEnvironment);
 
             return buildRegistry(document);
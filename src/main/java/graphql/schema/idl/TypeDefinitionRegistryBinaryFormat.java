@@ -0,0 +1,218 @@
+package graphql.schema.idl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import graphql.ExperimentalApi;
+import graphql.language.AstBinaryFormat;
+import graphql.language.DirectiveDefinition;
+import graphql.language.EnumTypeExtensionDefinition;
+import graphql.language.InputObjectTypeExtensionDefinition;
+import graphql.language.InterfaceTypeExtensionDefinition;
+import graphql.language.ObjectTypeExtensionDefinition;
+import graphql.language.SDLDefinition;
+import graphql.language.ScalarTypeDefinition;
+import graphql.language.ScalarTypeExtensionDefinition;
+import graphql.language.SchemaDefinition;
+import graphql.language.SchemaExtensionDefinition;
+import graphql.language.TypeDefinition;
+import graphql.language.UnionTypeExtensionDefinition;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes and reads a {@link TypeDefinitionRegistry} in the {@link AstBinaryFormat}, so that the registry of a large
+ * schema can be produced at build time and loaded at start up without parsing its SDL again.
+ * <p>
+ * Every definition the registry holds is written once into a definition table and the registry maps, the schema
+ * extensions and the parse order refer to it by index, so a registry that is read back shares its definitions
+ * between them exactly like a parsed one does.
+ * <pre>
+ * {@code
+ * byte[] artifact = TypeDefinitionRegistryBinaryFormat.writeRegistry(new SchemaParser().parse(sdl));
+ * ...
+ * ImmutableTypeDefinitionRegistry registry = TypeDefinitionRegistryBinaryFormat.readRegistry(artifact);
+ * }
+ * </pre>
+ */
+@ExperimentalApi
+@SuppressWarnings("rawtypes")
+public class TypeDefinitionRegistryBinaryFormat {
+
+    private TypeDefinitionRegistryBinaryFormat() {
+    }
+
+    /**
+     * Writes a type definition registry in the binary format
+     *
+     * @param typeDefinitionRegistry the registry to write
+     *
+     * @return the bytes of the registry
+     */
+    public static byte[] writeRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
+        ImmutableTypeDefinitionRegistry registry = typeDefinitionRegistry.readOnly();
+        AstBinaryFormat.Writer writer = new AstBinaryFormat.Writer();
+
+        Map<SDLDefinition, Integer> indexes = new IdentityHashMap<>();
+        List<SDLDefinition> definitions = new ArrayList<>();
+        registry.getParseOrder().getInOrder().values().forEach(inOrder -> inOrder.forEach(definition -> index(definition, indexes, definitions)));
+        registry.types.values().forEach(definition -> index(definition, indexes, definitions));
+        registry.scalarTypes.values().forEach(definition -> index(definition, indexes, definitions));
+        registry.directiveDefinitions.values().forEach(definition -> index(definition, indexes, definitions));
+        registry.schemaExtensionDefinitions.forEach(definition -> index(definition, indexes, definitions));
+        indexAll(registry.objectTypeExtensions, indexes, definitions);
+        indexAll(registry.interfaceTypeExtensions, indexes, definitions);
+        indexAll(registry.unionTypeExtensions, indexes, definitions);
+        indexAll(registry.enumTypeExtensions, indexes, definitions);
+        indexAll(registry.scalarTypeExtensions, indexes, definitions);
+        indexAll(registry.inputObjectTypeExtensions, indexes, definitions);
+        if (registry.schema != null) {
+            index(registry.schema, indexes, definitions);
+        }
+
+        writer.writeNodes(definitions);
+        writeListMap(writer, registry.objectTypeExtensions, indexes);
+        writeListMap(writer, registry.interfaceTypeExtensions, indexes);
+        writeListMap(writer, registry.unionTypeExtensions, indexes);
+        writeListMap(writer, registry.enumTypeExtensions, indexes);
+        writeListMap(writer, registry.scalarTypeExtensions, indexes);
+        writeListMap(writer, registry.inputObjectTypeExtensions, indexes);
+        writeMap(writer, registry.types, indexes);
+        writeMap(writer, registry.scalarTypes, indexes);
+        writeMap(writer, registry.directiveDefinitions, indexes);
+        writeList(writer, registry.schemaExtensionDefinitions, indexes);
+        writer.writeVarInt(registry.schema == null ? 0 : indexes.get(registry.schema) + 1);
+        List<SDLDefinition> parseOrder = new ArrayList<>();
+        registry.getParseOrder().getInOrder().values().forEach(parseOrder::addAll);
+        writeList(writer, parseOrder, indexes);
+        return writer.toByteArray(AstBinaryFormat.KIND_TYPE_DEFINITION_REGISTRY);
+    }
+
+    /**
+     * Reads a type definition registry that was written by {@link #writeRegistry(TypeDefinitionRegistry)}
+     *
+     * @param bytes the bytes of the registry
+     *
+     * @return the registry
+     *
+     * @throws graphql.AssertException if the bytes are not a registry written by this version of the format
+     */
+    public static ImmutableTypeDefinitionRegistry readRegistry(byte[] bytes) {
+        return readRegistry(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads a type definition registry that was written by {@link #writeRegistry(TypeDefinitionRegistry)} from the
+     * position to the limit of the buffer, which are left untouched, so a memory mapped artifact can be read without
+     * copying it first
+     *
+     * @param bytes the bytes of the registry
+     *
+     * @return the registry
+     *
+     * @throws graphql.AssertException if the bytes are not a registry written by this version of the format
+     */
+    public static ImmutableTypeDefinitionRegistry readRegistry(ByteBuffer bytes) {
+        AstBinaryFormat.Reader reader = new AstBinaryFormat.Reader(bytes, AstBinaryFormat.KIND_TYPE_DEFINITION_REGISTRY);
+        List<SDLDefinition> definitions = reader.readNodes();
+
+        Map<String, List<ObjectTypeExtensionDefinition>> objectTypeExtensions = readListMap(reader, definitions);
+        Map<String, List<InterfaceTypeExtensionDefinition>> interfaceTypeExtensions = readListMap(reader, definitions);
+        Map<String, List<UnionTypeExtensionDefinition>> unionTypeExtensions = readListMap(reader, definitions);
+        Map<String, List<EnumTypeExtensionDefinition>> enumTypeExtensions = readListMap(reader, definitions);
+        Map<String, List<ScalarTypeExtensionDefinition>> scalarTypeExtensions = readListMap(reader, definitions);
+        Map<String, List<InputObjectTypeExtensionDefinition>> inputObjectTypeExtensions = readListMap(reader, definitions);
+        Map<String, TypeDefinition> types = readMap(reader, definitions);
+        Map<String, ScalarTypeDefinition> scalarTypes = readMap(reader, definitions);
+        Map<String, DirectiveDefinition> directiveDefinitions = readMap(reader, definitions);
+        List<SchemaExtensionDefinition> schemaExtensionDefinitions = readList(reader, definitions);
+        int schema = reader.readVarInt();
+        List<SDLDefinition> parseOrder = readList(reader, definitions);
+        SchemaParseOrder schemaParseOrder = new SchemaParseOrder();
+        for (SDLDefinition definition : parseOrder) {
+            schemaParseOrder.addDefinition(definition);
+        }
+
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry(
+                objectTypeExtensions,
+                interfaceTypeExtensions,
+                unionTypeExtensions,
+                enumTypeExtensions,
+                scalarTypeExtensions,
+                inputObjectTypeExtensions,
+                types,
+                scalarTypes,
+                directiveDefinitions,
+                schemaExtensionDefinitions,
+                schema == 0 ? null : (SchemaDefinition) definitions.get(schema - 1),
+                schemaParseOrder
+        );
+        return registry.readOnly();
+    }
+
+    private static void index(SDLDefinition definition, Map<SDLDefinition, Integer> indexes, List<SDLDefinition> definitions) {
+        if (!indexes.containsKey(definition)) {
+            indexes.put(definition, definitions.size());
+            definitions.add(definition);
+        }
+    }
+
+    private static void indexAll(Map<String, ? extends List<? extends SDLDefinition>> map, Map<SDLDefinition, Integer> indexes, List<SDLDefinition> definitions) {
+        map.values().forEach(list -> list.forEach(definition -> index(definition, indexes, definitions)));
+    }
+
+    private static void writeList(AstBinaryFormat.Writer writer, List<? extends SDLDefinition> list, Map<SDLDefinition, Integer> indexes) {
+        writer.writeVarInt(list.size());
+        for (SDLDefinition definition : list) {
+            writer.writeVarInt(indexes.get(definition));
+        }
+    }
+
+    private static void writeMap(AstBinaryFormat.Writer writer, Map<String, ? extends SDLDefinition> map, Map<SDLDefinition, Integer> indexes) {
+        writer.writeVarInt(map.size());
+        map.forEach((name, definition) -> {
+            writer.writeString(name);
+            writer.writeVarInt(indexes.get(definition));
+        });
+    }
+
+    private static void writeListMap(AstBinaryFormat.Writer writer, Map<String, ? extends List<? extends SDLDefinition>> map, Map<SDLDefinition, Integer> indexes) {
+        writer.writeVarInt(map.size());
+        map.forEach((name, list) -> {
+            writer.writeString(name);
+            writeList(writer, list, indexes);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> readList(AstBinaryFormat.Reader reader, List<SDLDefinition> definitions) {
+        int size = reader.readVarInt();
+        ImmutableList.Builder<T> list = ImmutableList.builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) definitions.get(reader.readVarInt()));
+        }
+        return list.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Map<String, T> readMap(AstBinaryFormat.Reader reader, List<SDLDefinition> definitions) {
+        int size = reader.readVarInt();
+        ImmutableMap.Builder<String, T> map = ImmutableMap.builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            map.put(reader.readString(), (T) definitions.get(reader.readVarInt()));
+        }
+        return map.build();
+    }
+
+    private static <T> Map<String, List<T>> readListMap(AstBinaryFormat.Reader reader, List<SDLDefinition> definitions) {
+        int size = reader.readVarInt();
+        ImmutableMap.Builder<String, List<T>> map = ImmutableMap.builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            map.put(reader.readString(), readList(reader, definitions));
+        }
+        return map.build();
+    }
+}
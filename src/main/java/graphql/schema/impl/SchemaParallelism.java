@@ -0,0 +1,90 @@
+package graphql.schema.impl;
+
+import graphql.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Helps to split the work of building a schema into independent tasks that are run on an {@link Executor}
+ */
+@Internal
+public class SchemaParallelism {
+
+    // more tasks than processors so that a few expensive tasks don't leave the other processors idle
+    private static final int TASKS_PER_PROCESSOR = 4;
+
+    /**
+     * Splits the items into consecutive chunks, enough of them to keep all the processors busy
+     *
+     * @param items the items to split
+     * @param <T>   the type of the items
+     *
+     * @return the chunks of items in their original order
+     */
+    public static <T> List<List<T>> partition(List<T> items) {
+        int chunkCount = Math.min(items.size(), Runtime.getRuntime().availableProcessors() * TASKS_PER_PROCESSOR);
+        List<List<T>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(items.subList(i * items.size() / chunkCount, (i + 1) * items.size() / chunkCount));
+        }
+        return chunks;
+    }
+
+    /**
+     * Runs the work on every task on the executor and returns the results in the order of the tasks, so they don't
+     * depend on which task finishes first.  The calling thread runs the last task itself rather than waiting idle.
+     *
+     * @param tasks    the tasks to run
+     * @param work     the work to run on each task
+     * @param executor the executor to run the tasks on
+     * @param <T>      the type of the tasks
+     * @param <R>      the type of the results
+     *
+     * @return the results in the order of the tasks
+     */
+    public static <T, R> List<R> runInParallel(List<T> tasks, Function<T, R> work, Executor executor) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size() - 1; i++) {
+            T task = tasks.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> work.apply(task), executor));
+        }
+        R lastResult = null;
+        RuntimeException lastFailure = null;
+        if (!tasks.isEmpty()) {
+            try {
+                lastResult = work.apply(tasks.get(tasks.size() - 1));
+            } catch (RuntimeException e) {
+                lastFailure = e;
+            }
+        }
+
+        // a failure of an earlier task wins, like it would if the tasks ran one after the other
+        List<R> results = new ArrayList<>(tasks.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(join(future));
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+        if (!tasks.isEmpty()) {
+            results.add(lastResult);
+        }
+        return results;
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -12,9 +12,11 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLSchemaElement;
 import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeReference;
 import graphql.schema.GraphQLTypeResolvingVisitor;
 import graphql.schema.GraphQLTypeVisitor;
 import graphql.schema.SchemaTraverser;
+import graphql.util.FpKit;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -22,6 +24,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import static graphql.Assert.assertShouldNeverHappen;
 import static graphql.language.OperationDefinition.Operation.MUTATION;
@@ -41,6 +45,22 @@ public class SchemaUtil {
      */
 
     public static void visitPartiallySchema(final GraphQLSchema partiallyBuiltSchema, GraphQLTypeVisitor... visitors) {
+        visitPartiallySchema(partiallyBuiltSchema, schemaElement -> schemaElement.getChildrenWithTypeReferences().getChildrenAsList(), visitors);
+    }
+
+    /**
+     * Like {@link #visitPartiallySchema(GraphQLSchema, GraphQLTypeVisitor...)} but follows the types that type references
+     * have already been replaced with, so that types which are only reachable through replaced type references are
+     * visited too.  Types that were built in parallel reference each other like that.
+     *
+     * @param partiallyBuiltSchema the partially built schema
+     * @param visitors             the visitors to call
+     */
+    public static void visitPartiallySchemaFollowingReplacedTypes(final GraphQLSchema partiallyBuiltSchema, GraphQLTypeVisitor... visitors) {
+        visitPartiallySchema(partiallyBuiltSchema, GraphQLSchemaElement::getChildren, visitors);
+    }
+
+    private static void visitPartiallySchema(final GraphQLSchema partiallyBuiltSchema, Function<GraphQLSchemaElement, List<GraphQLSchemaElement>> getChildren, GraphQLTypeVisitor... visitors) {
         List<GraphQLSchemaElement> roots = new ArrayList<>();
         roots.add(partiallyBuiltSchema.getQueryType());
 
@@ -64,7 +84,7 @@ public class SchemaUtil {
 
         GraphQLTypeVisitor visitor = new MultiReadOnlyGraphQLTypeVisitor(Arrays.asList(visitors));
         SchemaTraverser traverser;
-        traverser = new SchemaTraverser(schemaElement -> schemaElement.getChildrenWithTypeReferences().getChildrenAsList());
+        traverser = new SchemaTraverser(getChildren);
         traverser.depthFirst(visitor, roots);
     }
 
@@ -105,6 +125,42 @@ public class SchemaUtil {
         schemaTraverser.depthFirst(new GraphQLTypeResolvingVisitor(typeMap), roots);
     }
 
+    /**
+     * Replaces the type references of the schema like {@link #replaceTypeReferences(GraphQLSchema)} but on the executor
+     *
+     * @param schema   the schema whose type references are replaced
+     * @param executor the executor to replace them on
+     */
+    public static void replaceTypeReferences(GraphQLSchema schema, Executor executor) {
+        final Map<String, GraphQLNamedType> typeMap = schema.getTypeMap();
+        List<GraphQLSchemaElement> roots = new ArrayList<>(typeMap.values());
+        roots.addAll(schema.getDirectives());
+        roots.addAll(schema.getSchemaAppliedDirectives());
+        replaceTypeReferences(roots, typeMap, executor);
+    }
+
+    /**
+     * Replaces the type references below the roots with the named types of the type map.  The roots are split into
+     * chunks that are traversed concurrently on the executor.
+     * <p>
+     * A traversal doesn't go into the named types below its roots, so every named type must be a root itself or
+     * have no type references left.  This way the traversals touch disjoint parts of the schema.
+     *
+     * @param roots    the schema elements whose type references are replaced
+     * @param typeMap  the named types that type references are replaced with
+     * @param executor the executor to replace them on
+     */
+    public static void replaceTypeReferences(List<? extends GraphQLSchemaElement> roots, Map<String, GraphQLNamedType> typeMap, Executor executor) {
+        SchemaParallelism.runInParallel(SchemaParallelism.partition(roots), chunk -> {
+            SchemaTraverser schemaTraverser = new SchemaTraverser(schemaElement -> {
+                List<GraphQLSchemaElement> children = schemaElement.getChildrenWithTypeReferences().getChildrenAsList();
+                // the named types below are traversed as roots of their own
+                return FpKit.filterList(children, child -> !(child instanceof GraphQLNamedType) || child instanceof GraphQLTypeReference);
+            });
+            return schemaTraverser.depthFirst(new GraphQLTypeResolvingVisitor(typeMap), chunk);
+        }, executor);
+    }
+
     public static GraphQLObjectType getOperationRootType(GraphQLSchema graphQLSchema, OperationDefinition operationDefinition) {
         OperationDefinition.Operation operation = operationDefinition.getOperation();
         if (operation == MUTATION) {
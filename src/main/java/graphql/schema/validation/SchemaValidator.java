@@ -1,15 +1,23 @@
 package graphql.schema.validation;
 
 import graphql.Internal;
+import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLSchemaElement;
 import graphql.schema.GraphQLTypeVisitor;
 import graphql.schema.SchemaTraverser;
+import graphql.schema.impl.SchemaParallelism;
+import graphql.util.FpKit;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Internal
 public class SchemaValidator {
@@ -42,4 +50,52 @@ public class SchemaValidator {
         return validationErrorCollector.getErrors();
     }
 
+    /**
+     * Validates the given elements of the schema and the elements below them, but not the named types they reference.
+     * A type is valid or not depending on the types it reaches only, so when a few types of a valid schema are
+     * replaced, only the types that reach them have to be validated again.
+     *
+     * @param schema   the schema the elements belong to
+     * @param elements the named types and directives to validate
+     *
+     * @return the validation errors
+     */
+    public Set<SchemaValidationError> validateSchemaElements(GraphQLSchema schema, Collection<? extends GraphQLSchemaElement> elements) {
+        SchemaValidationErrorCollector validationErrorCollector = new SchemaValidationErrorCollector();
+        Map<Class<?>, Object> rootVars = new LinkedHashMap<>();
+        rootVars.put(GraphQLSchema.class, schema);
+        rootVars.put(SchemaValidationErrorCollector.class, validationErrorCollector);
+        SchemaTraverser schemaTraverser = new SchemaTraverser(schemaElement ->
+                FpKit.filterList(schemaElement.getChildren(), child -> !(child instanceof GraphQLNamedType)));
+        schemaTraverser.depthFirst(rules, elements, rootVars);
+        return validationErrorCollector.getErrors();
+    }
+
+    /**
+     * Validates the schema like {@link #validateSchema(GraphQLSchema)} but every rule traverses the (built) schema on
+     * its own on the executor.  The rules don't share any state, so they are independent of each other.
+     * <p>
+     * The same errors are reported as by a sequential validation, although they are ordered by rule rather than by
+     * position in the schema.  The order is deterministic.
+     *
+     * @param schema   the schema to validate
+     * @param executor the executor to run the rules on
+     *
+     * @return the validation errors
+     */
+    public Set<SchemaValidationError> validateSchema(GraphQLSchema schema, Executor executor) {
+        List<Set<SchemaValidationError>> ruleErrors = SchemaParallelism.runInParallel(rules, rule -> {
+            SchemaValidationErrorCollector validationErrorCollector = new SchemaValidationErrorCollector();
+            Map<Class<?>, Object> rootVars = new LinkedHashMap<>();
+            rootVars.put(GraphQLSchema.class, schema);
+            rootVars.put(SchemaValidationErrorCollector.class, validationErrorCollector);
+            new SchemaTraverser().depthFirstFullSchema(Collections.singletonList(rule), schema, rootVars);
+            return validationErrorCollector.getErrors();
+        }, executor);
+
+        Set<SchemaValidationError> errors = new LinkedHashSet<>();
+        ruleErrors.forEach(errors::addAll);
+        return errors;
+    }
+
 }
@@ -0,0 +1,196 @@
+package graphql.validation;
+
+import graphql.ExperimentalApi;
+import graphql.PublicApi;
+import graphql.language.AstPrinter;
+import graphql.language.AstSignature;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+import graphql.validation.rules.ArgumentsOfCorrectType;
+import graphql.validation.rules.DeferDirectiveLabel;
+import graphql.validation.rules.DeferDirectiveOnValidOperation;
+import graphql.validation.rules.OverlappingFieldsCanBeMerged;
+import graphql.validation.rules.ProvidedNonNullArguments;
+import graphql.validation.rules.UniqueObjectFieldName;
+import graphql.validation.rules.VariableDefaultValuesOfCorrectType;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A bounded cache of the documents that passed validation, so that documents which only differ from them in their
+ * literal values can skip most of the validation rules.
+ * <p>
+ * Clients often send the same query over and over with different literals inlined, eg {@code hero(id: 1000)} and
+ * {@code hero(id: 1001)}, which defeats a {@link graphql.execution.preparsed.PreparsedDocumentProvider} keyed by query
+ * text.  This cache is instead keyed by the identity of the schema and a canonical form of the document in which the scalar
+ * literals are hidden, the variables renamed and everything sorted.  Most validation rules only look at that canonical form,
+ * so on a hit only the rules that look at literal values are run, on the actual literals of the document.  The schemas
+ * are only weakly referenced, so the cache does not keep a replaced schema alive.
+ * <p>
+ * Only documents without any validation errors are cached, and the cache is only used when all the validation rules are
+ * applied.  The least recently used entries are evicted once {@link #getMaximumSize()} is reached.  An instance is
+ * meant to be long-lived and shared by all executions, see
+ * {@link graphql.GraphQLUnusualConfiguration.ValidationConfig#validationCache(ValidationCache)}.
+ */
+@ExperimentalApi
+@PublicApi
+public class ValidationCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    // the rules that look at literal values, which the canonical form hides
+    static final List<Class<?>> LITERAL_VALUE_RULES = List.of(
+            ArgumentsOfCorrectType.class,
+            VariableDefaultValuesOfCorrectType.class,
+            UniqueObjectFieldName.class,
+            ProvidedNonNullArguments.class,
+            OverlappingFieldsCanBeMerged.class,
+            DeferDirectiveLabel.class,
+            DeferDirectiveOnValidOperation.class
+    );
+
+    private static final AstSignature AST_SIGNATURE = new AstSignature();
+
+    private final int maximumSize;
+    // guarded by itself, in access order so that the eldest entry is the least recently used one
+    private final Map<CacheKey, Boolean> validDocuments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public ValidationCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize the maximum number of valid documents to remember
+     */
+    public ValidationCache(int maximumSize) {
+        assertTrue(maximumSize > 0, () -> "The maximum size must be greater than 0");
+        this.maximumSize = maximumSize;
+        this.validDocuments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Boolean> eldest) {
+                return size() > ValidationCache.this.maximumSize;
+            }
+        };
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the number of valid documents currently remembered
+     */
+    public int size() {
+        synchronized (validDocuments) {
+            return validDocuments.size();
+        }
+    }
+
+    /**
+     * @return the number of validations that skipped the rules which don't look at literal values
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of validations that ran all the rules
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Forgets all the valid documents, for example after the validation rules have been changed
+     */
+    public void invalidateAll() {
+        synchronized (validDocuments) {
+            validDocuments.clear();
+        }
+    }
+
+    List<ValidationError> validateDocument(GraphQLSchema schema, Document document, Function<Predicate<Class<?>>, List<ValidationError>> validation) {
+        CacheKey key = new CacheKey(schema, signature(document));
+        boolean valid;
+        synchronized (validDocuments) {
+            valid = validDocuments.get(key) != null;
+        }
+        if (valid) {
+            hitCount.increment();
+            return validation.apply(LITERAL_VALUE_RULES::contains);
+        }
+        missCount.increment();
+        List<ValidationError> errors = validation.apply(ruleClass -> true);
+        if (errors.isEmpty()) {
+            synchronized (validDocuments) {
+                validDocuments.put(key, Boolean.TRUE);
+            }
+        }
+        return errors;
+    }
+
+    static String signature(Document document) {
+        String canonicalQuery = AstPrinter.printAstCompact(AST_SIGNATURE.validationSignatureQuery(document));
+        // a digest rather than the canonical query itself, so that large documents don't pin much memory
+        return Base64.getEncoder().encodeToString(sha256().digest(canonicalQuery.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+     * The schema is only weakly referenced, so that a long-lived cache does not keep schemas alive that have been replaced.
+     * The entries of a collected schema no longer match anything and are evicted like any other unused entry.
+     */
+    private static class CacheKey {
+        private final WeakReference<GraphQLSchema> schema;
+        private final int schemaHashCode;
+        private final String signature;
+
+        private CacheKey(GraphQLSchema schema, String signature) {
+            this.schema = new WeakReference<>(schema);
+            this.schemaHashCode = System.identityHashCode(schema);
+            this.signature = signature;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            if (schemaHashCode != that.schemaHashCode || !signature.equals(that.signature)) {
+                return false;
+            }
+            GraphQLSchema schema = this.schema.get();
+            return schema != null && schema == that.schema.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * schemaHashCode + signature.hashCode();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package graphql.validation;
 
 import graphql.Internal;
 import graphql.i18n.I18n;
+import org.jspecify.annotations.Nullable;
 import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import graphql.validation.rules.ArgumentsOfCorrectType;
@@ -40,6 +41,9 @@ import graphql.validation.rules.VariablesAreInputTypes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -48,6 +52,25 @@ public class Validator {
 
     static int MAX_VALIDATION_ERRORS = 100;
 
+    /**
+     * The {@link graphql.GraphQLContext} key of the {@link Executor} that validation rules are run on in parallel
+     */
+    public static final String PARALLEL_VALIDATION_EXECUTOR = "graphql.validation.Validator.ParallelValidationExecutor";
+
+    /**
+     * The {@link graphql.GraphQLContext} key of the {@link ValidationCache} of documents that passed validation
+     */
+    public static final String VALIDATION_CACHE = "graphql.validation.Validator.ValidationCache";
+
+    // the rules that follow fragment spreads into their fragment definitions
+    private static final List<Class<?>> FRAGMENT_SPREAD_VISITING_RULES = List.of(
+            NoUndefinedVariables.class,
+            NoUnusedVariables.class,
+            VariableTypesMatch.class,
+            DeferDirectiveOnRootLevel.class,
+            DeferDirectiveOnValidOperation.class
+    );
+
     /**
      * `graphql-java` will stop validation after a maximum number of validation messages has been reached.  Attackers
      * can send pathologically invalid queries to induce a Denial of Service attack and fill memory with 10000s of errors
@@ -71,20 +94,131 @@ public class Validator {
 
     public List<ValidationError> validateDocument(GraphQLSchema schema, Document document, Predicate<Class<?>> applyRule, Locale locale) {
         I18n i18n = I18n.i18n(I18n.BundleType.Validation, locale);
-        ValidationContext validationContext = new ValidationContext(schema, document, i18n);
+        ValidationErrorCollector validationErrorCollector = new ValidationErrorCollector(MAX_VALIDATION_ERRORS);
+        validateWithRules(schema, document, i18n, validationErrorCollector, applyRule);
+        return validationErrorCollector.getErrors();
+    }
 
+    /**
+     * Validates the document like {@link #validateDocument(GraphQLSchema, Document, Predicate, Locale)} but, if an executor
+     * is given, the rules are partitioned into independent groups that each traverse the (immutable) document concurrently.
+     * This lowers the validation latency of large queries, where {@link OverlappingFieldsCanBeMerged} alone costs about as
+     * much as all the other rules together.
+     * <p>
+     * The same errors are reported as by a sequential validation, although they are ordered by rule group rather than by
+     * position in the document.  The order is deterministic.
+     *
+     * @param schema    the schema to validate against
+     * @param document  the document to validate
+     * @param applyRule the predicate deciding which rules are applied
+     * @param locale    the locale of the error messages
+     * @param executor  the executor to run the rule groups on, or null to validate on the calling thread
+     *
+     * @return the validation errors
+     */
+    public List<ValidationError> validateDocument(GraphQLSchema schema, Document document, Predicate<Class<?>> applyRule, Locale locale, @Nullable Executor executor) {
+        if (executor == null) {
+            return validateDocument(schema, document, applyRule, locale);
+        }
+        I18n i18n = I18n.i18n(I18n.BundleType.Validation, locale);
+        List<Predicate<Class<?>>> ruleGroups = ruleGroups(applyRule);
+        List<CompletableFuture<List<ValidationError>>> futures = new ArrayList<>(ruleGroups.size());
+        // the calling thread validates the last group itself rather than waiting idle
+        for (int i = 0; i < ruleGroups.size() - 1; i++) {
+            Predicate<Class<?>> ruleGroup = ruleGroups.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> validateRuleGroup(schema, document, i18n, ruleGroup), executor));
+        }
+        List<ValidationError> lastGroupErrors = validateRuleGroup(schema, document, i18n, ruleGroups.get(ruleGroups.size() - 1));
+
+        // the errors are merged in rule group order, so that they don't depend on which group finishes first
         ValidationErrorCollector validationErrorCollector = new ValidationErrorCollector(MAX_VALIDATION_ERRORS);
+        try {
+            for (CompletableFuture<List<ValidationError>> future : futures) {
+                addErrors(validationErrorCollector, joinRuleGroup(future));
+            }
+            addErrors(validationErrorCollector, lastGroupErrors);
+        } catch (ValidationErrorCollector.MaxValidationErrorsReached ignored) {
+            // we have merged enough errors
+        }
+        return validationErrorCollector.getErrors();
+    }
+
+    /**
+     * Validates the document with all the rules like {@link #validateDocument(GraphQLSchema, Document, Predicate, Locale, Executor)}
+     * but, if a cache is given and a document with the same structure has passed validation against the same schema
+     * before, only the rules that look at literal values are run.
+     * <p>
+     * The cache only holds documents that passed all the rules, which is why there is no rule predicate here.
+     *
+     * @param schema          the schema to validate against
+     * @param document        the document to validate
+     * @param locale          the locale of the error messages
+     * @param executor        the executor to run the rule groups on, or null to validate on the calling thread
+     * @param validationCache the cache of documents that passed validation, or null to always run all the rules
+     *
+     * @return the validation errors
+     */
+    public List<ValidationError> validateDocument(GraphQLSchema schema, Document document, Locale locale, @Nullable Executor executor, @Nullable ValidationCache validationCache) {
+        if (validationCache == null) {
+            return validateDocument(schema, document, ruleClass -> true, locale, executor);
+        }
+        return validationCache.validateDocument(schema, document, cachedRules -> validateDocument(schema, document, cachedRules, locale, executor));
+    }
+
+    private List<Predicate<Class<?>>> ruleGroups(Predicate<Class<?>> applyRule) {
+        // the rules keep their state to themselves, so any partition of them is independent.  The expensive
+        // OverlappingFieldsCanBeMerged is in a group of its own and the cheap ones are split by whether they follow
+        // fragment spreads, since every group pays for a traversal of the document
+        Predicate<Class<?>> overlappingFields = ruleClass -> ruleClass == OverlappingFieldsCanBeMerged.class;
+        Predicate<Class<?>> fragmentSpreadVisiting = FRAGMENT_SPREAD_VISITING_RULES::contains;
+        Predicate<Class<?>> others = overlappingFields.or(fragmentSpreadVisiting).negate();
+        List<Predicate<Class<?>>> ruleGroups = new ArrayList<>(3);
+        ruleGroups.add(overlappingFields.and(applyRule));
+        ruleGroups.add(fragmentSpreadVisiting.and(applyRule));
+        ruleGroups.add(others.and(applyRule));
+        return ruleGroups;
+    }
+
+    private List<ValidationError> validateRuleGroup(GraphQLSchema schema, Document document, I18n i18n, Predicate<Class<?>> ruleGroup) {
+        ValidationErrorCollector validationErrorCollector = new ValidationErrorCollector(MAX_VALIDATION_ERRORS);
+        validateWithRules(schema, document, i18n, validationErrorCollector, ruleGroup);
+        // a group that reached the limit ends with its limit marker, which only comes after the maximum number of other
+        // errors.  So merging it makes the merged errors reach the limit too, which then get a single marker of their own
+        return validationErrorCollector.getErrors();
+    }
+
+    private void validateWithRules(GraphQLSchema schema, Document document, I18n i18n, ValidationErrorCollector validationErrorCollector, Predicate<Class<?>> applyRule) {
+        // each traversal needs its own context, since the context tracks the position in the document
+        ValidationContext validationContext = new ValidationContext(schema, document, i18n);
         List<AbstractRule> rules = createRules(validationContext, validationErrorCollector);
         // filter out any rules they don't want applied
         rules = rules.stream().filter(r -> applyRule.test(r.getClass())).collect(Collectors.toList());
+        if (rules.isEmpty()) {
+            return;
+        }
         LanguageTraversal languageTraversal = new LanguageTraversal();
         try {
             languageTraversal.traverse(document, new RulesVisitor(validationContext, rules));
         } catch (ValidationErrorCollector.MaxValidationErrorsReached ignored) {
             // if we have generated enough errors, then we can shortcut out
         }
+    }
+
+    private static List<ValidationError> joinRuleGroup(CompletableFuture<List<ValidationError>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
 
-        return validationErrorCollector.getErrors();
+    private static void addErrors(ValidationErrorCollector validationErrorCollector, List<ValidationError> errors) {
+        for (ValidationError error : errors) {
+            validationErrorCollector.addError(error);
+        }
     }
 
     public List<AbstractRule> createRules(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
@@ -6,6 +6,7 @@ import graphql.Internal;
 import graphql.execution.TypeFromAST;
 import graphql.language.Argument;
 import graphql.language.AstComparator;
+import graphql.language.Definition;
 import graphql.language.Field;
 import graphql.language.FragmentDefinition;
 import graphql.language.FragmentSpread;
@@ -27,6 +28,8 @@ import graphql.validation.ValidationErrorCollector;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -57,6 +60,13 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
     private final Set<Set<FieldAndType>> sameForCommonParentsChecked = new LinkedHashSet<>();
     private final Set<Set<Field>> conflictsReported = new LinkedHashSet<>();
 
+    // the fields of a fragment don't depend on where it is spread, so they are only collected once per fragment
+    private final Map<String, Map<String, Set<FieldAndType>>> fragmentFieldsCache = new HashMap<>();
+    // the fields of the selection set of a field, which are merged again for every group of fields it is in
+    private final Map<SelectionSet, CollectedFields> selectionSetFieldsCache = new IdentityHashMap<>();
+    // the caches give the same fields in the same order as collecting them afresh, unless fragments spread each other in a cycle
+    private Boolean cachingPossible;
+
     public OverlappingFieldsCanBeMerged(ValidationContext validationContext, ValidationErrorCollector validationErrorCollector) {
         super(validationContext, validationErrorCollector);
     }
@@ -107,10 +117,96 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
             return;
         }
         visitedFragmentSpreads.add(fragment.getName());
+        if (isCachingPossible()) {
+            // fields that are already collected via another spread of a nested fragment are simply merged again
+            mergeFields(fieldMap, getFragmentFields(fragment));
+            return;
+        }
         GraphQLType graphQLType = getGraphQLTypeForFragmentDefinition(fragment);
         collectFields(fieldMap, fragment.getSelectionSet(), graphQLType, visitedFragmentSpreads);
     }
 
+    private Map<String, Set<FieldAndType>> getFragmentFields(FragmentDefinition fragment) {
+        Map<String, Set<FieldAndType>> fragmentFields = fragmentFieldsCache.get(fragment.getName());
+        if (fragmentFields == null) {
+            fragmentFields = new LinkedHashMap<>();
+            Set<String> visitedFragmentSpreads = new LinkedHashSet<>();
+            visitedFragmentSpreads.add(fragment.getName());
+            collectFields(fragmentFields, fragment.getSelectionSet(), getGraphQLTypeForFragmentDefinition(fragment), visitedFragmentSpreads);
+            fragmentFieldsCache.put(fragment.getName(), fragmentFields);
+        }
+        return fragmentFields;
+    }
+
+    private Map<String, Set<FieldAndType>> getSelectionSetFields(SelectionSet selectionSet, GraphQLType parentType) {
+        CollectedFields collectedFields = selectionSetFieldsCache.get(selectionSet);
+        if (collectedFields != null && collectedFields.parentType == parentType) {
+            return collectedFields.fieldMap;
+        }
+        Map<String, Set<FieldAndType>> fieldMap = new LinkedHashMap<>();
+        collectFields(fieldMap, selectionSet, parentType, new LinkedHashSet<>());
+        if (collectedFields == null) {
+            selectionSetFieldsCache.put(selectionSet, new CollectedFields(parentType, fieldMap));
+        }
+        return fieldMap;
+    }
+
+    private static void mergeFields(Map<String, Set<FieldAndType>> fieldMap, Map<String, Set<FieldAndType>> fieldsToMerge) {
+        for (Map.Entry<String, Set<FieldAndType>> entry : fieldsToMerge.entrySet()) {
+            fieldMap.computeIfAbsent(entry.getKey(), k -> new LinkedHashSet<>()).addAll(entry.getValue());
+        }
+    }
+
+    private boolean isCachingPossible() {
+        if (cachingPossible == null) {
+            cachingPossible = !hasFragmentCycles();
+        }
+        return cachingPossible;
+    }
+
+    private boolean hasFragmentCycles() {
+        Map<String, Boolean> finished = new HashMap<>();
+        for (Definition<?> definition : getValidationContext().getDocument().getDefinitions()) {
+            if (definition instanceof FragmentDefinition && hasFragmentCycles((FragmentDefinition) definition, finished)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasFragmentCycles(FragmentDefinition fragment, Map<String, Boolean> finished) {
+        Boolean fragmentFinished = finished.get(fragment.getName());
+        if (fragmentFinished != null) {
+            // a fragment that is not finished yet is spread by itself
+            return !fragmentFinished;
+        }
+        finished.put(fragment.getName(), false);
+        for (FragmentSpread fragmentSpread : fragmentSpreads(fragment.getSelectionSet(), new ArrayList<>())) {
+            FragmentDefinition spreadFragment = getValidationContext().getFragment(fragmentSpread.getName());
+            if (spreadFragment != null && hasFragmentCycles(spreadFragment, finished)) {
+                return true;
+            }
+        }
+        finished.put(fragment.getName(), true);
+        return false;
+    }
+
+    private static List<FragmentSpread> fragmentSpreads(SelectionSet selectionSet, List<FragmentSpread> fragmentSpreads) {
+        if (selectionSet == null) {
+            return fragmentSpreads;
+        }
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof FragmentSpread) {
+                fragmentSpreads.add((FragmentSpread) selection);
+            } else if (selection instanceof InlineFragment) {
+                fragmentSpreads(((InlineFragment) selection).getSelectionSet(), fragmentSpreads);
+            } else if (selection instanceof Field) {
+                fragmentSpreads(((Field) selection).getSelectionSet(), fragmentSpreads);
+            }
+        }
+        return fragmentSpreads;
+    }
+
     private GraphQLType getGraphQLTypeForFragmentDefinition(FragmentDefinition fragment) {
         return TypeFromAST.getTypeFromAST(getValidationContext().getSchema(),
                 fragment.getTypeCondition());
@@ -178,6 +274,9 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
     }
 
     private Map<String, Set<FieldAndType>> mergeSubSelections(Set<FieldAndType> sameNameFields) {
+        if (isCachingPossible()) {
+            return mergeCachedSubSelections(sameNameFields);
+        }
         Map<String, Set<FieldAndType>> fieldMap = new LinkedHashMap<>();
         for (FieldAndType fieldAndType : sameNameFields) {
             if (fieldAndType.field.getSelectionSet() != null) {
@@ -188,6 +287,31 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         return fieldMap;
     }
 
+    private Map<String, Set<FieldAndType>> mergeCachedSubSelections(Set<FieldAndType> sameNameFields) {
+        Map<String, Set<FieldAndType>> singleFieldMap = null;
+        Map<String, Set<FieldAndType>> fieldMap = null;
+        for (FieldAndType fieldAndType : sameNameFields) {
+            if (fieldAndType.field.getSelectionSet() == null) {
+                continue;
+            }
+            Map<String, Set<FieldAndType>> subSelectionFields = getSelectionSetFields(fieldAndType.field.getSelectionSet(), fieldAndType.graphQLType);
+            if (singleFieldMap == null && fieldMap == null) {
+                // the cached fields are only read, so they can be used as is if there is nothing to merge them with
+                singleFieldMap = subSelectionFields;
+                continue;
+            }
+            if (fieldMap == null) {
+                fieldMap = new LinkedHashMap<>();
+                mergeFields(fieldMap, singleFieldMap);
+            }
+            mergeFields(fieldMap, subSelectionFields);
+        }
+        if (fieldMap != null) {
+            return fieldMap;
+        }
+        return singleFieldMap != null ? singleFieldMap : new LinkedHashMap<>();
+    }
+
     private void sameForCommonParentsByName(Map<String, Set<FieldAndType>> fieldMap, ImmutableList<String> currentPath, List<Conflict> conflictsResult) {
         for (Map.Entry<String, Set<FieldAndType>> entry : fieldMap.entrySet()) {
             List<Set<FieldAndType>> groups = groupByCommonParents(entry.getValue());
@@ -389,6 +513,16 @@ public class OverlappingFieldsCanBeMerged extends AbstractRule {
         }
     }
 
+    private static class CollectedFields {
+        final GraphQLType parentType;
+        final Map<String, Set<FieldAndType>> fieldMap;
+
+        CollectedFields(GraphQLType parentType, Map<String, Set<FieldAndType>> fieldMap) {
+            this.parentType = parentType;
+            this.fieldMap = fieldMap;
+        }
+    }
+
     private static class Conflict {
         final String reason;
         final Set<Field> fields = new LinkedHashSet<>();
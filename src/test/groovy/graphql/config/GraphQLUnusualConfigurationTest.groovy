@@ -4,26 +4,32 @@ import graphql.ExecutionInput
 import graphql.ExperimentalApi
 import graphql.GraphQL
 import graphql.GraphQLContext
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchStatistics
 import graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys
 import graphql.execution.instrumentation.dataloader.DelayedDataLoaderDispatcherExecutorFactory
 import graphql.execution.ResponseMapFactory
 import graphql.introspection.GoodFaithIntrospection
 import graphql.parser.ParserOptions
 import graphql.schema.PropertyDataFetcherHelper
+import graphql.validation.ValidationCache
+import graphql.validation.Validator
 import spock.lang.Specification
 
 import java.time.Duration
+import java.util.concurrent.Executor
 
 import static graphql.parser.ParserOptions.newParserOptions
 
 class GraphQLUnusualConfigurationTest extends Specification {
 
     def startingParserOptions = ParserOptions.getDefaultParserOptions()
+    def startingOperationParserOptions = ParserOptions.getDefaultOperationParserOptions()
     def startingState = GoodFaithIntrospection.isEnabledJvmWide()
 
     void cleanup() {
         // JVM wide so other tests can be affected
         ParserOptions.setDefaultParserOptions(startingParserOptions)
+        ParserOptions.setDefaultOperationParserOptions(startingOperationParserOptions)
         PropertyDataFetcherHelper.setUseNegativeCache(true)
         GoodFaithIntrospection.enabledJvmWide(startingState)
     }
@@ -38,6 +44,20 @@ class GraphQLUnusualConfigurationTest extends Specification {
         defaultParserOptions.getMaxRuleDepth() == 99
     }
 
+    def "can enable recursive descent parsing"() {
+        expect:
+        !GraphQL.unusualConfiguration().parsing().isRecursiveDescentParsingEnabled()
+
+        when:
+        GraphQL.unusualConfiguration().parsing().enableRecursiveDescentParsing(true)
+
+        then:
+        GraphQL.unusualConfiguration().parsing().isRecursiveDescentParsingEnabled()
+        ParserOptions.getDefaultOperationParserOptions().isRecursiveDescentParsing()
+        ParserOptions.getDefaultOperationParserOptions().getMaxTokens() == startingOperationParserOptions.getMaxTokens()
+        !ParserOptions.getDefaultParserOptions().isRecursiveDescentParsing()
+    }
+
     def "can set property data fetcher config"() {
         when:
         def prevValue = GraphQL.unusualConfiguration().propertyDataFetching().setUseNegativeCache(false)
@@ -164,6 +184,15 @@ class GraphQLUnusualConfigurationTest extends Specification {
         graphqlContext.get(DataLoaderDispatchingContextKeys.DELAYED_DATA_LOADER_DISPATCHING_EXECUTOR_FACTORY) == factory
         GraphQL.unusualConfiguration(graphqlContext).dataloaderConfig().delayedDataLoaderExecutorFactory() == factory
 
+        when:
+        def statistics = new DataLoaderDispatchStatistics()
+        graphqlContext = GraphQLContext.newContext().build()
+        GraphQL.unusualConfiguration(graphqlContext).dataloaderConfig().enableAdaptiveDispatching(statistics)
+
+        then:
+        graphqlContext.get(DataLoaderDispatchingContextKeys.DATA_LOADER_DISPATCH_STATISTICS) == statistics
+        GraphQL.unusualConfiguration(graphqlContext).dataloaderConfig().dataLoaderDispatchStatistics() == statistics
+
         when:
         graphqlContext = GraphQLContext.newContext().build()
         // just to show we we can navigate the DSL
@@ -251,4 +280,38 @@ class GraphQLUnusualConfigurationTest extends Specification {
         GraphQL.unusualConfiguration(graphqlContext).responseMapFactory().getOr(rfm2) == rfm2
 
     }
+
+    def "can set parallel validation executor"() {
+        def executor = { Runnable r -> r.run() } as Executor
+
+        when:
+        def graphqlContextBuilder = GraphQLContext.newContext()
+
+        then:
+        GraphQL.unusualConfiguration(graphqlContextBuilder).validation().getParallelValidationExecutor() == null
+
+        when:
+        GraphQL.unusualConfiguration(graphqlContextBuilder).validation().parallelValidationExecutor(executor)
+
+        then:
+        GraphQL.unusualConfiguration(graphqlContextBuilder).validation().getParallelValidationExecutor() == executor
+        graphqlContextBuilder.build().get(Validator.PARALLEL_VALIDATION_EXECUTOR) == executor
+    }
+
+    def "can set validation cache"() {
+        def validationCache = new ValidationCache()
+
+        when:
+        def graphqlContextBuilder = GraphQLContext.newContext()
+
+        then:
+        GraphQL.unusualConfiguration(graphqlContextBuilder).validation().getValidationCache() == null
+
+        when:
+        GraphQL.unusualConfiguration(graphqlContextBuilder).validation().validationCache(validationCache)
+
+        then:
+        GraphQL.unusualConfiguration(graphqlContextBuilder).validation().getValidationCache() == validationCache
+        graphqlContextBuilder.build().get(Validator.VALIDATION_CACHE) == validationCache
+    }
 }
@@ -0,0 +1,166 @@
+package graphql.execution
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.TypeResolutionEnvironment
+import graphql.UnresolvedTypeError
+import graphql.schema.BatchTypeResolver
+import graphql.schema.DataFetcher
+import graphql.schema.GraphQLObjectType
+import graphql.schema.idl.RuntimeWiring
+import spock.lang.Specification
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class BatchTypeResolverTest extends Specification {
+
+    def sdl = '''
+            type Query {
+                nodes : [Node]
+                nested : [[Node!]]
+                node : Node
+                search : [SearchResult!]!
+            }
+
+            interface Node {
+                id : ID
+            }
+
+            type Human implements Node {
+                id : ID
+                name : String
+            }
+
+            type Droid implements Node {
+                id : ID
+                model : String
+            }
+
+            type Planet {
+                name : String
+            }
+
+            union SearchResult = Human | Planet
+        '''
+
+    def luke = [kind: "Human", id: "1", name: "Luke"]
+    def r2 = [kind: "Droid", id: "2", model: "R2"]
+    def leia = [kind: "Human", id: "3", name: "Leia"]
+    def tatooine = [kind: "Planet", id: "4", name: "Tatooine"]
+
+    List<List<Object>> batches = []
+
+    BatchTypeResolver batchTypeResolver = new BatchTypeResolver() {
+        @Override
+        List<GraphQLObjectType> getTypes(TypeResolutionEnvironment env, List<Object> values) {
+            batches.add(values)
+            values.collect { env.schema.getObjectType(it.kind as String) }
+        }
+    }
+
+    GraphQL graphQL(Map<String, DataFetcher> dataFetchers) {
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetchers(dataFetchers))
+                .type(newTypeWiring("Node").typeResolver(batchTypeResolver))
+                .type(newTypeWiring("SearchResult").typeResolver(batchTypeResolver))
+                .build()
+        GraphQL.newGraphQL(TestUtil.schema(sdl, wiring)).build()
+    }
+
+    def "the types of all the elements of a list are resolved in one call"() {
+        def graphQL = graphQL([
+                nodes : { [luke, null, r2, DataFetcherResult.newResult().data(leia).build()] } as DataFetcher,
+                search: { [tatooine, luke] } as DataFetcher,
+        ])
+
+        when:
+        def result = graphQL.execute('''{
+            nodes { id __typename ... on Human { name } ... on Droid { model } }
+            search { __typename ... on Planet { name } }
+        }''')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [
+                nodes : [
+                        [id: "1", __typename: "Human", name: "Luke"],
+                        null,
+                        [id: "2", __typename: "Droid", model: "R2"],
+                        [id: "3", __typename: "Human", name: "Leia"],
+                ],
+                search: [[__typename: "Planet", name: "Tatooine"], [__typename: "Human"]],
+        ]
+        batches == [[luke, r2, leia], [tatooine, luke]]
+    }
+
+    def "nested lists are resolved per inner list and single values on their own"() {
+        def graphQL = graphQL([
+                nested: { [[luke, r2], [], [leia]] } as DataFetcher,
+                node  : { r2 } as DataFetcher,
+        ])
+
+        when:
+        def result = graphQL.execute('{ nested { __typename } node { __typename } }')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [nested: [[[__typename: "Human"], [__typename: "Droid"]], [], [[__typename: "Human"]]], node: [__typename: "Droid"]]
+        batches == [[luke, r2], [leia], [r2]]
+    }
+
+    def "elements that resolve to no type or to an impossible type are unresolved"() {
+        def graphQL = graphQL([
+                nodes : { [luke, tatooine, [kind: "Starship", id: "5"]] } as DataFetcher,
+                search: { [tatooine, r2] } as DataFetcher,
+        ])
+
+        when:
+        def result = graphQL.execute('{ nodes { id } }')
+
+        then:
+        result.errors.collect { it.path } == [["nodes", 1], ["nodes", 2]]
+        result.errors.every { it instanceof UnresolvedTypeError }
+        result.data == [nodes: [[id: "1"], null, null]]
+
+        when:
+        result = graphQL.execute('{ search { __typename } }')
+
+        then:
+        result.errors.collect { it.path } == [["search", 1]]
+        result.data == null
+    }
+
+    def "batch resolved elements are completed via the overridable completion methods"() {
+        def completedValues = []
+        def completedObjects = []
+        def strategy = new AsyncExecutionStrategy() {
+            @Override
+            protected FieldValueInfo completeValue(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+                completedValues.add(parameters.getPath().toString())
+                return super.completeValue(executionContext, parameters)
+            }
+
+            @Override
+            protected Object completeValueForObject(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLObjectType resolvedObjectType, Object result) {
+                completedObjects.add(resolvedObjectType.getName())
+                return super.completeValueForObject(executionContext, parameters, resolvedObjectType, result)
+            }
+        }
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("nodes", { [luke, null, r2] } as DataFetcher))
+                .type(newTypeWiring("Node").typeResolver(batchTypeResolver))
+                .type(newTypeWiring("SearchResult").typeResolver(batchTypeResolver))
+                .build()
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, wiring)).queryExecutionStrategy(strategy).build()
+
+        when:
+        def result = graphQL.execute('{ nodes { __typename } }')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [nodes: [[__typename: "Human"], null, [__typename: "Droid"]]]
+        batches == [[luke, r2]]
+        completedValues == ["/nodes", "/nodes[0]", "/nodes[0]/__typename", "/nodes[1]", "/nodes[2]", "/nodes[2]/__typename"]
+        completedObjects == ["Human", "Droid"]
+    }
+}
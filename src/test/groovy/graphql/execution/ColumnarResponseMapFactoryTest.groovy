@@ -0,0 +1,154 @@
+package graphql.execution
+
+import com.google.common.collect.ImmutableList
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+class ColumnarResponseMapFactoryTest extends Specification {
+
+    def "no keys"() {
+        given:
+        var sut = new ColumnarResponseMapFactory()
+
+        when:
+        var result = sut.createInsertionOrdered(List.of(), List.of())
+
+        then:
+        result.isEmpty()
+        result == [:]
+    }
+
+    def "keys keep their insertion order and values can be null"() {
+        given:
+        var sut = new ColumnarResponseMapFactory()
+
+        when:
+        var result = sut.createInsertionOrdered(List.of("name", "age", "nickname"), Arrays.asList("Mario", 18, null))
+
+        then:
+        result == ["name": "Mario", "age": 18, "nickname": null]
+        result.keySet().toList() == ["name", "age", "nickname"]
+        result.values().toList() == ["Mario", 18, null]
+        result.containsKey("nickname")
+        !result.containsKey("other")
+        result.get("other") == null
+        // Groovy has its own toString for maps, so the map's own one is called via String.valueOf
+        String.valueOf(result) == "{name=Mario, age=18, nickname=null}"
+        result.hashCode() == ["name": "Mario", "age": 18, "nickname": null].hashCode()
+    }
+
+    def "maps of the same selection share their keys"() {
+        given:
+        var sut = new ColumnarResponseMapFactory()
+
+        when:
+        var first = sut.createInsertionOrdered(List.of("name", "age"), List.of("Mario", 18))
+        var second = sut.createInsertionOrdered(new ArrayList<>(List.of("name", "age")), List.of("Luigi", 21))
+
+        then:
+        first.@responseKeys != null
+        first.@responseKeys.is(second.@responseKeys)
+        second == ["name": "Luigi", "age": 21]
+    }
+
+    def "the same immutable list of keys is looked up by identity"() {
+        given:
+        var sut = new ColumnarResponseMapFactory()
+        var keys = ImmutableList.of("name", "age")
+
+        when:
+        var first = sut.createInsertionOrdered(keys, List.of("Mario", 18))
+        var second = sut.createInsertionOrdered(keys, List.of("Luigi", 21))
+        var third = sut.createInsertionOrdered(new ArrayList<>(keys), List.of("Peach", 22))
+
+        then:
+        first.@responseKeys.is(second.@responseKeys)
+        first.@responseKeys.is(third.@responseKeys)
+    }
+
+    def "the least recently used key sets are evicted beyond the maximum"() {
+        given:
+        var sut = new ColumnarResponseMapFactory(2)
+
+        when:
+        var a = sut.createInsertionOrdered(List.of("a"), List.of(1))
+        var b = sut.createInsertionOrdered(List.of("b"), List.of(1))
+        var aAgain = sut.createInsertionOrdered(List.of("a"), List.of(2))
+        sut.createInsertionOrdered(List.of("c"), List.of(1))
+        var aOnceMore = sut.createInsertionOrdered(List.of("a"), List.of(3))
+        var bAgain = sut.createInsertionOrdered(List.of("b"), List.of(2))
+
+        then:
+        a.@responseKeys.is(aAgain.@responseKeys)
+        a.@responseKeys.is(aOnceMore.@responseKeys)
+        !b.@responseKeys.is(bAgain.@responseKeys)
+        bAgain == ["b": 2]
+    }
+
+    def "key sets are not shared if the maximum is 0"() {
+        given:
+        var sut = new ColumnarResponseMapFactory(0)
+
+        when:
+        var first = sut.createInsertionOrdered(List.of("b"), List.of(1))
+        var second = sut.createInsertionOrdered(List.of("b"), List.of(2))
+
+        then:
+        !first.@responseKeys.is(second.@responseKeys)
+        second == ["b": 2]
+    }
+
+    def "large selections are looked up by index"() {
+        given:
+        var sut = new ColumnarResponseMapFactory()
+        var keys = (1..20).collect { "k$it".toString() }
+
+        when:
+        var result = sut.createInsertionOrdered(keys, (1..20).toList())
+
+        then:
+        result.get("k1") == 1
+        result.get("k20") == 20
+        result.get("k21") == null
+        result.keySet().toList() == keys
+    }
+
+    def "the maps are read only"() {
+        given:
+        var result = new ColumnarResponseMapFactory().createInsertionOrdered(List.of("name"), List.of("Mario"))
+
+        when:
+        result.put("name", "Luigi")
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "can be used to execute queries"() {
+        def sdl = '''
+            type Query {
+                people : [Person]
+            }
+            type Person {
+                name : String
+                age : Int
+            }
+        '''
+        def fetchers = [Query: [people: { env -> [[name: "Mario", age: 18], [name: "Luigi", age: 21]] } as DataFetcher]]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+        def ei = ExecutionInput.newExecutionInput("{ people { name age } }").build()
+        GraphQL.unusualConfiguration(ei).responseMapFactory().setFactory(new ColumnarResponseMapFactory())
+
+        when:
+        def er = graphQL.execute(ei)
+
+        then:
+        er.errors.isEmpty()
+        er.data == [people: [[name: "Mario", age: 18], [name: "Luigi", age: 21]]]
+        er.data.getClass().simpleName == "ColumnarMap"
+        er.data.people[0].getClass().simpleName == "ColumnarMap"
+    }
+}
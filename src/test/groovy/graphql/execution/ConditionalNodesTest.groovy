@@ -212,6 +212,54 @@ class ConditionalNodesTest extends Specification {
         er["data"] == ["in": "in", "pet": ["name": "name"]]
     }
 
+    def "conditional nodes are decided once per field and object type in an execution"() {
+        def sdl = """
+            type Query {
+                pets : [Pet]
+            }
+
+            type Pet {
+                name: String
+                favouriteSnack: String
+            }
+        """
+        DataFetcher df = { DataFetchingEnvironment env -> env.getFieldDefinition().name }
+        def graphQL = TestUtil.graphQL(sdl, [
+                Query: ["pets": (DataFetcher<List>) { [[:], [:], [:], [:], [:]] }],
+                Pet  : ["name": df, "favouriteSnack": df]]).build()
+
+        def decisions = []
+        ConditionalNodeDecision countingDecision = new ConditionalNodeDecision() {
+            @Override
+            boolean shouldInclude(ConditionalNodeDecisionEnvironment env) {
+                if (env.directivesContainer instanceof Field) {
+                    decisions.add((env.directivesContainer as Field).name)
+                }
+                return true
+            }
+        }
+
+        when:
+        def ei = ExecutionInput.newExecutionInput()
+                .graphQLContext([(ConditionalNodeDecision.class): countingDecision])
+                .query('''
+            query q($snacks : Boolean!) {
+                pets {
+                  name
+                  favouriteSnack @include(if : $snacks)
+                }
+            }
+        ''')
+                .variables([snacks: true])
+                .build()
+        def er = graphQL.execute(ei)
+
+        then:
+        er.errors.isEmpty()
+        er.data == [pets: (1..5).collect { [name: "name", favouriteSnack: "favouriteSnack"] }]
+        decisions.count { it == "favouriteSnack" } == 1
+    }
+
     private ArrayList<Directive> directive(String name, Argument argument) {
         [Directive.newDirective().name(name).arguments([argument]).build()]
     }
@@ -0,0 +1,382 @@
+package graphql.execution
+
+import graphql.ExecutionInput
+import graphql.ExecutionResult
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.instrumentation.InstrumentationContext
+import graphql.execution.instrumentation.InstrumentationState
+import graphql.execution.instrumentation.SimplePerformantInstrumentation
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider
+import graphql.execution.preparsed.PreparsedDocumentEntry
+import graphql.execution.preparsed.TestingPreparsedDocumentProvider
+import graphql.language.OperationDefinition
+import graphql.language.StringValue
+import graphql.normalized.ExecutableNormalizedOperationFactory
+import graphql.parser.Parser
+import graphql.schema.Coercing
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetcherFactory
+import graphql.schema.DataFetcherFactoryEnvironment
+import graphql.schema.FieldCoordinates
+import graphql.schema.GraphQLCodeRegistry
+import graphql.schema.GraphQLScalarType
+import graphql.schema.TypeResolver
+import graphql.schema.idl.RuntimeWiring
+import spock.lang.Specification
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class ExecutionPlanTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            hero : Character
+            heroes : [Character]
+        }
+        interface Character {
+            name : String
+        }
+        type Human implements Character {
+            name : String
+            homePlanet : String
+        }
+        type Droid implements Character {
+            name : String
+            primaryFunction : String
+        }
+    '''
+
+    def r2d2 = [name: "R2D2", primaryFunction: "Astromech"]
+    def luke = [name: "Luke", homePlanet: "Tatooine"]
+
+    def graphQL() {
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query")
+                        .dataFetcher("hero", { env -> r2d2 } as DataFetcher)
+                        .dataFetcher("heroes", { env -> [r2d2, luke] } as DataFetcher))
+                .type(newTypeWiring("Character")
+                        .typeResolver({ env -> env.getSchema().getObjectType(env.getObject().containsKey("homePlanet") ? "Human" : "Droid") } as TypeResolver))
+                .build()
+        def schema = TestUtil.schema(sdl, wiring)
+        return GraphQL.newGraphQL(schema).preparsedDocumentProvider(new TestingPreparsedDocumentProvider()).build()
+    }
+
+    def executionInput(String query, Map<String, Object> variables = [:]) {
+        def ei = ExecutionInput.newExecutionInput(query).variables(variables).build()
+        GraphQL.unusualConfiguration(ei).executionPlans().enableExecutionPlans(true)
+        return ei
+    }
+
+    def "plans produce the same results as normal execution"() {
+        def query = '''
+            {
+                hero { name ... on Droid { primaryFunction } }
+                heroes { name ... on Human { homePlanet } ... on Droid { primaryFunction } }
+            }
+        '''
+        def graphQL = graphQL()
+
+        when:
+        def plain = graphQL.execute(query)
+        def first = graphQL.execute(executionInput(query))
+        def second = graphQL.execute(executionInput(query))
+
+        then:
+        plain.errors.isEmpty()
+        first.errors.isEmpty()
+        second.errors.isEmpty()
+        first.data == plain.data
+        second.data == plain.data
+        second.data == [
+                hero  : [name: "R2D2", primaryFunction: "Astromech"],
+                heroes: [[name: "R2D2", primaryFunction: "Astromech"], [name: "Luke", homePlanet: "Tatooine"]]
+        ]
+    }
+
+    def "no plan is compiled without a caching document provider"() {
+        def plans = []
+        def instrumentation = new SimplePerformantInstrumentation() {
+            @Override
+            InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+                plans.add(parameters.getExecutionContext().getExecutionPlan())
+                return null
+            }
+        }
+        def graphQL = graphQL().transform({ it.instrumentation(instrumentation) })
+        def noOpGraphQL = graphQL.transform({ it.preparsedDocumentProvider(NoOpPreparsedDocumentProvider.INSTANCE) })
+
+        when:
+        def er = noOpGraphQL.execute(executionInput("{ hero { name } }"))
+
+        then:
+        er.errors.isEmpty()
+        plans == [null]
+
+        when:
+        graphQL.execute(executionInput("{ hero { name } }"))
+
+        then:
+        plans.size() == 2
+        plans[1] != null
+    }
+
+    def "data fetcher factories are asked for a data fetcher on every execution"() {
+        def fetchersMade = 0
+        DataFetcherFactory factory = { DataFetcherFactoryEnvironment env ->
+            fetchersMade++
+            def fetcherNumber = fetchersMade
+            return { e -> "fetcher " + fetcherNumber } as DataFetcher
+        } as DataFetcherFactory
+        def codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Query", "hello"), factory)
+        def schema = TestUtil.schema("type Query { hello : String }").transform({ it.codeRegistry(codeRegistry.build()) })
+        def graphQL = GraphQL.newGraphQL(schema).preparsedDocumentProvider(new TestingPreparsedDocumentProvider()).build()
+
+        when:
+        def first = graphQL.execute(executionInput("{ hello }"))
+        def second = graphQL.execute(executionInput("{ hello }"))
+
+        then:
+        first.data == [hello: "fetcher 1"]
+        second.data == [hello: "fetcher 2"]
+    }
+
+    def "variable driven conditionals are honoured"() {
+        def query = '''
+            query q($withName : Boolean!) {
+                heroes { name @include(if: $withName) ... on Droid { primaryFunction } }
+            }
+        '''
+        def graphQL = graphQL()
+
+        when:
+        def withName = graphQL.execute(executionInput(query, [withName: true]))
+        def withoutName = graphQL.execute(executionInput(query, [withName: false]))
+
+        then:
+        withName.data == [heroes: [[name: "R2D2", primaryFunction: "Astromech"], [name: "Luke"]]]
+        withoutName.data == [heroes: [[primaryFunction: "Astromech"], [:]]]
+    }
+
+    def "selection sets are only cacheable when there are no variable conditionals"() {
+        def schema = graphQL().getGraphQLSchema()
+
+        when:
+        def plan = ExecutionPlan.compile(schema, Parser.parse('{ hero { name @include(if: true) } }'))
+
+        then:
+        plan.isSelectionSetsCacheable()
+
+        when:
+        plan = ExecutionPlan.compile(schema, Parser.parse('query q($v : Boolean!) { hero { ...F } } fragment F on Character { name @skip(if: $v) }'))
+
+        then:
+        !plan.isSelectionSetsCacheable()
+    }
+
+    def "preparsed document entries hold one plan per schema"() {
+        def schema = graphQL().getGraphQLSchema()
+        def otherSchema = TestUtil.schema(sdl)
+        def entry = new PreparsedDocumentEntry(Parser.parse('{ hero { name } }'))
+
+        when:
+        def plan1 = entry.getExecutionPlan(schema)
+        def plan2 = entry.getExecutionPlan(schema)
+        def plan3 = entry.getExecutionPlan(otherSchema)
+
+        then:
+        plan1 === plan2
+        plan3 !== plan1
+        plan3.getGraphQLSchema() === otherSchema
+    }
+
+    def "plans are not applicable unless enabled or when incremental support is enabled"() {
+        when:
+        def ei = executionInput("{ hero { name } }")
+
+        then:
+        ExecutionPlan.isApplicable(ei.getGraphQLContext())
+        !ExecutionPlan.isApplicable(ExecutionInput.newExecutionInput("{ hero { name } }").build().getGraphQLContext())
+
+        when:
+        GraphQL.unusualConfiguration(ei).incrementalSupport().enableIncrementalSupport(true)
+
+        then:
+        !ExecutionPlan.isApplicable(ei.getGraphQLContext())
+    }
+
+    def "literal arguments are coerced once per document and variable arguments once per execution"() {
+        def parsedLiterals = 0
+        def size = GraphQLScalarType.newScalar().name("Size").coercing(new Coercing<Object, Object>() {
+            @Override
+            Object serialize(Object dataFetcherResult) {
+                return dataFetcherResult
+            }
+
+            @Override
+            Object parseValue(Object input) {
+                return input
+            }
+
+            @Override
+            Object parseLiteral(Object input) {
+                parsedLiterals++
+                return (input as StringValue).value
+            }
+        }).build()
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .scalar(size)
+                .type(newTypeWiring("Query").dataFetcher("pictures", { env -> (1..10).collect { [:] } } as DataFetcher))
+                .type(newTypeWiring("Picture").dataFetcher("url", { env -> "/" + env.getArgument("size") } as DataFetcher))
+                .build()
+        def schema = TestUtil.schema("""
+            scalar Size
+            type Query {
+                pictures : [Picture]
+            }
+            type Picture {
+                url(size : Size) : String
+            }
+        """, wiring)
+        def graphQL = GraphQL.newGraphQL(schema).preparsedDocumentProvider(new TestingPreparsedDocumentProvider()).build()
+        def query = 'query q($size : Size) { pictures { small: url(size: "SMALL") other: url(size: $size) } }'
+
+        when:
+        graphQL.execute(executionInput(query, [size: "LARGE"]))
+        parsedLiterals = 0
+        def er = graphQL.execute(executionInput(query, [size: "MEDIUM"]))
+
+        then:
+        er.errors.isEmpty()
+        er.data == [pictures: (1..10).collect { [small: "/SMALL", other: "/MEDIUM"] }]
+        parsedLiterals == 0
+
+        when:
+        er = graphQL.execute(ExecutionInput.newExecutionInput(query).variables([size: "LARGE"]).build())
+
+        then:
+        er.data == [pictures: (1..10).collect { [small: "/SMALL", other: "/LARGE"] }]
+        parsedLiterals == 1
+    }
+
+    def "shared argument values cannot be changed by data fetchers and mutable scalar values are not shared"() {
+        def parsedLiterals = 0
+        def json = GraphQLScalarType.newScalar().name("Json").coercing(new Coercing<Object, Object>() {
+            @Override
+            Object serialize(Object dataFetcherResult) {
+                return dataFetcherResult
+            }
+
+            @Override
+            Object parseValue(Object input) {
+                return input
+            }
+
+            @Override
+            Object parseLiteral(Object input) {
+                parsedLiterals++
+                return [value: (input as StringValue).value]
+            }
+        }).build()
+        def changes = []
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .scalar(json)
+                .type(newTypeWiring("Query").dataFetcher("pictures", { env -> (1..3).collect { [:] } } as DataFetcher))
+                .type(newTypeWiring("Picture").dataFetcher("url", { env ->
+                    Map filter = env.getArgument("filter")
+                    try {
+                        filter.tags.add("changed")
+                    } catch (UnsupportedOperationException e) {
+                        changes << "rejected"
+                    }
+                    return "/" + filter.tags.join(",")
+                } as DataFetcher).dataFetcher("json", { env ->
+                    Map value = env.getArgument("value")
+                    value.put("seen", true)
+                    return value.size()
+                } as DataFetcher))
+                .build()
+        def schema = TestUtil.schema("""
+            scalar Json
+            input Filter {
+                tags : [String]
+            }
+            type Query {
+                pictures : [Picture]
+            }
+            type Picture {
+                url(filter : Filter) : String
+                json(value : Json) : Int
+            }
+        """, wiring)
+        def graphQL = GraphQL.newGraphQL(schema).preparsedDocumentProvider(new TestingPreparsedDocumentProvider()).build()
+        def query = '{ pictures { url(filter: {tags: ["a", null]}) json(value: "x") } }'
+
+        when:
+        graphQL.execute(executionInput(query, [:]))
+        parsedLiterals = 0
+        def er = graphQL.execute(executionInput(query, [:]))
+
+        then:
+        er.errors.isEmpty()
+        er.data == [pictures: (1..3).collect { [url: "/a,null", json: 2] }]
+        changes == (1..6).collect { "rejected" }
+        // the mutable scalar value is coerced for every object
+        parsedLiterals == 3
+    }
+
+    def "normalized operations are remembered per operation and variable values"() {
+        def schema = graphQL().getGraphQLSchema()
+        def document = Parser.parse('query q($withName : Boolean!) { heroes { name @include(if: $withName) ... on Droid { primaryFunction } } }')
+        def operationDefinition = document.getDefinitionsOfType(OperationDefinition.class)[0]
+        def plan = ExecutionPlan.compile(schema, document)
+        def builds = 0
+        def normalize = { Map variables ->
+            def coercedVariables = CoercedVariables.of(variables)
+            plan.getNormalizedOperation(operationDefinition, coercedVariables, {
+                builds++
+                ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(schema, operationDefinition, [:], coercedVariables)
+            })
+        }
+
+        when:
+        def withName = normalize([withName: true])
+        def withNameAgain = normalize([withName: true])
+        def withoutName = normalize([withName: false])
+
+        then:
+        builds == 2
+        withNameAgain === withName
+        withoutName !== withName
+        withName.getTopLevelFields()[0].getChildren().collect { it.getName() }.toSet() == ["name", "primaryFunction"] as Set
+        withoutName.getTopLevelFields()[0].getChildren().collect { it.getName() } == ["primaryFunction"]
+
+        when:
+        builds = 0
+        (1..ExecutionPlan.MAX_NORMALIZED_OPERATIONS).each { normalize([withName: true, other: it]) }
+        normalize([withName: true, other: 1])
+
+        then:
+        builds == ExecutionPlan.MAX_NORMALIZED_OPERATIONS
+
+        when: "the least recently used ones have been evicted"
+        builds = 0
+        normalize([withName: true])
+        normalize([withName: true, other: 1])
+
+        then:
+        builds == 1
+
+        when: "the caller changes the variables afterwards"
+        builds = 0
+        def variables = [withName: true, ids: ["1"]]
+        normalize(variables)
+        variables.ids.add("2")
+        normalize([withName: true, ids: ["1"]])
+
+        then:
+        builds == 1
+    }
+}
@@ -24,6 +24,7 @@ import graphql.parser.Parser
 import graphql.schema.Coercing
 import graphql.schema.DataFetcher
 import graphql.schema.DataFetchingEnvironment
+import graphql.schema.DataFetchingEnvironmentImpl
 import graphql.schema.FieldCoordinates
 import graphql.schema.GraphQLCodeRegistry
 import graphql.schema.GraphQLEnumType
@@ -566,6 +567,56 @@ class ExecutionStrategyTest extends Specification {
         environment.executionId == ExecutionId.from("executionId123")
     }
 
+    def "the DataFetchingEnvironment builds its costly values once and can be copied"() {
+        DataFetchingEnvironment environment = null
+        def dataFetcher = { env -> environment = env; "value" } as DataFetcher
+        def fieldDefinition = newFieldDefinition()
+                .name("someField")
+                .type(GraphQLString)
+                .argument(newArgument().name("arg1").type(GraphQLString))
+                .build()
+        def objectType = newObject()
+                .name("Type")
+                .field(fieldDefinition)
+                .build()
+        GraphQLSchema schema = GraphQLSchema.newSchema()
+                .codeRegistry(GraphQLCodeRegistry.newCodeRegistry()
+                        .dataFetcher(FieldCoordinates.coordinates("Type", "someField"), dataFetcher)
+                        .build())
+                .query(objectType)
+                .build()
+        ExecutionContext executionContext = buildContext(schema)
+        Field field = new Field("someField", [new Argument("arg1", new StringValue("argVal"))])
+        def parameters = newParameters()
+                .executionStepInfo(ExecutionStepInfo.newExecutionStepInfo().type(objectType).build())
+                .source("source")
+                .fields(mergedSelectionSet(["someField": [field]]))
+                .field(mergedField(field))
+                .nonNullFieldValidator(new NonNullableFieldValidator(executionContext))
+                .path(ResultPath.rootPath().segment("someField"))
+                .build()
+
+        when:
+        executionStrategy.resolveFieldWithInfo(executionContext, parameters)
+
+        then:
+        environment.executionStepInfo.is(environment.executionStepInfo)
+        environment.selectionSet.is(environment.selectionSet)
+        environment.queryDirectives.is(environment.queryDirectives)
+        environment.getArgument("arg1") == "argVal"
+        environment.variables == [arg1: "value1"]
+
+        when:
+        def copy = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment).arguments([arg1: "changed"]).build()
+
+        then:
+        copy.getArgument("arg1") == "changed"
+        copy.source == "source"
+        copy.fieldDefinition == fieldDefinition
+        copy.executionStepInfo.is(environment.executionStepInfo)
+        copy.toInternal() instanceof DataFetchingEnvironmentImpl.DFEInternalState
+    }
+
     def exceptionSetupFixture(expectedException) {
         def dataFetcher = new DataFetcher() {
             @Override
@@ -212,6 +212,38 @@ class ResultPathTest extends Specification {
         path.toList() == ["a", "b"]
     }
 
+    def "paths are rendered on demand and reuse already rendered parents"() {
+        def parent = ResultPath.fromList(["a", 1000])
+
+        when:
+        def child = parent.segment("b").segment(2000)
+
+        then:
+        parent.toString() == "/a[1000]"
+        child.toString() == "/a[1000]/b[2000]"
+        child.toString().is(child.toString())
+        child.getLevel() == 2
+        child.getParent().getLevel() == 2
+        parent.getLevel() == 1
+    }
+
+    def "list segments compare by value"() {
+        when:
+        def path1 = ResultPath.rootPath().segment("a").segment(1000)
+        def path2 = ResultPath.parse("/a[1000]")
+
+        then:
+        path1 == path2
+        path1.hashCode() == path2.hashCode()
+        path1.getSegmentValue() == 1000
+        path1.isListSegment()
+        !path1.isNamedSegment()
+        path1 != ResultPath.parse("/a[1001]")
+        path1 != ResultPath.parse("/a/b")
+        !ResultPath.rootPath().isListSegment()
+        ResultPath.rootPath().getSegmentValue() == null
+    }
+
     def "pass any other object than string or int"(){
         when:
         ResultPath.fromList(["a", "b", true])
@@ -0,0 +1,187 @@
+package graphql.execution
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import org.dataloader.BatchLoader
+import org.dataloader.DataLoaderFactory
+import org.dataloader.DataLoaderRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class VirtualThreadExecutionStrategyTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            a : String
+            b : String
+            books : [Book]
+        }
+        type Book {
+            title : String
+            author : Author
+        }
+        type Author {
+            name : String
+        }
+    '''
+
+    def "blocking data fetchers run off the calling thread and concurrently"() {
+        def latch = new CountDownLatch(2)
+        def threads = ConcurrentHashMap.newKeySet()
+        DataFetcher blocking = { env ->
+            threads.add(Thread.currentThread())
+            latch.countDown()
+            // both fetchers must be running at the same time for this to succeed
+            assert latch.await(5, TimeUnit.SECONDS)
+            return env.getField().getName()
+        }
+        def schema = TestUtil.schema(sdl, [Query: [a: blocking, b: blocking]])
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new VirtualThreadExecutionStrategy()).build()
+
+        def executionInput = ExecutionInput.newExecutionInput("{ a b }").build()
+
+        when:
+        def er = graphQL.execute(executionInput)
+
+        then:
+        er.errors.isEmpty()
+        er.data == [a: "a", b: "b"]
+        threads.size() == 2
+        !threads.contains(Thread.currentThread())
+        // the fetch scope is held by the execution, not by the user's context
+        executionInput.graphQLContext.stream().noneMatch { it.value instanceof VirtualThreadExecutionStrategy.FetchScope }
+    }
+
+    def "exceptions from blocking data fetchers become field errors"() {
+        DataFetcher bad = { env -> throw new RuntimeException("bang") }
+        def schema = TestUtil.schema(sdl, [Query: [a: bad, b: { env -> "b" } as DataFetcher]])
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new VirtualThreadExecutionStrategy()).build()
+
+        when:
+        def er = graphQL.execute("{ a b }")
+
+        then:
+        er.data == [a: null, b: "b"]
+        er.errors.size() == 1
+        er.errors[0].message.contains("bang")
+    }
+
+    def "data loaders are dispatched when blocking data fetchers wait on them"() {
+        def batchCalls = new AtomicInteger()
+        BatchLoader<String, Map> authorBatchLoader = { keys ->
+            batchCalls.incrementAndGet()
+            CompletableFuture.completedFuture(keys.collect { [name: "author of " + it] })
+        }
+        def registry = DataLoaderRegistry.newRegistry()
+                .register("author", DataLoaderFactory.newDataLoader(authorBatchLoader))
+                .build()
+
+        DataFetcher books = { env -> [[title: "A"], [title: "B"], [title: "C"]] }
+        DataFetcher author = { env ->
+            // a plain blocking wait on the data loader value
+            env.getDataLoader("author").load(env.getSource().title).join()
+        }
+        def schema = TestUtil.schema(sdl, [Query: [books: books], Book: [author: author]])
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new VirtualThreadExecutionStrategy()).build()
+
+        when:
+        def ei = ExecutionInput.newExecutionInput("{ books { title author { name } } }").dataLoaderRegistry(registry).build()
+        def er = graphQL.execute(ei)
+
+        then:
+        er.errors.isEmpty()
+        er.data == [books: [
+                [title: "A", author: [name: "author of A"]],
+                [title: "B", author: [name: "author of B"]],
+                [title: "C", author: [name: "author of C"]],
+        ]]
+        batchCalls.get() == 1
+    }
+
+    def "data loaders are dispatched however blocking data fetchers wait on them"() {
+        def batchCalls = new AtomicInteger()
+        BatchLoader<String, Map> authorBatchLoader = { keys ->
+            batchCalls.incrementAndGet()
+            CompletableFuture.completedFuture(keys.collect { [name: "author of " + it] })
+        }
+        def registry = DataLoaderRegistry.newRegistry()
+                .register("author", DataLoaderFactory.newDataLoader(authorBatchLoader))
+                .build()
+
+        DataFetcher books = { env -> [[title: "A"], [title: "B"], [title: "C"]] }
+        DataFetcher author = { env -> waitOn(env.getDataLoader("author"), env.getSource().title) }
+        def schema = TestUtil.schema(sdl, [Query: [books: books], Book: [author: author]])
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(new VirtualThreadExecutionStrategy()).build()
+
+        when:
+        def ei = ExecutionInput.newExecutionInput("{ books { title author { name } } }").dataLoaderRegistry(registry).build()
+        def er = graphQL.executeAsync(ei).get(5, TimeUnit.SECONDS)
+
+        then:
+        er.errors.isEmpty()
+        er.data == [books: [
+                [title: "A", author: [name: "author of A"]],
+                [title: "B", author: [name: "author of B"]],
+                [title: "C", author: [name: "author of C"]],
+        ]]
+        batchCalls.get() == 1
+
+        where:
+        waitOn << [
+                { loader, key -> loader.load(key).thenApply { it }.join() },
+                { loader, key -> loader.loadMany([key]).join()[0] },
+                { loader, key ->
+                    def value = loader.load(key)
+                    CompletableFuture.allOf(value).join()
+                    value.getNow(null)
+                },
+        ]
+    }
+
+    def "closing the fetch scope cancels outstanding fetches"() {
+        def interrupted = new CountDownLatch(1)
+        def started = new CountDownLatch(1)
+        def executor = Executors.newCachedThreadPool()
+        def scope = new VirtualThreadExecutionStrategy.FetchScope(executor)
+        def fetch = new VirtualThreadExecutionStrategy.VirtualThreadFetch()
+
+        when:
+        scope.submit(fetch, {
+            started.countDown()
+            try {
+                Thread.sleep(60_000)
+            } catch (InterruptedException ignored) {
+                interrupted.countDown()
+            }
+        })
+        started.await(5, TimeUnit.SECONDS)
+
+        then:
+        scope.outstandingCount() == 1
+
+        when:
+        scope.close()
+
+        then:
+        interrupted.await(5, TimeUnit.SECONDS)
+        scope.outstandingCount() == 0
+
+        when:
+        def lateFetch = new VirtualThreadExecutionStrategy.VirtualThreadFetch()
+        scope.submit(lateFetch, { lateFetch.done("late") })
+
+        then:
+        lateFetch.isCancelled()
+
+        cleanup:
+        executor.shutdownNow()
+    }
+}
@@ -0,0 +1,179 @@
+package graphql.execution.incremental
+
+import graphql.ExecutionInput
+import graphql.ExecutionResult
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.pubsub.CapturingSubscriber
+import graphql.incremental.DelayedIncrementalPartialResult
+import graphql.incremental.IncrementalExecutionResult
+import graphql.schema.DataFetcher
+import org.awaitility.Awaitility
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class StreamExecutionSupportIntegrationTest extends Specification {
+
+    def sdl = '''
+        directive @stream(if: Boolean! = true, label: String, initialCount: Int = 0) on FIELD
+
+        type Query {
+            feed : [Item]
+            strictFeed : [Item!]
+            names : [String]
+        }
+        type Item {
+            id : ID
+            title : String
+        }
+    '''
+
+    def titleCalls = new AtomicInteger()
+
+    GraphQL graphQL(List<Map> items = (1..5).collect { [id: "$it".toString()] }) {
+        def fetchers = [
+                Query: [
+                        feed      : { env -> items } as DataFetcher,
+                        strictFeed: { env -> items } as DataFetcher,
+                        names     : { env -> ["a", "b", "c"] } as DataFetcher,
+                ],
+                Item : [
+                        title: { env ->
+                            titleCalls.incrementAndGet()
+                            return "title " + env.getSource().id
+                        } as DataFetcher
+                ]
+        ]
+        return GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+    }
+
+    ExecutionResult execute(GraphQL graphQL, String query, int batchSize = 1) {
+        def ei = ExecutionInput.newExecutionInput(query).build()
+        GraphQL.unusualConfiguration(ei).incrementalSupport()
+                .enableIncrementalSupport(true)
+                .streamBatchSize(batchSize)
+        return graphQL.execute(ei)
+    }
+
+    def "initial count items are returned at once and the rest are streamed"() {
+        when:
+        def er = execute(graphQL(), '{ feed @stream(initialCount: 2, label: "feed") { id title } }')
+
+        then:
+        er instanceof IncrementalExecutionResult
+        er.toSpecification() == [data: [feed: [[id: "1", title: "title 1"], [id: "2", title: "title 2"]]], hasNext: true]
+
+        when:
+        def incrementalResults = getIncrementalResults(er as IncrementalExecutionResult)
+
+        then:
+        incrementalResults == [
+                [hasNext: true, incremental: [[path: ["feed", 2], label: "feed", items: [[id: "3", title: "title 3"]]]]],
+                [hasNext: true, incremental: [[path: ["feed", 3], label: "feed", items: [[id: "4", title: "title 4"]]]]],
+                [hasNext: false, incremental: [[path: ["feed", 4], label: "feed", items: [[id: "5", title: "title 5"]]]]],
+        ]
+    }
+
+    def "items can be batched into one payload"() {
+        when:
+        def er = execute(graphQL(), '{ names @stream(initialCount: 0) feed @stream(initialCount: 1) { id } }', 3)
+
+        then:
+        er.data == [names: [], feed: [[id: "1"]]]
+
+        when:
+        def incrementalResults = getIncrementalResults(er as IncrementalExecutionResult)
+        def incrementalItems = incrementalResults.collect { it.incremental }.flatten()
+
+        then:
+        incrementalItems.find { it.path == ["names", 0] }.items == ["a", "b", "c"]
+        incrementalItems.find { it.path == ["feed", 1] }.items == [[id: "2"], [id: "3"], [id: "4"]]
+        incrementalItems.find { it.path == ["feed", 4] }.items == [[id: "5"]]
+        incrementalItems.size() == 3
+        incrementalResults.last().hasNext == false
+    }
+
+    def "stream is ignored without incremental support or when disabled"() {
+        when:
+        def er = graphQL().execute('{ feed @stream(initialCount: 1) { id } }')
+
+        then:
+        !(er instanceof IncrementalExecutionResult)
+        er.data == [feed: (1..5).collect { [id: "$it".toString()] }]
+
+        when:
+        er = execute(graphQL(), '{ feed @stream(if: false) { id } }')
+
+        then:
+        !(er instanceof IncrementalExecutionResult)
+        er.data.feed.size() == 5
+    }
+
+    def "a null non-nullable item stops the stream with an error"() {
+        def items = [[id: "1"], [id: "2"], null, [id: "4"]]
+
+        when:
+        def er = execute(graphQL(items), '{ strictFeed @stream(initialCount: 1) { id title } }')
+        def incrementalResults = getIncrementalResults(er as IncrementalExecutionResult)
+
+        then:
+        er.data == [strictFeed: [[id: "1", title: "title 1"]]]
+        incrementalResults.size() == 2
+        incrementalResults[0].incremental[0].items == [[id: "2", title: "title 2"]]
+        incrementalResults[1].hasNext == false
+        incrementalResults[1].incremental[0].path == ["strictFeed", 2]
+        incrementalResults[1].incremental[0].items == null
+        incrementalResults[1].incremental[0].errors.size() == 1
+    }
+
+    def "streamed items are only completed when the subscriber asks for them"() {
+        def er = execute(graphQL(), '{ feed @stream(initialCount: 1) { title } }')
+        def subscription = null
+        def events = []
+        def subscriber = new Subscriber<DelayedIncrementalPartialResult>() {
+            void onSubscribe(Subscription s) { subscription = s }
+
+            void onNext(DelayedIncrementalPartialResult result) { events << result }
+
+            void onError(Throwable t) {}
+
+            void onComplete() {}
+        }
+
+        when:
+        (er as IncrementalExecutionResult).incrementalItemPublisher.subscribe(subscriber)
+
+        then:
+        titleCalls.get() == 1
+        events.isEmpty()
+
+        when:
+        subscription.request(2)
+
+        then:
+        titleCalls.get() == 3
+        events.size() == 2
+
+        when:
+        subscription.request(10)
+
+        then:
+        titleCalls.get() == 5
+        events.size() == 4
+        !events.last().hasNext()
+    }
+
+    private static List<Map<String, Object>> getIncrementalResults(IncrementalExecutionResult initialResult) {
+        def subscriber = new CapturingSubscriber<DelayedIncrementalPartialResult>()
+        initialResult.incrementalItemPublisher.subscribe(subscriber)
+
+        Awaitility.await().untilTrue(subscriber.isDone())
+        if (subscriber.throwable != null) {
+            throw new RuntimeException(subscriber.throwable)
+        }
+        return subscriber.getEvents().collect { it.toSpecification() }
+    }
+}
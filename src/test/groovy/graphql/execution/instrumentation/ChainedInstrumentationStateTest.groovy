@@ -7,7 +7,10 @@ import graphql.StarWarsSchema
 import graphql.execution.AsyncExecutionStrategy
 import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters
+import graphql.execution.instrumentation.parameters.InstrumentationFieldCompleteParameters
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters
+import graphql.schema.DataFetcher
 import graphql.validation.ValidationError
 import spock.lang.Specification
 
@@ -348,6 +351,60 @@ class ChainedInstrumentationStateTest extends Specification {
         er.extensions == [i1: "I1", i2: "I2"]
     }
 
+    def "field hooks are only called on the instrumentations that override them"() {
+        def calls = []
+        def fetching = new SimplePerformantInstrumentation() {
+            @Override
+            FieldFetchingInstrumentationContext beginFieldFetching(InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+                calls.add("fetching")
+                return FieldFetchingInstrumentationContext.NOOP
+            }
+        }
+        def legacyFetch = new SimplePerformantInstrumentation() {
+            @Override
+            InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+                calls.add("fetch")
+                return SimpleInstrumentationContext.noOp()
+            }
+        }
+        def completionContext = new SimpleInstrumentationContext<Object>()
+        def completion = new SimplePerformantInstrumentation() {
+            @Override
+            InstrumentationContext<Object> beginFieldCompletion(InstrumentationFieldCompleteParameters parameters, InstrumentationState state) {
+                calls.add("completion")
+                return completionContext
+            }
+        }
+        def chainedInstrumentation = new ChainedInstrumentation([fetching, new SimplePerformantInstrumentation(), legacyFetch, completion])
+        def executionInput = ExecutionInput.newExecutionInput("{ hero { id } }").build()
+        def state = chainedInstrumentation.createStateAsync(new InstrumentationCreateStateParameters(StarWarsSchema.starWarsSchema, executionInput)).join()
+        DataFetcher<?> dataFetcher = { "value" } as DataFetcher
+
+        when:
+        chainedInstrumentation.beginFieldFetching(null, state)
+
+        then:
+        calls == ["fetching", "fetch"]
+
+        when:
+        calls.clear()
+        def context = chainedInstrumentation.beginFieldCompletion(null, state)
+
+        then:
+        calls == ["completion"]
+        context.is(completionContext)
+
+        when:
+        calls.clear()
+
+        then:
+        chainedInstrumentation.beginFieldExecution(null, state).is(SimpleInstrumentationContext.noOp())
+        chainedInstrumentation.beginFieldListCompletion(null, state).is(SimpleInstrumentationContext.noOp())
+        chainedInstrumentation.beginExecuteObject(null, state).is(ExecuteObjectInstrumentationContext.NOOP)
+        chainedInstrumentation.instrumentDataFetcher(dataFetcher, null, state).is(dataFetcher)
+        calls.isEmpty()
+    }
+
     private void assertCalls(NamedInstrumentation instrumentation) {
         assert instrumentation.dfInvocations[0].getFieldDefinition().name == 'hero'
         assert instrumentation.dfInvocations[0].getExecutionStepInfo().getPath().toList() == ['hero']
@@ -0,0 +1,170 @@
+package graphql.execution.instrumentation.dataloader
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import org.dataloader.BatchLoader
+import org.dataloader.DataLoaderFactory
+import org.dataloader.DataLoaderOptions
+import org.dataloader.DataLoaderRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class DataLoaderDispatchStatisticsTest extends Specification {
+
+    def "batches are averaged per data loader"() {
+        def statistics = new DataLoaderDispatchStatistics()
+
+        when:
+        statistics.recordBatch("a", false, 10, 1000)
+        statistics.recordBatch("a", false, 20, 2000)
+        statistics.recordBatch("b", true, 3, 500)
+
+        then:
+        statistics.getStatistics("a").batchCount == 2
+        statistics.getStatistics("a").delayedBatchCount == 0
+        statistics.getStatistics("a").meanBatchSize == 12d
+        statistics.getStatistics("a").meanLatencyNanos == 1200d
+        statistics.getStatistics("b").peakDelayedBatchSize == 3d
+        statistics.getStatistics("c") == null
+
+        when:
+        statistics.clear()
+
+        then:
+        statistics.getStatistics("a") == null
+    }
+
+    def "the delayed batch window grows with the batch latency"() {
+        def statistics = new DataLoaderDispatchStatistics()
+
+        expect:
+        statistics.delayedBatchWindowNanos("a", 500_000) == 500_000
+
+        when: "fast batches"
+        DataLoaderDispatchStatistics.MIN_BATCHES.times { statistics.recordBatch("a", false, 10, 100_000) }
+
+        then:
+        statistics.delayedBatchWindowNanos("a", 500_000) == 500_000
+
+        when: "slow batches"
+        DataLoaderDispatchStatistics.MIN_BATCHES.times { statistics.recordBatch("b", false, 10, 20_000_000) }
+
+        then:
+        statistics.delayedBatchWindowNanos("b", 500_000) == 2_000_000
+
+        when: "very slow batches"
+        DataLoaderDispatchStatistics.MIN_BATCHES.times { statistics.recordBatch("c", false, 10, 1_000_000_000) }
+
+        then:
+        statistics.delayedBatchWindowNanos("c", 500_000) == 500_000 * DataLoaderDispatchStatistics.MAX_WINDOW_FACTOR
+    }
+
+    def "a delayed batch is complete once it reaches the usual peak"() {
+        def statistics = new DataLoaderDispatchStatistics()
+
+        when:
+        (DataLoaderDispatchStatistics.MIN_BATCHES - 1).times { statistics.recordBatch("a", true, 4, 1000) }
+
+        then:
+        !statistics.isDelayedBatchComplete("a", 100)
+
+        when:
+        statistics.recordBatch("a", true, 2, 1000)
+
+        then:
+        !statistics.isDelayedBatchComplete("a", 3)
+        statistics.isDelayedBatchComplete("a", 4)
+    }
+
+    def sdl = '''
+        type Query {
+            items : [Item]
+        }
+        type Item {
+            id : ID
+            owner : Owner
+        }
+        type Owner {
+            id : ID
+        }
+    '''
+
+    def "a full batch is dispatched before its level is ready"() {
+        def ownerFetches = new AtomicInteger()
+        def fetchesAtBatch = []
+        BatchLoader<String, Map> batchLoader = { keys ->
+            fetchesAtBatch << ownerFetches.get()
+            CompletableFuture.completedFuture(keys.collect { [id: it] })
+        }
+        def fetchers = [
+                Query: [items: { env -> (1..5).collect { [id: "$it".toString()] } } as DataFetcher],
+                Item : [owner: { env ->
+                    ownerFetches.incrementAndGet()
+                    env.getDataLoader("owner").load("o" + env.source.id)
+                } as DataFetcher]
+        ]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+
+        when:
+        def statistics = new DataLoaderDispatchStatistics()
+        def registry = DataLoaderRegistry.newRegistry()
+                .register("owner", DataLoaderFactory.newDataLoader(batchLoader, DataLoaderOptions.newOptions().setMaxBatchSize(2).build()))
+                .build()
+        def ei = ExecutionInput.newExecutionInput("{ items { owner { id } } }").dataLoaderRegistry(registry).build()
+        GraphQL.unusualConfiguration(ei).dataloaderConfig()
+                .enableDataLoaderChaining(true)
+                .enableAdaptiveDispatching(statistics)
+        def er = graphQL.execute(ei)
+
+        then:
+        er.errors.isEmpty()
+        er.data.items.collect { it.owner.id } == ["o1", "o2", "o3", "o4", "o5"]
+        fetchesAtBatch == [2, 4, 5]
+        statistics.getStatistics("owner").batchCount == 3
+
+        when: "without adaptive dispatching the level is dispatched as a whole"
+        fetchesAtBatch.clear()
+        ownerFetches.set(0)
+        registry = DataLoaderRegistry.newRegistry()
+                .register("owner", DataLoaderFactory.newDataLoader(batchLoader, DataLoaderOptions.newOptions().setMaxBatchSize(2).build()))
+                .build()
+        ei = ExecutionInput.newExecutionInput("{ items { owner { id } } }").dataLoaderRegistry(registry).build()
+        GraphQL.unusualConfiguration(ei).dataloaderConfig().enableDataLoaderChaining(true)
+        er = graphQL.execute(ei)
+
+        then:
+        er.errors.isEmpty()
+        fetchesAtBatch == [5, 5, 5]
+    }
+
+    def "delayed batches are recorded"() {
+        BatchLoader<String, Map> batchLoader = { keys -> CompletableFuture.completedFuture(keys.collect { [id: it] }) }
+        def fetchers = [
+                Query: [items: { env -> (1..3).collect { [id: "$it".toString()] } } as DataFetcher],
+                Item : [owner: { env ->
+                    CompletableFuture.supplyAsync { Thread.sleep(10) }
+                            .thenCompose { env.getDataLoader("owner").load("o" + env.source.id) }
+                } as DataFetcher]
+        ]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+        def statistics = new DataLoaderDispatchStatistics()
+
+        when:
+        def registry = DataLoaderRegistry.newRegistry().register("owner", DataLoaderFactory.newDataLoader(batchLoader)).build()
+        def ei = ExecutionInput.newExecutionInput("{ items { owner { id } } }").dataLoaderRegistry(registry).build()
+        GraphQL.unusualConfiguration(ei).dataloaderConfig()
+                .enableDataLoaderChaining(true)
+                .enableAdaptiveDispatching(statistics)
+        def er = graphQL.execute(ei)
+
+        then:
+        er.errors.isEmpty()
+        er.data.items.collect { it.owner.id } == ["o1", "o2", "o3"]
+        statistics.getStatistics("owner").delayedBatchCount >= 1
+        statistics.getStatistics("owner").peakDelayedBatchSize >= 1
+    }
+}
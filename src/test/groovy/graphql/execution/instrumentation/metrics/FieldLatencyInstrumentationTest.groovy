@@ -0,0 +1,102 @@
+package graphql.execution.instrumentation.metrics
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+import static graphql.schema.FieldCoordinates.coordinates
+
+class FieldLatencyInstrumentationTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            slow : String
+            items : [Item]
+        }
+        type Item {
+            id : ID
+        }
+    '''
+
+    def fetchers = [Query: [
+            slow : { env ->
+                CompletableFuture.supplyAsync {
+                    Thread.sleep(20)
+                    "slow"
+                }
+            } as DataFetcher,
+            items: { env -> [[id: "1"], [id: "2"], [id: "3"]] } as DataFetcher,
+    ]]
+
+    GraphQL graphQL(FieldLatencyInstrumentation instrumentation) {
+        return GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).instrumentation(instrumentation).build()
+    }
+
+    def "fetch and completion latencies are aggregated per field"() {
+        def instrumentation = new FieldLatencyInstrumentation()
+        def graphQL = graphQL(instrumentation)
+
+        when:
+        def er = graphQL.execute("{ slow items { id } }")
+        graphQL.execute("{ slow }")
+        def snapshot = instrumentation.snapshot()
+
+        then:
+        er.errors.isEmpty()
+        er.extensions == null
+        snapshot.keySet() == [coordinates("Query", "slow"), coordinates("Query", "items"), coordinates("Item", "id")] as Set
+
+        def slow = snapshot[coordinates("Query", "slow")]
+        slow.fetchLatencies.count == 2
+        slow.fetchLatencies.getValueAtPercentile(50) >= 20_000_000
+        slow.completionLatencies.count == 2
+
+        // the id fields use trivial property fetchers
+        snapshot[coordinates("Item", "id")].fetchLatencies.count == 0
+        snapshot[coordinates("Item", "id")].completionLatencies.count == 3
+    }
+
+    def "trivial data fetchers can be included"() {
+        def instrumentation = new FieldLatencyInstrumentation(FieldLatencyInstrumentation.Options.newOptions().includeTrivialDataFetchers(true))
+
+        when:
+        graphQL(instrumentation).execute("{ items { id } }")
+
+        then:
+        instrumentation.snapshot()[coordinates("Item", "id")].fetchLatencies.count == 3
+    }
+
+    def "executions are sampled"() {
+        def neverSampled = new FieldLatencyInstrumentation(FieldLatencyInstrumentation.Options.newOptions().sampleRate(0))
+
+        when:
+        def er = graphQL(neverSampled).execute("{ items { id } }")
+
+        then:
+        er.errors.isEmpty()
+        neverSampled.snapshot().isEmpty()
+    }
+
+    def "snapshots can reset the latencies"() {
+        def instrumentation = new FieldLatencyInstrumentation()
+        def graphQL = graphQL(instrumentation)
+        graphQL.execute("{ items { id } }")
+
+        when:
+        def first = instrumentation.snapshotAndReset()
+        def second = instrumentation.snapshot()
+
+        then:
+        first[coordinates("Query", "items")].fetchLatencies.count == 1
+        second[coordinates("Query", "items")].fetchLatencies.count == 0
+
+        when:
+        instrumentation.reset()
+
+        then:
+        instrumentation.snapshot().isEmpty()
+    }
+}
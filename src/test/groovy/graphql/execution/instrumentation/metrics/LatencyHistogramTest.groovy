@@ -0,0 +1,93 @@
+package graphql.execution.instrumentation.metrics
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class LatencyHistogramTest extends Specification {
+
+    def "bucket boundaries are contiguous"() {
+        expect:
+        (0L..5000L).every { value ->
+            int index = LatencyHistogram.bucketIndex(value)
+            value <= LatencyHistogram.highestValueInBucket(index) &&
+                    (index == 0 || value > LatencyHistogram.highestValueInBucket(index - 1))
+        }
+        LatencyHistogram.highestValueInBucket(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_TRACKABLE_NANOS)) == LatencyHistogram.MAX_TRACKABLE_NANOS
+    }
+
+    def "percentiles are reported within the precision of the histogram"() {
+        def histogram = new LatencyHistogram()
+
+        when:
+        (1..1000).each { histogram.record(it * 1000L) }
+        def snapshot = histogram.snapshot()
+
+        then:
+        snapshot.count == 1000
+        snapshot.mean == 500_500d
+        withinPrecision(snapshot.getValueAtPercentile(50), 500_000)
+        withinPrecision(snapshot.getValueAtPercentile(99), 990_000)
+        withinPrecision(snapshot.getValueAtPercentile(100), 1_000_000)
+        withinPrecision(snapshot.max, 1_000_000)
+        snapshot.getValueAtPercentile(99, TimeUnit.MICROSECONDS) >= 990
+        snapshot.getValueAtPercentile(99, TimeUnit.MICROSECONDS) <= 1052
+    }
+
+    def "out of range values are clamped"() {
+        def histogram = new LatencyHistogram()
+
+        when:
+        histogram.record(-5)
+        histogram.record(Long.MAX_VALUE)
+        def snapshot = histogram.snapshot()
+
+        then:
+        snapshot.count == 2
+        snapshot.getValueAtPercentile(50) == 0
+        snapshot.max == LatencyHistogram.MAX_TRACKABLE_NANOS
+    }
+
+    def "snapshot and reset starts over"() {
+        def histogram = new LatencyHistogram()
+        histogram.record(100)
+        histogram.record(200)
+
+        when:
+        def first = histogram.snapshotAndReset()
+        def second = histogram.snapshot()
+
+        then:
+        first.count == 2
+        second.count == 0
+        second.mean == 0
+        second.getValueAtPercentile(99) == 0
+    }
+
+    def "concurrent records are all counted"() {
+        def histogram = new LatencyHistogram()
+        def executor = Executors.newFixedThreadPool(8)
+        def latch = new CountDownLatch(8)
+
+        when:
+        8.times {
+            executor.submit {
+                10_000.times { histogram.record(it) }
+                latch.countDown()
+            }
+        }
+        latch.await()
+
+        then:
+        histogram.snapshot().count == 80_000
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    static boolean withinPrecision(long actual, long expected) {
+        return actual >= expected && actual <= expected + expected / 16
+    }
+}
@@ -0,0 +1,123 @@
+package graphql.execution.preparsed
+
+import graphql.GraphQL
+import graphql.StarWarsSchema
+import graphql.parser.Parser
+import spock.lang.Specification
+
+import java.util.function.Function
+
+import static graphql.ExecutionInput.newExecutionInput
+
+class CachingPreparsedDocumentProviderTest extends Specification {
+
+    def parseCount = 0
+    Function parseFunction = { ei ->
+        parseCount++
+        new PreparsedDocumentEntry(Parser.parse(ei.query))
+    }
+
+    PreparsedDocumentEntry get(CachingPreparsedDocumentProvider provider, String query, String operationName = null) {
+        provider.getDocumentAsync(newExecutionInput(query).operationName(operationName).build(), parseFunction).join()
+    }
+
+    def "documents are cached by query and operation name"() {
+        def provider = new CachingPreparsedDocumentProvider()
+
+        when:
+        def first = get(provider, "{ a }")
+        def second = get(provider, "{ a }")
+        get(provider, "{ a }", "A")
+        get(provider, "{ b }")
+
+        then:
+        first.is(second)
+        parseCount == 3
+        def stats = provider.stats()
+        stats.hitCount == 1
+        stats.missCount == 3
+        stats.hitRate == 0.25d
+        stats.entryCount == 3
+        stats.weightedSize == "{ a }".length() * 2 + 1 + "{ b }".length()
+    }
+
+    def "the cache is bounded by the query sizes"() {
+        def provider = new CachingPreparsedDocumentProvider(100)
+
+        when:
+        (1..50).each { get(provider, "{ field$it }") }
+
+        then:
+        def stats = provider.stats()
+        stats.weightedSize <= 100
+        stats.entryCount < 50
+        stats.evictionCount == 50 - stats.entryCount
+    }
+
+    def "queries larger than the cache are not cached"() {
+        def provider = new CachingPreparsedDocumentProvider(10)
+
+        when:
+        get(provider, "{ aVeryLongFieldName }")
+        get(provider, "{ aVeryLongFieldName }")
+
+        then:
+        parseCount == 2
+        provider.stats().entryCount == 0
+    }
+
+    def "frequently used queries survive a scan of one off queries"() {
+        def provider = new CachingPreparsedDocumentProvider(1000)
+        def popular = (1..10).collect { "{ popular$it }".toString() }
+
+        when:
+        5.times { popular.each { get(provider, it) } }
+        (1..1000).each { get(provider, "{ oneOff$it }") }
+        parseCount = 0
+        popular.each { get(provider, it) }
+
+        then:
+        parseCount == 0
+    }
+
+    def "the cache can be invalidated"() {
+        def provider = new CachingPreparsedDocumentProvider()
+        get(provider, "{ a }")
+
+        when:
+        provider.invalidateAll()
+        get(provider, "{ a }")
+
+        then:
+        parseCount == 2
+        provider.stats().entryCount == 1
+    }
+
+    def "frequency sketch counts keys"() {
+        def sketch = new CachingPreparsedDocumentProvider.FrequencySketch(100)
+
+        when:
+        3.times { sketch.increment(42) }
+        20.times { sketch.increment(7) }
+
+        then:
+        sketch.frequency(42) >= 3
+        sketch.frequency(7) == 15
+        sketch.frequency(99) <= 1
+    }
+
+    def "can be used to skip parsing and validation"() {
+        def provider = new CachingPreparsedDocumentProvider()
+        def graphQL = GraphQL.newGraphQL(StarWarsSchema.starWarsSchema).preparsedDocumentProvider(provider).build()
+
+        when:
+        def er1 = graphQL.execute("{ hero { name } }")
+        def er2 = graphQL.execute("{ hero { name } }")
+
+        then:
+        er1.data == [hero: [name: "R2-D2"]]
+        er2.data == er1.data
+        provider.stats().hitCount == 1
+        provider.stats().missCount == 1
+    }
+}
@@ -0,0 +1,222 @@
+package graphql.execution.sink
+
+import graphql.ExecutionInput
+import graphql.ExecutionResult
+import graphql.GraphQL
+import graphql.GraphQLError
+import graphql.TestUtil
+import graphql.execution.instrumentation.ChainedInstrumentation
+import graphql.execution.instrumentation.InstrumentationState
+import graphql.execution.instrumentation.SimplePerformantInstrumentation
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+
+class JsonExecutionResultSinkTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            a : String
+            b : [Item]
+            c : String
+            nonNull : String!
+        }
+        type Item {
+            id : ID
+            score : Float
+        }
+    '''
+
+    def execute(GraphQL graphQL, String query, ExecutionResultSink sink) {
+        def ei = ExecutionInput.newExecutionInput(query).build()
+        GraphQL.unusualConfiguration(ei).resultSink().deliverResultInto(sink)
+        return graphQL.execute(ei)
+    }
+
+    def "results are written as json in specification order"() {
+        def fetchers = [Query: [
+                a      : { env -> 'he said "hi"\n' } as DataFetcher,
+                b      : { env -> [[id: "1", score: 1.5d], [id: "2", score: -2d]] } as DataFetcher,
+                c      : { env -> throw new RuntimeException("bad") } as DataFetcher,
+                nonNull: { env -> "x" } as DataFetcher,
+        ]]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+        def writer = new StringWriter()
+
+        when:
+        def er = execute(graphQL, "{ a b { id score } c }", new JsonExecutionResultSink(writer))
+
+        then:
+        er.data == [a: null, b: null, c: null]
+        writer.toString().startsWith('{"data":{"a":"he said \\"hi\\"\\n","b":[{"id":"1","score":1.5},{"id":"2","score":-2.0}],"c":null},"errors":[{"message":')
+        writer.toString().endsWith('}]}')
+    }
+
+    def "root fields are delivered in order as soon as they and the fields before them complete"() {
+        def aCF = new CompletableFuture()
+        def cCF = new CompletableFuture()
+        def fetchers = [Query: [
+                a: { env -> aCF } as DataFetcher,
+                c: { env -> cCF } as DataFetcher,
+        ]]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+        def sink = new RecordingSink()
+
+        when:
+        def ei = ExecutionInput.newExecutionInput("{ a c }").build()
+        GraphQL.unusualConfiguration(ei).resultSink().deliverResultInto(sink)
+        def erCF = graphQL.executeAsync(ei)
+
+        then:
+        sink.calls == ["beginData"]
+
+        when:
+        cCF.complete("C")
+
+        then:
+        sink.calls == ["beginData"]
+
+        when:
+        aCF.complete("A")
+
+        then:
+        sink.calls == ["beginData", "a=A", "c=C", "endData", "end"]
+        // the delivered values are not kept once they have been written
+        erCF.join().data == [a: null, c: null]
+    }
+
+    def "non finite numbers are written as null"() {
+        def writer = new StringWriter()
+        def sink = new JsonExecutionResultSink(writer)
+
+        when:
+        sink.beginData()
+        sink.dataField("numbers", [Double.NaN, Double.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 1.5d])
+        sink.endData()
+        sink.end()
+
+        then:
+        writer.toString() == '{"data":{"numbers":[null,null,null,1.5]}}'
+    }
+
+    def "the root fields that were not written are written as null if the execution is aborted"() {
+        def ei = ExecutionInput.newExecutionInput("{ a c }").build()
+        def fetchers = [Query: [
+                a: { env -> ei.cancel(); "A" } as DataFetcher,
+                c: { env -> "C" } as DataFetcher,
+        ]]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+        def writer = new StringWriter()
+
+        when:
+        GraphQL.unusualConfiguration(ei).resultSink().deliverResultInto(new JsonExecutionResultSink(writer))
+        def er = graphQL.execute(ei)
+
+        then:
+        !er.isDataPresent()
+        er.errors.size() == 1
+        writer.toString().startsWith('{"data":{"a":"A","c":null},"errors":[{"message":')
+    }
+
+    def "the sink is given an error if the execution fails"() {
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, [Query: [a: { env -> "A" } as DataFetcher]]))
+                .instrumentation(new SimplePerformantInstrumentation() {
+                    @Override
+                    CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, InstrumentationExecutionParameters parameters, InstrumentationState state) {
+                        throw new IllegalStateException("broken")
+                    }
+                })
+                .build()
+        def sink = new RecordingSink()
+
+        when:
+        def ei = ExecutionInput.newExecutionInput("{ a }").build()
+        GraphQL.unusualConfiguration(ei).resultSink().deliverResultInto(sink)
+        graphQL.executeAsync(ei).join()
+
+        then:
+        thrown(CompletionException)
+        sink.calls == ["errors=1", "end"]
+    }
+
+    def "data is only written once an instrumentation that can rewrite the result is done with it"() {
+        def fetchers = [Query: [
+                a: { env -> "A" } as DataFetcher,
+                c: { env -> "C" } as DataFetcher,
+        ]]
+        def sink = new RecordingSink()
+        def rewriting = new SimplePerformantInstrumentation() {
+            @Override
+            CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, InstrumentationExecutionParameters parameters, InstrumentationState state) {
+                assert sink.calls.isEmpty()
+                return CompletableFuture.completedFuture(executionResult.transform({ it.data([a: "rewritten"]) }))
+            }
+        }
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers))
+                .instrumentation(new ChainedInstrumentation(SimplePerformantInstrumentation.INSTANCE, rewriting))
+                .build()
+
+        when:
+        def er = execute(graphQL, "{ a c }", sink)
+
+        then:
+        er.data == [a: "rewritten"]
+        sink.calls == ["beginData", "a=rewritten", "endData", "end"]
+    }
+
+    def "data is only written at the end when a non null root field could null it"() {
+        def fetchers = [Query: [
+                a      : { env -> "A" } as DataFetcher,
+                nonNull: { env -> null } as DataFetcher,
+        ]]
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl, fetchers)).build()
+        def sink = new RecordingSink()
+        def writer = new StringWriter()
+
+        when:
+        def er = execute(graphQL, "{ a nonNull }", sink)
+
+        then:
+        er.data == null
+        sink.calls == ["nullData", "errors=1", "end"]
+
+        when:
+        execute(graphQL, "{ a nonNull }", new JsonExecutionResultSink(writer))
+
+        then:
+        writer.toString().startsWith('{"data":null,"errors":[')
+    }
+
+    def "results without data only have errors"() {
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(sdl)).build()
+        def writer = new StringWriter()
+
+        when:
+        execute(graphQL, "{ unknown }", new JsonExecutionResultSink(writer))
+
+        then:
+        writer.toString().startsWith('{"errors":[{"message":')
+        !writer.toString().contains('"data"')
+    }
+
+    static class RecordingSink implements ExecutionResultSink {
+        def calls = []
+
+        void beginData() { calls << "beginData" }
+
+        void dataField(String name, Object value) { calls << "$name=$value".toString() }
+
+        void endData() { calls << "endData" }
+
+        void nullData() { calls << "nullData" }
+
+        void errors(List<GraphQLError> errors) { calls << "errors=${errors.size()}".toString() }
+
+        void extensions(Map<Object, Object> extensions) { calls << "extensions" }
+
+        void end() { calls << "end" }
+    }
+}
@@ -0,0 +1,263 @@
+package graphql.language
+
+import graphql.AssertException
+import graphql.parser.MultiSourceReader
+import graphql.parser.Parser
+import graphql.parser.ParserEnvironment
+import graphql.parser.ParserOptions
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class AstBinaryFormatTest extends Specification {
+
+    static def fullOptions = ParserOptions.newParserOptions()
+            .captureIgnoredChars(true)
+            .captureLineComments(true)
+            .build()
+
+    static Document parse(String document, ParserOptions parserOptions = fullOptions) {
+        def environment = ParserEnvironment.newParserEnvironment().document(document).parserOptions(parserOptions).build()
+        return new Parser().parseDocument(environment)
+    }
+
+    static void assertSameAst(Node expected, Node actual, String path = "") {
+        if (expected == null) {
+            assert actual == null, path
+            return
+        }
+        assert actual.getClass() == expected.getClass(), path
+        assert actual.isEqualTo(expected), path
+        assert actual.sourceLocation == expected.sourceLocation, path
+        assert actual.comments.collect { [it.content, it.sourceLocation] } == expected.comments.collect { [it.content, it.sourceLocation] }, path
+        assert actual.ignoredChars.left == expected.ignoredChars.left, path
+        assert actual.ignoredChars.right == expected.ignoredChars.right, path
+        assert actual.additionalData == expected.additionalData, path
+        if (expected instanceof DescribedNode) {
+            def expectedDescription = expected.description
+            def actualDescription = (actual as DescribedNode).description
+            assert [actualDescription?.content, actualDescription?.multiLine, actualDescription?.sourceLocation] ==
+                    [expectedDescription?.content, expectedDescription?.multiLine, expectedDescription?.sourceLocation], path
+        }
+        List<Node> expectedChildren = expected.children
+        List<Node> actualChildren = actual.children
+        assert actualChildren.size() == expectedChildren.size(), path
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            assertSameAst(expectedChildren[i], actualChildren[i], path + "/" + expectedChildren[i].getClass().simpleName + "[" + i + "]")
+        }
+    }
+
+    static def query = '''
+                #comment
+                query HeroForEpisode($ep: Episode! = JEDI @dir) @live {
+                  hero(episode: $ep) {
+                    name
+                    ... on Droid {
+                      primaryFunction
+                    }
+                    ... @include(if: true) {
+                      height
+                    }
+                  }
+
+                  rightComparison: hero(episode: JEDI) {
+                     ...comparisonFields
+                  }
+
+                  differentArgObjects( s : "s\\u00e9😀", int : -123456789012345678901234567890, f : 1.5e-300, b : true, n : null,
+                    list : [{a : "s"}, 1, "s"], obj : {x : "s", y : $ep} )
+                }
+
+                fragment comparisonFields on Character {
+                  name, appearsIn
+                  friends {
+                    name # trailing comment
+                  }
+                }
+
+                mutation { like(id: """block
+                  string""") }
+        '''
+
+    static def sdl = '''
+            "the schema"
+            schema @dir {
+                query : Q
+            }
+
+            extend schema {
+                mutation : M
+            }
+
+            """
+            the query type
+            """
+            type Q implements I & J @dir(arg: [1, 2]) {
+                # a comment
+                field( arg : String! = "default", other: [In!]) : FieldType @deprecated(reason : "no good")
+            }
+
+            extend type Q { extra: Int }
+            interface I implements J { f : U }
+            extend interface I @dir
+            union U = Foo | Bar
+            extend union U = Baz
+            enum E { "a value" A, B @deprecated }
+            extend enum E { C }
+            scalar S
+            extend scalar S @specifiedBy(url: "https://example.com")
+            input In { in : String = null, e: E = A }
+            extend input In { out : Float = 2.5 }
+            directive @dir(arg: [Int] = [0]) repeatable on FIELD_DEFINITION | OBJECT | SCHEMA
+        '''
+
+    def "documents are read back exactly as they were written"() {
+        def document = parse(source, options)
+
+        when:
+        def bytes = AstBinaryFormat.writeDocument(document)
+        def readBack = AstBinaryFormat.readDocument(bytes)
+
+        then:
+        AstPrinter.printAst(readBack) == AstPrinter.printAst(document)
+        assertSameAst(document, readBack)
+
+        where:
+        [source, options] << [[query, sdl], [
+                fullOptions,
+                ParserOptions.getDefaultParserOptions(),
+                fullOptions.transform({ it.captureSourceLocation(false) }),
+        ]].combinations()
+    }
+
+    def "source names of multi source documents are kept"() {
+        def reader = MultiSourceReader.newMultiSourceReader()
+                .string("type Query {\n  a: A\n}\n", "query.graphqls")
+                .string("type A {\n  b: Int\n}\n", "a.graphqls")
+                .string("extend type A {\n  c: Int\n}\n", null)
+                .build()
+        def document = new Parser().parseDocument(ParserEnvironment.newParserEnvironment().document(reader).build())
+
+        when:
+        def readBack = AstBinaryFormat.readDocument(AstBinaryFormat.writeDocument(document))
+
+        then:
+        readBack.definitions.collect { it.sourceLocation.sourceName } == ["query.graphqls", "a.graphqls", null]
+        assertSameAst(document, readBack)
+    }
+
+    def "documents built in code are read back exactly"() {
+        def document = Document.newDocument()
+                .definition(ObjectTypeDefinition.newObjectTypeDefinition()
+                        .name("Query")
+                        .sourceLocation(SourceLocation.EMPTY)
+                        .description(new Description("built", null, false))
+                        .additionalData("key", "value")
+                        .fieldDefinition(new FieldDefinition("f", NonNullType.newNonNullType(new ListType(new TypeName("Int"))).build()))
+                        .build())
+                .definition(new OperationDefinition(null, OperationDefinition.Operation.SUBSCRIPTION))
+                .build()
+
+        when:
+        def readBack = AstBinaryFormat.readDocument(AstBinaryFormat.writeDocument(document))
+
+        then:
+        assertSameAst(document, readBack)
+        readBack.definitions[0].sourceLocation.is(SourceLocation.EMPTY)
+        readBack.definitions[0].additionalData == [key: "value"]
+    }
+
+    def "strings are written once and shared when read back"() {
+        def document = parse('{ hero { name } villain { name } sidekick { name } }', ParserOptions.getDefaultParserOptions())
+
+        when:
+        def bytes = AstBinaryFormat.writeDocument(document)
+        def readBack = AstBinaryFormat.readDocument(bytes)
+        def names = (readBack.definitions[0] as OperationDefinition).selectionSet.selections.collect { ((it as Field).selectionSet.selections[0] as Field).name }
+
+        then:
+        new String(bytes, "UTF-8").count("name") == 1
+        names.size() == 3
+        names[0].is(names[1])
+        names[1].is(names[2])
+    }
+
+    def "documents can be read from a direct buffer without moving it"() {
+        def document = parse(query)
+        def bytes = AstBinaryFormat.writeDocument(document)
+        def buffer = ByteBuffer.allocateDirect(bytes.length + 2)
+        buffer.put([7, 7] as byte[]).put(bytes).position(2)
+
+        when:
+        def readBack = AstBinaryFormat.readDocument(buffer)
+
+        then:
+        assertSameAst(document, readBack)
+        buffer.position() == 2
+    }
+
+    def "bytes in another format or version are rejected"() {
+        def bytes = AstBinaryFormat.writeDocument(parse('{ hero }'))
+
+        when:
+        AstBinaryFormat.readDocument("not binary".getBytes("UTF-8"))
+
+        then:
+        def e = thrown(AssertException)
+        e.message == "The bytes are not in the binary AST format"
+
+        when:
+        bytes[4] = 99 as byte
+        AstBinaryFormat.readDocument(bytes)
+
+        then:
+        e = thrown(AssertException)
+        e.message == "The binary AST format version 99 is not supported, only version 1 is"
+    }
+
+    def "truncated or corrupt bytes are rejected"() {
+        def bytes = AstBinaryFormat.writeDocument(parse('query Q($id : ID = "1") { hero(id: $id) { name friends { name } } }'))
+
+        when: "every truncation of the bytes is read"
+        def failures = (5..<bytes.length).collect { length ->
+            try {
+                AstBinaryFormat.readDocument(Arrays.copyOf(bytes, length))
+                return null
+            } catch (Exception e) {
+                return e
+            }
+        }
+
+        then:
+        failures.every { it instanceof AssertException }
+
+        when: "the bytes are cut off in the middle of the string table"
+        AstBinaryFormat.readDocument(Arrays.copyOf(bytes, 8))
+
+        then:
+        def e = thrown(AssertException)
+        e.message == "The binary AST is truncated"
+
+        when: "an operation name refers past the end of the empty string table"
+        // magic, version, kind, no strings, a document with one operation definition whose name is string 5
+        AstBinaryFormat.readDocument(['G', 'Q', 'L', 'B', 1, 1, 0, 1, 0, 0, 1, 2, 0, 0, 5].collect { it instanceof String ? (int) it.charAt(0) : it } as byte[])
+
+        then:
+        e = thrown(AssertException)
+        e.message == "The binary AST refers to a string that is not in its string table"
+    }
+
+    def "node classes outside of the language package are rejected"() {
+        def custom = new Field("custom") {}
+        def document = Document.newDocument().definition(OperationDefinition.newOperationDefinition()
+                .name("Q")
+                .selectionSet(SelectionSet.newSelectionSet().selection(custom).build())
+                .build()).build()
+
+        when:
+        AstBinaryFormat.writeDocument(document)
+
+        then:
+        thrown(AssertException)
+    }
+}
@@ -21,6 +21,7 @@ import graphql.util.TraverserContext
 import graphql.util.TraverserVisitorStub
 import spock.lang.Specification
 
+import java.util.concurrent.ForkJoinPool
 import java.util.stream.Collectors
 import java.util.stream.IntStream
 
@@ -3106,6 +3107,84 @@ fragment personName on Person {
         result.getOperationFieldCount() == 8
     }
 
+    def "a parallel build produces the same operation as a sequential one"() {
+        String schema = """
+        type Query {
+            foo: Foo
+            foos: [Foo]
+        }
+        type Foo {
+            name: String
+            foo: Foo
+            bar: Bar
+        }
+        type Bar {
+            name(arg: String): String
+            foo: Foo
+        }
+        """
+
+        GraphQLSchema graphQLSchema = TestUtil.schema(schema)
+
+        String query = """
+        {
+            foo { ...F1 }
+            foos { name bar { foo { ...F1 } } }
+        }
+        fragment F1 on Foo {
+            name
+            foo { ...F2 }
+            bar { name(arg: "x") foo { ...F2 } }
+        }
+        fragment F2 on Foo {
+            name
+            a: foo { name bar { name } }
+            b: bar { foo { name } name(arg: "y") }
+        }
+        """
+
+        assertValidQuery(graphQLSchema, query)
+
+        Document document = TestUtil.parseQuery(query)
+        def pool = new ForkJoinPool(4)
+
+        when:
+        def sequential = ExecutableNormalizedOperationFactory.createExecutableNormalizedOperationWithRawVariables(
+                graphQLSchema,
+                document,
+                null,
+                RawVariables.emptyVariables())
+        def parallel = ExecutableNormalizedOperationFactory.createExecutableNormalizedOperationWithRawVariables(
+                graphQLSchema,
+                document,
+                null,
+                RawVariables.emptyVariables(),
+                ExecutableNormalizedOperationFactory.Options.defaultOptions().parallelBuildPool(pool))
+
+        then:
+        printTree(parallel) == printTree(sequential)
+        parallel.getOperationFieldCount() == sequential.getOperationFieldCount()
+        parallel.getOperationDepth() == sequential.getOperationDepth()
+        parallel.getNormalizedFieldToMergedField().values().collect { it.getFields() } ==
+                sequential.getNormalizedFieldToMergedField().values().collect { it.getFields() }
+        parallel.getCoordinatesToNormalizedFields().keySet() as List == sequential.getCoordinatesToNormalizedFields().keySet() as List
+
+        when:
+        ExecutableNormalizedOperationFactory.createExecutableNormalizedOperationWithRawVariables(
+                graphQLSchema,
+                document,
+                null,
+                RawVariables.emptyVariables(),
+                ExecutableNormalizedOperationFactory.Options.defaultOptions().parallelBuildPool(pool).maxFieldsCount(sequential.getOperationFieldCount() - 1))
+
+        then:
+        def e = thrown(AbortExecutionException)
+        e.message == "Maximum field count exceeded. ${sequential.getOperationFieldCount()} > ${sequential.getOperationFieldCount() - 1}".toString()
+
+        cleanup:
+        pool.shutdown()
+    }
+
     def "factory has a default max node count"() {
         String schema = """
         type Query {
@@ -0,0 +1,199 @@
+package graphql.parser
+
+import graphql.i18n.I18n
+import graphql.language.AstPrinter
+import graphql.language.Document
+import graphql.language.Node
+import spock.lang.Specification
+
+/**
+ * The recursive descent parser must produce exactly what the ANTLR parser produces, so these tests parse a corpus
+ * of documents both ways and compare the results node by node
+ */
+class ExecutableDocumentParserTest extends Specification {
+
+    static def antlrOptions = ParserOptions.newParserOptions()
+            .captureIgnoredChars(true)
+            .captureLineComments(true)
+            .build()
+
+    static def corpus = [
+            '{ me }',
+            '{hero{name}}',
+            'query { hero { name friends { name } } }',
+            'query HeroName($episode: Episode = JEDI, $withFriends: Boolean!) @live { hero(episode: $episode) { name friends @include(if: $withFriends) { name } } }',
+            'mutation M($input: [ReviewInput!]! = [{stars: 5, commentary: "great"}]) { createReview(input: $input) { stars } }',
+            'subscription OnReview { reviewAdded(episode: NEWHOPE) { stars commentary } }',
+            '{ a: hero { n: name } b: hero(episode: EMPIRE) { name } }',
+            '''
+            query Q { ...heroFields ... on Droid { primaryFunction } ... @skip(if: false) { id } ... { id } }
+            fragment heroFields on Character @dir { name, appearsIn }
+            ''',
+            '{ f(int: -12, float: 1.5e-3, float2: -0.25E+10, string: "a \\"quoted\\" \\\\ \\/ \\b\\f\\n\\r\\t \\u00e9", bool: true, other: false, n: null, e: ENUM_VALUE) }',
+            '{ f(list: [1, [2, 3], []], object: {a: 1, b: {c: [true]}, d: {}}) }',
+            '{ f(s: """\n    block string\n      with "quotes" and \\""" escaped\n    """) }',
+            '{ f(s: """""", t: "") }',
+            '{ emoji(s: "😀 \\uD83D\\uDE00") h: hero { name } }',
+            '# leading comment\n{\n  # field comment\n  # second line\n  hero { name } # trailing\n}\n# last',
+            '{\r\n  a,,,b\r\n\tc\r\n}\r\n',
+            '\uFEFF{ bom }',
+            '{ a } { b }',
+            'query($a: Int, $b: [[String]]!, $c: In = {x: [1]}) { f(a: $a, b: {x: [$b]}) }',
+            'query query { query(query: query) { fragment on mutation } } fragment frag on on { on }',
+            '{ true false null }',
+            '{ f @a @b(x: 1) @c { g } }',
+    ]
+
+    static Document parse(String query, ParserOptions parserOptions) {
+        def environment = ParserEnvironment.newParserEnvironment().document(query).parserOptions(parserOptions).build()
+        return new Parser().parseDocument(environment)
+    }
+
+    // without the ANTLR fallback, so that a document the recursive descent parser gives up on is noticed
+    static Document parseRecursiveDescent(String query, ParserOptions parserOptions) {
+        def multiSourceReader = MultiSourceReader.newMultiSourceReader().string(query, null).build()
+        def text = multiSourceReader.text
+        return new ExecutableDocumentParser(text, multiSourceReader, parserOptions, I18n.i18n(I18n.BundleType.Parsing, Locale.ENGLISH)).parseDocument()
+    }
+
+    static ParserOptions recursiveDescent(ParserOptions parserOptions) {
+        return parserOptions.transform({ it.recursiveDescentParsing(true) })
+    }
+
+    static void assertSameAst(Node expected, Node actual, String path = "") {
+        assert actual.getClass() == expected.getClass(), path
+        assert actual.isEqualTo(expected), path
+        assert actual.sourceLocation == expected.sourceLocation, path
+        assert actual.comments.collect { [it.content, it.sourceLocation] } == expected.comments.collect { [it.content, it.sourceLocation] }, path
+        assert actual.ignoredChars.left == expected.ignoredChars.left, path
+        assert actual.ignoredChars.right == expected.ignoredChars.right, path
+        assert actual.additionalData == expected.additionalData, path
+        List<Node> expectedChildren = expected.children
+        List<Node> actualChildren = actual.children
+        assert actualChildren.size() == expectedChildren.size(), path
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            assertSameAst(expectedChildren[i], actualChildren[i], path + "/" + expectedChildren[i].getClass().simpleName + "[" + i + "]")
+        }
+    }
+
+    def "produces the same AST as the ANTLR parser"() {
+        when:
+        def expected = parse(query, antlrOptions)
+        def actual = parseRecursiveDescent(query, antlrOptions)
+
+        then:
+        actual != null
+        AstPrinter.printAst(actual) == AstPrinter.printAst(expected)
+        assertSameAst(expected, actual)
+
+        where:
+        query << corpus
+    }
+
+    def "produces the same AST as the ANTLR parser via the parser options"() {
+        when:
+        def expected = parse(query, options)
+        def actual = parse(query, recursiveDescent(options))
+
+        then:
+        AstPrinter.printAst(actual) == AstPrinter.printAst(expected)
+        assertSameAst(expected, actual)
+
+        where:
+        [query, options] << [corpus, [
+                antlrOptions,
+                ParserOptions.getDefaultOperationParserOptions(),
+                antlrOptions.transform({ it.captureSourceLocation(false) }),
+                antlrOptions.transform({ it.captureLineComments(false).captureIgnoredChars(true) }),
+        ]].combinations()
+    }
+
+    def "produces the same source locations for multi source documents"() {
+        def parts = ['query A {\n  a\n}\n', '\n# comment\nquery B {\n  b\n}', 'fragment F on T {\n  f\n}\n']
+        def reader = {
+            def builder = MultiSourceReader.newMultiSourceReader()
+            parts.eachWithIndex { part, i -> builder.string(part, "part" + i) }
+            builder.build()
+        }
+
+        when:
+        def expected = new Parser().parseDocument(ParserEnvironment.newParserEnvironment().document(reader()).parserOptions(antlrOptions).build())
+        def actual = new Parser().parseDocument(ParserEnvironment.newParserEnvironment().document(reader()).parserOptions(recursiveDescent(antlrOptions)).build())
+
+        then:
+        actual.definitions[1].sourceLocation.sourceName == "part1"
+        actual.definitions[2].sourceLocation.sourceName == "part2"
+        assertSameAst(expected, actual)
+    }
+
+    def "documents it does not handle fail exactly like the ANTLR parser"() {
+        when:
+        def expected = null
+        try {
+            parse(query, options)
+        } catch (InvalidSyntaxException e) {
+            expected = e
+        }
+        def actual = null
+        try {
+            parse(query, recursiveDescent(options))
+        } catch (InvalidSyntaxException e) {
+            actual = e
+        }
+
+        then:
+        expected != null
+        actual.getClass() == expected.getClass()
+        actual.message == expected.message
+        actual.location == expected.location
+        actual.sourcePreview == expected.sourcePreview
+        actual.offendingToken == expected.offendingToken
+
+        where:
+        query                         | options
+        '{ a '                        | antlrOptions
+        '{ a } }'                     | antlrOptions
+        '{ a(x: ) }'                  | antlrOptions
+        '{ a(x: 01) }'                | antlrOptions
+        '{ a(x: "\\q") }'             | antlrOptions
+        'query { a } & '              | antlrOptions
+        '{ a b c d e f }'             | antlrOptions.transform({ it.maxTokens(5) })
+        '{ a { b { c { d } } } }'     | antlrOptions.transform({ it.maxTokens(12) })
+        '{ a b c d e f }'             | antlrOptions.transform({ it.maxWhitespaceTokens(5) })
+        '{ a { b { c { d } } } }'     | antlrOptions.transform({ it.maxRuleDepth(10) })
+        '{ a { b { c { d } } } }'     | antlrOptions.transform({ it.maxCharacters(10) })
+    }
+
+    def "documents that are not executable are still parsed by ANTLR"() {
+        def sdl = 'type Query { hero: String }\n{ hero }'
+
+        when:
+        def expected = parse(sdl, antlrOptions)
+        def actual = parse(sdl, recursiveDescent(antlrOptions))
+
+        then:
+        assertSameAst(expected, actual)
+    }
+
+    def "the limits are the same as the ANTLR parser ones"() {
+        def query = '{ a { b { c { d } } } }'
+
+        expect:
+        parse(query, recursiveDescent(antlrOptions.transform({ it.maxRuleDepth(17) }))) != null
+        parse(query, recursiveDescent(antlrOptions.transform({ it.maxTokens(13) }))) != null
+        parse(query, recursiveDescent(antlrOptions.transform({ it.maxWhitespaceTokens(11) }))) != null
+    }
+
+    def "the parsing listener sees the same tokens"() {
+        def query = '{ hero(episode: EMPIRE) { name, ... on Droid { primaryFunction } } }'
+        def tokens = { ParserOptions options ->
+            def seen = []
+            def listener = { token -> seen.add([token.text, token.line, token.charPositionInLine]) } as ParsingListener
+            parse(query, options.transform({ it.parsingListener(listener) }))
+            seen
+        }
+
+        expect:
+        tokens(recursiveDescent(antlrOptions)) == tokens(antlrOptions)
+    }
+}
@@ -2,12 +2,15 @@ package graphql.parser
 
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
 class MultiSourceReaderTest extends Specification {
 
     MultiSourceReader multiSource
 
     void cleanup() {
-        multiSource.close()
+        multiSource?.close()
     }
 
     def "can combine files"() {
@@ -211,6 +214,70 @@ B5*******X
         sAndL.sourceName == "PartC"
     }
 
+    def "can read UTF-8 byte buffers"() {
+        def text = "type A {\n    é : String # 😀\n}\n"
+        def bytes = text.getBytes(StandardCharsets.UTF_8)
+        def directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()
+
+        when:
+        multiSource = MultiSourceReader.newMultiSourceReader()
+                .utf8(ByteBuffer.wrap(bytes), "heap")
+                .reader(readerOf("multisource/b.graphql"), "SdlB")
+                .utf8(directBuffer, "direct")
+                .build()
+        def lines = multiSource.readLines()
+
+        then:
+        joinLines(lines) == joinLines(text.readLines() + ["type B {", "    fieldC : String", "}"] + text.readLines())
+        joinLines(multiSource.getData()) == joinLines(lines)
+        multiSource.getSourceAndLineFromOverallLine(4).sourceName == "SdlB"
+        multiSource.getSourceAndLineFromOverallLine(7).sourceName == "direct"
+        directBuffer.position() == 0
+    }
+
+    def "can read UTF-8 byte buffers one char at a time"() {
+        def text = "a😀é\n𝄞"
+        def bytes = text.getBytes(StandardCharsets.UTF_8)
+
+        when:
+        def reader = new Utf8ByteBufferReader(ByteBuffer.wrap(bytes))
+        def chars = []
+        def buffer = new char[1]
+        while (reader.read(buffer, 0, 1) != -1) {
+            chars.add(buffer[0])
+        }
+
+        then:
+        chars.join("") == text
+    }
+
+    def "replaces malformed UTF-8 like strings do"() {
+        byte[] bytes = [0x61, 0xC3, 0x62, 0xF0, 0x9F] as byte[]
+
+        when:
+        def text = new Utf8ByteBufferReader(ByteBuffer.wrap(bytes)).text
+
+        then:
+        text == new String(bytes, StandardCharsets.UTF_8)
+    }
+
+    def "only tracks the data read so far from strings and buffers"() {
+        when:
+        multiSource = MultiSourceReader.newMultiSourceReader()
+                .string("A0\nA1\n", "PartA")
+                .utf8(ByteBuffer.wrap("B0\nB1\n".getBytes(StandardCharsets.UTF_8)), "PartB")
+                .build()
+        def line = readNLines(3)
+
+        then:
+        line == "A0A1B0"
+        joinLines(multiSource.getData()) == '''
+A0
+A1
+B0
+'''
+    }
+
     String readNLines(int count) {
         def line = ""
         for (int i = 0; i < count; i++) {
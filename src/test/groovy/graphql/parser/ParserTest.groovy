@@ -45,6 +45,9 @@ import spock.lang.Issue
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
 class ParserTest extends Specification {
 
     def "parse anonymous simple query"() {
@@ -1267,4 +1270,41 @@ triple3 : """edge cases \\""" "" " \\"" \\" edge cases"""
         InvalidSyntaxException redactedError = thrown(InvalidSyntaxException)
         redactedError.message == "Invalid syntax encountered. There are extra tokens in the text that have not been consumed. Offending token at line 1 column 39"
     }
+
+    def "can parse UTF-8 byte buffers"() {
+        def input = """
+query heroQuery {
+  hero(name: "Zoë 😀") {
+    name
+  }
+  ... on Droid { id }
+}
+"""
+        def bytes = input.getBytes(StandardCharsets.UTF_8)
+
+        when:
+        def expected = Parser.parse(input)
+        def fromHeap = new Parser().parseDocument(ByteBuffer.wrap(bytes))
+        def fromDirect = new Parser().parseDocument(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip())
+
+        then:
+        AstComparator.isEqual(fromHeap, expected)
+        AstComparator.isEqual(fromDirect, expected)
+        def field = (fromDirect.definitions[0] as OperationDefinition).selectionSet.selections[0] as Field
+        field.sourceLocation == new SourceLocation(3, 3)
+        (field.arguments[0].value as StringValue).value == "Zoë 😀"
+        (field.selectionSet.selections[0] as Field).sourceLocation == new SourceLocation(4, 5)
+    }
+
+    def "UTF-8 byte buffer syntax errors have previews"() {
+        def input = "query {\n  hero(name: \"😀\") {\n    name(\n  }\n}"
+
+        when:
+        new Parser().parseDocument(ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8)))
+
+        then:
+        InvalidSyntaxException e = thrown(InvalidSyntaxException)
+        e.location.line == 4
+        e.sourcePreview.contains('hero(name: "😀")')
+    }
 }
@@ -0,0 +1,128 @@
+package graphql.schema
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.introspection.Introspection
+import spock.lang.Specification
+
+import static graphql.Scalars.GraphQLString
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition
+import static graphql.schema.GraphQLObjectType.newObject
+import static graphql.schema.idl.RuntimeWiring.newRuntimeWiring
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class CodeRegistryDispatchTableTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            pet : Pet
+            name : String
+        }
+        interface Pet {
+            name : String
+        }
+        type Dog implements Pet {
+            name : String
+        }
+    '''
+
+    DataFetcher petDF = { env -> [name: "Fido"] }
+    TypeResolver petTR = { env -> env.schema.getObjectType("Dog") }
+
+    def schema = TestUtil.schema(sdl, newRuntimeWiring()
+            .type(newTypeWiring("Query").dataFetcher("pet", petDF))
+            .type(newTypeWiring("Pet").typeResolver(petTR)))
+
+    def "data fetchers and type resolvers are the same as in the code registry"() {
+        def table = schema.getCodeRegistryDispatchTable()
+        def codeRegistry = schema.getCodeRegistry()
+        def queryType = schema.getQueryType()
+        def dogType = schema.getObjectType("Dog")
+
+        expect:
+        table.getDataFetcher(queryType, queryType.getFieldDefinition("pet")) == petDF
+        table.getDataFetcher(queryType, queryType.getFieldDefinition("name")) == codeRegistry.getDataFetcher(queryType, queryType.getFieldDefinition("name"))
+        table.getDataFetcher(dogType, dogType.getFieldDefinition("name")) == codeRegistry.getDataFetcher(dogType, dogType.getFieldDefinition("name"))
+        table.getTypeResolver(schema.getType("Pet") as GraphQLInterfaceType) == petTR
+    }
+
+    def "every field of every object type has a stable ordinal"() {
+        def table = schema.getCodeRegistryDispatchTable()
+        def ordinals = schema.getAllTypesAsList()
+                .findAll { it instanceof GraphQLObjectType }
+                .collectMany { GraphQLObjectType type -> type.fieldDefinitions.collect { table.getFieldOrdinal(type, it) } }
+
+        expect:
+        ordinals == (0..<table.getFieldCount()).toList()
+
+        when: "the same schema is built again"
+        def otherSchema = TestUtil.schema(sdl, newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("pet", petDF))
+                .type(newTypeWiring("Pet").typeResolver(petTR)))
+        def otherTable = otherSchema.getCodeRegistryDispatchTable()
+        def otherQueryType = otherSchema.getQueryType()
+
+        then:
+        otherTable.getFieldOrdinal(otherQueryType, otherQueryType.getFieldDefinition("pet")) ==
+                table.getFieldOrdinal(schema.getQueryType(), schema.getQueryType().getFieldDefinition("pet"))
+    }
+
+    def "fields outside of the table fall back to the code registry"() {
+        def table = schema.getCodeRegistryDispatchTable()
+        def queryType = schema.getQueryType()
+        def dogType = schema.getObjectType("Dog")
+
+        expect:
+        table.getFieldOrdinal(queryType, Introspection.TypeNameMetaFieldDef) == -1
+        table.getDataFetcher(queryType, Introspection.TypeNameMetaFieldDef) == schema.getCodeRegistry().getDataFetcher(queryType, Introspection.TypeNameMetaFieldDef)
+        // a field of another type
+        table.getFieldOrdinal(dogType, queryType.getFieldDefinition("pet")) == -1
+    }
+
+    def "field definitions shared by several object types fall back to the code registry"() {
+        def sharedField = newFieldDefinition().name("shared").type(GraphQLString).build()
+        def typeA = newObject().name("A").field(sharedField).build()
+        def typeB = newObject().name("B").field(sharedField).build()
+        def query = newObject().name("Query")
+                .field(newFieldDefinition().name("a").type(typeA))
+                .field(newFieldDefinition().name("b").type(typeB))
+                .build()
+        DataFetcher aDF = { env -> "a" }
+        DataFetcher bDF = { env -> "b" }
+        def codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("A", "shared"), aDF)
+                .dataFetcher(FieldCoordinates.coordinates("B", "shared"), bDF)
+                .build()
+        def schema = GraphQLSchema.newSchema().query(query).codeRegistry(codeRegistry).build()
+        def table = schema.getCodeRegistryDispatchTable()
+
+        expect:
+        table.getFieldOrdinal(typeA, sharedField) == -1
+        table.getDataFetcher(typeA, sharedField) == aDF
+        table.getDataFetcher(typeB, sharedField) == bDF
+    }
+
+    def "data fetcher factories are asked for a data fetcher on every lookup"() {
+        def calls = 0
+        DataFetcherFactory factory = new DataFetcherFactory() {
+            @Override
+            DataFetcher get(DataFetcherFactoryEnvironment environment) {
+                calls++
+                return { env -> "value$calls" } as DataFetcher
+            }
+        }
+        def codeRegistry = GraphQLCodeRegistry.newCodeRegistry(schema.getCodeRegistry())
+                .dataFetcher(FieldCoordinates.coordinates("Query", "name"), factory)
+                .build()
+        def newSchema = schema.transform({ it.codeRegistry(codeRegistry) })
+        def graphQL = GraphQL.newGraphQL(newSchema).build()
+
+        when:
+        def er1 = graphQL.execute("{ name }")
+        def er2 = graphQL.execute("{ name }")
+
+        then:
+        er1.data == [name: "value1"]
+        er2.data == [name: "value2"]
+    }
+}
@@ -0,0 +1,193 @@
+package graphql.schema
+
+import graphql.AssertException
+import graphql.GraphQL
+import graphql.Scalars
+import graphql.TestUtil
+import graphql.schema.idl.RuntimeWiring
+import graphql.schema.validation.InvalidSchemaException
+import spock.lang.Specification
+
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition
+import static graphql.schema.GraphQLTypeReference.typeRef
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class SchemaTransformerReplaceTypesTest extends Specification {
+
+    def sdl = '''
+            type Query {
+                hero : Character
+                starship(id : ID) : Starship
+                search(filter : Filter) : [SearchResult]
+            }
+
+            interface Character {
+                name : String
+            }
+
+            type Human implements Character {
+                name : String
+                starships : [Starship]
+            }
+
+            type Droid implements Character {
+                name : String
+                primaryFunction : String
+            }
+
+            type Starship {
+                name : String
+                length : Float
+            }
+
+            type Planet {
+                name : String
+                climate : Climate
+            }
+
+            union SearchResult = Human | Droid | Planet
+
+            input Filter {
+                text : String
+                climate : Climate = TEMPERATE
+            }
+
+            enum Climate { TEMPERATE ARID }
+        '''
+
+    GraphQLSchema schema = TestUtil.schema(sdl)
+
+    static boolean allLinked(GraphQLSchema schema) {
+        schema.typeMap.values().every { type ->
+            Deque<GraphQLSchemaElement> elements = new ArrayDeque<>(type.children)
+            while (!elements.isEmpty()) {
+                def element = elements.pop()
+                if (element instanceof GraphQLNamedType) {
+                    if (element instanceof GraphQLTypeReference || !schema.getType(element.name).is(element)) {
+                        return false
+                    }
+                } else {
+                    elements.addAll(element.children)
+                }
+            }
+            return true
+        }
+    }
+
+    def "only the types that reach a replaced type are rebuilt"() {
+        def starship = schema.getObjectType("Starship")
+        def changedStarship = starship.transform({
+            it.field(starship.getFieldDefinition("length").transform({ it.deprecate("use size") }))
+        })
+
+        when:
+        def newSchema = SchemaTransformer.replaceTypes(schema, [changedStarship])
+
+        then:
+        newSchema.getObjectType("Starship").getFieldDefinition("length").deprecated
+        !newSchema.getType("Query").is(schema.getType("Query"))
+        !newSchema.getType("Human").is(schema.getType("Human"))
+        !newSchema.getType("SearchResult").is(schema.getType("SearchResult"))
+        newSchema.getType("Character").is(schema.getType("Character"))
+        newSchema.getType("Droid").is(schema.getType("Droid"))
+        newSchema.getType("Planet").is(schema.getType("Planet"))
+        newSchema.getType("Filter").is(schema.getType("Filter"))
+        newSchema.getObjectType("Human").getFieldDefinition("name").is(schema.getObjectType("Human").getFieldDefinition("name"))
+        allLinked(newSchema)
+        allLinked(schema)
+        !schema.getObjectType("Starship").getFieldDefinition("length").deprecated
+    }
+
+    def "types are linked by name and new types are added"() {
+        def climate = GraphQLEnumType.newEnum().name("Climate").value("TEMPERATE").value("ARID").value("FROZEN").build()
+        def moon = GraphQLObjectType.newObject().name("Moon")
+                .field(newFieldDefinition().name("planet").type(typeRef("Planet")))
+                .build()
+        def planet = schema.getObjectType("Planet").transform({
+            it.field(newFieldDefinition().name("moon").type(moon))
+        })
+
+        when:
+        def newSchema = SchemaTransformer.replaceTypes(schema, [planet, climate])
+
+        then:
+        newSchema.getObjectType("Moon").getFieldDefinition("planet").type.is(newSchema.getType("Planet"))
+        newSchema.getObjectType("Planet").getFieldDefinition("moon").type.is(newSchema.getType("Moon"))
+        (newSchema.getType("Filter") as GraphQLInputObjectType).getFieldDefinition("climate").type.is(climate)
+        newSchema.additionalTypes.collect { (it as GraphQLNamedType).name } == schema.additionalTypes.collect { (it as GraphQLNamedType).name }
+        allLinked(newSchema)
+        schema.getType("Moon") == null
+        schema.getObjectType("Planet").getFieldDefinition("moon") == null
+    }
+
+    def "the implementations of interfaces are updated"() {
+        def droid = schema.getObjectType("Droid").transform({ it.clearInterfaces() })
+        def starship = schema.getObjectType("Starship").transform({
+            it.withInterface(typeRef("Character"))
+        })
+
+        when:
+        def newSchema = SchemaTransformer.replaceTypes(schema, [droid, starship])
+        def character = newSchema.getType("Character") as GraphQLInterfaceType
+
+        then:
+        newSchema.getImplementations(character).collect { it.name } == ["Human", "Starship"]
+        newSchema.isPossibleType(character, newSchema.getObjectType("Starship"))
+        !newSchema.isPossibleType(character, newSchema.getObjectType("Droid"))
+        newSchema.getImplementations(character).every { it.is(newSchema.getType(it.name)) }
+        schema.getImplementations(schema.getType("Character") as GraphQLInterfaceType).collect { it.name } == ["Droid", "Human"]
+    }
+
+    def "the rebuilt types are validated"() {
+        def character = (schema.getType("Character") as GraphQLInterfaceType).transform({
+            it.field(newFieldDefinition().name("age").type(Scalars.GraphQLInt))
+        })
+        def climate = GraphQLEnumType.newEnum().name("Climate").value("ARID").build()
+
+        when:
+        SchemaTransformer.replaceTypes(schema, [character])
+
+        then:
+        def e = thrown(InvalidSchemaException)
+        e.message.contains("object type 'Human' does not implement interface 'Character' because field 'age' is missing")
+        e.message.contains("object type 'Droid' does not implement interface 'Character' because field 'age' is missing")
+
+        when:
+        SchemaTransformer.replaceTypes(schema, [climate])
+
+        then:
+        e = thrown(InvalidSchemaException)
+        e.message.contains("Invalid default value EnumValue{name='TEMPERATE'} for type Climate")
+    }
+
+    def "types the introspection types reference can't be replaced"() {
+        when:
+        SchemaTransformer.replaceTypes(schema, [Scalars.GraphQLString.transform({ it.description("changed") })])
+
+        then:
+        thrown(AssertException)
+    }
+
+    def "schemas with replaced types can be executed and updated again"() {
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("starship", { [name: "Falcon"] } as DataFetcher))
+                .type(newTypeWiring("Character").typeResolver({ it.schema.getObjectType("Human") }))
+                .type(newTypeWiring("SearchResult").typeResolver({ it.schema.getObjectType("Planet") }))
+                .build()
+        def executableSchema = TestUtil.schema(sdl, wiring)
+        def starship = executableSchema.getObjectType("Starship")
+
+        when:
+        def newSchema = SchemaTransformer.replaceTypes(executableSchema, [starship.transform({ it.description("changed") })])
+        newSchema = SchemaTransformer.replaceTypes(newSchema, [newSchema.getObjectType("Starship").transform({
+            it.field(newFieldDefinition().name("crew").type(Scalars.GraphQLInt))
+        })])
+        def result = GraphQL.newGraphQL(newSchema).build().execute('{ starship { name crew } }')
+
+        then:
+        result.errors.isEmpty()
+        result.data == [starship: [name: "Falcon", crew: null]]
+        newSchema.getObjectType("Starship").description == "changed"
+        allLinked(newSchema)
+    }
+}
@@ -0,0 +1,238 @@
+package graphql.schema.idl
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import graphql.schema.FieldCoordinates
+import graphql.schema.GraphQLFieldDefinition
+import graphql.schema.GraphQLFieldsContainer
+import graphql.schema.GraphQLInputObjectType
+import graphql.schema.GraphQLInterfaceType
+import graphql.schema.GraphQLNamedType
+import graphql.schema.GraphQLSchema
+import graphql.schema.GraphQLTypeReference
+import graphql.schema.GraphQLTypeUtil
+import graphql.schema.validation.InvalidSchemaException
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class ParallelSchemaGeneratorTest extends Specification {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    def cleanup() {
+        executor.shutdown()
+    }
+
+    def sdl = '''
+            directive @tag(name : String, filter : Filter) repeatable on OBJECT | FIELD_DEFINITION
+
+            type Query {
+                node(id : ID!) : Node
+                character(filter : Filter = { episode : JEDI }) : [Character!]
+                search(text : String) : SearchResult @tag(name : "search")
+            }
+
+            type Mutation {
+                like(id : ID!) : Human
+            }
+
+            interface Node {
+                id : ID!
+            }
+
+            interface Character implements Node {
+                id : ID!
+                name : String
+                friends : [Character]
+            }
+
+            type Human implements Character & Node @tag(name : "human") {
+                id : ID!
+                name : String
+                friends : [Character]
+                starships : [Starship!]!
+                birthday : Date
+            }
+
+            type Droid implements Character & Node {
+                id : ID!
+                name : String
+                friends : [Character]
+                primaryFunction : String
+            }
+
+            type Starship implements Node {
+                id : ID!
+                pilots : [Human]
+                episode : Episode
+            }
+
+            union SearchResult = Human | Droid | Starship
+
+            extend union SearchResult = Planet
+
+            type Planet {
+                name : String
+                residents(filter : Filter) : [Human]
+            }
+
+            input Filter {
+                episode : Episode
+                and : [Filter!]
+                range : DateRange
+            }
+
+            input DateRange {
+                from : Date
+                to : Date
+            }
+
+            enum Episode { NEWHOPE EMPIRE JEDI }
+
+            scalar Date
+
+            type Detached {
+                other : AlsoDetached
+            }
+
+            type AlsoDetached {
+                back : Detached
+                human : Human
+            }
+
+            input DetachedInput {
+                value : Long
+            }
+
+            scalar Long
+        '''
+
+    static List<String> names(Collection<?> types) {
+        types.collect { (it as GraphQLNamedType).name }
+    }
+
+    static boolean allLinked(GraphQLSchema schema) {
+        schema.allTypesAsList.every { type ->
+            List<GraphQLNamedType> referenced = []
+            if (type instanceof GraphQLFieldsContainer) {
+                type.fieldDefinitions.each { GraphQLFieldDefinition field ->
+                    referenced.add(GraphQLTypeUtil.unwrapAll(field.type))
+                    field.arguments.each { referenced.add(GraphQLTypeUtil.unwrapAll(it.type)) }
+                }
+            }
+            if (type instanceof GraphQLInputObjectType) {
+                type.fieldDefinitions.each { referenced.add(GraphQLTypeUtil.unwrapAll(it.type)) }
+            }
+            referenced.every { !(it instanceof GraphQLTypeReference) && schema.getType(it.name).is(it) }
+        }
+    }
+
+    def "schemas built in parallel are the same as schemas built sequentially"() {
+        def registry = new SchemaParser().parse(sdl)
+        def printer = new SchemaPrinter()
+
+        when:
+        def sequential = new SchemaGenerator().makeExecutableSchema(registry, RuntimeWiring.MOCKED_WIRING)
+        def options = SchemaGenerator.Options.defaultOptions().parallelBuildExecutor(executor)
+        def parallel = new SchemaGenerator().makeExecutableSchema(options, registry, RuntimeWiring.MOCKED_WIRING)
+
+        then:
+        printer.print(parallel) == printer.print(sequential)
+        names(parallel.additionalTypes) == names(sequential.additionalTypes)
+        names(parallel.additionalTypes) == ["Detached", "AlsoDetached", "DetachedInput", "Long"]
+        parallel.typeMap.keySet() == sequential.typeMap.keySet()
+        allLinked(parallel)
+        parallel.getImplementations(parallel.getType("Character") as GraphQLInterfaceType).collect { it.name } ==
+                sequential.getImplementations(sequential.getType("Character") as GraphQLInterfaceType).collect { it.name }
+    }
+
+    def "data fetchers and type resolvers are wired when built in parallel"() {
+        def registry = new SchemaParser().parse(sdl)
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", { it.dataFetcher("search", { [name: "Tatooine"] } as DataFetcher) })
+                .type("SearchResult", { it.typeResolver({ env -> env.schema.getObjectType("Planet") }) })
+                .type("Node", { it.typeResolver({ env -> env.schema.getObjectType("Human") }) })
+                .type("Character", { it.typeResolver({ env -> env.schema.getObjectType("Human") }) })
+                .scalar(TestUtil.mockScalar("Date"))
+                .scalar(TestUtil.mockScalar("Long"))
+                .build()
+        def options = SchemaGenerator.Options.defaultOptions().parallelBuildExecutor(executor)
+
+        when:
+        def schema = new SchemaGenerator().makeExecutableSchema(options, registry, wiring)
+        def result = GraphQL.newGraphQL(schema).build().execute(ExecutionInput.newExecutionInput('{ search { ... on Planet { name } } }'))
+
+        then:
+        schema.codeRegistry.hasDataFetcher(FieldCoordinates.coordinates("Query", "search"))
+        result.errors.isEmpty()
+        result.data == [search: [name: "Tatooine"]]
+    }
+
+    def "schema directive wiring is applied to types built in parallel"() {
+        def registry = new SchemaParser().parse(sdl)
+        List<String> taggedFields = Collections.synchronizedList([])
+        def directiveWiring = new SchemaDirectiveWiring() {
+            @Override
+            GraphQLFieldDefinition onField(SchemaDirectiveWiringEnvironment<GraphQLFieldDefinition> environment) {
+                taggedFields.add(environment.fieldsContainer.name + "." + environment.element.name)
+                return environment.element
+            }
+        }
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .wiringFactory(new MockedWiringFactory())
+                .directive("tag", directiveWiring)
+                .build()
+        def options = SchemaGenerator.Options.defaultOptions().parallelBuildExecutor(executor)
+
+        when:
+        new SchemaGenerator().makeExecutableSchema(options, registry, wiring)
+
+        then:
+        taggedFields == ["Query.search"]
+    }
+
+    def "invalid schemas are reported when built in parallel"() {
+        def registry = new SchemaParser().parse('''
+            type Query {
+                field(arg : Cyclic) : String
+            }
+
+            input Cyclic {
+                self : Cyclic!
+            }
+        ''')
+        def options = SchemaGenerator.Options.defaultOptions().parallelBuildExecutor(executor)
+
+        when:
+        new SchemaGenerator().makeExecutableSchema(registry, RuntimeWiring.MOCKED_WIRING)
+
+        then:
+        def sequentialError = thrown(InvalidSchemaException)
+
+        when:
+        new SchemaGenerator().makeExecutableSchema(options, registry, RuntimeWiring.MOCKED_WIRING)
+
+        then:
+        def parallelError = thrown(InvalidSchemaException)
+        parallelError.message == sequentialError.message
+    }
+
+    def "large schemas built in parallel are the same as schemas built sequentially"() {
+        def registry = new SchemaParser().parse(getClass().getClassLoader().getResourceAsStream("large-schema-3.graphqls").text)
+        def printer = new SchemaPrinter()
+
+        when:
+        def sequential = new SchemaGenerator().makeExecutableSchema(registry, RuntimeWiring.MOCKED_WIRING)
+        def options = SchemaGenerator.Options.defaultOptions().parallelBuildExecutor(executor)
+        def parallel = new SchemaGenerator().makeExecutableSchema(options, registry, RuntimeWiring.MOCKED_WIRING)
+
+        then:
+        printer.print(parallel) == printer.print(sequential)
+        names(parallel.additionalTypes) == names(sequential.additionalTypes)
+        allLinked(parallel)
+    }
+}
@@ -10,6 +10,11 @@ import graphql.schema.idl.errors.SchemaProblem
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.StandardOpenOption
+
 import static graphql.schema.idl.SchemaPrinter.Options.defaultOptions
 
 /**
@@ -365,6 +370,41 @@ class SchemaParserTest extends Specification {
 
     }
 
+    def "can parse UTF-8 schema files via memory mapped buffers"() {
+        def sdl = """
+# schéma 😀
+type Query {
+  hero: Character
+}
+
+type Character {
+  name: String
+}
+"""
+        def file = File.createTempFile("schema", ".graphqls")
+        file.deleteOnExit()
+        file.setText(sdl, "UTF-8")
+
+        when:
+        def typeDefinitionRegistry = FileChannel.open(file.toPath(), StandardOpenOption.READ).withCloseable { channel ->
+            new SchemaParser().parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()))
+        }
+
+        then:
+        def character = typeDefinitionRegistry.getType("Character").get() as ObjectTypeDefinition
+        character.sourceLocation.line == 7
+        character.fieldDefinitions[0].name == "name"
+        typeDefinitionRegistry.getType("Query").get().comments[0].content == " schéma 😀"
+
+        when:
+        def options = ParserOptions.getDefaultSdlParserOptions().transform({ it.maxTokens(5) })
+        new SchemaParser().parse(ByteBuffer.wrap(sdl.getBytes(StandardCharsets.UTF_8)), options)
+
+        then:
+        def e = thrown(SchemaProblem)
+        e.errors[0].message.contains("parsing has been cancelled")
+    }
+
     def "correctly parses schema keyword block, include Query, does not include Mutation type"() {
         // From RFC to clarify spec https://github.com/graphql/graphql-spec/pull/987
         when:
@@ -0,0 +1,161 @@
+package graphql.schema.idl
+
+import graphql.AssertException
+import graphql.language.AstBinaryFormat
+import graphql.language.Document
+import graphql.language.Node
+import graphql.parser.MultiSourceReader
+import spock.lang.Specification
+
+class TypeDefinitionRegistryBinaryFormatTest extends Specification {
+
+    def sdl = '''
+            "the schema"
+            schema {
+                query : Q
+            }
+
+            extend schema @important {
+                mutation : M
+            }
+
+            directive @important repeatable on SCHEMA | FIELD_DEFINITION | UNION | INTERFACE
+
+            "the query type"
+            type Q {
+                field( arg : String! = "default") : FieldType @deprecated(reason : "no good")
+            }
+
+            type M {
+                change(input: InputType): Int @important
+            }
+
+            interface FieldType {
+                f : UnionType
+            }
+
+            type FieldTypeImpl implements FieldType {
+                f : UnionType
+            }
+
+            union UnionType = Foo | Bar
+
+            type Foo {
+                foo : String
+            }
+
+            type Bar {
+                bar : String
+            }
+
+            scalar MyScalar
+
+            enum Color { RED GREEN }
+
+            input InputType {
+                in : String
+            }
+
+            extend type FieldTypeImpl {
+                extra : String
+            }
+
+            extend input InputType {
+                out : String
+            }
+
+            extend scalar MyScalar @specifiedBy(url: "myUrl.example")
+
+            extend union UnionType @important
+
+            extend interface FieldType @important
+
+            extend enum Color { BLUE }
+        '''
+
+    static void assertSameDefinitions(Map<String, ? extends Node> expected, Map<String, ? extends Node> actual) {
+        assert actual.keySet().toList() == expected.keySet().toList()
+        expected.each { name, definition -> assert actual[name].isEqualTo(definition), name }
+    }
+
+    static void assertSameDefinitionLists(Map<String, ? extends List<? extends Node>> expected, Map<String, ? extends List<? extends Node>> actual) {
+        assert actual.keySet().toList() == expected.keySet().toList()
+        expected.each { name, definitions ->
+            assert actual[name].size() == definitions.size(), name
+            definitions.eachWithIndex { definition, i -> assert actual[name][i].isEqualTo(definition), name }
+        }
+    }
+
+    def "registries are read back exactly as they were written"() {
+        def registryOut = new SchemaParser().parse(sdl)
+
+        when:
+        def registryIn = TypeDefinitionRegistryBinaryFormat.readRegistry(TypeDefinitionRegistryBinaryFormat.writeRegistry(registryOut))
+
+        then:
+        registryIn instanceof ImmutableTypeDefinitionRegistry
+        assertSameDefinitions(registryOut.types(), registryIn.types())
+        assertSameDefinitions(registryOut.scalars(), registryIn.scalars())
+        assertSameDefinitions(registryOut.getDirectiveDefinitions(), registryIn.getDirectiveDefinitions())
+        assertSameDefinitionLists(registryOut.objectTypeExtensions(), registryIn.objectTypeExtensions())
+        assertSameDefinitionLists(registryOut.interfaceTypeExtensions(), registryIn.interfaceTypeExtensions())
+        assertSameDefinitionLists(registryOut.unionTypeExtensions(), registryIn.unionTypeExtensions())
+        assertSameDefinitionLists(registryOut.enumTypeExtensions(), registryIn.enumTypeExtensions())
+        assertSameDefinitionLists(registryOut.scalarTypeExtensions(), registryIn.scalarTypeExtensions())
+        assertSameDefinitionLists(registryOut.inputObjectTypeExtensions(), registryIn.inputObjectTypeExtensions())
+        assertSameDefinitionLists(registryOut.getParseOrder().getInOrder(), registryIn.getParseOrder().getInOrder())
+        registryIn.schemaDefinition().get().isEqualTo(registryOut.schemaDefinition().get())
+        registryIn.getSchemaExtensionDefinitions().size() == 1
+        registryIn.getSchemaExtensionDefinitions()[0].isEqualTo(registryOut.getSchemaExtensionDefinitions()[0])
+    }
+
+    def "definitions are shared between the registry maps and the parse order"() {
+        def registryOut = new SchemaParser().parse(sdl)
+
+        when:
+        def registryIn = TypeDefinitionRegistryBinaryFormat.readRegistry(TypeDefinitionRegistryBinaryFormat.writeRegistry(registryOut))
+        def inOrder = registryIn.getParseOrder().getInOrder()[""]
+
+        then:
+        inOrder.any { it.is(registryIn.getType("Q").get()) }
+        inOrder.any { it.is(registryIn.objectTypeExtensions()["FieldTypeImpl"][0]) }
+        inOrder.any { it.is(registryIn.schemaDefinition().get()) }
+    }
+
+    def "the schema built from a registry that was read back is the same"() {
+        def registryOut = new SchemaParser().parse(sdl)
+        def printer = new SchemaPrinter()
+
+        when:
+        def registryIn = TypeDefinitionRegistryBinaryFormat.readRegistry(TypeDefinitionRegistryBinaryFormat.writeRegistry(registryOut))
+
+        then:
+        printer.print(UnExecutableSchemaGenerator.makeUnExecutableSchema(registryIn)) ==
+                printer.print(UnExecutableSchemaGenerator.makeUnExecutableSchema(registryOut))
+    }
+
+    def "source names are kept in the parse order"() {
+        def reader = MultiSourceReader.newMultiSourceReader()
+                .string("type Query { a : A }\n", "query.graphqls")
+                .string("type A { b : Int }\n", "a.graphqls")
+                .build()
+        def registryOut = new SchemaParser().parse(reader)
+
+        when:
+        def registryIn = TypeDefinitionRegistryBinaryFormat.readRegistry(TypeDefinitionRegistryBinaryFormat.writeRegistry(registryOut))
+
+        then:
+        registryIn.getParseOrder().getInOrder().keySet().toList() == ["query.graphqls", "a.graphqls"]
+        registryIn.getType("A").get().sourceLocation.sourceName == "a.graphqls"
+    }
+
+    def "a document can not be read as a registry"() {
+        def bytes = AstBinaryFormat.writeDocument(Document.newDocument().build())
+
+        when:
+        TypeDefinitionRegistryBinaryFormat.readRegistry(bytes)
+
+        then:
+        thrown(AssertException)
+    }
+}
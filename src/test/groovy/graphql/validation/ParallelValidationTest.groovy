@@ -0,0 +1,120 @@
+package graphql.validation
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.parser.Parser
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class ParallelValidationTest extends Specification {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    static List<ValidationError> validate(String query, Executor executor) {
+        def document = Parser.parse(query)
+        return new Validator().validateDocument(SpecValidationSchema.specValidationSchema, document, { true }, Locale.ENGLISH, executor)
+    }
+
+    def "parallel validation reports the same errors as sequential validation"() {
+        def query = '''
+            query q($unused: Int) {
+              dog {
+                name: nickname
+                name
+                unknownField
+                ...unknownFragment
+              }
+            }
+        '''
+
+        when:
+        def sequentialErrors = SpecValidationBase.validate(query)
+        def parallelErrors = validate(query, executor)
+
+        then:
+        sequentialErrors.size() == 4
+        parallelErrors.toSet() == sequentialErrors.toSet()
+        parallelErrors.collect { it.validationErrorType }.toSet() == [
+                ValidationErrorType.FieldsConflict,
+                ValidationErrorType.FieldUndefined,
+                ValidationErrorType.UnusedVariable,
+                ValidationErrorType.UndefinedFragment] as Set
+    }
+
+    def "parallel validation errors are ordered deterministically"() {
+        def query = '''
+            query q($unused: Int) {
+              dog { name: nickname name unknownField1 }
+              cat { unknownField2 }
+            }
+        '''
+
+        when:
+        def first = validate(query, executor)
+        def others = (1..20).collect { validate(query, executor) }
+
+        then:
+        !first.isEmpty()
+        others.every { it == first }
+    }
+
+    def "parallel validation respects the maximum number of validation errors"() {
+        def directives = "@lol" * 500
+        def query = """
+            query lotsOfErrors {
+              f $directives        
+            }
+        """
+
+        when:
+        def validationErrors = validate(query, executor)
+
+        then:
+        validationErrors.size() == Validator.getMaxValidationErrors()
+        validationErrors.last().validationErrorType == ValidationErrorType.MaxValidationErrorsReached
+        validationErrors.count { it.validationErrorType == ValidationErrorType.MaxValidationErrorsReached } == 1
+    }
+
+    def "the rule predicate is respected"() {
+        def query = '''
+            query q($unused: Int) {
+              dog { unknownField }
+            }
+        '''
+
+        when:
+        def document = Parser.parse(query)
+        def errors = new Validator().validateDocument(SpecValidationSchema.specValidationSchema, document,
+                { it != graphql.validation.rules.NoUnusedVariables }, Locale.ENGLISH, executor)
+
+        then:
+        errors.collect { it.validationErrorType } == [ValidationErrorType.FieldUndefined]
+    }
+
+    def "parallel validation can be enabled per execution"() {
+        def submitted = new AtomicInteger()
+        Executor countingExecutor = { Runnable runnable ->
+            submitted.incrementAndGet()
+            executor.execute(runnable)
+        }
+        def graphQL = GraphQL.newGraphQL(SpecValidationSchema.specValidationSchema).build()
+
+        when:
+        def executionInput = ExecutionInput.newExecutionInput("{ dog { name: nickname name } }").build()
+        GraphQL.unusualConfiguration(executionInput).validation().parallelValidationExecutor(countingExecutor)
+        def er = graphQL.execute(executionInput)
+
+        then:
+        submitted.get() > 0
+        er.errors.size() == 1
+        (er.errors[0] as ValidationError).validationErrorType == ValidationErrorType.FieldsConflict
+    }
+}
@@ -0,0 +1,156 @@
+package graphql.validation
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.ParseAndValidate
+import graphql.StarWarsSchema
+import graphql.parser.Parser
+import graphql.schema.GraphQLSchema
+import graphql.validation.rules.FieldsOnCorrectType
+import spock.lang.Specification
+
+import java.lang.ref.WeakReference
+
+class ValidationCacheTest extends Specification {
+
+    static List<ValidationError> validate(String query, ValidationCache validationCache, GraphQLSchema schema = SpecValidationSchema.specValidationSchema) {
+        def document = Parser.parse(query)
+        return new Validator().validateDocument(schema, document, Locale.ENGLISH, null, validationCache)
+    }
+
+    def "documents that only differ in their literals hit the cache"() {
+        def validationCache = new ValidationCache()
+
+        when:
+        def errors1 = validate('{ dog(arg1: "fido") { name isHousetrained(atOtherHomes: true) } }', validationCache)
+        def errors2 = validate('{ dog(arg1: "rex") { name isHousetrained(atOtherHomes: false) } }', validationCache)
+
+        then:
+        errors1.isEmpty()
+        errors2.isEmpty()
+        validationCache.getMissCount() == 1
+        validationCache.getHitCount() == 1
+        validationCache.size() == 1
+    }
+
+    def "documents that differ in their structure miss the cache"() {
+        def validationCache = new ValidationCache()
+
+        when:
+        validate('{ dog(arg1: "fido") { name } }', validationCache)
+        validate('{ dog(arg1: "fido") { nickname } }', validationCache)
+        validate('{ d: dog(arg1: "fido") { name } }', validationCache)
+        validate('{ dog(arg1: "fido") { name } }', validationCache, StarWarsSchema.starWarsSchema)
+
+        then:
+        validationCache.getMissCount() == 4
+        validationCache.getHitCount() == 0
+    }
+
+    def "validations that leave rules out do not use the cache"() {
+        def validationCache = new ValidationCache()
+        def query = '{ dog(arg1: "fido") { unknownField } }'
+
+        when:
+        def partialErrors = ParseAndValidate.validate(SpecValidationSchema.specValidationSchema, Parser.parse(query), { it != FieldsOnCorrectType }, Locale.ENGLISH, null, validationCache)
+        def fullErrors = validate(query, validationCache)
+
+        then:
+        partialErrors.isEmpty()
+        fullErrors.collect { it.validationErrorType } == [ValidationErrorType.FieldUndefined]
+        validationCache.getMissCount() == 1
+        validationCache.size() == 0
+    }
+
+    def "the cache does not keep schemas alive"() {
+        def validationCache = new ValidationCache()
+        def schema = GraphQLSchema.newSchema(SpecValidationSchema.specValidationSchema).build()
+        def schemaRef = new WeakReference(schema)
+
+        when:
+        validate('{ dog(arg1: "fido") { name } }', validationCache, schema)
+        schema = null
+        for (int i = 0; i < 50 && schemaRef.get() != null; i++) {
+            System.gc()
+            Thread.sleep(10)
+        }
+
+        then:
+        validationCache.size() == 1
+        schemaRef.get() == null
+    }
+
+    def "the rules that look at literal values are still run on a hit"() {
+        def validationCache = new ValidationCache()
+
+        when:
+        def errors1 = validate('{ a: dog(arg1: "fido") { name } a: dog(arg1: "fido") { name } }', validationCache)
+        def errors2 = validate('{ a: dog(arg1: "fido") { name } a: dog(arg1: "rex") { name } }', validationCache)
+
+        then:
+        errors1.isEmpty()
+        validationCache.getHitCount() == 1
+        errors2.collect { it.validationErrorType } == [ValidationErrorType.FieldsConflict]
+    }
+
+    def "invalid documents are not cached"() {
+        def validationCache = new ValidationCache()
+
+        when:
+        def errors1 = validate('{ dog(arg1: "fido") { unknownField } }', validationCache)
+        def errors2 = validate('{ dog(arg1: "rex") { unknownField } }', validationCache)
+
+        then:
+        errors1.collect { it.validationErrorType } == [ValidationErrorType.FieldUndefined]
+        errors2.collect { it.validationErrorType } == [ValidationErrorType.FieldUndefined]
+        validationCache.getMissCount() == 2
+        validationCache.getHitCount() == 0
+        validationCache.size() == 0
+    }
+
+    def "the least recently used documents are evicted"() {
+        def validationCache = new ValidationCache(2)
+
+        when:
+        validate('{ dog { name } }', validationCache)
+        validate('{ dog { nickname } }', validationCache)
+        validate('{ dog { name } }', validationCache)
+        validate('{ dog { barkVolume } }', validationCache)
+
+        then:
+        validationCache.size() == 2
+        validationCache.getHitCount() == 1
+
+        when:
+        validate('{ dog { name } }', validationCache)
+        validate('{ dog { nickname } }', validationCache)
+
+        then:
+        validationCache.getHitCount() == 2
+        validationCache.getMissCount() == 4
+
+        when:
+        validationCache.invalidateAll()
+
+        then:
+        validationCache.size() == 0
+    }
+
+    def "the cache is used by GraphQL when configured"() {
+        def validationCache = new ValidationCache()
+        def graphQL = GraphQL.newGraphQL(StarWarsSchema.starWarsSchema).build()
+
+        when:
+        def results = ['1000', '1001', '1002'].collect { id ->
+            def executionInput = ExecutionInput.newExecutionInput('{ human(id: "' + id + '") { name } }').build()
+            GraphQL.unusualConfiguration(executionInput).validation().validationCache(validationCache)
+            graphQL.execute(executionInput)
+        }
+
+        then:
+        results.every { it.errors.isEmpty() }
+        results.collect { it.data.human.name } == ['Luke Skywalker', 'Darth Vader', 'Han Solo']
+        validationCache.getMissCount() == 1
+        validationCache.getHitCount() == 2
+    }
+}
@@ -1017,5 +1017,46 @@ class OverlappingFieldsCanBeMergedTest extends Specification {
 
     }
 
+    def "conflicts inside fragments that are spread many times are reported once"() {
+        given:
+        def schema = schema("""
+        type Query {
+            test : Test
+        }
+        type Test {
+            name : String
+            nickname : String
+            child : Test
+        }
+        """)
+        def fragments = (1..20).collect { "fragment f$it on Test { child { ...leaf } }" }.join("\n")
+        def spreads = (1..20).collect { "...f$it" }.join(" ")
+        def query = """
+            { test { $spreads child { ...conflict } } }
+            $fragments
+            fragment leaf on Test { x: name }
+            fragment conflict on Test { x: nickname }
+        """
+        when:
+        traverse(query, schema)
 
+        then:
+        errorCollector.getErrors().size() == 1
+        errorCollector.getErrors()[0].message == "Validation error (FieldsConflict) : 'test/child/x' : 'name' and 'nickname' are different fields"
+    }
+
+    def "fragment cycles are collected without caching"() {
+        given:
+        def query = """
+            { ...a }
+            fragment a on Test { x: name ...b }
+            fragment b on Test { x: nickname ...a }
+        """
+        when:
+        traverse(query, null)
+
+        then:
+        errorCollector.getErrors().size() == 1
+        errorCollector.getErrors()[0].message == "Validation error (FieldsConflict) : 'x' : 'name' and 'nickname' are different fields"
+    }
 }